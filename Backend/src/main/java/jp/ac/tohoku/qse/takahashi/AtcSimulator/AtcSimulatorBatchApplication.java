@@ -0,0 +1,90 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.FastTimeBatchRunner;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.AtcSimulatorException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.IncrementalConflictDetector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.infrastructure.fix.AtsRouteFixPositionRepository;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.FastTimeBatchSummaryDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ScenarioLoadDto;
+
+/**
+ * ヘッドレスの高速実行（fast-time）バッチのエントリーポイント
+ * Springコンテキスト・Webサーバーを起動せず、シナリオを指定したシミュレーション時間だけ実行して集計結果をJSONで出力する
+ *
+ * 使い方: {@code <scenario.json> <hours> [--step-seconds=1.0] [--parallelism=1] [--output=summary.json]}
+ */
+public class AtcSimulatorBatchApplication {
+
+    private static final String USAGE =
+        "Usage: <scenario.json> <hours> [--step-seconds=1.0] [--parallelism=1] [--output=summary.json]";
+
+    public static void main(String[] args) {
+        String scenarioFile = null;
+        String hours = null;
+        String stepSeconds = String.valueOf(FastTimeBatchRunner.DEFAULT_STEP_SECONDS);
+        String parallelism = "1";
+        String outputFile = null;
+        for (String arg : args) {
+            if (arg.startsWith("--step-seconds=")) {
+                stepSeconds = arg.substring("--step-seconds=".length());
+            } else if (arg.startsWith("--parallelism=")) {
+                parallelism = arg.substring("--parallelism=".length());
+            } else if (arg.startsWith("--output=")) {
+                outputFile = arg.substring("--output=".length());
+            } else if (!arg.startsWith("--") && scenarioFile == null) {
+                scenarioFile = arg;
+            } else if (!arg.startsWith("--") && hours == null) {
+                hours = arg;
+            } else {
+                exitWithUsage("Unknown argument: " + arg);
+            }
+        }
+        if (scenarioFile == null || hours == null) {
+            exitWithUsage("Scenario file and hours are required");
+        }
+
+        // 1ティックごとのDEBUGログで実行速度が落ちないよう、バッチの進捗以外はWARN以上のみ出力する
+        LoggingSystem loggingSystem = LoggingSystem.get(AtcSimulatorBatchApplication.class.getClassLoader());
+        loggingSystem.setLogLevel(LoggingSystem.ROOT_LOGGER_NAME, LogLevel.WARN);
+        loggingSystem.setLogLevel(FastTimeBatchRunner.class.getName(), LogLevel.INFO);
+
+        ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+        try {
+            ScenarioLoadDto scenario = objectMapper.readValue(Path.of(scenarioFile).toFile(), ScenarioLoadDto.class);
+            FastTimeBatchRunner runner = new FastTimeBatchRunner(new AtsRouteFixPositionRepository(),
+                new IncrementalConflictDetector(), Integer.parseInt(parallelism));
+            FastTimeBatchSummaryDto summary = runner.run(scenario, Double.parseDouble(hours),
+                                                         Double.parseDouble(stepSeconds));
+
+            String json = objectMapper.writeValueAsString(summary);
+            if (outputFile != null) {
+                Files.writeString(Path.of(outputFile), json);
+            }
+            System.out.println(json);
+        } catch (NumberFormatException e) {
+            exitWithUsage("Invalid number: " + e.getMessage());
+        } catch (IOException | AtcSimulatorException | IllegalArgumentException e) {
+            System.err.println("Batch run failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void exitWithUsage(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        System.exit(2);
+    }
+}
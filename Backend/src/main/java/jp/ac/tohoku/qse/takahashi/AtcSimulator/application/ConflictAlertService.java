@@ -1,47 +1,213 @@
 package jp.ac.tohoku.qse.takahashi.AtcSimulator.application;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.AircraftNotFoundException;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftBase;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftRepository;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftState;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.WorldState;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.AircraftRiskIndex;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.AircraftStateSnapshot;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictDetector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictEvent;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictExecutor;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictLifecycleTracker;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictResultTable;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictSnapshot;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.MediumTermConflict;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.MediumTermProbe;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ResolutionSearchResult;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ResolutionSearchSettings;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.TrajectoryProbeResult;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.ConflictHorizon;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.RiskAssessment;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.InstructedVector;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ConflictAlertDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ConflictEventDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ConflictEventFeedDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ConflictExecutorMetricsDto;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ConflictStatisticsDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ProbeConflictDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ResolutionAdvisoryDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ResolutionSearchDto;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.RiskAssessmentDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.TrajectoryProbeDto;
 
 /**
  * コンフリクトアラート機能のアプリケーションサービス
  * ドメインサービスとインフラストラクチャを連携させ、
  * 航空管制業務に必要なコンフリクト検出機能を提供
+ *
+ * 検出はシミュレーションのティックごとに {@link #refresh()} で1回だけ行い、結果を {@link ConflictSnapshot} として公開する。
+ * 毎ティックの短期コンフリクト警報（STCA）に加え、中期予測を設定した場合は1ティックに1スライス分だけ評価し、
+ * 両方の結果を予測時間の区分付きで同じスナップショットに公開する。
+ * 取得系のメソッドは全て最新のスナップショットを参照する。
+ * スナップショットの公開ごとにペアの状態遷移（新規・格上げ・格下げ・解消）を記録し、差分のみを取得できる。
+ * 管制指示候補のwhat-if評価・回避指示の探索は対象機の予測軌道のみを周辺交通と比較し、全ペア計算は行わない。
  */
 public class ConflictAlertService {
 
     private final ConflictDetector conflictDetector;
     private final AircraftRepository aircraftRepository;
+    private final ConflictLifecycleTracker lifecycleTracker;
+    private final ResolutionSearchSettings resolutionSearchSettings;
+    // 中期予測（nullの場合は短期検出のみ）
+    private final MediumTermProbe mediumTermProbe;
+
+    // 最新のスナップショット（未検出の間はnull）
+    private volatile ConflictSnapshot latestSnapshot;
 
     /**
-     * コンストラクタ
+     * コンストラクタ（状態遷移の追跡・回避指示探索は既定値、中期予測なし）
      *
      * @param conflictDetector コンフリクト検出ドメインサービス
      * @param aircraftRepository 航空機リポジトリ
      */
     public ConflictAlertService(ConflictDetector conflictDetector, AircraftRepository aircraftRepository) {
-        this.conflictDetector = conflictDetector;
-        this.aircraftRepository = aircraftRepository;
+        this(builder(conflictDetector, aircraftRepository));
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param builder ConflictAlertServiceBuilderインスタンス
+     */
+    private ConflictAlertService(ConflictAlertServiceBuilder builder) {
+        this.conflictDetector = builder.conflictDetector;
+        this.aircraftRepository = builder.aircraftRepository;
+        this.lifecycleTracker = builder.lifecycleTracker != null ? builder.lifecycleTracker : new ConflictLifecycleTracker();
+        this.resolutionSearchSettings = builder.resolutionSearchSettings;
+        this.mediumTermProbe = builder.mediumTermProbe;
+    }
+
+    /**
+     * ConflictAlertServiceBuilderを取得
+     *
+     * @param conflictDetector コンフリクト検出ドメインサービス（短期コンフリクト警報）
+     * @param aircraftRepository 航空機リポジトリ
+     * @return 新しいConflictAlertServiceBuilderインスタンス
+     */
+    public static ConflictAlertServiceBuilder builder(ConflictDetector conflictDetector,
+                                                      AircraftRepository aircraftRepository) {
+        return new ConflictAlertServiceBuilder(conflictDetector, aircraftRepository);
+    }
+
+    /**
+     * ConflictAlertServiceのBuilderクラス
+     * 指定しない項目は既定値（状態遷移の追跡は新規作成、回避指示探索は {@link ResolutionSearchSettings#DEFAULT}、中期予測なし）
+     */
+    public static class ConflictAlertServiceBuilder {
+        private final ConflictDetector conflictDetector;
+        private final AircraftRepository aircraftRepository;
+        private ConflictLifecycleTracker lifecycleTracker;
+        private ResolutionSearchSettings resolutionSearchSettings = ResolutionSearchSettings.DEFAULT;
+        private MediumTermProbe mediumTermProbe;
+
+        private ConflictAlertServiceBuilder(ConflictDetector conflictDetector, AircraftRepository aircraftRepository) {
+            this.conflictDetector = conflictDetector;
+            this.aircraftRepository = aircraftRepository;
+        }
+
+        public ConflictAlertServiceBuilder lifecycleTracker(ConflictLifecycleTracker lifecycleTracker) {
+            this.lifecycleTracker = lifecycleTracker;
+            return this;
+        }
+
+        public ConflictAlertServiceBuilder resolutionSearchSettings(ResolutionSearchSettings resolutionSearchSettings) {
+            this.resolutionSearchSettings = resolutionSearchSettings;
+            return this;
+        }
+
+        /**
+         * @param mediumTermProbe 中期予測（nullの場合は短期検出のみ）
+         */
+        public ConflictAlertServiceBuilder mediumTermProbe(MediumTermProbe mediumTermProbe) {
+            this.mediumTermProbe = mediumTermProbe;
+            return this;
+        }
+
+        public ConflictAlertService build() {
+            return new ConflictAlertService(this);
+        }
+    }
+
+    /**
+     * 現在の全航空機のコンフリクト評価を実行し、新しいスナップショットとして公開
+     * シミュレーションのティック処理から呼び出される
+     * 短期検出は全航空機、中期予測は次のスライスのみを評価する
+     *
+     * @return 公開したスナップショット
+     */
+    public synchronized ConflictSnapshot refresh() {
+        List<Aircraft> allAircraft = aircraftRepository.findAll();
+        ConflictResultTable table = conflictDetector.calculateConflictTable(allAircraft);
+        long version = latestSnapshot != null ? latestSnapshot.version() + 1 : 1;
+        List<MediumTermConflict> mediumTermConflicts = mediumTermProbe != null
+            ? mediumTermProbe.advance(allAircraft, version)
+            : List.of();
+        return publish(version, table, mediumTermConflicts);
     }
 
     /**
-     * 現在の全航空機のコンフリクト評価を実行
+     * 凍結済みの航空機状態でコンフリクト評価を実行し、新しいスナップショットとして公開
+     * 航空機オブジェクトの現在の状態は参照しないため、次のティックの運動計算と並行して呼び出せる
+     *
+     * @param state ティックの航空機状態のスナップショット
+     * @return 公開したスナップショット
+     * @throws InvalidParameterException スナップショットがnullの場合
+     */
+    public synchronized ConflictSnapshot refresh(AircraftStateSnapshot state) {
+        ConflictResultTable table = conflictDetector.calculateConflictTable(state);
+        long version = latestSnapshot != null ? latestSnapshot.version() + 1 : 1;
+        List<MediumTermConflict> mediumTermConflicts = mediumTermProbe != null
+            ? mediumTermProbe.advanceCaptured(state, version)
+            : List.of();
+        return publish(version, table, mediumTermConflicts);
+    }
+
+    private ConflictSnapshot publish(long version, ConflictResultTable table,
+                                     List<MediumTermConflict> mediumTermConflicts) {
+        double mediumTermHorizon = mediumTermProbe != null ? mediumTermProbe.getSettings().horizonSeconds() : 0.0;
+        ConflictSnapshot snapshot = ConflictSnapshot.of(version, System.currentTimeMillis(), table,
+                                                        conflictDetector.getPredictionHorizon(), mediumTermHorizon,
+                                                        mediumTermConflicts);
+        latestSnapshot = snapshot;
+        lifecycleTracker.update(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 最新のスナップショットを取得
+     * 読み取り側では検出を実行しない。起動直後などまだ一度も公開していない場合は空のスナップショット（バージョン0）を返す
+     *
+     * @return 最新のスナップショット
+     */
+    public ConflictSnapshot getLatestSnapshot() {
+        ConflictSnapshot snapshot = latestSnapshot;
+        return snapshot != null ? snapshot : ConflictSnapshot.EMPTY;
+    }
+
+    /**
+     * 最新のコンフリクト評価結果を、航空機インデックスで引ける結果テーブルとして取得
+     *
+     * @return コンフリクト評価結果テーブル（凍結済み）
+     */
+    public ConflictResultTable getConflictTable() {
+        return getLatestSnapshot().table();
+    }
+
+    /**
+     * 最新のコンフリクト評価結果を取得
      *
      * @return コンフリクト評価結果マップ
      */
     public Map<String, RiskAssessment> getAllConflictAlerts() {
-        List<Aircraft> allAircraft = aircraftRepository.findAll();
-        return conflictDetector.calculateAllConflicts(allAircraft);
+        return getConflictTable().toPairIdMap();
     }
 
     /**
@@ -51,22 +217,22 @@ public class ConflictAlertService {
      * @return フィルタされたコンフリクト評価結果
      */
     public Map<String, RiskAssessment> getFilteredConflictAlerts(AlertLevel minimumAlertLevel) {
-        Map<String, RiskAssessment> allConflicts = getAllConflictAlerts();
-
-        return allConflicts.entrySet().stream()
-            .filter(entry -> entry.getValue().getAlertLevel().isHigherThan(minimumAlertLevel) ||
-                           entry.getValue().getAlertLevel() == minimumAlertLevel)
-            .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                Map.Entry::getValue
-            ));
+        ConflictResultTable table = getConflictTable();
+
+        Map<String, RiskAssessment> filtered = new HashMap<>();
+        for (int entry = 0; entry < table.size(); entry++) {
+            if (isAtLeast(table.alertLevel(entry), minimumAlertLevel)) {
+                filtered.put(table.pairId(entry), table.assessment(entry));
+            }
+        }
+        return filtered;
     }
 
     /**
      * 全てのコンフリクトアラートを DTO 形式で取得（API 用）
      */
     public Map<String, RiskAssessmentDto> getAllConflictAlertsAsDto() {
-        return toDtoMap(getAllConflictAlerts());
+        return toDtoMap(getConflictTable(), AlertLevel.SAFE);
     }
 
     /**
@@ -76,77 +242,147 @@ public class ConflictAlertService {
      * @throws InvalidParameterException 無効な level が指定された場合
      */
     public Map<String, RiskAssessmentDto> getFilteredConflictAlertsAsDto(String level) {
+        AlertLevel alertLevel;
         try {
-            AlertLevel alertLevel = AlertLevel.valueOf(level.toUpperCase());
-            return toDtoMap(getFilteredConflictAlerts(alertLevel));
+            alertLevel = AlertLevel.valueOf(level.toUpperCase());
         } catch (IllegalArgumentException e) {
             throw new InvalidParameterException("level", level, "有効な値: SAFE, WHITE_CONFLICT, RED_CONFLICT");
         }
+        return toDtoMap(getConflictTable(), alertLevel);
     }
 
-    private static Map<String, RiskAssessmentDto> toDtoMap(Map<String, RiskAssessment> conflicts) {
-        return conflicts.entrySet().stream()
-            .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                entry -> toRiskAssessmentDto(entry.getValue())
-            ));
+    /**
+     * 結果テーブルを文字列ペアIDをキーとする DTO マップに変換（REST 境界でのみ文字列キーを生成）
+     */
+    private static Map<String, RiskAssessmentDto> toDtoMap(ConflictResultTable table, AlertLevel minimumAlertLevel) {
+        Map<String, RiskAssessmentDto> result = new HashMap<>();
+        for (int entry = 0; entry < table.size(); entry++) {
+            if (isAtLeast(table.alertLevel(entry), minimumAlertLevel)) {
+                result.put(table.pairId(entry), toRiskAssessmentDto(table, entry));
+            }
+        }
+        return result;
+    }
+
+    private static boolean isAtLeast(AlertLevel alertLevel, AlertLevel minimumAlertLevel) {
+        return alertLevel.isHigherThan(minimumAlertLevel) || alertLevel == minimumAlertLevel;
     }
 
-    private static RiskAssessmentDto toRiskAssessmentDto(RiskAssessment assessment) {
+    private static RiskAssessmentDto toRiskAssessmentDto(ConflictResultTable table, int entry) {
         return new RiskAssessmentDto(
-            assessment.getRiskLevel(),
-            assessment.getAlertLevel().name(),
-            assessment.getTimeToClosest(),
-            assessment.getClosestHorizontalDistance(),
-            assessment.getClosestVerticalDistance(),
-            assessment.isConflictPredicted()
+            table.riskLevel(entry),
+            table.alertLevel(entry).name(),
+            table.timeToClosest(entry),
+            table.closestHorizontalDistance(entry),
+            table.closestVerticalDistance(entry),
+            table.isConflictPredicted(entry)
         );
     }
 
     /**
      * 緊急度の高いコンフリクトアラート（赤コンフリクト）のみを取得
      *
-     * @return 赤コンフリクトのリスト
+     * @return 赤コンフリクトのリスト（最接近時刻の早い順）
      */
     public List<ConflictAlertDto> getCriticalAlerts() {
-        Map<String, RiskAssessment> allConflicts = getAllConflictAlerts();
+        return getCriticalAlerts(Integer.MAX_VALUE, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
 
-        return allConflicts.entrySet().stream()
-            .filter(entry -> entry.getValue().getAlertLevel() == AlertLevel.RED_CONFLICT)
-            .map(entry -> toDto(entry.getKey(), entry.getValue()))
-            .sorted(Comparator.comparing(ConflictAlertDto::timeToClosest))
-            .collect(Collectors.toList());
+    /**
+     * 緊急度の高いコンフリクトアラート（赤コンフリクト）を最接近時刻の早い順に最大 {@code limit} 件取得
+     * 返却する件数分のDTOのみを生成する
+     *
+     * @param limit 最大件数（1以上）
+     * @param minTimeToClosest 最接近時刻の下限（秒、この値を含む）
+     * @param maxTimeToClosest 最接近時刻の上限（秒、この値を含む）
+     * @return 赤コンフリクトのリスト（最接近時刻の早い順）
+     * @throws InvalidParameterException 件数が1未満、または下限が上限を超える場合
+     */
+    public List<ConflictAlertDto> getCriticalAlerts(int limit, double minTimeToClosest, double maxTimeToClosest) {
+        ConflictSnapshot snapshot = getLatestSnapshot();
+        int[] entries = snapshot.mostUrgentEntries(AlertLevel.RED_CONFLICT, limit, minTimeToClosest, maxTimeToClosest);
+        return toDtos(snapshot.table(), entries);
     }
 
     /**
      * 管制間隔欠如が予測されるコンフリクトアラートを取得
      *
-     * @return 管制間隔欠如予測のあるコンフリクトのリスト
+     * @return 管制間隔欠如予測のあるコンフリクトのリスト（最接近時刻の早い順）
      */
     public List<ConflictAlertDto> getSeparationViolationAlerts() {
-        Map<String, RiskAssessment> allConflicts = getAllConflictAlerts();
+        return getSeparationViolationAlerts(Integer.MAX_VALUE, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
 
-        return allConflicts.entrySet().stream()
-            .filter(entry -> entry.getValue().isConflictPredicted())
-            .map(entry -> toDto(entry.getKey(), entry.getValue()))
-            .sorted(Comparator.comparing(ConflictAlertDto::timeToClosest))
-            .collect(Collectors.toList());
+    /**
+     * 管制間隔欠如が予測されるコンフリクトアラートを最接近時刻の早い順に最大 {@code limit} 件取得
+     * 返却する件数分のDTOのみを生成する
+     *
+     * @param limit 最大件数（1以上）
+     * @param minTimeToClosest 最接近時刻の下限（秒、この値を含む）
+     * @param maxTimeToClosest 最接近時刻の上限（秒、この値を含む）
+     * @return 管制間隔欠如予測のあるコンフリクトのリスト（最接近時刻の早い順）
+     * @throws InvalidParameterException 件数が1未満、または下限が上限を超える場合
+     */
+    public List<ConflictAlertDto> getSeparationViolationAlerts(int limit, double minTimeToClosest,
+                                                               double maxTimeToClosest) {
+        ConflictSnapshot snapshot = getLatestSnapshot();
+        int[] entries = snapshot.mostUrgentViolations(limit, minTimeToClosest, maxTimeToClosest);
+        return toDtos(snapshot.table(), entries);
+    }
+
+    /**
+     * 中期予測で管制間隔欠如が予測されるペアを最接近時刻の早い順に最大 {@code limit} 件取得
+     * 中期予測を行っていない場合は空
+     *
+     * @param limit 最大件数（1以上）
+     * @return 中期予測のコンフリクトのリスト（最接近時刻の早い順）
+     * @throws InvalidParameterException 件数が1未満の場合
+     */
+    public List<ConflictAlertDto> getMediumTermAlerts(int limit) {
+        if (limit < 1) {
+            throw new InvalidParameterException("limit", limit, "件数は1以上で指定してください");
+        }
+        List<MediumTermConflict> conflicts = getLatestSnapshot().mediumTermConflicts();
+        List<ConflictAlertDto> alerts = new ArrayList<>(Math.min(limit, conflicts.size()));
+        for (MediumTermConflict conflict : conflicts.subList(0, Math.min(limit, conflicts.size()))) {
+            alerts.add(new ConflictAlertDto(
+                conflict.pairId(),
+                conflict.riskLevel(),
+                conflict.alertLevel().name(),
+                conflict.timeToClosest(),
+                conflict.closestHorizontalDistance(),
+                conflict.closestVerticalDistance(),
+                true,
+                ConflictHorizon.MEDIUM_TERM.getDescription(),
+                false
+            ));
+        }
+        return alerts;
     }
 
     /**
      * 特定の航空機に関連するコンフリクトアラートを取得
      *
      * @param callsign 対象航空機のコールサイン
-     * @return 指定航空機に関連するコンフリクトのリスト
+     * @return 指定航空機に関連するコンフリクトのリスト（危険度の高い順）
      */
     public List<ConflictAlertDto> getAircraftConflicts(String callsign) {
-        Map<String, RiskAssessment> allConflicts = getAllConflictAlerts();
+        ConflictSnapshot snapshot = getLatestSnapshot();
+        ConflictResultTable table = snapshot.table();
+        AircraftRiskIndex index = snapshot.aircraftRisk();
 
-        return allConflicts.entrySet().stream()
-            .filter(entry -> entry.getKey().contains(callsign))
-            .map(entry -> toDto(entry.getKey(), entry.getValue()))
-            .sorted(Comparator.comparing(ConflictAlertDto::riskLevel).reversed())
-            .collect(Collectors.toList());
+        int aircraft = index.indexOf(callsign);
+        if (aircraft < 0) {
+            return new ArrayList<>();
+        }
+
+        int count = index.conflictCount(aircraft);
+        List<ConflictAlertDto> alerts = new ArrayList<>(count);
+        for (int k = 0; k < count; k++) {
+            alerts.add(toDto(table, index.conflictEntry(aircraft, k)));
+        }
+        alerts.sort(Comparator.comparing(ConflictAlertDto::riskLevel).reversed());
+        return alerts;
     }
 
     /**
@@ -155,50 +391,179 @@ public class ConflictAlertService {
      * @return アラート統計情報
      */
     public ConflictStatisticsDto getConflictStatistics() {
-        Map<String, RiskAssessment> allConflicts = getAllConflictAlerts();
-
-        long safeCount = 0;
-        long whiteConflictCount = 0;
-        long redConflictCount = 0;
-        long separationViolationCount = 0;
-        double maxRiskLevel = 0.0;
-        double sumRiskLevel = 0.0;
-
-        for (RiskAssessment a : allConflicts.values()) {
-            if (a.getAlertLevel() == AlertLevel.SAFE) {
-                safeCount++;
-            } else if (a.getAlertLevel() == AlertLevel.WHITE_CONFLICT) {
-                whiteConflictCount++;
-            } else if (a.getAlertLevel() == AlertLevel.RED_CONFLICT) {
-                redConflictCount++;
-            }
-            if (a.isConflictPredicted()) {
-                separationViolationCount++;
-            }
-            double r = a.getRiskLevel();
-            maxRiskLevel = Math.max(maxRiskLevel, r);
-            sumRiskLevel += r;
-        }
+        return toStatisticsDto(getLatestSnapshot());
+    }
 
-        long n = allConflicts.size();
-        double avgRiskLevel = n > 0 ? sumRiskLevel / n : 0.0;
+    /**
+     * 公開済みのスナップショットの統計を取得（ヘルスチェック用）
+     * 検出は起動せず、統計は公開時に集計済みのため定数時間で返る。まだ一度も検出していない場合は全て0
+     *
+     * @return アラート統計情報
+     */
+    public ConflictStatisticsDto getPublishedStatistics() {
+        return toStatisticsDto(getLatestSnapshot());
+    }
 
+    private static ConflictStatisticsDto toStatisticsDto(ConflictSnapshot snapshot) {
+        ConflictSnapshot.Statistics statistics = snapshot.statistics();
         return new ConflictStatisticsDto(
-            n, safeCount, whiteConflictCount, redConflictCount,
-            separationViolationCount, maxRiskLevel, avgRiskLevel
+            statistics.totalConflicts(), statistics.safeCount(), statistics.whiteConflictCount(),
+            statistics.redConflictCount(), statistics.separationViolationCount(),
+            statistics.maxRiskLevel(), statistics.avgRiskLevel(),
+            snapshot.table().deferredPairCount(), snapshot.table().staleCount()
         );
     }
 
-    private static ConflictAlertDto toDto(String pairId, RiskAssessment assessment) {
-        RiskAssessmentDto r = toRiskAssessmentDto(assessment);
+    /**
+     * 指定ティックより後のコンフリクトアラートの状態遷移を取得
+     * 検出は起動せず、公開済みのスナップショットで記録したイベントのみを返す
+     *
+     * @param sinceTick このティックより後のイベントを返す（前回取得時の currentTick、初回は0）
+     * @return 最新ティックと状態遷移のリスト（ティック順）
+     * @throws InvalidParameterException ティックが負の場合
+     */
+    public ConflictEventFeedDto getConflictEvents(long sinceTick) {
+        ConflictLifecycleTracker.Feed feed = lifecycleTracker.eventsSince(sinceTick);
+        List<ConflictEventDto> events = new ArrayList<>(feed.events().size());
+        for (ConflictEvent event : feed.events()) {
+            events.add(new ConflictEventDto(
+                event.tick(),
+                event.pairId(),
+                event.type().getDescription(),
+                event.previousAlertLevel().name(),
+                event.alertLevel().name(),
+                event.riskLevel()
+            ));
+        }
+        return new ConflictEventFeedDto(feed.currentTick(), feed.truncated(), events);
+    }
+
+    /**
+     * 管制指示候補を与えた場合の予測軌道を周辺交通に対して評価（what-if）
+     * 対象機1機分の軌道のみを評価し、スナップショットの公開や状態遷移の記録は行わない
+     * 対象機・周辺交通は同じ公開済みのワールド状態から取り出すため、運動計算を待たずに同一ティックの状態で評価する
+     *
+     * @param callsign 対象航空機のコールサイン
+     * @param instruction 管制指示候補
+     * @return 予測軌道とコンフリクトする相手機のリスト（危険度の高い順）と評価時間
+     * @throws AircraftNotFoundException 航空機が見つからない場合
+     * @throws InvalidParameterException 対象機が軌道予測に対応していない場合
+     */
+    public TrajectoryProbeDto probeInstruction(String callsign, InstructedVector instruction) {
+        long start = System.nanoTime();
+        WorldState world = aircraftRepository.getWorldState();
+        TrajectoryProbeResult result = conflictDetector.probeTrajectory(findProbeSubject(world, callsign), instruction,
+                                                                        world.aircraft());
+
+        List<ProbeConflictDto> conflicts = new ArrayList<>(result.conflicts().size());
+        for (TrajectoryProbeResult.Conflict c : result.conflicts()) {
+            conflicts.add(new ProbeConflictDto(
+                c.callsign(),
+                c.riskLevel(),
+                c.alertLevel().name(),
+                c.timeToClosest(),
+                c.closestHorizontalDistance(),
+                c.closestVerticalDistance(),
+                c.conflictPredicted(),
+                c.firstViolationTime()
+            ));
+        }
+        return new TrajectoryProbeDto(
+            result.callsign(),
+            result.trafficCount(),
+            result.candidateCount(),
+            result.maxRiskLevel(),
+            AlertLevel.fromRiskLevel(result.maxRiskLevel()).name(),
+            (System.nanoTime() - start) / 1_000,
+            conflicts
+        );
+    }
+
+    /**
+     * 対象機の予測時間内の管制間隔欠如を全て解消する回避指示を探索
+     * スナップショットの公開や状態遷移の記録は行わない
+     * 対象機・周辺交通は同じ公開済みのワールド状態から取り出すため、運動計算を待たずに同一ティックの状態で探索する
+     *
+     * @param callsign 対象航空機のコールサイン
+     * @param limit 返却する最大件数（1以上）
+     * @return 変更量の小さい順の回避指示と評価時間
+     * @throws AircraftNotFoundException 航空機が見つからない場合
+     * @throws InvalidParameterException 対象機が軌道予測に対応していない、または件数が1未満の場合
+     */
+    public ResolutionSearchDto getResolutionAdvisories(String callsign, int limit) {
+        long start = System.nanoTime();
+        WorldState world = aircraftRepository.getWorldState();
+        ResolutionSearchResult result = conflictDetector.searchResolutions(
+            findProbeSubject(world, callsign), world.aircraft(), resolutionSearchSettings, limit);
+
+        List<ResolutionAdvisoryDto> advisories = new ArrayList<>(result.advisories().size());
+        for (ResolutionSearchResult.Advisory a : result.advisories()) {
+            advisories.add(new ResolutionAdvisoryDto(
+                a.heading(),
+                a.altitude(),
+                a.groundSpeed(),
+                a.headingChange(),
+                a.altitudeChange(),
+                a.groundSpeedChange(),
+                a.cost(),
+                a.maxRiskLevel()
+            ));
+        }
+        return new ResolutionSearchDto(
+            result.callsign(),
+            result.candidateCount(),
+            result.clearedCount(),
+            result.neighbourCount(),
+            (System.nanoTime() - start) / 1_000,
+            advisories
+        );
+    }
+
+    private AircraftState findProbeSubject(WorldState world, String callsign) {
+        AircraftState state = world.find(new Callsign(callsign));
+        if (state == null) {
+            throw new AircraftNotFoundException(callsign);
+        }
+        if (!(state.aircraft() instanceof AircraftBase)) {
+            throw new InvalidParameterException("callsign", callsign, "軌道予測に対応していない航空機です");
+        }
+        return state;
+    }
+
+    /**
+     * コンフリクト計算エグゼキュータの利用状況を取得
+     *
+     * @return プールの状態と累積の実行統計
+     */
+    public ConflictExecutorMetricsDto getExecutorMetrics() {
+        ConflictExecutor.Metrics m = conflictDetector.getExecutor().metrics();
+        return new ConflictExecutorMetricsDto(
+            m.dedicatedPool(), m.parallelism(), m.poolSize(), m.activeThreadCount(), m.runningThreadCount(),
+            m.queuedTaskCount(), m.queuedSubmissionCount(), m.stealCount(), m.chunkSize(),
+            m.sequentialThreshold(), m.parallelRuns(), m.sequentialRuns(), m.executedChunks(), m.utilisation()
+        );
+    }
+
+    private static List<ConflictAlertDto> toDtos(ConflictResultTable table, int[] entries) {
+        List<ConflictAlertDto> alerts = new ArrayList<>(entries.length);
+        for (int entry : entries) {
+            alerts.add(toDto(table, entry));
+        }
+        return alerts;
+    }
+
+    private static ConflictAlertDto toDto(ConflictResultTable table, int entry) {
+        RiskAssessmentDto r = toRiskAssessmentDto(table, entry);
         return new ConflictAlertDto(
-            pairId,
+            table.pairId(entry),
             r.riskLevel(),
             r.alertLevel(),
             r.timeToClosest(),
             r.closestHorizontalDistance(),
             r.closestVerticalDistance(),
-            r.conflictPredicted()
+            r.conflictPredicted(),
+            ConflictHorizon.SHORT_TERM.getDescription(),
+            table.isStale(entry)
         );
     }
 }
@@ -0,0 +1,262 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.application;
+
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.MINIMUM_HORIZONTAL_SEPARATION;
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.MINIMUM_VERTICAL_SEPARATION;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.aggregate.airspace.AirspaceManagement;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.aggregate.airspace.AirspaceManagementImpl;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictDetector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictResultTable;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.infrastructure.fix.AtsRouteFixPositionRepository;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.infrastructure.persistence.inMemory.AircraftRepositoryInMemory;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.FastTimeBatchSummaryDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ScenarioLoadDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.SpawnWithFlightPlanDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.utility.GeodeticUtils;
+
+/**
+ * シナリオをヘッドレスで高速実行（fast-time）し、集計結果を返すバッチランナー
+ *
+ * Spring MVC・シミュレーションクロック・ポーリングを介さず、リポジトリ・{@link AirspaceManagementImpl}・
+ * {@link ConflictDetector} を直接組み立てて、実時間に合わせた待機なしでティックを連続実行する。
+ * 各ティックは「出現時刻に達した航空機の追加 → 運動計算（ステップ幅の秒数） → コンフリクト検出」の順で、
+ * 検出はライブのシミュレーションと同じくティックごとに1回行う。
+ *
+ * 航空機定義の出現時刻（{@code spawnTime}、秒）はシミュレーション開始からの経過時間として扱い、
+ * 未指定または0以下は開始時に出現させる。初期位置のない航空機定義は読み飛ばす。
+ */
+public class FastTimeBatchRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(FastTimeBatchRunner.class);
+
+    /** 既定のステップ幅（秒）。ライブのシミュレーションの1ティックと同じ */
+    public static final double DEFAULT_STEP_SECONDS = 1.0;
+
+    private static final double SECONDS_PER_HOUR = 3600.0;
+
+    private final AtsRouteFixPositionRepository fixPositionRepository;
+    private final ScenarioAircraftAssembler aircraftAssembler;
+    private final ConflictDetector conflictDetector;
+    private final int stepParallelism;
+
+    /**
+     * コンストラクタ
+     *
+     * @param fixPositionRepository FIX・空港データ
+     * @param conflictDetector コンフリクト検出器（インクリメンタル版も可）
+     * @param stepParallelism 運動計算のワーカー数（1は逐次、0以下は利用可能なプロセッサ数）
+     */
+    public FastTimeBatchRunner(AtsRouteFixPositionRepository fixPositionRepository,
+                               ConflictDetector conflictDetector, int stepParallelism) {
+        this.fixPositionRepository = fixPositionRepository;
+        this.aircraftAssembler = new ScenarioAircraftAssembler(
+            new FlightPlanFromDtoConverter(fixPositionRepository), fixPositionRepository);
+        this.conflictDetector = conflictDetector;
+        this.stepParallelism = stepParallelism;
+    }
+
+    /**
+     * シナリオを指定したシミュレーション時間だけ実行
+     *
+     * @param scenario シナリオ（{@code /api/scenario/load} と同じ形式）
+     * @param simulatedHours 実行するシミュレーション時間（時間、正の有限値）
+     * @param stepSeconds 1ティックで進めるシミュレーション時間（秒、正の有限値。1秒を超える分はサブステップに分割）
+     * @return 管制間隔欠如・コンフリクト数・スループット・ティックごとの処理時間の集計
+     * @throws InvalidParameterException シナリオが空、コールサインの重複、または時間の指定が不正な場合
+     * @throws IllegalArgumentException 飛行計画のFIXが見つからない場合
+     */
+    public FastTimeBatchSummaryDto run(ScenarioLoadDto scenario, double simulatedHours, double stepSeconds) {
+        if (!Double.isFinite(simulatedHours) || simulatedHours <= 0.0) {
+            throw new InvalidParameterException("simulatedHours", simulatedHours,
+                                                "シミュレーション時間は正の有限値で指定してください");
+        }
+        if (!Double.isFinite(stepSeconds) || stepSeconds <= 0.0) {
+            throw new InvalidParameterException("stepSeconds", stepSeconds,
+                                                "ステップ幅は正の有限値で指定してください");
+        }
+        List<PendingSpawn> pending = assembleSpawns(scenario);
+        double endSeconds = simulatedHours * SECONDS_PER_HOUR;
+
+        try (AircraftRepositoryInMemory repository = new AircraftRepositoryInMemory(
+                stepParallelism, AircraftRepositoryInMemory.DEFAULT_STEP_CHUNK_SIZE)) {
+            AirspaceManagement airspaceManagement = new AirspaceManagementImpl(repository, fixPositionRepository);
+            RunMetrics metrics = new RunMetrics();
+            logger.info("バッチ実行開始: {}（{}機）, {}時間, ステップ {}秒",
+                        scenario.scenarioName(), pending.size(), simulatedHours, stepSeconds);
+
+            long runStart = System.nanoTime();
+            double simulatedSeconds = 0.0;
+            int nextSpawn = 0;
+            long nextProgressHour = 1;
+            while (simulatedSeconds < endSeconds) {
+                long tickStart = System.nanoTime();
+                while (nextSpawn < pending.size() && pending.get(nextSpawn).spawnSeconds() <= simulatedSeconds) {
+                    airspaceManagement.addAircraft(pending.get(nextSpawn++).aircraft());
+                    metrics.aircraftSpawned++;
+                }
+                int aircraftBeforeStep = repository.findAll().size();
+
+                double dt = Math.min(stepSeconds, endSeconds - simulatedSeconds);
+                if (aircraftBeforeStep > 0) {
+                    airspaceManagement.nextStep(dt);
+                }
+                simulatedSeconds += dt;
+                long dynamicsEnd = System.nanoTime();
+
+                List<Aircraft> aircraft = repository.findAll();
+                metrics.aircraftRemoved += aircraftBeforeStep - aircraft.size();
+                metrics.peakAircraft = Math.max(metrics.peakAircraft, aircraft.size());
+                metrics.recordConflicts(conflictDetector.calculateConflictTable(aircraft), aircraft, dt);
+                long tickEnd = System.nanoTime();
+
+                metrics.recordTick(dynamicsEnd - tickStart, tickEnd - dynamicsEnd);
+                if (simulatedSeconds >= nextProgressHour * SECONDS_PER_HOUR && simulatedSeconds < endSeconds) {
+                    logger.info("{}時間経過: {}機, 実時間 {}ms", nextProgressHour, aircraft.size(),
+                                (tickEnd - runStart) / 1_000_000);
+                    nextProgressHour++;
+                }
+            }
+
+            double wallClockMillis = (System.nanoTime() - runStart) / 1_000_000.0;
+            FastTimeBatchSummaryDto summary = metrics.toSummary(scenario.scenarioName(), simulatedSeconds, stepSeconds,
+                                                                wallClockMillis, repository.findAll().size());
+            logger.info("バッチ実行完了: {}ティック, 実時間 {}ms（{}倍速）", summary.ticks(),
+                        Math.round(wallClockMillis), Math.round(summary.realTimeFactor()));
+            return summary;
+        }
+    }
+
+    /**
+     * 航空機定義を組み立て、出現時刻順（同時刻は定義順）に並べる
+     */
+    private List<PendingSpawn> assembleSpawns(ScenarioLoadDto scenario) {
+        if (scenario == null || scenario.aircraft() == null || scenario.aircraft().isEmpty()) {
+            throw new InvalidParameterException("aircraft", null, "シナリオに航空機が含まれていません");
+        }
+        Set<String> seenCallsigns = new HashSet<>();
+        List<PendingSpawn> pending = new ArrayList<>();
+        for (SpawnWithFlightPlanDto spawn : scenario.aircraft()) {
+            String callsign = spawn.flightPlan().callsign();
+            if (!seenCallsigns.add(callsign)) {
+                throw new InvalidParameterException("callsign", callsign, "コールサインが重複しています");
+            }
+            if (spawn.initialPosition() == null) {
+                logger.warn("初期位置のない航空機を読み飛ばします: {}", callsign);
+                continue;
+            }
+            double spawnSeconds = spawn.spawnTime() != null ? Math.max(0, spawn.spawnTime()) : 0.0;
+            pending.add(new PendingSpawn(spawnSeconds, aircraftAssembler.assemble(spawn)));
+        }
+        pending.sort(Comparator.comparingDouble(PendingSpawn::spawnSeconds));
+        return pending;
+    }
+
+    private record PendingSpawn(double spawnSeconds, Aircraft aircraft) {}
+
+    /**
+     * 実行中の集計（単一スレッドからのみ更新）
+     */
+    private static final class RunMetrics {
+        private final Set<String> alertPairs = new HashSet<>();
+        private final Set<String> redAlertPairs = new HashSet<>();
+        private final Set<String> predictedViolationPairs = new HashSet<>();
+        private final Set<String> separationViolationPairs = new HashSet<>();
+        private double separationViolationSeconds;
+        private int maxConcurrentAlerts;
+        private int aircraftSpawned;
+        private int aircraftRemoved;
+        private int peakAircraft;
+        private long ticks;
+        private long totalDynamicsNanos;
+        private long totalDetectionNanos;
+        private long maxTickNanos;
+
+        void recordConflicts(ConflictResultTable table, List<Aircraft> aircraft, double dt) {
+            int concurrentAlerts = 0;
+            for (int entry = 0; entry < table.size(); entry++) {
+                AlertLevel level = table.alertLevel(entry);
+                boolean predicted = table.isConflictPredicted(entry);
+                boolean lossOfSeparation = isLossOfSeparation(aircraft.get(table.firstIndex(entry)),
+                                                              aircraft.get(table.secondIndex(entry)));
+                if (level == AlertLevel.SAFE && !predicted && !lossOfSeparation) {
+                    continue;
+                }
+                String pairId = table.pairId(entry);
+                if (level != AlertLevel.SAFE) {
+                    concurrentAlerts++;
+                    alertPairs.add(pairId);
+                }
+                if (level == AlertLevel.RED_CONFLICT) {
+                    redAlertPairs.add(pairId);
+                }
+                if (predicted) {
+                    predictedViolationPairs.add(pairId);
+                }
+                if (lossOfSeparation) {
+                    separationViolationPairs.add(pairId);
+                    separationViolationSeconds += dt;
+                }
+            }
+            maxConcurrentAlerts = Math.max(maxConcurrentAlerts, concurrentAlerts);
+        }
+
+        void recordTick(long dynamicsNanos, long detectionNanos) {
+            ticks++;
+            totalDynamicsNanos += dynamicsNanos;
+            totalDetectionNanos += detectionNanos;
+            maxTickNanos = Math.max(maxTickNanos, dynamicsNanos + detectionNanos);
+        }
+
+        FastTimeBatchSummaryDto toSummary(String scenarioName, double simulatedSeconds, double stepSeconds,
+                                          double wallClockMillis, int finalAircraft) {
+            double averageDynamicsMillis = ticks > 0 ? toMillis(totalDynamicsNanos) / ticks : 0.0;
+            double averageDetectionMillis = ticks > 0 ? toMillis(totalDetectionNanos) / ticks : 0.0;
+            return new FastTimeBatchSummaryDto(
+                scenarioName,
+                simulatedSeconds,
+                stepSeconds,
+                ticks,
+                wallClockMillis,
+                wallClockMillis > 0 ? simulatedSeconds * 1000.0 / wallClockMillis : 0.0,
+                aircraftSpawned,
+                aircraftRemoved,
+                peakAircraft,
+                finalAircraft,
+                aircraftRemoved / (simulatedSeconds / SECONDS_PER_HOUR),
+                alertPairs.size(),
+                redAlertPairs.size(),
+                predictedViolationPairs.size(),
+                separationViolationPairs.size(),
+                separationViolationSeconds,
+                maxConcurrentAlerts,
+                averageDynamicsMillis + averageDetectionMillis,
+                toMillis(maxTickNanos),
+                averageDynamicsMillis,
+                averageDetectionMillis
+            );
+        }
+
+        private static boolean isLossOfSeparation(Aircraft first, Aircraft second) {
+            return GeodeticUtils.calculateVerticalDistance(first.getAircraftPosition(), second.getAircraftPosition())
+                       < MINIMUM_VERTICAL_SEPARATION
+                && GeodeticUtils.calculateHorizontalDistance(first.getAircraftPosition(), second.getAircraftPosition())
+                       < MINIMUM_HORIZONTAL_SEPARATION;
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
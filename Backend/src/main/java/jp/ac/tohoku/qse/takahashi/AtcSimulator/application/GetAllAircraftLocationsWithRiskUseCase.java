@@ -1,20 +1,23 @@
 package jp.ac.tohoku.qse.takahashi.AtcSimulator.application;
 
 import java.util.List;
-import java.util.Map;
 
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.AircraftNotFoundException;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftBase;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftRepository;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftState;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.WorldState;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.types.commercial.CommercialAircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.AircraftRiskIndex;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictSnapshot;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.RiskAssessment;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.AircraftLocationDto;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.utility.StringUtils;
 
 /**
  * Use case: get all aircraft locations with risk assessment for radar display.
+ * Risk levels come from the per-aircraft risk index of the latest conflict snapshot (O(1) per aircraft).
+ * Positions and vectors come from the repository's published world state, so every aircraft in a response
+ * belongs to the same tick and reading never waits for (or blocks) the simulation step.
  */
 public class GetAllAircraftLocationsWithRiskUseCase {
 
@@ -28,32 +31,28 @@ public class GetAllAircraftLocationsWithRiskUseCase {
     }
 
     public List<AircraftLocationDto> execute() {
-        List<Aircraft> allAircraft = aircraftRepository.findAll();
-        Map<String, RiskAssessment> allConflicts = conflictAlertService.getAllConflictAlerts();
+        WorldState world = aircraftRepository.getWorldState();
+        ConflictSnapshot conflicts = conflictAlertService.getLatestSnapshot();
 
-        return allAircraft.stream()
-                .map(aircraft -> toDto(aircraft, allConflicts, allAircraft))
+        return world.aircraft().stream()
+                .map(state -> toDto(state, conflicts))
                 .toList();
     }
 
     public AircraftLocationDto execute(String callsign) {
-        if (!aircraftRepository.isAircraftExist(new Callsign(callsign))) {
+        AircraftState state = aircraftRepository.getWorldState().find(new Callsign(callsign));
+        if (state == null) {
             throw new AircraftNotFoundException(callsign);
         }
-        return execute().stream()
-                .filter(dto -> dto.callsign().equals(callsign))
-                .findFirst()
-                .orElseThrow();
+        return toDto(state, conflictAlertService.getLatestSnapshot());
     }
 
-    private AircraftLocationDto toDto(Aircraft aircraft, Map<String, RiskAssessment> allConflicts,
-                                      List<Aircraft> allAircraft) {
-        if (!(aircraft instanceof AircraftBase base)) {
-            return fallbackDto(aircraft, 0.0);
+    private AircraftLocationDto toDto(AircraftState state, ConflictSnapshot conflicts) {
+        if (!(state.aircraft() instanceof AircraftBase base)) {
+            return fallbackDto(state, 0.0);
         }
 
-        double riskLevel = calculateMaxRiskForAircraft(
-                base.getCallsign().toString(), allConflicts, allAircraft);
+        AircraftRiskIndex.Summary risk = conflicts.aircraftRisk().summary(state.callsign().toString());
 
         String originIata = "";
         String originIcao = "";
@@ -61,7 +60,7 @@ public class GetAllAircraftLocationsWithRiskUseCase {
         String destinationIcao = "";
         String eta = "";
 
-        if (aircraft instanceof CommercialAircraft commercial) {
+        if (base instanceof CommercialAircraft commercial) {
             originIata = commercial.getOriginIata();
             originIcao = commercial.getOriginIcao();
             destinationIata = commercial.getDestinationIata();
@@ -70,23 +69,23 @@ public class GetAllAircraftLocationsWithRiskUseCase {
         }
 
         return new AircraftLocationDto(
-                base.getCallsign().toString(),
+                state.callsign().toString(),
                 new AircraftLocationDto.PositionDto(
-                        base.getAircraftPosition().latitude.toDouble(),
-                        base.getAircraftPosition().longitude.toDouble(),
-                        base.getAircraftPosition().altitude.toDouble()
+                        state.position().latitude.toDouble(),
+                        state.position().longitude.toDouble(),
+                        state.position().altitude.toDouble()
                 ),
                 new AircraftLocationDto.VectorDto(
-                        base.getAircraftVector().heading.toDouble(),
-                        base.getAircraftVector().groundSpeed.toDouble(),
-                        base.getAircraftVector().verticalSpeed.toDouble()
+                        state.vector().heading.toDouble(),
+                        state.vector().groundSpeed.toDouble(),
+                        state.vector().verticalSpeed.toDouble()
                 ),
                 new AircraftLocationDto.InstructedVectorDto(
-                        base.getInstructedVector().instructedHeading.toDouble(),
-                        base.getInstructedVector().instructedGroundSpeed.toDouble(),
-                        base.getInstructedVector().instructedAltitude.toDouble()
+                        state.instructedVector().instructedHeading.toDouble(),
+                        state.instructedVector().instructedGroundSpeed.toDouble(),
+                        state.instructedVector().instructedAltitude.toDouble()
                 ),
-                toAtcClearanceDto(base),
+                toAtcClearanceDto(state),
                 base.getCharacteristics().getCategory().name(),
                 base.getAircraftType().toString(),
                 originIata,
@@ -94,13 +93,14 @@ public class GetAllAircraftLocationsWithRiskUseCase {
                 destinationIata,
                 destinationIcao,
                 eta,
-                riskLevel
+                risk.maxRisk(),
+                toConflictSummaryDto(risk)
         );
     }
 
-    private AircraftLocationDto fallbackDto(Aircraft aircraft, double riskLevel) {
+    private AircraftLocationDto fallbackDto(AircraftState state, double riskLevel) {
         return new AircraftLocationDto(
-                aircraft.getCallsign().toString(),
+                state.callsign().toString(),
                 new AircraftLocationDto.PositionDto(0, 0, 0),
                 new AircraftLocationDto.VectorDto(0, 0, 0),
                 new AircraftLocationDto.InstructedVectorDto(0, 0, 0),
@@ -108,31 +108,28 @@ public class GetAllAircraftLocationsWithRiskUseCase {
                 "UNKNOWN",
                 "UNKNOWN",
                 "", "", "", "", "",
-                riskLevel
+                riskLevel,
+                null
         );
     }
 
-    private double calculateMaxRiskForAircraft(String targetCallsign,
-                                              Map<String, RiskAssessment> allConflicts,
-                                              List<Aircraft> allAircraft) {
-        double maxRisk = 0.0;
-        for (Aircraft other : allAircraft) {
-            if (!other.getCallsign().toString().equals(targetCallsign)) {
-                String pairId = StringUtils.generatePairId(targetCallsign, other.getCallsign().toString());
-                RiskAssessment risk = allConflicts.get(pairId);
-                if (risk != null && risk.getRiskLevel() > maxRisk) {
-                    maxRisk = risk.getRiskLevel();
-                }
-            }
+    private static AircraftLocationDto.ConflictSummaryDto toConflictSummaryDto(AircraftRiskIndex.Summary risk) {
+        if (risk.worstPartner() == null) {
+            return null;
         }
-        return maxRisk;
+        return new AircraftLocationDto.ConflictSummaryDto(
+                risk.worstPartner(),
+                risk.safePartners(),
+                risk.whiteConflictPartners(),
+                risk.redConflictPartners()
+        );
     }
 
-    private static AircraftLocationDto.InstructedVectorDto toAtcClearanceDto(AircraftBase base) {
-        if (!base.hasAtcClearance()) {
+    private static AircraftLocationDto.InstructedVectorDto toAtcClearanceDto(AircraftState state) {
+        if (state.atcClearance() == null) {
             return null;
         }
-        var c = base.getAtcClearance();
+        var c = state.atcClearance();
         return new AircraftLocationDto.InstructedVectorDto(
                 c.instructedHeading.toDouble(),
                 c.instructedGroundSpeed.toDouble(),
@@ -0,0 +1,61 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.application;
+
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.DEFAULT_SIMULATION_ETA;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.types.commercial.CommercialAircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.infrastructure.fix.AtsRouteFixPositionRepository;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.CreateAircraftDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.FlightPlanDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.InitialPositionDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.SpawnWithFlightPlanDto;
+
+/**
+ * シナリオの航空機定義（飛行計画＋初期位置）から飛行計画を設定済みの航空機を組み立てる
+ * シナリオロードAPIとヘッドレスのバッチ実行で同じ変換を使う
+ */
+public class ScenarioAircraftAssembler {
+
+    private final FlightPlanFromDtoConverter flightPlanConverter;
+    private final AtsRouteFixPositionRepository airportRepository;
+
+    public ScenarioAircraftAssembler(FlightPlanFromDtoConverter flightPlanConverter,
+                                     AtsRouteFixPositionRepository airportRepository) {
+        this.flightPlanConverter = flightPlanConverter;
+        this.airportRepository = airportRepository;
+    }
+
+    /**
+     * 航空機定義から航空機を組み立てる
+     *
+     * @param spawn 航空機定義（初期位置が必須）
+     * @return 飛行計画を設定した航空機
+     * @throws IllegalArgumentException 飛行計画のFIXが見つからない場合
+     */
+    public CommercialAircraft assemble(SpawnWithFlightPlanDto spawn) {
+        CommercialAircraft aircraft = createAircraft(spawn.flightPlan(), spawn.initialPosition());
+        aircraft.setFlightPlan(flightPlanConverter.toDomain(spawn.flightPlan()));
+        return aircraft;
+    }
+
+    private CommercialAircraft createAircraft(FlightPlanDto fpDto, InitialPositionDto pos) {
+        String dep = fpDto.departureAirport() != null ? fpDto.departureAirport() : "RJTT";
+        String arr = fpDto.arrivalAirport() != null ? fpDto.arrivalAirport() : "RJAA";
+        String originIata = airportRepository.findIataByIcao(dep);
+        String destIata = airportRepository.findIataByIcao(arr);
+        return AircraftFactory.createCommercialAircraft(
+                new CreateAircraftDto(
+                        fpDto.callsign(),
+                        pos.latitude(),
+                        pos.longitude(),
+                        pos.altitude(),
+                        pos.groundSpeed(),
+                        pos.verticalSpeed(),
+                        pos.heading(),
+                        fpDto.aircraftType() != null ? fpDto.aircraftType() : "B738",
+                        originIata,
+                        dep,
+                        destIata,
+                        arr,
+                        DEFAULT_SIMULATION_ETA.toString()));
+    }
+}
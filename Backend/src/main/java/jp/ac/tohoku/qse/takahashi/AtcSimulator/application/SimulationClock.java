@@ -0,0 +1,270 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.application;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.SimulationClockDto;
+
+/**
+ * 固定タイムステップでティックを発行するシミュレーションクロック
+ *
+ * 専用の高優先度スレッドで動作し、ティック k の予定時刻を「開始時刻 + k × ティック間隔」として絶対時刻で管理する。
+ * 前回の実行時刻からの相対待機ではないため、ティックの処理時間や待機の誤差が蓄積してドリフトすることはない。
+ *
+ * ティックの処理が間隔を超えて予定時刻に遅れた場合は、待機せずに連続してティックを実行して追いつく（キャッチアップ）。
+ * 遅れが最大キャッチアップ数を超えた分のティックは破棄し、以降はその時点を基準に再開する。
+ * ティック番号は実行したティックごとに1ずつ増える単調なカウンタで、一時停止中もティック（コンフリクト検出）は発行する。
+ *
+ * 遅れ（予定時刻からの遅延）・処理時間がティック間隔を超えたティック数（オーバーラン）・破棄したティック数・
+ * ティックごとの処理時間を {@link #getMetrics()} で取得でき、サーバーが実時間に追従できているかを判断できる。
+ *
+ * 時間倍率（{@value #MIN_TIME_SCALE}〜{@value #MAX_TIME_SCALE}倍）は実行中に変更でき、
+ * 各ティックで進めるシミュレーション時間は「ティック間隔 × 時間倍率」となる。ティック間隔（実時間）は変わらない。
+ */
+public class SimulationClock implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimulationClock.class);
+
+    /** 既定の最大キャッチアップ数（ティック） */
+    public static final int DEFAULT_MAX_CATCH_UP_TICKS = 5;
+
+    /** 時間倍率の下限（スローモーション） */
+    public static final double MIN_TIME_SCALE = 0.25;
+
+    /** 時間倍率の上限（早送り） */
+    public static final double MAX_TIME_SCALE = 64.0;
+
+    /**
+     * シミュレーションの実行状態
+     */
+    public enum RunState {
+        RUNNING,
+        PAUSED
+    }
+
+    /**
+     * ティックごとに呼び出される処理
+     */
+    @FunctionalInterface
+    public interface TickHandler {
+        /**
+         * @param simulatedSeconds このティックで進めるシミュレーション時間（秒、一時停止中は0）
+         */
+        void tick(double simulatedSeconds);
+    }
+
+    private final TickHandler handler;
+    private final long tickIntervalNanos;
+    private final int maxCatchUpTicks;
+
+    private volatile RunState runState = RunState.PAUSED;
+    private volatile double timeScale = 1.0;
+    private volatile boolean closed;
+    private Thread thread;
+
+    // 以下はクロックスレッドが更新し、getMetrics()がロックを取って読む
+    private long tick;
+    private long simulatedTicks;
+    private double simulatedSeconds;
+    private long overrunCount;
+    private long droppedTicks;
+    private long lastLagNanos;
+    private long maxLagNanos;
+    private long lastTickNanos;
+    private long totalTickNanos;
+    private long maxTickNanos;
+
+    /**
+     * コンストラクタ
+     *
+     * @param handler ティックごとの処理
+     * @param tickIntervalMillis ティック間隔（ミリ秒、1以上）
+     * @param maxCatchUpTicks 遅れを取り戻すために連続して実行するティック数の上限（0以上、0は遅れたティックをすべて破棄）
+     * @throws InvalidParameterException ティック間隔が1未満、または最大キャッチアップ数が負の場合
+     */
+    public SimulationClock(TickHandler handler, long tickIntervalMillis, int maxCatchUpTicks) {
+        if (tickIntervalMillis < 1) {
+            throw new InvalidParameterException("tickIntervalMillis", tickIntervalMillis,
+                                                "ティック間隔は1ミリ秒以上で指定してください");
+        }
+        if (maxCatchUpTicks < 0) {
+            throw new InvalidParameterException("maxCatchUpTicks", maxCatchUpTicks,
+                                                "最大キャッチアップ数は0以上で指定してください");
+        }
+        this.handler = handler;
+        this.tickIntervalNanos = TimeUnit.MILLISECONDS.toNanos(tickIntervalMillis);
+        this.maxCatchUpTicks = maxCatchUpTicks;
+    }
+
+    /**
+     * クロックスレッドを起動してティックの発行を開始（起動済みの場合は何もしない）
+     * 実行状態は変更しない（初期状態は一時停止）
+     */
+    public synchronized void startTicking() {
+        if (thread != null || closed) {
+            return;
+        }
+        thread = new Thread(this::runLoop, "atc-simulation-clock");
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("シミュレーションクロック開始: ティック間隔 {}ms, 最大キャッチアップ {}ティック",
+                    TimeUnit.NANOSECONDS.toMillis(tickIntervalNanos), maxCatchUpTicks);
+    }
+
+    /**
+     * シミュレーションを実行状態にする（次のティックから運動計算を進める）
+     */
+    public void resume() {
+        runState = RunState.RUNNING;
+    }
+
+    /**
+     * シミュレーションを一時停止する（次のティックから運動計算を止める。検出は継続する）
+     */
+    public void pause() {
+        runState = RunState.PAUSED;
+    }
+
+    /**
+     * 時間倍率を変更する（次のティックから反映）
+     *
+     * @param timeScale 実時間1秒あたりに進めるシミュレーション時間（秒）
+     * @throws InvalidParameterException {@value #MIN_TIME_SCALE}〜{@value #MAX_TIME_SCALE}の範囲外の場合
+     */
+    public void setTimeScale(double timeScale) {
+        if (!(timeScale >= MIN_TIME_SCALE && timeScale <= MAX_TIME_SCALE)) {
+            throw new InvalidParameterException("timeScale", timeScale,
+                                                "時間倍率は" + MIN_TIME_SCALE + "〜" + MAX_TIME_SCALE + "の範囲で指定してください");
+        }
+        this.timeScale = timeScale;
+        logger.info("時間倍率を変更: {}倍", timeScale);
+    }
+
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    public RunState getRunState() {
+        return runState;
+    }
+
+    public boolean isRunning() {
+        return runState == RunState.RUNNING;
+    }
+
+    /**
+     * 実行したティック数を取得
+     */
+    public synchronized long getTick() {
+        return tick;
+    }
+
+    /**
+     * クロックの状態と実時間への追従状況を取得
+     *
+     * @return 実行状態・ティック数・遅れ・オーバーラン数・破棄数・ティックごとの処理時間
+     */
+    public synchronized SimulationClockDto getMetrics() {
+        return new SimulationClockDto(
+            runState.name(),
+            tick,
+            simulatedTicks,
+            timeScale,
+            simulatedSeconds,
+            toMillis(tickIntervalNanos),
+            maxCatchUpTicks,
+            toMillis(lastLagNanos),
+            toMillis(maxLagNanos),
+            overrunCount,
+            droppedTicks,
+            toMillis(lastTickNanos),
+            tick > 0 ? toMillis(totalTickNanos) / tick : 0.0,
+            toMillis(maxTickNanos)
+        );
+    }
+
+    /**
+     * クロックスレッドを停止（実行中のティックの完了を待つ）
+     */
+    @Override
+    public void close() {
+        Thread running;
+        synchronized (this) {
+            closed = true;
+            running = thread;
+        }
+        if (running == null) {
+            return;
+        }
+        LockSupport.unpark(running);
+        try {
+            running.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runLoop() {
+        long deadline = System.nanoTime();
+        while (!closed) {
+            long now = System.nanoTime();
+            if (now < deadline) {
+                LockSupport.parkNanos(deadline - now);
+                continue;
+            }
+
+            // 最大キャッチアップ数を超える遅れは破棄し、予定時刻を進める
+            long behindTicks = (now - deadline) / tickIntervalNanos;
+            long dropped = 0;
+            if (behindTicks > maxCatchUpTicks) {
+                dropped = behindTicks - maxCatchUpTicks;
+                deadline += dropped * tickIntervalNanos;
+            }
+
+            executeTick(now - deadline, dropped);
+            deadline += tickIntervalNanos;
+        }
+    }
+
+    private void executeTick(long lagNanos, long dropped) {
+        boolean advanceDynamics = runState == RunState.RUNNING;
+        double tickSeconds = advanceDynamics ? tickIntervalNanos / 1e9 * timeScale : 0.0;
+        long start = System.nanoTime();
+        try {
+            handler.tick(tickSeconds);
+        } catch (RuntimeException e) {
+            // 1ティックの失敗でクロックを止めない
+            logger.error("ティックの処理でエラー: {}", e.getMessage(), e);
+        }
+        long duration = System.nanoTime() - start;
+
+        synchronized (this) {
+            tick++;
+            if (advanceDynamics) {
+                simulatedTicks++;
+                simulatedSeconds += tickSeconds;
+            }
+            if (duration > tickIntervalNanos) {
+                overrunCount++;
+            }
+            if (dropped > 0) {
+                droppedTicks += dropped;
+                logger.warn("シミュレーションが実時間に追従できず {}ティックを破棄しました", dropped);
+            }
+            lastLagNanos = lagNanos;
+            maxLagNanos = Math.max(maxLagNanos, lagNanos);
+            lastTickNanos = duration;
+            totalTickNanos += duration;
+            maxTickNanos = Math.max(maxTickNanos, duration);
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
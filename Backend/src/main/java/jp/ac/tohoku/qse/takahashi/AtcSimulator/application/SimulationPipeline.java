@@ -0,0 +1,241 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.application;
+
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.SIMULATION_STEP_SECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.aggregate.airspace.AirspaceManagement;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftRepository;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.AircraftStateSnapshot;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.SimulationPipelineDto;
+
+/**
+ * シミュレーションの1ティックを段階（運動計算・状態の凍結・コンフリクト検出）に分けて実行するパイプライン
+ *
+ * ティック N の運動計算の後、公開済みのワールド状態から全航空機の状態を {@link AircraftStateSnapshot} として凍結し、
+ * コンフリクト検出とスナップショットの公開はパイプライン専用のワーカースレッドで行う。
+ * 呼び出し元スレッドはその間に次のティック N+1 の運動計算を進め、ティック N+1 の状態を凍結した後で
+ * ティック N の検出の完了を待つ（検出中のティックは常に最大1つ）。
+ * 凍結後の検出は航空機オブジェクトの現在の状態を参照しないため、運動計算と並行しても評価は凍結時の状態で行われる。
+ *
+ * パイプライン化しない場合は従来どおり呼び出し元スレッドで運動計算の直後に検出する。
+ * 段階ごとの処理時間（直近・平均・最大）を {@link #getMetrics()} で取得できる。
+ */
+public class SimulationPipeline implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimulationPipeline.class);
+
+    /**
+     * パイプラインの段階
+     */
+    public enum Stage {
+        DYNAMICS("航空機の運動計算"),
+        CAPTURE("状態の凍結"),
+        WAIT("前ティックの検出待ち"),
+        DETECTION("コンフリクト検出・公開"),
+        TICK("呼び出し元スレッドの処理時間");
+
+        private final String description;
+
+        Stage(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private final AirspaceManagement airspaceManagement;
+    private final AircraftRepository aircraftRepository;
+    private final ConflictAlertService conflictAlertService;
+    private final boolean pipelined;
+
+    // パイプライン化しない場合はnull
+    private final ExecutorService worker;
+    private Future<?> inFlight;
+
+    private final StageTimer[] timers = new StageTimer[Stage.values().length];
+    private long submittedTicks;
+
+    /**
+     * コンストラクタ
+     *
+     * @param airspaceManagement 運動計算を行う空域管理
+     * @param aircraftRepository 検出に用いるワールド状態の取得元
+     * @param conflictAlertService コンフリクト検出・公開を行うアプリケーションサービス
+     * @param pipelined 検出をワーカースレッドで次のティックの運動計算と並行して行うか
+     */
+    public SimulationPipeline(AirspaceManagement airspaceManagement, AircraftRepository aircraftRepository,
+                              ConflictAlertService conflictAlertService, boolean pipelined) {
+        this.airspaceManagement = airspaceManagement;
+        this.aircraftRepository = aircraftRepository;
+        this.conflictAlertService = conflictAlertService;
+        this.pipelined = pipelined;
+        this.worker = pipelined
+            ? Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "atc-simulation-pipeline");
+                thread.setDaemon(true);
+                return thread;
+            })
+            : null;
+        for (Stage stage : Stage.values()) {
+            timers[stage.ordinal()] = new StageTimer();
+        }
+    }
+
+    /**
+     * 1ティックを実行
+     * パイプライン化している場合、このティックの検出は完了を待たずに戻る（次のティックまたは {@link #awaitIdle()} で完了を待つ）
+     *
+     * @param advanceDynamics 運動計算を行うか（一時停止中はfalse。検出は一時停止中も行う）
+     */
+    public void tick(boolean advanceDynamics) {
+        tick(advanceDynamics ? SIMULATION_STEP_SECONDS : 0.0);
+    }
+
+    /**
+     * 指定したシミュレーション時間だけ運動計算を進めて1ティックを実行（時間圧縮用）
+     * 運動計算はサブステップに分割されるが、コンフリクト検出はティックごとに1回だけ行う
+     *
+     * @param simulatedSeconds このティックで進めるシミュレーション時間（秒、0は一時停止中で運動計算を行わない）
+     */
+    public synchronized void tick(double simulatedSeconds) {
+        long start = System.nanoTime();
+        if (simulatedSeconds > 0.0) {
+            // nextStepは更新の完了後にワールド状態を公開する
+            airspaceManagement.nextStep(simulatedSeconds);
+        } else {
+            // 一時停止中も指示の変更を読み取り側に反映する
+            aircraftRepository.publishWorldState();
+        }
+        long dynamicsEnd = System.nanoTime();
+
+        AircraftStateSnapshot state = AircraftStateSnapshot.of(aircraftRepository.getWorldState());
+        long captureEnd = System.nanoTime();
+
+        awaitInFlight();
+        long waitEnd = System.nanoTime();
+
+        submittedTicks++;
+        if (pipelined) {
+            inFlight = worker.submit(() -> detect(state));
+        } else {
+            detect(state);
+        }
+
+        record(Stage.DYNAMICS, dynamicsEnd - start);
+        record(Stage.CAPTURE, captureEnd - dynamicsEnd);
+        record(Stage.WAIT, waitEnd - captureEnd);
+        record(Stage.TICK, System.nanoTime() - start);
+    }
+
+    /**
+     * 検出中のティックがあれば完了を待つ
+     */
+    public synchronized void awaitIdle() {
+        awaitInFlight();
+    }
+
+    /**
+     * 検出をワーカースレッドで行うか
+     */
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    /**
+     * 段階ごとの処理時間を取得
+     *
+     * @return 実行したティック数と段階ごとの処理時間（ミリ秒）
+     */
+    public SimulationPipelineDto getMetrics() {
+        List<SimulationPipelineDto.StageLatencyDto> stages = new ArrayList<>(timers.length);
+        for (Stage stage : Stage.values()) {
+            stages.add(timers[stage.ordinal()].toDto(stage));
+        }
+        long ticks;
+        synchronized (this) {
+            ticks = submittedTicks;
+        }
+        return new SimulationPipelineDto(pipelined, ticks, stages);
+    }
+
+    /**
+     * 検出中のティックの完了を待ち、ワーカースレッドを停止
+     */
+    @Override
+    public synchronized void close() {
+        awaitInFlight();
+        if (worker != null) {
+            worker.shutdown();
+        }
+    }
+
+    private void detect(AircraftStateSnapshot state) {
+        long start = System.nanoTime();
+        try {
+            conflictAlertService.refresh(state);
+        } catch (RuntimeException e) {
+            // 1ティックの検出の失敗でシミュレーションを止めない（前回のスナップショットが公開されたまま）
+            logger.error("コンフリクト検出でエラー: {}", e.getMessage(), e);
+        } finally {
+            record(Stage.DETECTION, System.nanoTime() - start);
+        }
+    }
+
+    private void awaitInFlight() {
+        if (inFlight == null) {
+            return;
+        }
+        try {
+            inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("パイプラインの検出段階でエラー: {}", e.getCause().getMessage(), e.getCause());
+        } finally {
+            inFlight = null;
+        }
+    }
+
+    private void record(Stage stage, long nanos) {
+        timers[stage.ordinal()].record(nanos);
+    }
+
+    /**
+     * 1段階分の処理時間の集計（直近・合計・最大）
+     */
+    private static final class StageTimer {
+        private long count;
+        private long lastNanos;
+        private long totalNanos;
+        private long maxNanos;
+
+        synchronized void record(long nanos) {
+            count++;
+            lastNanos = nanos;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        synchronized SimulationPipelineDto.StageLatencyDto toDto(Stage stage) {
+            return new SimulationPipelineDto.StageLatencyDto(
+                stage.name(),
+                stage.getDescription(),
+                count,
+                lastNanos / 1_000_000.0,
+                count > 0 ? totalNanos / 1_000_000.0 / count : 0.0,
+                maxNanos / 1_000_000.0
+            );
+        }
+    }
+}
@@ -3,11 +3,15 @@ package jp.ac.tohoku.qse.takahashi.AtcSimulator.application.aircraft;
 import org.springframework.stereotype.Service;
 
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.AircraftRadarService;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.AircraftNotFoundException;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftBase;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftRepository;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftState;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
 
+/**
+ * レーダー表示用の航空機情報を、公開済みのワールド状態（同一ティックで凍結した状態）から出力する
+ */
 @Service
 public class AircraftRadarServiceImpl implements AircraftRadarService {
 
@@ -18,23 +22,26 @@ public class AircraftRadarServiceImpl implements AircraftRadarService {
     }
 
     public String getAircraftLocation(Callsign callsign) {
-        Aircraft aircraft = aircraftRepository.findByCallsign(callsign);
-        if (aircraft instanceof AircraftBase) {
-            return ((AircraftBase) aircraft).toRadarString();
+        AircraftState state = aircraftRepository.getWorldState().find(callsign);
+        if (state == null) {
+            throw new AircraftNotFoundException(callsign.toString());
         }
-        return aircraft.toString(); // フォールバック
+        return toRadarString(state);
     }
 
     public String getAllAircraftLocation() {
         StringBuilder sb = new StringBuilder();
-        for (Aircraft aircraft : aircraftRepository.findAll()) {
-            if (aircraft instanceof AircraftBase) {
-                sb.append(((AircraftBase) aircraft).toRadarString());
-            } else {
-                sb.append(aircraft.toString()); // フォールバック
-            }
+        for (AircraftState state : aircraftRepository.getWorldState().aircraft()) {
+            sb.append(toRadarString(state));
             sb.append("\n");
         }
         return sb.toString();
     }
+
+    private static String toRadarString(AircraftState state) {
+        if (state.aircraft() instanceof AircraftBase base) {
+            return base.toRadarString(state);
+        }
+        return state.aircraft().toString(); // フォールバック
+    }
 }
@@ -2,17 +2,17 @@ package jp.ac.tohoku.qse.takahashi.AtcSimulator.config;
 
 import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.TICK_INTERVAL_MS;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.annotation.Scheduled;
 
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.ConflictAlertService;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.GetAllAircraftLocationsWithRiskUseCase;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.RouteSuggestionService;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.ScenarioService;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.ScenarioServiceImpl;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.config.globals.GlobalVariables;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.SimulationClock;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.SimulationPipeline;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.aggregate.airspace.AirspaceManagement;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.aggregate.airspace.AirspaceManagementImpl;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftRepository;
@@ -24,7 +24,6 @@ import jp.ac.tohoku.qse.takahashi.AtcSimulator.infrastructure.fix.AtsRouteFixPos
  * Provides beans that were previously auto-discovered via @Service.
  */
 @Configuration
-@EnableScheduling
 public class AtcSimulatorDomainConfig {
 
     @Bean
@@ -56,29 +55,31 @@ public class AtcSimulatorDomainConfig {
         return new ScenarioServiceImpl(airspaceManagement);
     }
 
-    @Bean
-    public SimulationScheduler simulationScheduler(AirspaceManagement airspaceManagement) {
-        return new SimulationScheduler(airspaceManagement);
+    /**
+     * Tick pipeline: dynamics, state capture and conflict detection.
+     * With atc.simulation.pipelined=true detection of tick N runs on a worker thread while tick N+1 steps.
+     */
+    @Bean(destroyMethod = "close")
+    public SimulationPipeline simulationPipeline(AirspaceManagement airspaceManagement,
+                                                 AircraftRepository aircraftRepository,
+                                                 ConflictAlertService conflictAlertService,
+                                                 @Value("${atc.simulation.pipelined:true}") boolean pipelined) {
+        return new SimulationPipeline(airspaceManagement, aircraftRepository, conflictAlertService, pipelined);
     }
 
     /**
-     * Scheduler that delegates to AirspaceManagement.
-     * Extracted to avoid @Scheduled in config with constructor-injected dependency.
+     * Fixed-timestep clock that drives the pipeline on its own high-priority thread and owns the run/pause state.
+     * Late ticks are caught up back-to-back up to atc.simulation.clock.max-catch-up-ticks; the rest are dropped.
+     * Conflict detection runs on every tick, including while paused, so spawns and instructions are reflected.
+     * Each running tick advances tick interval x time scale simulated seconds; the scale can be changed at runtime.
      */
-    public static class SimulationScheduler {
-
-        private final AirspaceManagement airspaceManagement;
-
-        public SimulationScheduler(AirspaceManagement airspaceManagement) {
-            this.airspaceManagement = airspaceManagement;
-        }
-
-        @Scheduled(fixedRate = TICK_INTERVAL_MS)
-        public void tick() {
-            if (!GlobalVariables.isSimulationRunning) {
-                return;
-            }
-            airspaceManagement.nextStep();
-        }
+    @Bean(initMethod = "startTicking", destroyMethod = "close")
+    public SimulationClock simulationClock(SimulationPipeline simulationPipeline,
+                                           @Value("${atc.simulation.clock.tick-interval-ms:" + TICK_INTERVAL_MS + "}") long tickIntervalMillis,
+                                           @Value("${atc.simulation.clock.max-catch-up-ticks:" + SimulationClock.DEFAULT_MAX_CATCH_UP_TICKS + "}") int maxCatchUpTicks,
+                                           @Value("${atc.simulation.clock.time-scale:1.0}") double timeScale) {
+        SimulationClock clock = new SimulationClock(simulationPipeline::tick, tickIntervalMillis, maxCatchUpTicks);
+        clock.setTimeScale(timeScale);
+        return clock;
     }
 }
@@ -1,11 +1,22 @@
 package jp.ac.tohoku.qse.takahashi.AtcSimulator.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.ConflictAlertService;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftRepository;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.BroadPhaseMode;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictDetector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictDetectorSettings;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictExecutor;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictLifecycleTracker;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.CpaKernel;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.IncrementalConflictDetector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.MediumTermProbe;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.MediumTermProbeSettings;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.PreFilterSettings;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ResolutionSearchSettings;
 
 /**
  * コンフリクト検出機能のSpring Bean設定
@@ -13,14 +24,112 @@ import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.Con
 @Configuration
 public class ConflictDetectionConfig {
 
+    /**
+     * コンフリクト計算専用エグゼキュータのBean定義
+     *
+     * @param parallelism 並列度（atc.conflict.executor.parallelism、0以下は利用可能なプロセッサ数）
+     * @param chunkSize 最小チャンク幅（atc.conflict.executor.chunk-size）
+     * @param sequentialThreshold 逐次実行しきい値（atc.conflict.executor.sequential-threshold）
+     * @return ConflictExecutorインスタンス
+     */
+    @Bean(destroyMethod = "close")
+    public ConflictExecutor conflictExecutor(
+            @Value("${atc.conflict.executor.parallelism:0}") int parallelism,
+            @Value("${atc.conflict.executor.chunk-size:256}") int chunkSize,
+            @Value("${atc.conflict.executor.sequential-threshold:512}") int sequentialThreshold) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ConflictExecutor(threads, chunkSize, sequentialThreshold);
+    }
+
     /**
      * ConflictDetectorドメインサービスのBean定義
      *
+     * @param broadPhaseMode 候補ペア抽出方式（atc.conflict.broad-phase）
+     * @param cpaKernel 全ペア評価時のCPA計算カーネル（atc.conflict.cpa-kernel、非インクリメンタル時のみ使用）
+     * @param incremental ティック間でペア状態を再利用するか（atc.conflict.incremental）
+     * @param verticalCullingEnabled 垂直方向の候補除外を行うか（atc.conflict.vertical-culling.enabled）
+     * @param verticalCullingMargin 垂直方向の候補除外マージン（atc.conflict.vertical-culling.margin-ft）
+     * @param kinematicRadius 対地速度からペアごとの考慮半径を求めるか（atc.conflict.kinematic-radius）
+     * @param stcaHorizon 毎ティックの短期コンフリクト警報の予測時間（atc.conflict.stca.horizon-seconds）
+     * @param timeBudget 1パスあたりの時間予算（atc.conflict.time-budget-ms、0は予算なし、インクリメンタル時のみ使用）
+     * @param conflictExecutor ペア単位の計算を実行するエグゼキュータ
      * @return ConflictDetectorインスタンス
      */
     @Bean
-    public ConflictDetector conflictDetector() {
-        return new ConflictDetector();
+    public ConflictDetector conflictDetector(
+            @Value("${atc.conflict.broad-phase:SPATIAL_GRID}") BroadPhaseMode broadPhaseMode,
+            @Value("${atc.conflict.cpa-kernel:STRUCTURE_OF_ARRAYS}") CpaKernel cpaKernel,
+            @Value("${atc.conflict.incremental:true}") boolean incremental,
+            @Value("${atc.conflict.vertical-culling.enabled:true}") boolean verticalCullingEnabled,
+            @Value("${atc.conflict.vertical-culling.margin-ft:1000}") double verticalCullingMargin,
+            @Value("${atc.conflict.kinematic-radius:true}") boolean kinematicRadius,
+            @Value("${atc.conflict.stca.horizon-seconds:120}") double stcaHorizon,
+            @Value("${atc.conflict.time-budget-ms:0}") double timeBudget,
+            ConflictExecutor conflictExecutor) {
+        PreFilterSettings preFilterSettings = new PreFilterSettings(
+            verticalCullingEnabled ? verticalCullingMargin : PreFilterSettings.VERTICAL_CULLING_DISABLED,
+            kinematicRadius);
+        ConflictDetectorSettings settings = new ConflictDetectorSettings(
+            broadPhaseMode, cpaKernel, preFilterSettings, conflictExecutor, stcaHorizon, timeBudget);
+        if (incremental) {
+            return new IncrementalConflictDetector(settings);
+        }
+        return new ConflictDetector(settings);
+    }
+
+    /**
+     * 中期予測のBean定義
+     *
+     * @param conflictDetector 危険度の計算と垂直方向の候補除外の設定に用いる検出器
+     * @param horizon 中期予測の予測時間（atc.conflict.medium-term.horizon-seconds）
+     * @param radius 中期予測の考慮半径（atc.conflict.medium-term.radius-nm）
+     * @param ticksPerCycle 全航空機の評価を分散するティック数（atc.conflict.medium-term.ticks-per-cycle）
+     * @return MediumTermProbeインスタンス
+     */
+    @Bean
+    public MediumTermProbe mediumTermProbe(
+            ConflictDetector conflictDetector,
+            @Value("${atc.conflict.medium-term.horizon-seconds:1200}") double horizon,
+            @Value("${atc.conflict.medium-term.radius-nm:150}") double radius,
+            @Value("${atc.conflict.medium-term.ticks-per-cycle:10}") int ticksPerCycle) {
+        return new MediumTermProbe(conflictDetector, new MediumTermProbeSettings(horizon, radius, ticksPerCycle));
+    }
+
+    /**
+     * コンフリクトアラートの状態遷移の追跡のBean定義
+     *
+     * @param hysteresis アラートレベル格下げのヒステリシス幅（atc.conflict.events.hysteresis）
+     * @param retainedEvents 保持するイベント数（atc.conflict.events.retained）
+     * @return ConflictLifecycleTrackerインスタンス
+     */
+    @Bean
+    public ConflictLifecycleTracker conflictLifecycleTracker(
+            @Value("${atc.conflict.events.hysteresis:5}") double hysteresis,
+            @Value("${atc.conflict.events.retained:10000}") int retainedEvents) {
+        return new ConflictLifecycleTracker(hysteresis, retainedEvents);
+    }
+
+    /**
+     * 回避指示探索の候補グリッドの設定のBean定義
+     *
+     * @param headingRange ヘディング変更量の範囲（atc.conflict.resolution.heading-range）
+     * @param headingStep ヘディング変更量の刻み（atc.conflict.resolution.heading-step）
+     * @param altitudeRange 高度変更量の範囲（atc.conflict.resolution.altitude-range-ft）
+     * @param altitudeStep 高度変更量の刻み（atc.conflict.resolution.altitude-step-ft）
+     * @param speedRange 対地速度変更量の範囲（atc.conflict.resolution.speed-range-kt）
+     * @param speedStep 対地速度変更量の刻み（atc.conflict.resolution.speed-step-kt）
+     * @return ResolutionSearchSettingsインスタンス
+     */
+    @Bean
+    public ResolutionSearchSettings resolutionSearchSettings(
+            @Value("${atc.conflict.resolution.heading-range:90}") double headingRange,
+            @Value("${atc.conflict.resolution.heading-step:5}") double headingStep,
+            @Value("${atc.conflict.resolution.altitude-range-ft:2000}") double altitudeRange,
+            @Value("${atc.conflict.resolution.altitude-step-ft:1000}") double altitudeStep,
+            @Value("${atc.conflict.resolution.speed-range-kt:40}") double speedRange,
+            @Value("${atc.conflict.resolution.speed-step-kt:20}") double speedStep) {
+        return new ResolutionSearchSettings(headingRange, headingStep, altitudeRange, altitudeStep,
+                                            speedRange, speedStep);
     }
 
     /**
@@ -28,11 +137,21 @@ public class ConflictDetectionConfig {
      *
      * @param conflictDetector コンフリクト検出ドメインサービス
      * @param aircraftRepository 航空機リポジトリ
+     * @param conflictLifecycleTracker コンフリクトアラートの状態遷移の追跡
+     * @param resolutionSearchSettings 回避指示探索の候補グリッドの設定
+     * @param mediumTermProbe 中期予測
      * @return ConflictAlertServiceインスタンス
      */
     @Bean
     public ConflictAlertService conflictAlertService(ConflictDetector conflictDetector,
-                                                   AircraftRepository aircraftRepository) {
-        return new ConflictAlertService(conflictDetector, aircraftRepository);
+                                                   AircraftRepository aircraftRepository,
+                                                   ConflictLifecycleTracker conflictLifecycleTracker,
+                                                   ResolutionSearchSettings resolutionSearchSettings,
+                                                   MediumTermProbe mediumTermProbe) {
+        return ConflictAlertService.builder(conflictDetector, aircraftRepository)
+            .lifecycleTracker(conflictLifecycleTracker)
+            .resolutionSearchSettings(resolutionSearchSettings)
+            .mediumTermProbe(mediumTermProbe)
+            .build();
     }
 }
@@ -1,5 +0,0 @@
-package jp.ac.tohoku.qse.takahashi.AtcSimulator.config.globals;
-
-public class GlobalVariables {
-    public static boolean isSimulationRunning = false;
-}
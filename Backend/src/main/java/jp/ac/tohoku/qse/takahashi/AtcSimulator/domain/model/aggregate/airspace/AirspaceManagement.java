@@ -18,4 +18,9 @@ public interface AirspaceManagement {
 
     void nextStep();
 
+    /**
+     * 指定したシミュレーション時間（秒）だけ空域内の全航空機を進める（時間圧縮用）
+     */
+    void nextStep(double simulatedSeconds);
+
 }
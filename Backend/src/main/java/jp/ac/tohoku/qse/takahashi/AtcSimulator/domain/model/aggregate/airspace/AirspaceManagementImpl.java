@@ -49,4 +49,9 @@ public class AirspaceManagementImpl implements AirspaceManagement {
     public void nextStep() {
         aircraftRepository.nextStep();
     }
+
+    @Override
+    public void nextStep(double simulatedSeconds) {
+        aircraftRepository.nextStep(simulatedSeconds);
+    }
 }
@@ -12,6 +12,12 @@ public interface Aircraft {
 
     void calculateNextAircraftVector();
 
+    /** Advances the position by the given simulated seconds (at most SIMULATION_STEP_SECONDS per call). */
+    void calculateNextAircraftPosition(double stepSeconds);
+
+    /** Advances the vector by the given simulated seconds (at most SIMULATION_STEP_SECONDS per call). */
+    void calculateNextAircraftVector(double stepSeconds);
+
     double calculateTurnAngle(FixPosition fixPosition);
 
     boolean isEqualCallsign(Callsign callsign);
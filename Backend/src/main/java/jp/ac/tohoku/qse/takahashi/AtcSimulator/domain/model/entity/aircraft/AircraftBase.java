@@ -1,6 +1,6 @@
 package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft;
 
-import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.REFRESH_RATE;
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.SIMULATION_STEP_SECONDS;
 
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.behavior.FlightBehavior;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.characteristics.AircraftCharacteristics;
@@ -75,34 +75,55 @@ public abstract class AircraftBase implements Aircraft {
 
     @Override
     public void calculateNextAircraftPosition() {
+        calculateNextAircraftPosition(SIMULATION_STEP_SECONDS);
+    }
+
+    /**
+     * 指定したシミュレーション時間（秒）だけ位置を進める
+     *
+     * @param stepSeconds ステップ幅（秒）。運動モデルの精度のため {@code SIMULATION_STEP_SECONDS} 以下で呼び出すこと
+     */
+    @Override
+    public void calculateNextAircraftPosition(double stepSeconds) {
         this.aircraftPosition = flightBehavior.calculateNextPosition(
             this.aircraftPosition,
             this.aircraftVector,
-            REFRESH_RATE
+            1.0 / stepSeconds
         );
     }
 
     @Override
     public void calculateNextAircraftVector() {
+        calculateNextAircraftVector(SIMULATION_STEP_SECONDS);
+    }
+
+    /**
+     * 指定したシミュレーション時間（秒）だけ速度ベクトルを進める
+     * 旋回量・加減速量は最大旋回率（度/秒）・最大加速度（ノット/秒）にステップ幅を掛けた値を上限とする
+     *
+     * @param stepSeconds ステップ幅（秒）。運動モデルの精度のため {@code SIMULATION_STEP_SECONDS} 以下で呼び出すこと
+     */
+    @Override
+    public void calculateNextAircraftVector(double stepSeconds) {
         updateInstructedVectorFromNavigation();
 
         var nextHeading = flightBehavior.calculateNextHeading(
             this.aircraftVector.heading.toDouble(),
             this.instructedVector.instructedHeading.toDouble(),
-            this.characteristics.getMaxTurnRate()
+            this.characteristics.getMaxTurnRate() * stepSeconds
         );
 
         var nextGroundSpeed = flightBehavior.calculateNextGroundSpeed(
             this.aircraftVector.groundSpeed.toDouble(),
             this.instructedVector.instructedGroundSpeed.toDouble(),
-            this.characteristics.getMaxAcceleration()
+            this.characteristics.getMaxAcceleration() * stepSeconds
         );
 
         var nextVerticalSpeed = flightBehavior.calculateNextVerticalSpeed(
             this.aircraftPosition.altitude.toDouble(),
             this.instructedVector.instructedAltitude.toDouble(),
             this.characteristics.getMaxClimbRate(),
-            REFRESH_RATE
+            1.0 / stepSeconds
         );
 
         this.aircraftVector = new AircraftVector(nextHeading, nextGroundSpeed, nextVerticalSpeed);
@@ -376,11 +397,25 @@ public abstract class AircraftBase implements Aircraft {
      * 既存のフロントエンドとの互換性を保つため
      */
     public String toRadarString() {
+        return toRadarString(AircraftState.capture(this));
+    }
+
+    /**
+     * 凍結した状態からフロントエンドのレーダー表示用フォーマットで航空機情報を出力
+     * 位置・速度ベクトル・指示ベクトルは引数の状態のみを参照する（運動計算中の航空機オブジェクトは読まない）
+     *
+     * @param state この航空機の凍結した状態
+     * @return レーダー表示用文字列
+     */
+    public String toRadarString(AircraftState state) {
+        AircraftPosition position = state.position();
+        AircraftVector vector = state.vector();
+        InstructedVector instructed = state.instructedVector();
         return StringUtils.formatAircraftBaseInfo(
             callsign.toString(),
-            aircraftPosition.latitude.toDouble(), aircraftPosition.longitude.toDouble(), aircraftPosition.altitude.toDouble(),
-            aircraftVector.heading.toDouble(), aircraftVector.groundSpeed.toDouble(), aircraftVector.verticalSpeed.toDouble(),
-            instructedVector.instructedHeading.toDouble(), instructedVector.instructedGroundSpeed.toDouble(), instructedVector.instructedAltitude.toDouble(),
+            position.latitude.toDouble(), position.longitude.toDouble(), position.altitude.toDouble(),
+            vector.heading.toDouble(), vector.groundSpeed.toDouble(), vector.verticalSpeed.toDouble(),
+            instructed.instructedHeading.toDouble(), instructed.instructedGroundSpeed.toDouble(), instructed.instructedAltitude.toDouble(),
             getAircraftCategory(), aircraftType.toString()
         ) + "}";
     }
@@ -9,10 +9,21 @@ public interface AircraftRepository {
     void add(Aircraft aircraft);
     void remove(Aircraft aircraft);
 
+    /** Returns the live aircraft for the tick thread and for commands that modify it; read-only views should use getWorldState(). */
     Aircraft findByCallsign(Callsign callsign);
+    /** Returns the live aircraft for the tick thread and for commands that modify them; read-only views should use getWorldState(). */
     List<Aircraft> findAll();
 
     void nextStep();
 
+    /** Advances every aircraft by the given simulated seconds, split into sub-steps no longer than SIMULATION_STEP_SECONDS. */
+    void nextStep(double simulatedSeconds);
+
+    /** Returns the latest published immutable world state without locking; never observes an aircraft in the middle of a step. */
+    WorldState getWorldState();
+
+    /** Freezes the current aircraft state and publishes it as a new world state version (e.g. to expose instructions while paused). */
+    void publishWorldState();
+
     void clear();
 }
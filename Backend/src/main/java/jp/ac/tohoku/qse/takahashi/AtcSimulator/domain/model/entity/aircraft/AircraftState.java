@@ -0,0 +1,71 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.flightplan.FlightPlan;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.flightplan.NavigationMode;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftPosition;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftVector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.InstructedVector;
+
+/**
+ * ワールド状態に含まれる1機分の凍結された状態
+ *
+ * 位置・速度ベクトル・指示ベクトル・管制承認・航法の状態は凍結時の値を保持し、
+ * その後の運動計算や指示で航空機オブジェクトが更新されても変化しない。
+ * 機種・出発地などの生成後に変化しない属性は {@link #aircraft()} から参照する。
+ *
+ * @param aircraft 凍結元の航空機（不変の属性の参照用。位置等の可変の状態は参照しないこと）
+ * @param callsign コールサイン
+ * @param position 位置
+ * @param vector 速度ベクトル
+ * @param instructedVector 指示ベクトル
+ * @param atcClearance 管制承認（未承認・AircraftBase以外の場合はnull）
+ * @param navigationMode 航法モード（AircraftBase以外の場合はnull）
+ * @param flightPlan 飛行計画（未設定・AircraftBase以外の場合はnull）
+ * @param currentWaypointIndex 飛行計画上の現在のウェイポイントのインデックス（AircraftBase以外の場合は0）
+ */
+public record AircraftState(
+    Aircraft aircraft,
+    Callsign callsign,
+    AircraftPosition position,
+    AircraftVector vector,
+    InstructedVector instructedVector,
+    InstructedVector atcClearance,
+    NavigationMode navigationMode,
+    FlightPlan flightPlan,
+    int currentWaypointIndex
+) {
+
+    /**
+     * 航空機の現在の状態を凍結
+     *
+     * @param aircraft 航空機
+     * @return 凍結した状態
+     */
+    public static AircraftState capture(Aircraft aircraft) {
+        if (!(aircraft instanceof AircraftBase base)) {
+            return new AircraftState(
+                aircraft,
+                aircraft.getCallsign(),
+                aircraft.getAircraftPosition(),
+                aircraft.getAircraftVector(),
+                aircraft.getInstructedVector(),
+                null,
+                null,
+                null,
+                0
+            );
+        }
+        return new AircraftState(
+            base,
+            base.getCallsign(),
+            base.getAircraftPosition(),
+            base.getAircraftVector(),
+            base.getInstructedVector(),
+            base.hasAtcClearance() ? base.getAtcClearance() : null,
+            base.getNavigationMode(),
+            base.getFlightPlan(),
+            base.getCurrentWaypointIndex()
+        );
+    }
+}
@@ -0,0 +1,123 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
+
+/**
+ * 全航空機の状態を1時点で凍結した不変のワールド状態
+ *
+ * ティックを進めるスレッドが航空機オブジェクト（書き込み側のバッファ）の更新を終えた後に作成し、
+ * 1回の参照の差し替えで公開する。読み取り側は公開済みのワールド状態のみを参照するため、
+ * ロックなしで同一ティックの一貫した状態を得られ、運動計算中の航空機オブジェクトを読むことはない。
+ * ティック間の追加・削除は公開済みのワールド状態をコピーして1機分だけ差し替える。
+ * 公開ごとにバージョンが1ずつ増える。
+ */
+public final class WorldState {
+
+    /** 航空機が1機も登録されていない初期状態 */
+    public static final WorldState EMPTY = new WorldState(0, List.of());
+
+    private final long version;
+    private final List<AircraftState> aircraft;
+    private final Map<String, AircraftState> byCallsign;
+
+    private WorldState(long version, List<AircraftState> aircraft) {
+        this.version = version;
+        this.aircraft = aircraft;
+        Map<String, AircraftState> index = new HashMap<>(Math.max(16, aircraft.size() * 4 / 3 + 1));
+        for (AircraftState state : aircraft) {
+            index.put(state.callsign().toString(), state);
+        }
+        this.byCallsign = Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * 航空機の現在の状態を凍結してワールド状態を作成
+     * 呼び出し元は凍結中に航空機オブジェクトが更新されないことを保証すること
+     *
+     * @param version バージョン
+     * @param source 航空機
+     * @return ワールド状態
+     */
+    public static WorldState capture(long version, Collection<? extends Aircraft> source) {
+        List<AircraftState> states = new ArrayList<>(source.size());
+        for (Aircraft aircraft : source) {
+            states.add(AircraftState.capture(aircraft));
+        }
+        return new WorldState(version, Collections.unmodifiableList(states));
+    }
+
+    /**
+     * 航空機の状態を追加（同じコールサインの状態があれば置き換え）した新しいワールド状態を作成
+     * このワールド状態自体は変更しない
+     *
+     * @param version バージョン
+     * @param state 追加する航空機の状態
+     * @return ワールド状態
+     */
+    public WorldState withAircraft(long version, AircraftState state) {
+        List<AircraftState> states = new ArrayList<>(aircraft.size() + 1);
+        for (AircraftState existing : aircraft) {
+            if (!existing.callsign().equals(state.callsign())) {
+                states.add(existing);
+            }
+        }
+        states.add(state);
+        return new WorldState(version, Collections.unmodifiableList(states));
+    }
+
+    /**
+     * 航空機の状態を除いた新しいワールド状態を作成
+     * このワールド状態自体は変更しない
+     *
+     * @param version バージョン
+     * @param callsign 除く航空機のコールサイン
+     * @return ワールド状態
+     */
+    public WorldState withoutAircraft(long version, Callsign callsign) {
+        List<AircraftState> states = new ArrayList<>(aircraft.size());
+        for (AircraftState existing : aircraft) {
+            if (!existing.callsign().equals(callsign)) {
+                states.add(existing);
+            }
+        }
+        return new WorldState(version, Collections.unmodifiableList(states));
+    }
+
+    /**
+     * バージョン（公開ごとに増加）を取得
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 全航空機の状態を取得（変更不可）
+     */
+    public List<AircraftState> aircraft() {
+        return aircraft;
+    }
+
+    /**
+     * 航空機数を取得
+     */
+    public int aircraftCount() {
+        return aircraft.size();
+    }
+
+    /**
+     * コールサインで航空機の状態を検索
+     *
+     * @param callsign コールサイン
+     * @return 航空機の状態（存在しない場合はnull）
+     */
+    public AircraftState find(Callsign callsign) {
+        return callsign != null ? byCallsign.get(callsign.toString()) : null;
+    }
+}
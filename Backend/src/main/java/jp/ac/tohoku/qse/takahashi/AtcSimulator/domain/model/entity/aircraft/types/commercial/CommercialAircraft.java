@@ -3,12 +3,14 @@ package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.typ
 import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.*;
 
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftBase;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftState;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.behavior.FixedWingFlightBehavior;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.characteristics.AircraftCharacteristics;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.flightplan.NavigationMode;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftPosition;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftVector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.InstructedVector;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.FixPosition;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Type.AircraftType;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.utility.GeodeticUtils;
@@ -31,8 +33,6 @@ public class CommercialAircraft extends AircraftBase {
     // 最適化のためのキャッシュ変数
     private AircraftPosition lastCachedPosition;
     private AircraftVector lastCachedVector;
-    private long lastPositionUpdateTime;
-    private long lastVectorUpdateTime;
 
     // 計算効率化のための前回値保持
     private double previousDistanceTraveled = 0.0;
@@ -75,8 +75,6 @@ public class CommercialAircraft extends AircraftBase {
         // 最適化用初期化
         this.lastCachedPosition = aircraftPosition;
         this.lastCachedVector = aircraftVector;
-        this.lastPositionUpdateTime = System.currentTimeMillis();
-        this.lastVectorUpdateTime = System.currentTimeMillis();
 
         // パフォーマンスユーティリティの初期化確認
         PerformanceUtils.initialize();
@@ -101,8 +99,6 @@ public class CommercialAircraft extends AircraftBase {
         // 最適化用初期化
         this.lastCachedPosition = aircraftPosition;
         this.lastCachedVector = aircraftVector;
-        this.lastPositionUpdateTime = System.currentTimeMillis();
-        this.lastVectorUpdateTime = System.currentTimeMillis();
 
         // パフォーマンスユーティリティの初期化確認
         PerformanceUtils.initialize();
@@ -111,18 +107,17 @@ public class CommercialAircraft extends AircraftBase {
     /**
      * 最適化された次位置計算
      * 必要以上の計算を避け、効率的な位置更新を実現
+     * 1回の呼び出しでステップ幅（時間圧縮時はサブステップの幅）分だけ進める。呼び出し間隔はシミュレーションクロックが管理する
      */
     @Override
-    public void calculateNextAircraftPosition() {
-        long currentTime = System.currentTimeMillis();
-
+    public void calculateNextAircraftPosition(double stepSeconds) {
         // 位置更新の必要性をチェック（しきい値による最適化）
         if (!shouldUpdatePosition()) {
             return;
         }
 
         // 移動距離の事前計算
-        double refreshRateInSeconds = 1.0 / REFRESH_RATE;
+        double refreshRateInSeconds = stepSeconds;
         double groundSpeedKmPerSec = aircraftVector.groundSpeed.toDouble() * KNOTS_TO_KM_PER_HOUR / 3600.0;
         double distanceTraveled = groundSpeedKmPerSec * refreshRateInSeconds;
 
@@ -139,7 +134,6 @@ public class CommercialAircraft extends AircraftBase {
         if (isSignificantPositionChange(newPosition)) {
             this.aircraftPosition = newPosition;
             this.lastCachedPosition = newPosition;
-            this.lastPositionUpdateTime = currentTime;
             this.previousDistanceTraveled = distanceTraveled;
 
             // レーダー表示文字列のキャッシュを無効化
@@ -153,20 +147,18 @@ public class CommercialAircraft extends AircraftBase {
      * 高度同期問題を解決するための改善版
      */
     @Override
-    public void calculateNextAircraftVector() {
+    public void calculateNextAircraftVector(double stepSeconds) {
         applyWaypointPassCheck();
 
-        long currentTime = System.currentTimeMillis();
         if (!shouldUpdateVector()) {
             return;
         }
 
-        super.calculateNextAircraftVector();
+        super.calculateNextAircraftVector(stepSeconds);
 
         // 変化量をチェックして更新
         if (isSignificantVectorChange()) {
             this.lastCachedVector = this.aircraftVector;
-            this.lastVectorUpdateTime = currentTime;
 
             // レーダー表示文字列のキャッシュを無効化
             invalidateRadarStringCache();
@@ -206,13 +198,8 @@ public class CommercialAircraft extends AircraftBase {
      */
     private boolean shouldUpdatePosition() {
         // 速度がしきい値以下の場合は更新をスキップ
-        if (aircraftVector.groundSpeed.toDouble() < SPEED_UPDATE_THRESHOLD) {
-            return false;
-        }
-
-        // 前回更新からの経過時間をチェック
-        long timeSinceLastUpdate = System.currentTimeMillis() - lastPositionUpdateTime;
-        return timeSinceLastUpdate >= (1000 / REFRESH_RATE); // リフレッシュレートに基づく最小間隔
+        // 実時間による間引きは行わない（追いつきのために連続して呼ばれたティックも1ステップずつ進める）
+        return aircraftVector.groundSpeed.toDouble() >= SPEED_UPDATE_THRESHOLD;
     }
 
     /**
@@ -319,23 +306,36 @@ public class CommercialAircraft extends AircraftBase {
         long currentTime = System.currentTimeMillis();
 
         // キャッシュされた文字列が有効かチェック（100ms間隔）
-        if (cachedRadarString != null && (currentTime - lastRadarStringUpdate) < 100) {
+        if (cachedRadarString != null
+                && (currentTime - lastRadarStringUpdate) < CommercialAircraftConstants.RADAR_STRING_CACHE_DURATION) {
             return cachedRadarString;
         }
 
         // 文字列を再生成してキャッシュ
-        cachedRadarString = String.format("Aircraft{callsign=%s, position={latitude=%.6f, longitude=%.6f, altitude=%.0f}, " +
+        cachedRadarString = toRadarString(AircraftState.capture(this));
+
+        lastRadarStringUpdate = currentTime;
+        return cachedRadarString;
+    }
+
+    /**
+     * 凍結した状態からフロントエンドのレーダー表示用フォーマットで商用航空機情報を出力
+     * 公開済みのワールド状態から出力するためキャッシュは使用しない
+     */
+    @Override
+    public String toRadarString(AircraftState state) {
+        AircraftPosition position = state.position();
+        AircraftVector vector = state.vector();
+        InstructedVector instructed = state.instructedVector();
+        return String.format("Aircraft{callsign=%s, position={latitude=%.6f, longitude=%.6f, altitude=%.0f}, " +
                 "vector={heading=%.1f, groundSpeed=%.1f, verticalSpeed=%.0f}, " +
                 "instructedVector={heading=%.1f, groundSpeed=%.1f, altitude=%.0f}, " +
                 "type=%s, model=%s, originIata=%s, originIcao=%s, destinationIata=%s, destinationIcao=%s, eta=%s}",
                 getCallsign(),
-                aircraftPosition.latitude.toDouble(), aircraftPosition.longitude.toDouble(), aircraftPosition.altitude.toDouble(),
-                aircraftVector.heading.toDouble(), aircraftVector.groundSpeed.toDouble(), aircraftVector.verticalSpeed.toDouble(),
-                instructedVector.instructedHeading.toDouble(), instructedVector.instructedGroundSpeed.toDouble(), instructedVector.instructedAltitude.toDouble(),
+                position.latitude.toDouble(), position.longitude.toDouble(), position.altitude.toDouble(),
+                vector.heading.toDouble(), vector.groundSpeed.toDouble(), vector.verticalSpeed.toDouble(),
+                instructed.instructedHeading.toDouble(), instructed.instructedGroundSpeed.toDouble(), instructed.instructedAltitude.toDouble(),
                 getAircraftCategory(), aircraftType, originIata, originIcao, destinationIata, destinationIcao, eta);
-
-        lastRadarStringUpdate = currentTime;
-        return cachedRadarString;
     }
 
     @Override
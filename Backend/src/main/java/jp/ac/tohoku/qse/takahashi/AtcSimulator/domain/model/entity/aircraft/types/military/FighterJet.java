@@ -1,11 +1,13 @@
 package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.types.military;
 
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftBase;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftState;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.behavior.FixedWingFlightBehavior;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.characteristics.AircraftCharacteristics;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftPosition;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftVector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.InstructedVector;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Type.AircraftType;
 
 /**
@@ -111,15 +113,18 @@ public class FighterJet extends AircraftBase {
      * 部隊・任務・基地情報を含む
      */
     @Override
-    public String toRadarString() {
+    public String toRadarString(AircraftState state) {
+        AircraftPosition position = state.position();
+        AircraftVector vector = state.vector();
+        InstructedVector instructed = state.instructedVector();
         return String.format("Aircraft{callsign=%s, position={latitude=%.6f, longitude=%.6f, altitude=%.0f}, " +
                 "vector={heading=%.1f, groundSpeed=%.1f, verticalSpeed=%.0f}, " +
                 "instructedVector={heading=%.1f, groundSpeed=%.1f, altitude=%.0f}, " +
                 "type=%s, model=%s, squadron=%s, mission=%s, homeBase=%s}",
                 getCallsign(),
-                aircraftPosition.latitude.toDouble(), aircraftPosition.longitude.toDouble(), aircraftPosition.altitude.toDouble(),
-                aircraftVector.heading.toDouble(), aircraftVector.groundSpeed.toDouble(), aircraftVector.verticalSpeed.toDouble(),
-                instructedVector.instructedHeading.toDouble(), instructedVector.instructedGroundSpeed.toDouble(), instructedVector.instructedAltitude.toDouble(),
+                position.latitude.toDouble(), position.longitude.toDouble(), position.altitude.toDouble(),
+                vector.heading.toDouble(), vector.groundSpeed.toDouble(), vector.verticalSpeed.toDouble(),
+                instructed.instructedHeading.toDouble(), instructed.instructedGroundSpeed.toDouble(), instructed.instructedAltitude.toDouble(),
                 getAircraftCategory(), aircraftType, squadron, mission, homeBase);
     }
 
@@ -0,0 +1,190 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+
+/**
+ * 航空機ごとの危険度の要約（最大危険度・最も危険な相手機・アラートレベル別の相手機数）と
+ * 航空機が関わるペアの隣接リスト
+ *
+ * 結果テーブルのエントリを走査して作成し、以降はコールサインから定数時間で参照できる。
+ * 隣接リストは航空機ごとに連続した区間（CSR形式）に結果テーブルのエントリ番号を格納し、
+ * 1機分の問い合わせはその航空機のペア数に比例するコストで済む。
+ * 航空機インデックスは結果テーブルと同じ（検出時の航空機リストの順序）。
+ */
+public final class AircraftRiskIndex {
+
+    /** 相手機が存在しないことを示すインデックス */
+    public static final int NO_PARTNER = -1;
+
+    private final ConflictResultTable table;
+    private final Map<String, Integer> aircraftIndices;
+    private final double[] maxRisk;
+    private final int[] worstPartner;
+    private final int[] safePartners;
+    private final int[] whitePartners;
+    private final int[] redPartners;
+
+    // 航空機 i のペアは entries[offsets[i] .. offsets[i+1]) に格納
+    private final int[] offsets;
+    private final int[] entries;
+
+    private AircraftRiskIndex(ConflictResultTable table) {
+        int aircraftCount = table.aircraftCount();
+        this.table = table;
+        this.aircraftIndices = new HashMap<>(aircraftCount * 2);
+        this.maxRisk = new double[aircraftCount];
+        this.worstPartner = new int[aircraftCount];
+        this.safePartners = new int[aircraftCount];
+        this.whitePartners = new int[aircraftCount];
+        this.redPartners = new int[aircraftCount];
+        this.offsets = new int[aircraftCount + 1];
+        this.entries = new int[table.size() * 2];
+    }
+
+    /**
+     * 結果テーブルから索引を作成
+     *
+     * @param table 検出結果テーブル
+     * @return 航空機ごとの危険度の索引
+     */
+    static AircraftRiskIndex of(ConflictResultTable table) {
+        AircraftRiskIndex index = new AircraftRiskIndex(table);
+        for (int i = 0; i < table.aircraftCount(); i++) {
+            index.aircraftIndices.putIfAbsent(table.callsign(i), i);
+        }
+        Arrays.fill(index.worstPartner, NO_PARTNER);
+
+        for (int entry = 0; entry < table.size(); entry++) {
+            int first = table.firstIndex(entry);
+            int second = table.secondIndex(entry);
+            double riskLevel = table.riskLevel(entry);
+            AlertLevel alertLevel = table.alertLevel(entry);
+            index.add(first, second, riskLevel, alertLevel);
+            index.add(second, first, riskLevel, alertLevel);
+            index.offsets[first + 1]++;
+            index.offsets[second + 1]++;
+        }
+
+        // 計数ソートでエントリ番号を航空機ごとの区間に配置
+        for (int i = 0; i < table.aircraftCount(); i++) {
+            index.offsets[i + 1] += index.offsets[i];
+        }
+        int[] cursor = Arrays.copyOf(index.offsets, table.aircraftCount());
+        for (int entry = 0; entry < table.size(); entry++) {
+            index.entries[cursor[table.firstIndex(entry)]++] = entry;
+            index.entries[cursor[table.secondIndex(entry)]++] = entry;
+        }
+        return index;
+    }
+
+    private void add(int aircraft, int partner, double riskLevel, AlertLevel alertLevel) {
+        if (worstPartner[aircraft] == NO_PARTNER || riskLevel > maxRisk[aircraft]) {
+            maxRisk[aircraft] = riskLevel;
+            worstPartner[aircraft] = partner;
+        }
+        switch (alertLevel) {
+            case SAFE -> safePartners[aircraft]++;
+            case WHITE_CONFLICT -> whitePartners[aircraft]++;
+            case RED_CONFLICT -> redPartners[aircraft]++;
+        }
+    }
+
+    /**
+     * コールサインに対応する航空機インデックスを取得
+     *
+     * @param callsign 航空機コールサイン
+     * @return 航空機インデックス（検出対象外の場合は-1）
+     */
+    public int indexOf(String callsign) {
+        Integer index = aircraftIndices.get(callsign);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 航空機が関わるペアの最大危険度（コンフリクトがない場合は0）
+     */
+    public double maxRisk(int aircraft) {
+        return maxRisk[aircraft];
+    }
+
+    /**
+     * 最大危険度のペアの相手機インデックス（コンフリクトがない場合は {@link #NO_PARTNER}）
+     */
+    public int worstPartner(int aircraft) {
+        return worstPartner[aircraft];
+    }
+
+    /**
+     * 指定アラートレベルにある相手機の数
+     */
+    public int partnerCount(int aircraft, AlertLevel alertLevel) {
+        return switch (alertLevel) {
+            case SAFE -> safePartners[aircraft];
+            case WHITE_CONFLICT -> whitePartners[aircraft];
+            case RED_CONFLICT -> redPartners[aircraft];
+        };
+    }
+
+    /**
+     * 航空機が関わるペア（危険度が0を超えるもの）の数
+     */
+    public int conflictCount(int aircraft) {
+        return offsets[aircraft + 1] - offsets[aircraft];
+    }
+
+    /**
+     * 航空機が関わる {@code k} 番目のペアの結果テーブル上のエントリ番号
+     *
+     * @param aircraft 航空機インデックス
+     * @param k 0から {@link #conflictCount(int)} - 1 まで
+     * @return 結果テーブルのエントリ番号
+     */
+    public int conflictEntry(int aircraft, int k) {
+        return entries[offsets[aircraft] + k];
+    }
+
+    /**
+     * コールサインから航空機の要約を取得
+     *
+     * @param callsign 航空機コールサイン
+     * @return 要約（検出対象外の航空機はコンフリクトなしの要約）
+     */
+    public Summary summary(String callsign) {
+        int aircraft = indexOf(callsign);
+        if (aircraft < 0) {
+            return Summary.NONE;
+        }
+        int partner = worstPartner[aircraft];
+        return new Summary(
+            maxRisk[aircraft],
+            partner != NO_PARTNER ? table.callsign(partner) : null,
+            safePartners[aircraft],
+            whitePartners[aircraft],
+            redPartners[aircraft]
+        );
+    }
+
+    /**
+     * 航空機1機分の危険度の要約
+     *
+     * @param maxRisk 最大危険度
+     * @param worstPartner 最大危険度の相手機コールサイン（コンフリクトがない場合はnull）
+     * @param safePartners SAFEの相手機数
+     * @param whiteConflictPartners WHITE_CONFLICTの相手機数
+     * @param redConflictPartners RED_CONFLICTの相手機数
+     */
+    public record Summary(
+        double maxRisk,
+        String worstPartner,
+        int safePartners,
+        int whiteConflictPartners,
+        int redConflictPartners
+    ) {
+        /** コンフリクトのない航空機の要約 */
+        public static final Summary NONE = new Summary(0.0, null, 0, 0, 0);
+    }
+}
@@ -0,0 +1,167 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftState;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.WorldState;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftPosition;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftVector;
+
+/**
+ * コンフリクト検出1パス分の航空機状態を構造体配列（SoA）として保持するスナップショット
+ *
+ * 値オブジェクトの展開と針路の三角関数計算を航空機ごとに1回だけ行い、
+ * ペア計算ではプリミティブ配列のみを参照する。
+ *
+ * 水平座標は緯度経度を赤道基準のメートルに換算した値で保持する。
+ * 経度方向はペアの平均緯度のcosで補正する必要があるため、
+ * cos((φ1+φ2)/2) = cos(φ1/2)cos(φ2/2) - sin(φ1/2)sin(φ2/2) で求められるよう
+ * 半緯度のsin/cosも保持する。
+ *
+ * 作成後は航空機オブジェクトの状態を参照しないため、ティックの状態を凍結したコピーとして
+ * 次のティックの運動計算と並行してコンフリクト検出に渡すことができる
+ * （航空機オブジェクトは追跡状態の同一性の判定にのみ用いる）。
+ */
+public final class AircraftStateSnapshot {
+
+    // 1度あたりのメートル数（赤道基準）
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS * DEGREES_TO_RADIANS * 1000.0;
+
+    final int size;
+    final Aircraft[] aircraft;
+    final String[] callsigns;
+
+    /** 緯度・経度（度）。ブロードフェーズ用 */
+    final double[] latitude;
+    final double[] longitude;
+
+    /** 東西方向（赤道基準、メートル）・南北方向（メートル）・高度（フィート） */
+    final double[] x;
+    final double[] y;
+    final double[] altitude;
+
+    /** 半緯度のcos/sin（経度方向の平均緯度補正用） */
+    final double[] cosHalfLatitude;
+    final double[] sinHalfLatitude;
+
+    /** 速度成分（水平:メートル/秒、垂直:フィート/秒） */
+    final double[] vx;
+    final double[] vy;
+    final double[] vz;
+
+    /** 対地速度（ノット）。運動学的な考慮半径用 */
+    final double[] groundSpeed;
+
+    /** 作成時の速度ベクトル（インクリメンタル検出の有意な変化の判定用） */
+    final AircraftVector[] vectors;
+
+    private AircraftStateSnapshot(int size) {
+        this.size = size;
+        this.aircraft = new Aircraft[size];
+        this.callsigns = new String[size];
+        this.latitude = new double[size];
+        this.longitude = new double[size];
+        this.x = new double[size];
+        this.y = new double[size];
+        this.altitude = new double[size];
+        this.cosHalfLatitude = new double[size];
+        this.sinHalfLatitude = new double[size];
+        this.vx = new double[size];
+        this.vy = new double[size];
+        this.vz = new double[size];
+        this.groundSpeed = new double[size];
+        this.vectors = new AircraftVector[size];
+    }
+
+    /**
+     * 航空機リストからスナップショットを作成
+     *
+     * @param aircraftList 航空機リスト
+     * @return スナップショット
+     * @throws InvalidParameterException 航空機リストがnullの場合
+     */
+    public static AircraftStateSnapshot of(List<Aircraft> aircraftList) {
+        if (aircraftList == null) {
+            throw new InvalidParameterException("aircraftList", null, "航空機リストがnullです");
+        }
+        AircraftStateSnapshot snapshot = new AircraftStateSnapshot(aircraftList.size());
+        for (int i = 0; i < snapshot.size; i++) {
+            Aircraft source = aircraftList.get(i);
+            snapshot.set(i, source, source.getCallsign().toString(),
+                source.getAircraftPosition(), source.getAircraftVector());
+        }
+        return snapshot;
+    }
+
+    /**
+     * 公開済みのワールド状態からスナップショットを作成
+     * 航空機オブジェクトの現在の状態は参照せず、ワールド状態に凍結された位置・速度ベクトルを用いる
+     *
+     * @param worldState ワールド状態
+     * @return スナップショット
+     * @throws InvalidParameterException ワールド状態がnullの場合
+     */
+    public static AircraftStateSnapshot of(WorldState worldState) {
+        if (worldState == null) {
+            throw new InvalidParameterException("worldState", null, "ワールド状態がnullです");
+        }
+        List<AircraftState> states = worldState.aircraft();
+        AircraftStateSnapshot snapshot = new AircraftStateSnapshot(states.size());
+        for (int i = 0; i < snapshot.size; i++) {
+            AircraftState state = states.get(i);
+            snapshot.set(i, state.aircraft(), state.callsign().toString(), state.position(), state.vector());
+        }
+        return snapshot;
+    }
+
+    private void set(int index, Aircraft source, String callsign, AircraftPosition position, AircraftVector vector) {
+        double lat = position.latitude.toDouble();
+        double lon = position.longitude.toDouble();
+        double halfLatRad = Math.toRadians(lat) / 2;
+
+        aircraft[index] = source;
+        vectors[index] = vector;
+        callsigns[index] = callsign;
+        latitude[index] = lat;
+        longitude[index] = lon;
+        x[index] = lon * METERS_PER_DEGREE;
+        y[index] = lat * METERS_PER_DEGREE;
+        altitude[index] = position.altitude.toDouble();
+        cosHalfLatitude[index] = Math.cos(halfLatRad);
+        sinHalfLatitude[index] = Math.sin(halfLatRad);
+
+        groundSpeed[index] = vector.groundSpeed.toDouble();
+        double speedMetersPerSecond = groundSpeed[index] * KNOTS_TO_KM_PER_HOUR / 3.6;
+        double headingRad = Math.toRadians(vector.heading.toDouble());
+        vx[index] = speedMetersPerSecond * Math.sin(headingRad);
+        vy[index] = speedMetersPerSecond * Math.cos(headingRad);
+        vz[index] = vector.verticalSpeed.toDouble() / 60.0; // ft/min to ft/s
+    }
+
+    /**
+     * 航空機数を取得
+     */
+    public int aircraftCount() {
+        return size;
+    }
+
+    /**
+     * 作成時の航空機リスト（順序はインデックス順）を取得
+     * 航空機オブジェクトは作成後も更新されるため、状態は作成時のものとは限らない
+     */
+    List<Aircraft> aircraftList() {
+        return Arrays.asList(aircraft);
+    }
+
+    /**
+     * 2機の平均緯度のcosを計算（三角関数呼び出しなし）
+     */
+    double cosAverageLatitude(int i, int j) {
+        return cosHalfLatitude[i] * cosHalfLatitude[j] - sinHalfLatitude[i] * sinHalfLatitude[j];
+    }
+}
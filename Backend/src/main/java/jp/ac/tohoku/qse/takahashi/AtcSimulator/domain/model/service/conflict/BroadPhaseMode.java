@@ -0,0 +1,24 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+/**
+ * コンフリクト検出における候補ペア抽出（ブロードフェーズ）の方式
+ */
+public enum BroadPhaseMode {
+    /**
+     * 一様な緯度経度グリッドで航空機をバケット化し、同一・隣接セルのペアのみを候補とする
+     * 計算量は交通密度に比例（ほぼ線形）
+     */
+    SPATIAL_GRID,
+
+    /**
+     * 航空機を東西座標で整列し、東西方向の区間が重なるペアのみを候補とする
+     * 整列順をティック間で保持し挿入ソートで更新するため、航空機の移動が小さい通常のティックでは整列コストがほぼ線形
+     */
+    SWEEP_AND_PRUNE,
+
+    /**
+     * 全ペア（i < j）を走査する参照実装
+     * 計算量はO(N²)。グリッド方式との結果比較用
+     */
+    EXHAUSTIVE
+}
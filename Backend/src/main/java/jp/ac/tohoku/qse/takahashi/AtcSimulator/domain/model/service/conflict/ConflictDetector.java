@@ -3,7 +3,6 @@ package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
 import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.*;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,12 +10,14 @@ import org.slf4j.LoggerFactory;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.ConflictDetectionException;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftBase;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftState;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.RiskAssessment;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftPosition;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftVector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.InstructedVector;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.utility.GeodeticUtils;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.utility.StringUtils;
 
 /**
  * 航空機間のコンフリクト検出を行うドメインサービス
@@ -27,13 +28,142 @@ import jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.utility.StringUtils;
  * - 全航空機ペアの効率的な危険度評価
  * - アラートレベルの判定
  * - パフォーマンス最適化（最大200機対応）
+ *
+ * 候補ペアの抽出は既定で空間グリッド（{@link BroadPhaseMode#SPATIAL_GRID}）を使用する。
+ * ティック間の整列順を再利用するスイープ・アンド・プルーン（{@link BroadPhaseMode#SWEEP_AND_PRUNE}）も選択でき、
+ * 全ペア走査（{@link BroadPhaseMode#EXHAUSTIVE}）は結果比較用の参照モードとして残している。
+ * 全ペア評価は既定でSoAスナップショット上の計算（{@link CpaKernel#STRUCTURE_OF_ARRAYS}）を行う。
+ * ペア単位の計算は {@link ConflictExecutor} でチャンクに分割して実行する。
  */
 public class ConflictDetector {
 
     private static final Logger logger = LoggerFactory.getLogger(ConflictDetector.class);
 
     // 計算の安定性を保つための微小値（並行飛行検出用に調整）
-    private static final double EPSILON = 0.1; // 0.1 m/s ≈ 0.2 knots
+    static final double EPSILON = 0.1; // 0.1 m/s ≈ 0.2 knots
+
+    // jdk.incubator.vector が実行時に有効か（無効な場合VECTORカーネルはSoAへフォールバック）
+    private static final boolean VECTOR_API_AVAILABLE = detectVectorApi();
+
+    private final BroadPhaseMode broadPhaseMode;
+    private final CpaKernel cpaKernel;
+
+    // 候補ペア抽出の設定（垂直方向の候補除外・運動学的な考慮半径）
+    private final PreFilterSettings preFilterSettings;
+
+    // ペア単位の計算を実行するエグゼキュータ
+    private final ConflictExecutor executor;
+
+    // 予測時間（秒）。最接近時刻の上限・管制間隔欠如の予測範囲・候補ペア抽出の範囲に用いる
+    private final double predictionHorizon;
+
+    // スイープ・アンド・プルーンの整列順（ティック間で再利用）
+    private final SweepAndPrune sweepAndPrune = new SweepAndPrune();
+
+    /**
+     * 既定の設定（{@link ConflictDetectorSettings#DEFAULT}：空間グリッドによるブロードフェーズとSoAカーネル）を使用するコンストラクタ
+     */
+    public ConflictDetector() {
+        this(ConflictDetectorSettings.DEFAULT);
+    }
+
+    /**
+     * 設定を指定するコンストラクタ
+     *
+     * 垂直方向の候補除外が有効な場合、現在の高度差から両機の垂直速度で予測時間内に
+     * 縮まり得る量を差し引いても {@code MINIMUM_VERTICAL_SEPARATION} + マージンを上回るペアは候補から除外する。
+     *
+     * 運動学的な考慮半径が有効な場合、固定の {@code MAX_CONSIDERATION_DISTANCE} の代わりに
+     * 両機の対地速度の和で予測時間内に接近し得る最大距離 + {@code MINIMUM_HORIZONTAL_SEPARATION} をペアごとの考慮半径とする。
+     * 低速機同士の遠いペアを除外し、高速で正対するペアは50海里を超えていても候補に含める。
+     *
+     * 短期コンフリクト警報（STCA）のように {@code MAX_PREDICTION_TIME} より短い予測時間で毎ティック検出する場合は予測時間を短くする。
+     * 危険度の時間重み（1分以内=1.0、5分で0.2）は予測時間によらず共通
+     *
+     * @param settings 検出器の設定
+     * @throws InvalidParameterException 設定がnullの場合
+     */
+    public ConflictDetector(ConflictDetectorSettings settings) {
+        if (settings == null) {
+            throw new InvalidParameterException("settings", null, "検出器の設定がnullです");
+        }
+        this.broadPhaseMode = settings.broadPhaseMode();
+        this.preFilterSettings = settings.preFilterSettings();
+        this.executor = settings.executor();
+        this.predictionHorizon = settings.predictionHorizon();
+        if (settings.cpaKernel() == CpaKernel.VECTOR && !VECTOR_API_AVAILABLE) {
+            logger.warn("jdk.incubator.vector が有効でないため、CPA計算はSoAカーネルにフォールバックします");
+            this.cpaKernel = CpaKernel.STRUCTURE_OF_ARRAYS;
+        } else {
+            this.cpaKernel = settings.cpaKernel();
+        }
+    }
+
+    /**
+     * Java Vector APIによるCPA計算カーネルが利用可能かを判定
+     *
+     * @return jdk.incubator.vector が有効かつSIMDレーン幅が2以上の場合true
+     */
+    public static boolean isVectorKernelAvailable() {
+        return VECTOR_API_AVAILABLE;
+    }
+
+    private static boolean detectVectorApi() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorCpaKernel.laneCount() > 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * 使用中のブロードフェーズ方式を取得
+     *
+     * @return 候補ペア抽出方式
+     */
+    public BroadPhaseMode getBroadPhaseMode() {
+        return broadPhaseMode;
+    }
+
+    /**
+     * 使用中のCPA計算カーネルを取得
+     * VECTORを指定してもVector APIが利用できない場合はSTRUCTURE_OF_ARRAYSを返す
+     *
+     * @return CPA計算カーネル
+     */
+    public CpaKernel getCpaKernel() {
+        return cpaKernel;
+    }
+
+    /**
+     * 使用中の候補ペア抽出の設定を取得
+     *
+     * @return 候補ペア抽出の設定
+     */
+    public PreFilterSettings getPreFilterSettings() {
+        return preFilterSettings;
+    }
+
+    /**
+     * ペア単位の計算を実行するエグゼキュータを取得
+     *
+     * @return エグゼキュータ
+     */
+    public ConflictExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * 予測時間を取得
+     *
+     * @return 予測時間（秒）
+     */
+    public double getPredictionHorizon() {
+        return predictionHorizon;
+    }
 
     /**
      * 全航空機ペアの危険度を計算
@@ -43,49 +173,326 @@ public class ConflictDetector {
      * @throws InvalidParameterException 航空機リストがnullの場合
      */
     public Map<String, RiskAssessment> calculateAllConflicts(List<Aircraft> aircraftList) {
+        return calculateConflictTable(aircraftList).toPairIdMap();
+    }
+
+    /**
+     * 全航空機ペアの危険度を計算し、航空機インデックス（リストの順序）で引ける結果テーブルとして返す
+     * 文字列のペアIDは生成しないため、呼び出し側で必要な場合のみ {@link ConflictResultTable#pairId(int)} で変換する
+     *
+     * @param aircraftList 航空機リスト
+     * @return 危険度が0を超えるペアの結果テーブル
+     * @throws InvalidParameterException 航空機リストがnullの場合
+     */
+    public ConflictResultTable calculateConflictTable(List<Aircraft> aircraftList) {
         validateAircraftList(aircraftList);
+        return calculateConflictTable(AircraftStateSnapshot.of(aircraftList));
+    }
 
-        if (aircraftList.size() < 2) {
-            logger.debug("航空機数が不足しているためコンフリクト計算をスキップ: {}機", aircraftList.size());
-            return new HashMap<>();
+    /**
+     * 凍結済みの航空機状態から全航空機ペアの危険度を計算し、結果テーブルとして返す
+     * 航空機インデックスはスナップショットのインデックス順。SoA・Vector APIカーネルはスナップショットのみを参照するため、
+     * 作成後に航空機オブジェクトが更新されても作成時の状態で評価する（OBJECTカーネルは航空機オブジェクトを直接参照する）
+     *
+     * @param snapshot 航空機状態のスナップショット
+     * @return 危険度が0を超えるペアの結果テーブル
+     * @throws InvalidParameterException スナップショットがnullの場合
+     */
+    public ConflictResultTable calculateConflictTable(AircraftStateSnapshot snapshot) {
+        validateSnapshot(snapshot);
+
+        if (snapshot.size < 2) {
+            logger.debug("航空機数が不足しているためコンフリクト計算をスキップ: {}機", snapshot.size);
+            return new ConflictResultTable(snapshot.callsigns, 0);
+        }
+
+        logger.debug("コンフリクト計算開始: {}機", snapshot.size);
+
+        ConflictResultTable results = switch (cpaKernel) {
+            case OBJECT -> calculateAllConflictsWithObjects(snapshot.aircraftList());
+            case STRUCTURE_OF_ARRAYS -> calculateAllConflictsWithSnapshot(snapshot);
+            case VECTOR -> calculateAllConflictsWithVectorKernel(snapshot);
+        };
+
+        logger.debug("コンフリクト計算完了: {}件のコンフリクトを検出", results.size());
+        return results;
+    }
+
+    /**
+     * 管制指示候補を与えた場合の対象機の予測軌道を周辺交通に対して評価（what-if）
+     * 対象機・周辺交通の現在の状態を凍結してから評価する（運動計算と並行して呼び出さないこと）
+     *
+     * @param subject 対象機
+     * @param instruction 管制指示候補
+     * @param traffic 周辺交通（対象機自身が含まれていてもよい）
+     * @return 評価結果
+     * @throws InvalidParameterException 引数がnullの場合
+     */
+    public TrajectoryProbeResult probeTrajectory(AircraftBase subject, InstructedVector instruction,
+                                                 List<Aircraft> traffic) {
+        if (subject == null) {
+            throw new InvalidParameterException("subject", null, "対象機がnullです");
+        }
+        validateAircraftList(traffic);
+        return probeTrajectory(AircraftState.capture(subject), instruction, TrajectoryProbe.capture(traffic));
+    }
+
+    /**
+     * 管制指示候補を与えた場合の対象機の予測軌道を周辺交通に対して評価（what-if）
+     * 対象機1機分の軌道のみを評価するため、全ペア計算は行わない
+     * 位置・ベクトルは凍結した状態のみを参照するため、同じワールド状態から取り出した状態を渡せば
+     * 運動計算と並行して呼び出しても1ティックの一貫した状態で評価される
+     *
+     * @param subject 対象機の凍結した状態（航空機はAircraftBaseであること）
+     * @param instruction 管制指示候補
+     * @param traffic 周辺交通の凍結した状態（対象機自身が含まれていてもよい）
+     * @return 評価結果
+     * @throws InvalidParameterException 引数がnull、または対象機が軌道予測に対応していない場合
+     */
+    public TrajectoryProbeResult probeTrajectory(AircraftState subject, InstructedVector instruction,
+                                                 List<AircraftState> traffic) {
+        validateProbeSubject(subject);
+        if (instruction == null) {
+            throw new InvalidParameterException("instruction", null, "管制指示がnullです");
         }
+        if (traffic == null) {
+            throw new InvalidParameterException("traffic", null, "周辺交通がnullです");
+        }
+        return new TrajectoryProbe(this).probe(subject, instruction, traffic);
+    }
 
-        logger.debug("コンフリクト計算開始: {}機", aircraftList.size());
+    /**
+     * 対象機の予測時間内の管制間隔欠如を全て解消する回避指示を、ヘディング・高度・対地速度の候補グリッドから探索
+     * 対象機・周辺交通の現在の状態を凍結してから探索する（運動計算と並行して呼び出さないこと）
+     *
+     * @param subject 対象機
+     * @param traffic 周辺交通（対象機自身が含まれていてもよい）
+     * @param settings 候補グリッドの設定
+     * @param limit 返却する最大件数（1以上）
+     * @return 変更量の小さい順の回避指示
+     * @throws InvalidParameterException 引数がnull、または件数が1未満の場合
+     */
+    public ResolutionSearchResult searchResolutions(AircraftBase subject, List<Aircraft> traffic,
+                                                    ResolutionSearchSettings settings, int limit) {
+        if (subject == null) {
+            throw new InvalidParameterException("subject", null, "対象機がnullです");
+        }
+        validateAircraftList(traffic);
+        return searchResolutions(AircraftState.capture(subject), TrajectoryProbe.capture(traffic), settings, limit);
+    }
 
-        // 並列処理対応のためConcurrentHashMapを使用
-        Map<String, RiskAssessment> results = new ConcurrentHashMap<>();
+    /**
+     * 対象機の予測時間内の管制間隔欠如を全て解消する回避指示を、ヘディング・高度・対地速度の候補グリッドから探索
+     * 相手機の抽出は1回だけ行い、候補ごとの軌道評価はエグゼキュータで並列実行する
+     * 位置・ベクトルは凍結した状態のみを参照するため、同じワールド状態から取り出した状態を渡せば
+     * 運動計算と並行して呼び出しても全候補が1ティックの一貫した状態で評価される
+     *
+     * @param subject 対象機の凍結した状態（航空機はAircraftBaseであること）
+     * @param traffic 周辺交通の凍結した状態（対象機自身が含まれていてもよい）
+     * @param settings 候補グリッドの設定
+     * @param limit 返却する最大件数（1以上）
+     * @return 変更量の小さい順の回避指示
+     * @throws InvalidParameterException 引数がnull、対象機が軌道予測に対応していない、または件数が1未満の場合
+     */
+    public ResolutionSearchResult searchResolutions(AircraftState subject, List<AircraftState> traffic,
+                                                    ResolutionSearchSettings settings, int limit) {
+        validateProbeSubject(subject);
+        if (settings == null) {
+            throw new InvalidParameterException("settings", null, "回避指示探索の設定がnullです");
+        }
+        if (limit < 1) {
+            throw new InvalidParameterException("limit", limit, "件数は1以上で指定してください");
+        }
+        if (traffic == null) {
+            throw new InvalidParameterException("traffic", null, "周辺交通がnullです");
+        }
+        return new ResolutionSearch(this, settings).search(subject, traffic, limit);
+    }
 
+    /**
+     * 航空機オブジェクトを直接参照する全ペア計算（参照実装）
+     */
+    private ConflictResultTable calculateAllConflictsWithObjects(List<Aircraft> aircraftList) {
         // 航空機ペアの事前フィルタリングでパフォーマンス向上
         List<AircraftPair> candidatePairs = preFilterAircraftPairs(aircraftList);
 
         logger.debug("候補ペア数: {}", candidatePairs.size());
 
-        // 並列ストリームで効率的に処理（200機対応）
-        candidatePairs.parallelStream().forEach(pair -> {
+        long[] pairs = new long[candidatePairs.size()];
+        for (int k = 0; k < pairs.length; k++) {
+            AircraftPair pair = candidatePairs.get(k);
+            pairs[k] = ((long) pair.index1 << 32) | pair.index2;
+        }
+        PairEvaluations evaluations = new PairEvaluations(pairs);
+
+        // 候補ペアが多い場合はチャンクに分割して並列処理
+        executor.forEach(pairs.length, k -> {
+            AircraftPair pair = candidatePairs.get(k);
             try {
-                RiskAssessment assessment = calculateConflictRisk(pair.aircraft1, pair.aircraft2);
-
-                // 危険度が閾値以上の場合のみ結果に含める
-                if (assessment.getRiskLevel() > 0.0) {
-                    String pairId = StringUtils.generatePairId(
-                        pair.aircraft1.getCallsign().toString(),
-                        pair.aircraft2.getCallsign().toString()
-                    );
-                    results.put(pairId, assessment);
-                }
+                CPAResult cpaResult = calculateCPA(pair.aircraft1, pair.aircraft2);
+                evaluations.set(k, cpaResult.timeToClosest, cpaResult.horizontalDistance, cpaResult.verticalDistance);
             } catch (Exception e) {
                 String errorMsg = String.format("航空機ペア計算エラー: %s - %s",
                                                 pair.aircraft1.getCallsign().toString(),
                                                 pair.aircraft2.getCallsign().toString());
                 logger.error(errorMsg + " - " + e.getMessage(), e);
 
-                // 個別ペアのエラーは全体の処理を停止させない
-                // ただし、システムエラーとして記録する
+                // 個別ペアのエラーは全体の処理を停止させない（危険度がNaNとなり結果から除外される）
+                evaluations.set(k, Double.NaN, Double.NaN, Double.NaN);
             }
         });
 
-        logger.debug("コンフリクト計算完了: {}件のコンフリクトを検出", results.size());
-        return results;
+        return toResultTable(callsignsOf(aircraftList), evaluations);
+    }
+
+    /**
+     * SoAスナップショット上での全ペア計算
+     * 候補ペアはインデックスの組としてlong配列に格納し、ペア単位のオブジェクト生成を行わない
+     */
+    private ConflictResultTable calculateAllConflictsWithSnapshot(AircraftStateSnapshot snapshot) {
+        PairEvaluations evaluations = new PairEvaluations(preFilterSnapshotPairs(snapshot));
+
+        logger.debug("候補ペア数: {}", evaluations.size());
+
+        executor.forEach(evaluations.size(), k -> evaluateSnapshotPair(snapshot, evaluations, k));
+
+        return toResultTable(snapshot.callsigns, evaluations);
+    }
+
+    /**
+     * Vector APIカーネルによる全ペア計算
+     * 候補ペアを基準機ごとにまとめ、相手機をレーン幅単位でSIMD評価した後、危険度をスカラー計算する
+     */
+    private ConflictResultTable calculateAllConflictsWithVectorKernel(AircraftStateSnapshot snapshot) {
+        long[] candidatePairs = preFilterSnapshotPairs(snapshot);
+        int pairCount = candidatePairs.length;
+
+        logger.debug("候補ペア数: {}", pairCount);
+
+        // 基準機インデックスで計数ソートし、相手機インデックスを基準機ごとに連続配置
+        int[] runStart = new int[snapshot.size + 1];
+        for (long pair : candidatePairs) {
+            runStart[(int) (pair >>> 32) + 1]++;
+        }
+        for (int i = 0; i < snapshot.size; i++) {
+            runStart[i + 1] += runStart[i];
+        }
+        // gatherはマスク外のレーンでもインデックス配列を読むため、末尾をレーン幅分パディングする
+        int[] partners = new int[pairCount + VectorCpaKernel.laneCount()];
+        long[] groupedPairs = new long[pairCount];
+        int[] cursor = Arrays.copyOf(runStart, snapshot.size);
+        for (long pair : candidatePairs) {
+            int position = cursor[(int) (pair >>> 32)]++;
+            partners[position] = (int) pair;
+            groupedPairs[position] = pair;
+        }
+
+        PairEvaluations evaluations = new PairEvaluations(groupedPairs);
+        executor.forEach(snapshot.size, i -> {
+            int from = runStart[i];
+            int to = runStart[i + 1];
+            if (from < to) {
+                VectorCpaKernel.evaluate(snapshot, i, partners, from, to, predictionHorizon, evaluations.timeToClosest,
+                                         evaluations.horizontalDistance, evaluations.verticalDistance);
+            }
+        });
+
+        return toResultTable(snapshot.callsigns, evaluations);
+    }
+
+    /**
+     * スナップショット上の1ペアについてCPAを計算し、評価結果配列の位置 {@code k} に格納
+     * 計算式は {@link #calculateCPA} と同一
+     */
+    private void evaluateSnapshotPair(AircraftStateSnapshot snapshot, PairEvaluations evaluations, int k) {
+        int i = evaluations.firstIndex(k);
+        int j = evaluations.secondIndex(k);
+
+        // 相対位置（x,y:メートル, z:フィート）
+        double rx = (snapshot.x[j] - snapshot.x[i]) * snapshot.cosAverageLatitude(i, j);
+        double ry = snapshot.y[j] - snapshot.y[i];
+        double rz = snapshot.altitude[j] - snapshot.altitude[i];
+
+        // 相対速度（水平:メートル/秒、垂直:フィート/秒）
+        double vx = snapshot.vx[j] - snapshot.vx[i];
+        double vy = snapshot.vy[j] - snapshot.vy[i];
+        double vz = snapshot.vz[j] - snapshot.vz[i];
+
+        double relativeSpeedMagnitude = Math.sqrt(vx * vx + vy * vy + vz * vz);
+
+        double timeToClosest;
+        double closestHorizontalDistance;
+        double closestVerticalDistance;
+
+        if (relativeSpeedMagnitude < EPSILON) {
+            timeToClosest = Double.POSITIVE_INFINITY;
+            closestHorizontalDistance = Math.sqrt(rx * rx + ry * ry) / 1000.0 / NAUTICAL_MILES_TO_KM;
+            closestVerticalDistance = Math.abs(rz);
+        } else {
+            timeToClosest = -(rx * vx + ry * vy + rz * vz) / (relativeSpeedMagnitude * relativeSpeedMagnitude);
+
+            double cx = rx + timeToClosest * vx;
+            double cy = ry + timeToClosest * vy;
+            double cz = rz + timeToClosest * vz;
+
+            closestHorizontalDistance = Math.sqrt(cx * cx + cy * cy) / 1000.0 / NAUTICAL_MILES_TO_KM;
+            closestVerticalDistance = Math.abs(cz);
+        }
+
+        if (timeToClosest != Double.POSITIVE_INFINITY && timeToClosest > predictionHorizon) {
+            timeToClosest = predictionHorizon;
+        }
+
+        evaluations.set(k, timeToClosest, closestHorizontalDistance, closestVerticalDistance);
+    }
+
+    /**
+     * CPA計算結果から危険度を評価し、0を超えるペアのみ結果テーブルに格納
+     * 評価結果のないペア（{@link PairEvaluations#MISSING}）は除外し、持ち越したペアは古い結果として格納する
+     * 危険度は並列に計算し、テーブルへの格納は単一スレッドで行う
+     *
+     * @param callsigns インデックス順のコールサイン
+     * @param evaluations 候補ペアのCPA計算結果（最接近時刻は予測範囲でクランプ済み）
+     * @return 結果テーブル
+     */
+    ConflictResultTable toResultTable(String[] callsigns, PairEvaluations evaluations) {
+        int pairCount = evaluations.size();
+        double[] riskLevels = new double[pairCount];
+        executor.forEach(pairCount, k -> riskLevels[k] = evaluations.status[k] == PairEvaluations.MISSING
+            ? 0.0
+            : calculateRiskLevel(evaluations.timeToClosest[k], evaluations.horizontalDistance[k],
+                                 evaluations.verticalDistance[k], evaluations.horizontalDistance[k],
+                                 evaluations.verticalDistance[k]));
+
+        int riskyCount = 0;
+        for (double riskLevel : riskLevels) {
+            if (riskLevel > 0.0) {
+                riskyCount++;
+            }
+        }
+
+        ConflictResultTable table = new ConflictResultTable(callsigns, riskyCount);
+        for (int k = 0; k < pairCount; k++) {
+            // NaN（計算エラー）も除外される
+            if (riskLevels[k] > 0.0) {
+                double timeToClosest = evaluations.timeToClosest[k];
+                double horizontalDistance = evaluations.horizontalDistance[k];
+                double verticalDistance = evaluations.verticalDistance[k];
+                table.put(evaluations.firstIndex(k), evaluations.secondIndex(k), riskLevels[k], timeToClosest,
+                          horizontalDistance, verticalDistance,
+                          predictSeparationViolation(timeToClosest, horizontalDistance, verticalDistance),
+                          evaluations.status[k] == PairEvaluations.STALE);
+            }
+        }
+        return table;
+    }
+
+    private static String[] callsignsOf(List<Aircraft> aircraftList) {
+        String[] callsigns = new String[aircraftList.size()];
+        for (int i = 0; i < callsigns.length; i++) {
+            callsigns[i] = aircraftList.get(i).getCallsign().toString();
+        }
+        return callsigns;
     }
 
     /**
@@ -195,8 +602,8 @@ public class ConflictDetector {
         }
 
         // 予測時間範囲の制限（並行飛行の場合は制限なし）
-        if (timeToClosest != Double.POSITIVE_INFINITY && timeToClosest > MAX_PREDICTION_TIME) {
-            timeToClosest = MAX_PREDICTION_TIME;
+        if (timeToClosest != Double.POSITIVE_INFINITY && timeToClosest > predictionHorizon) {
+            timeToClosest = predictionHorizon;
         }
 
         return new CPAResult(timeToClosest, closestHorizontalDistance, closestVerticalDistance);
@@ -205,9 +612,9 @@ public class ConflictDetector {
     /**
      * 危険度計算（時間重み付け・距離評価の組み合わせ）
      */
-    private double calculateRiskLevel(double timeToClosest, double closestHorizontalDistance,
-                                    double closestVerticalDistance, double currentHorizontalDistance,
-                                    double currentVerticalDistance) {
+    double calculateRiskLevel(double timeToClosest, double closestHorizontalDistance,
+                              double closestVerticalDistance, double currentHorizontalDistance,
+                              double currentVerticalDistance) {
 
         // 現在の距離による基本危険度評価
         double currentHorizontalRisk = calculateHorizontalRisk(currentHorizontalDistance);
@@ -355,22 +762,93 @@ public class ConflictDetector {
      * CPA結果に基づく管制間隔欠如予測
      */
     private boolean predictSeparationViolation(CPAResult cpaResult) {
-        if (cpaResult.timeToClosest < 0 || cpaResult.timeToClosest == Double.POSITIVE_INFINITY) {
+        return predictSeparationViolation(cpaResult.timeToClosest, cpaResult.horizontalDistance,
+                                          cpaResult.verticalDistance);
+    }
+
+    boolean predictSeparationViolation(double timeToClosest, double horizontalDistance,
+                                       double verticalDistance) {
+        if (timeToClosest < 0 || timeToClosest == Double.POSITIVE_INFINITY) {
             // すれ違った後や並行飛行は現在距離での判定は行わない
             return false;
         }
 
         // 予測時間範囲内かつ管制間隔基準を下回る場合
         // 航空管制では水平と垂直の両方が同時に不足している場合のみ真の管制間隔違反
-        return cpaResult.timeToClosest >= 0 && cpaResult.timeToClosest <= MAX_PREDICTION_TIME &&
-               (cpaResult.horizontalDistance < MINIMUM_HORIZONTAL_SEPARATION &&
-                cpaResult.verticalDistance < MINIMUM_VERTICAL_SEPARATION);
+        return timeToClosest >= 0 && timeToClosest <= predictionHorizon &&
+               (horizontalDistance < MINIMUM_HORIZONTAL_SEPARATION &&
+                verticalDistance < MINIMUM_VERTICAL_SEPARATION);
     }
 
     /**
      * 航空機ペアの事前フィルタリング（パフォーマンス最適化）
      */
     private List<AircraftPair> preFilterAircraftPairs(List<Aircraft> aircraftList) {
+        return switch (broadPhaseMode) {
+            case EXHAUSTIVE -> preFilterAircraftPairsExhaustive(aircraftList);
+            case SWEEP_AND_PRUNE -> preFilterAircraftPairsWithSweep(aircraftList);
+            case SPATIAL_GRID -> preFilterAircraftPairsWithGrid(aircraftList);
+        };
+    }
+
+    /**
+     * スイープ・アンド・プルーンによる事前フィルタリング
+     * 東西方向の区間が重なる候補ペアに対してのみ近似距離を評価する
+     */
+    private List<AircraftPair> preFilterAircraftPairsWithSweep(List<Aircraft> aircraftList) {
+        AircraftStateSnapshot snapshot = AircraftStateSnapshot.of(aircraftList);
+
+        double radiusNm = considerationRadius(snapshot.groundSpeed, snapshot.size);
+
+        List<AircraftPair> candidatePairs = new ArrayList<>();
+        sweepAndPrune.forEachCandidatePair(snapshot, radiusNm, (i, j) -> {
+            Aircraft aircraft1 = aircraftList.get(i);
+            Aircraft aircraft2 = aircraftList.get(j);
+
+            if (isWithinConsiderationDistance(aircraft1, aircraft2) && !isVerticallyCulled(aircraft1, aircraft2)) {
+                candidatePairs.add(new AircraftPair(i, j, aircraft1, aircraft2));
+            }
+        });
+
+        return candidatePairs;
+    }
+
+    /**
+     * 空間グリッドによる事前フィルタリング
+     * 同一・隣接セルの候補ペアに対してのみ近似距離を評価する
+     */
+    private List<AircraftPair> preFilterAircraftPairsWithGrid(List<Aircraft> aircraftList) {
+        int count = aircraftList.size();
+        double[] latitudes = new double[count];
+        double[] longitudes = new double[count];
+        double[] groundSpeeds = new double[count];
+        for (int i = 0; i < count; i++) {
+            Aircraft aircraft = aircraftList.get(i);
+            AircraftPosition position = aircraft.getAircraftPosition();
+            latitudes[i] = position.latitude.toDouble();
+            longitudes[i] = position.longitude.toDouble();
+            groundSpeeds[i] = aircraft.getAircraftVector().groundSpeed.toDouble();
+        }
+
+        List<AircraftPair> candidatePairs = new ArrayList<>();
+        SpatialGrid.build(latitudes, longitudes, count, considerationRadius(groundSpeeds, count))
+            .forEachCandidatePair((i, j) -> {
+                Aircraft aircraft1 = aircraftList.get(i);
+                Aircraft aircraft2 = aircraftList.get(j);
+
+                // 隣接セルにはセル幅分の余裕があるため、参照実装と同じ近似距離で確定判定する
+                if (isWithinConsiderationDistance(aircraft1, aircraft2) && !isVerticallyCulled(aircraft1, aircraft2)) {
+                    candidatePairs.add(new AircraftPair(i, j, aircraft1, aircraft2));
+                }
+            });
+
+        return candidatePairs;
+    }
+
+    /**
+     * 全ペア走査による事前フィルタリング（参照実装）
+     */
+    private List<AircraftPair> preFilterAircraftPairsExhaustive(List<Aircraft> aircraftList) {
         List<AircraftPair> candidatePairs = new ArrayList<>();
 
         for (int i = 0; i < aircraftList.size(); i++) {
@@ -379,13 +857,8 @@ public class ConflictDetector {
                 Aircraft aircraft2 = aircraftList.get(j);
 
                 // 高速近似計算で明らかに遠い航空機を除外
-                double approximateDistance = GeodeticUtils.approximateHorizontalDistance(
-                    aircraft1.getAircraftPosition(),
-                    aircraft2.getAircraftPosition()
-                );
-
-                if (approximateDistance <= MAX_CONSIDERATION_DISTANCE) {
-                    candidatePairs.add(new AircraftPair(aircraft1, aircraft2));
+                if (isWithinConsiderationDistance(aircraft1, aircraft2) && !isVerticallyCulled(aircraft1, aircraft2)) {
+                    candidatePairs.add(new AircraftPair(i, j, aircraft1, aircraft2));
                 }
             }
         }
@@ -393,6 +866,153 @@ public class ConflictDetector {
         return candidatePairs;
     }
 
+    /**
+     * スナップショット上での事前フィルタリング
+     * 候補ペアを (i << 32) | j の形式でlong配列に格納して返す
+     */
+    long[] preFilterSnapshotPairs(AircraftStateSnapshot snapshot) {
+        PairBuffer buffer = new PairBuffer(snapshot.size * 4);
+        double radiusNm = considerationRadius(snapshot.groundSpeed, snapshot.size);
+
+        SpatialGrid.PairConsumer collector = (i, j) -> {
+            if (!isWithinConsiderationDistance(snapshot, i, j)) {
+                return;
+            }
+            if (isVerticallyCulled(snapshot.altitude[i], snapshot.vz[i], snapshot.altitude[j], snapshot.vz[j])) {
+                buffer.culled++;
+                return;
+            }
+            buffer.add(i, j);
+        };
+
+        switch (broadPhaseMode) {
+            case EXHAUSTIVE -> {
+                for (int i = 0; i < snapshot.size; i++) {
+                    for (int j = i + 1; j < snapshot.size; j++) {
+                        collector.accept(i, j);
+                    }
+                }
+            }
+            case SWEEP_AND_PRUNE -> sweepAndPrune.forEachCandidatePair(snapshot, radiusNm, collector);
+            case SPATIAL_GRID ->
+                SpatialGrid.build(snapshot.latitude, snapshot.longitude, snapshot.size, radiusNm)
+                    .forEachCandidatePair(collector);
+        }
+
+        if (buffer.culled > 0) {
+            logger.debug("垂直方向で除外した候補ペア数: {}", buffer.culled);
+        }
+        return buffer.toArray();
+    }
+
+    /**
+     * 航空機オブジェクトの高度・垂直速度から垂直方向の候補除外を判定
+     */
+    private boolean isVerticallyCulled(Aircraft aircraft1, Aircraft aircraft2) {
+        return isVerticallyCulled(
+            aircraft1.getAircraftPosition().altitude.toDouble(),
+            aircraft1.getAircraftVector().verticalSpeed.toDouble() / 60.0,
+            aircraft2.getAircraftPosition().altitude.toDouble(),
+            aircraft2.getAircraftVector().verticalSpeed.toDouble() / 60.0
+        );
+    }
+
+    /**
+     * 予測時間内に縮まり得る最大量を差し引いても垂直間隔が最小垂直間隔+マージンを上回るかを判定
+     *
+     * @param altitude1 航空機1の高度（フィート）
+     * @param verticalRate1 航空機1の垂直速度（フィート/秒）
+     * @param altitude2 航空機2の高度（フィート）
+     * @param verticalRate2 航空機2の垂直速度（フィート/秒）
+     * @return 候補から除外できる場合true
+     */
+    boolean isVerticallyCulled(double altitude1, double verticalRate1, double altitude2, double verticalRate2) {
+        if (!preFilterSettings.isVerticalCullingEnabled()) {
+            return false;
+        }
+        double separation = altitude2 - altitude1;
+        // 高度差が縮まる向きの相対垂直速度（離れていく場合は負）
+        double closingRate = separation >= 0 ? verticalRate1 - verticalRate2 : verticalRate2 - verticalRate1;
+        double minimumSeparation = Math.abs(separation) - Math.max(0.0, closingRate) * predictionHorizon;
+        return minimumSeparation > MINIMUM_VERTICAL_SEPARATION + preFilterSettings.verticalCullingMargin();
+    }
+
+    /**
+     * スナップショット上の平面近似距離が考慮距離以内かを判定
+     * {@link GeodeticUtils#approximateHorizontalDistance} と同じ近似式
+     */
+    private boolean isWithinConsiderationDistance(AircraftStateSnapshot snapshot, int i, int j) {
+        double dx = (snapshot.x[j] - snapshot.x[i]) * snapshot.cosAverageLatitude(i, j);
+        double dy = snapshot.y[j] - snapshot.y[i];
+        double distanceNm = Math.sqrt(dx * dx + dy * dy) / 1000.0 / NAUTICAL_MILES_TO_KM;
+        return distanceNm <= considerationLimit(snapshot.groundSpeed[i], snapshot.groundSpeed[j]);
+    }
+
+    /**
+     * 航空機オブジェクト間の近似距離が考慮距離以内かを判定
+     */
+    private boolean isWithinConsiderationDistance(Aircraft aircraft1, Aircraft aircraft2) {
+        double approximateDistance = GeodeticUtils.approximateHorizontalDistance(
+            aircraft1.getAircraftPosition(),
+            aircraft2.getAircraftPosition()
+        );
+        return approximateDistance <= considerationLimit(
+            aircraft1.getAircraftVector().groundSpeed.toDouble(),
+            aircraft2.getAircraftVector().groundSpeed.toDouble()
+        );
+    }
+
+    /**
+     * ペアごとの考慮距離（海里）を計算
+     * 運動学的な考慮半径が有効な場合、相対速度は両機の対地速度の和を超えないため、
+     * これより遠いペアは予測時間内に最小水平間隔まで接近できない
+     *
+     * @param groundSpeed1 航空機1の対地速度（ノット）
+     * @param groundSpeed2 航空機2の対地速度（ノット）
+     * @return 考慮距離（海里）
+     */
+    double considerationLimit(double groundSpeed1, double groundSpeed2) {
+        return considerationLimit(groundSpeed1, groundSpeed2, predictionHorizon);
+    }
+
+    /**
+     * 指定した予測時間でのペアごとの考慮距離（海里）を計算
+     * 予測時間の異なる軌道予測（what-if評価）で、検出パスと同じ考慮距離の規則を使うためのもの
+     *
+     * @param groundSpeed1 航空機1の対地速度（ノット）
+     * @param groundSpeed2 航空機2の対地速度（ノット）
+     * @param horizon 予測時間（秒）
+     * @return 考慮距離（海里）
+     */
+    double considerationLimit(double groundSpeed1, double groundSpeed2, double horizon) {
+        if (!preFilterSettings.kinematicRadius()) {
+            return MAX_CONSIDERATION_DISTANCE;
+        }
+        return (groundSpeed1 + groundSpeed2) * horizon / 3600.0 + MINIMUM_HORIZONTAL_SEPARATION;
+    }
+
+    /**
+     * ブロードフェーズの探索半径（海里）を計算
+     * 全ペアの考慮距離の上限となるよう、対地速度の上位2機から求める
+     */
+    private double considerationRadius(double[] groundSpeeds, int count) {
+        if (!preFilterSettings.kinematicRadius()) {
+            return MAX_CONSIDERATION_DISTANCE;
+        }
+        double fastest = 0.0;
+        double second = 0.0;
+        for (int i = 0; i < count; i++) {
+            double speed = groundSpeeds[i];
+            if (speed > fastest) {
+                second = fastest;
+                fastest = speed;
+            } else if (speed > second) {
+                second = speed;
+            }
+        }
+        return considerationLimit(fastest, second);
+    }
+
     /**
      * 相対位置ベクトルの計算（メートル単位）
      */
@@ -432,26 +1052,33 @@ public class ConflictDetector {
     }
 
     /**
-     * 航空機ペアIDの生成
+     * 航空機リストの妥当性を検証
      */
-    private String generatePairId(Aircraft aircraft1, Aircraft aircraft2) {
-        String callsign1 = aircraft1.getCallsign().toString();
-        String callsign2 = aircraft2.getCallsign().toString();
+    void validateAircraftList(List<Aircraft> aircraftList) {
+        if (aircraftList == null) {
+            throw new InvalidParameterException("aircraftList", null, "航空機リストがnullです");
+        }
+    }
 
-        // アルファベット順でソートして一意性を保証
-        if (callsign1.compareTo(callsign2) < 0) {
-            return callsign1 + "-" + callsign2;
-        } else {
-            return callsign2 + "-" + callsign1;
+    /**
+     * 軌道予測の対象機の凍結した状態の妥当性を検証
+     */
+    private static void validateProbeSubject(AircraftState subject) {
+        if (subject == null) {
+            throw new InvalidParameterException("subject", null, "対象機がnullです");
+        }
+        if (!(subject.aircraft() instanceof AircraftBase)) {
+            throw new InvalidParameterException("subject", subject.callsign().toString(),
+                                                "軌道予測に対応していない航空機です");
         }
     }
 
     /**
-     * 航空機リストの妥当性を検証
+     * 航空機状態のスナップショットの妥当性を検証
      */
-    private void validateAircraftList(List<Aircraft> aircraftList) {
-        if (aircraftList == null) {
-            throw new InvalidParameterException("aircraftList", null, "航空機リストがnullです");
+    void validateSnapshot(AircraftStateSnapshot snapshot) {
+        if (snapshot == null) {
+            throw new InvalidParameterException("snapshot", null, "航空機状態のスナップショットがnullです");
         }
     }
 
@@ -486,15 +1113,45 @@ public class ConflictDetector {
      * 航空機ペアを表現する内部クラス
      */
     private static class AircraftPair {
+        final int index1;
+        final int index2;
         final Aircraft aircraft1;
         final Aircraft aircraft2;
 
-        AircraftPair(Aircraft aircraft1, Aircraft aircraft2) {
+        AircraftPair(int index1, int index2, Aircraft aircraft1, Aircraft aircraft2) {
+            this.index1 = index1;
+            this.index2 = index2;
             this.aircraft1 = aircraft1;
             this.aircraft2 = aircraft2;
         }
     }
 
+    /**
+     * 候補ペア（インデックスの組）を格納する可変長long配列
+     */
+    private static class PairBuffer {
+        private long[] pairs;
+        private int size;
+
+        // 垂直方向で除外したペア数
+        int culled;
+
+        PairBuffer(int initialCapacity) {
+            this.pairs = new long[Math.max(16, initialCapacity)];
+        }
+
+        void add(int index1, int index2) {
+            if (size == pairs.length) {
+                pairs = Arrays.copyOf(pairs, size * 2);
+            }
+            pairs[size++] = ((long) index1 << 32) | index2;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(pairs, size);
+        }
+    }
+
     /**
      * すれ違い後の危険度減衰係数計算
      * 航空機の特性上、すれ違った後は距離が急激に増加するため危険度も急激に低下する
@@ -0,0 +1,95 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.MAX_PREDICTION_TIME;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+
+/**
+ * コンフリクト検出器の設定
+ * 既定値 {@link #DEFAULT} から必要な項目だけを {@code with...} で差し替えて使用する
+ *
+ * @param broadPhaseMode 候補ペア抽出方式
+ * @param cpaKernel 全ペア評価時のCPA計算カーネル（{@link IncrementalConflictDetector} では使用しない）
+ * @param preFilterSettings 候補ペア抽出の設定
+ * @param executor ペア単位の計算を実行するエグゼキュータ
+ * @param predictionHorizon 予測時間（秒）。最接近時刻の上限・管制間隔欠如の予測範囲・候補ペア抽出の範囲に用いる
+ * @param timeBudgetMillis 1パスあたりの時間予算（ミリ秒、{@link #UNLIMITED_TIME_BUDGET} は予算なし。
+ *                         {@link IncrementalConflictDetector} でのみ使用する）
+ */
+public record ConflictDetectorSettings(
+    BroadPhaseMode broadPhaseMode,
+    CpaKernel cpaKernel,
+    PreFilterSettings preFilterSettings,
+    ConflictExecutor executor,
+    double predictionHorizon,
+    double timeBudgetMillis
+) {
+
+    /**
+     * 時間予算なし（全候補ペアを毎パス評価）
+     */
+    public static final double UNLIMITED_TIME_BUDGET = 0.0;
+
+    /**
+     * 既定の設定（空間グリッド・SoAカーネル・固定の考慮半径・共通プール・予測時間 {@code MAX_PREDICTION_TIME}・時間予算なし）
+     */
+    public static final ConflictDetectorSettings DEFAULT = new ConflictDetectorSettings(
+        BroadPhaseMode.SPATIAL_GRID, CpaKernel.STRUCTURE_OF_ARRAYS, PreFilterSettings.FIXED_RADIUS,
+        ConflictExecutor.commonPool(), MAX_PREDICTION_TIME, UNLIMITED_TIME_BUDGET);
+
+    /**
+     * @throws InvalidParameterException いずれかがnull、予測時間が0以下・非有限、または時間予算が負・非有限の場合
+     */
+    public ConflictDetectorSettings {
+        if (broadPhaseMode == null) {
+            throw new InvalidParameterException("broadPhaseMode", null, "ブロードフェーズ方式がnullです");
+        }
+        if (cpaKernel == null) {
+            throw new InvalidParameterException("cpaKernel", null, "CPA計算カーネルがnullです");
+        }
+        if (preFilterSettings == null) {
+            throw new InvalidParameterException("preFilterSettings", null, "候補ペア抽出の設定がnullです");
+        }
+        if (executor == null) {
+            throw new InvalidParameterException("executor", null, "エグゼキュータがnullです");
+        }
+        if (!(predictionHorizon > 0.0) || Double.isInfinite(predictionHorizon)) {
+            throw new InvalidParameterException("predictionHorizon", predictionHorizon,
+                                                "予測時間は0より大きい有限値である必要があります");
+        }
+        if (!Double.isFinite(timeBudgetMillis) || timeBudgetMillis < 0.0) {
+            throw new InvalidParameterException("timeBudgetMillis", timeBudgetMillis,
+                                                "時間予算は0以上の有限値で指定してください");
+        }
+    }
+
+    public ConflictDetectorSettings withBroadPhaseMode(BroadPhaseMode broadPhaseMode) {
+        return new ConflictDetectorSettings(broadPhaseMode, cpaKernel, preFilterSettings, executor,
+                                            predictionHorizon, timeBudgetMillis);
+    }
+
+    public ConflictDetectorSettings withCpaKernel(CpaKernel cpaKernel) {
+        return new ConflictDetectorSettings(broadPhaseMode, cpaKernel, preFilterSettings, executor,
+                                            predictionHorizon, timeBudgetMillis);
+    }
+
+    public ConflictDetectorSettings withPreFilterSettings(PreFilterSettings preFilterSettings) {
+        return new ConflictDetectorSettings(broadPhaseMode, cpaKernel, preFilterSettings, executor,
+                                            predictionHorizon, timeBudgetMillis);
+    }
+
+    public ConflictDetectorSettings withExecutor(ConflictExecutor executor) {
+        return new ConflictDetectorSettings(broadPhaseMode, cpaKernel, preFilterSettings, executor,
+                                            predictionHorizon, timeBudgetMillis);
+    }
+
+    public ConflictDetectorSettings withPredictionHorizon(double predictionHorizon) {
+        return new ConflictDetectorSettings(broadPhaseMode, cpaKernel, preFilterSettings, executor,
+                                            predictionHorizon, timeBudgetMillis);
+    }
+
+    public ConflictDetectorSettings withTimeBudgetMillis(double timeBudgetMillis) {
+        return new ConflictDetectorSettings(broadPhaseMode, cpaKernel, preFilterSettings, executor,
+                                            predictionHorizon, timeBudgetMillis);
+    }
+}
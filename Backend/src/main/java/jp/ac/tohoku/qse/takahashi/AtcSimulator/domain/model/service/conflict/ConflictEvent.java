@@ -0,0 +1,23 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.ConflictEventType;
+
+/**
+ * ペア1組のコンフリクトアラートの状態遷移
+ *
+ * @param tick 遷移を検出したティック（スナップショットのバージョン）
+ * @param pairId 航空機ペアID
+ * @param type 遷移の種類
+ * @param previousAlertLevel 遷移前のアラートレベル（新規の場合はSAFE）
+ * @param alertLevel 遷移後のアラートレベル（解消の場合はSAFE）
+ * @param riskLevel 遷移時の危険度（検出対象外になった場合は0）
+ */
+public record ConflictEvent(
+    long tick,
+    String pairId,
+    ConflictEventType type,
+    AlertLevel previousAlertLevel,
+    AlertLevel alertLevel,
+    double riskLevel
+) {}
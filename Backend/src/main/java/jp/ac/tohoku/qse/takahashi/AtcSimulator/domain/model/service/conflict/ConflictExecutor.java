@@ -0,0 +1,275 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+
+/**
+ * コンフリクト検出のペア単位の計算を実行するエグゼキュータ
+ *
+ * JVM共通のForkJoinPoolではなく専用のプールで実行し、APIリクエストや他の並列ストリームとの競合を避ける。
+ * 処理件数が逐次実行しきい値未満の場合は並列化のオーバーヘッドが支配的になるため、呼び出し元スレッドで逐次実行する。
+ * しきい値以上の場合はインデックス範囲をチャンクに分割し、ワーカーあたり
+ * {@value #CHUNKS_PER_WORKER} チャンク程度になるようチャンク幅を件数に応じて広げる。
+ */
+public final class ConflictExecutor implements AutoCloseable {
+
+    // ワーカーあたりのチャンク数の目安（負荷の偏りを吸収できる程度に細かく分割する）
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    /** 既定の最小チャンク幅（ペア数） */
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    /** 既定の逐次実行しきい値（ペア数） */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 512;
+
+    private static final ConflictExecutor COMMON = new ConflictExecutor(
+        ForkJoinPool.commonPool(), false, DEFAULT_CHUNK_SIZE, DEFAULT_SEQUENTIAL_THRESHOLD);
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final int chunkSize;
+    private final int sequentialThreshold;
+
+    private final LongAdder parallelRuns = new LongAdder();
+    private final LongAdder sequentialRuns = new LongAdder();
+    private final LongAdder executedChunks = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+    private final LongAdder parallelWallNanos = new LongAdder();
+
+    /**
+     * 専用のForkJoinPoolを作成するコンストラクタ
+     *
+     * @param parallelism 並列度（ワーカースレッド数）
+     * @param chunkSize 最小チャンク幅
+     * @param sequentialThreshold 逐次実行しきい値（この件数未満は呼び出し元スレッドで逐次実行）
+     * @throws InvalidParameterException いずれかが1未満の場合
+     */
+    public ConflictExecutor(int parallelism, int chunkSize, int sequentialThreshold) {
+        this(createPool(parallelism), true, chunkSize, sequentialThreshold);
+    }
+
+    private ConflictExecutor(ForkJoinPool pool, boolean ownsPool, int chunkSize, int sequentialThreshold) {
+        if (chunkSize < 1) {
+            throw new InvalidParameterException("chunkSize", chunkSize, "チャンク幅は1以上で指定してください");
+        }
+        if (sequentialThreshold < 1) {
+            throw new InvalidParameterException("sequentialThreshold", sequentialThreshold,
+                                                "逐次実行しきい値は1以上で指定してください");
+        }
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.chunkSize = chunkSize;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    /**
+     * JVM共通のForkJoinPoolで実行するエグゼキュータを取得
+     * Spring管理外で生成したConflictDetector（テスト等）の既定値として使用する
+     *
+     * @return 共通プールのエグゼキュータ
+     */
+    public static ConflictExecutor commonPool() {
+        return COMMON;
+    }
+
+    private static ForkJoinPool createPool(int parallelism) {
+        if (parallelism < 1) {
+            throw new InvalidParameterException("parallelism", parallelism, "並列度は1以上で指定してください");
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("conflict-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ForkJoinPool(parallelism, factory, null, false);
+    }
+
+    /**
+     * インデックス {@code 0..count-1} の全てに処理を適用
+     * 各インデックスはちょうど1回だけ処理される。処理は異なるインデックスに対して並行に呼ばれ得る
+     *
+     * @param count 処理件数
+     * @param action インデックスごとの処理
+     */
+    public void forEach(int count, IntConsumer action) {
+        if (count <= 0) {
+            return;
+        }
+        if (count < sequentialThreshold || pool.getParallelism() == 1) {
+            sequentialRuns.increment();
+            for (int k = 0; k < count; k++) {
+                action.accept(k);
+            }
+            return;
+        }
+
+        int effectiveChunkSize = Math.max(chunkSize, count / (pool.getParallelism() * CHUNKS_PER_WORKER));
+        invoke(count, effectiveChunkSize, action);
+    }
+
+    /**
+     * 1件あたりの処理が重い場合（候補軌道の評価など）にチャンク幅を指定して処理を適用
+     * ペア単位の逐次実行しきい値・最小チャンク幅は使用せず、件数がチャンク幅以下の場合のみ逐次実行する
+     *
+     * @param count 処理件数
+     * @param chunkSize チャンク幅（1以上）
+     * @param action インデックスごとの処理
+     * @throws InvalidParameterException チャンク幅が1未満の場合
+     */
+    public void forEach(int count, int chunkSize, IntConsumer action) {
+        if (chunkSize < 1) {
+            throw new InvalidParameterException("chunkSize", chunkSize, "チャンク幅は1以上で指定してください");
+        }
+        if (count <= 0) {
+            return;
+        }
+        if (count <= chunkSize || pool.getParallelism() == 1) {
+            sequentialRuns.increment();
+            for (int k = 0; k < count; k++) {
+                action.accept(k);
+            }
+            return;
+        }
+        invoke(count, chunkSize, action);
+    }
+
+    private void invoke(int count, int effectiveChunkSize, IntConsumer action) {
+        parallelRuns.increment();
+        long start = System.nanoTime();
+        pool.invoke(new RangeTask(action, 0, count, effectiveChunkSize));
+        parallelWallNanos.add(System.nanoTime() - start);
+    }
+
+    /**
+     * 利用状況の指標を取得
+     *
+     * @return プールの状態と累積の実行統計
+     */
+    public Metrics metrics() {
+        int parallelism = pool.getParallelism();
+        long wall = parallelWallNanos.sum();
+        long busy = busyNanos.sum();
+        double utilisation = wall > 0 ? Math.min(1.0, (double) busy / ((double) wall * parallelism)) : 0.0;
+
+        return new Metrics(
+            ownsPool,
+            parallelism,
+            pool.getPoolSize(),
+            pool.getActiveThreadCount(),
+            pool.getRunningThreadCount(),
+            pool.getQueuedTaskCount(),
+            pool.getQueuedSubmissionCount(),
+            pool.getStealCount(),
+            chunkSize,
+            sequentialThreshold,
+            parallelRuns.sum(),
+            sequentialRuns.sum(),
+            executedChunks.sum(),
+            utilisation
+        );
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getSequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    /**
+     * 専用プールを停止する（共通プールの場合は何もしない）
+     */
+    @Override
+    public void close() {
+        if (!ownsPool) {
+            return;
+        }
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(5, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * エグゼキュータの利用状況
+     *
+     * @param dedicatedPool 専用プールを使用しているか（falseはJVM共通プール）
+     * @param parallelism 並列度
+     * @param poolSize 開始済みワーカースレッド数
+     * @param activeThreadCount タスクを実行中または奪取中のスレッド数（概算）
+     * @param runningThreadCount ブロックされていない実行中スレッド数（概算）
+     * @param queuedTaskCount ワーカーのキューにあるタスク数（概算）
+     * @param queuedSubmissionCount 外部から投入され未着手のタスク数
+     * @param stealCount ワーク・スティーリングの累積回数（概算）
+     * @param chunkSize 最小チャンク幅
+     * @param sequentialThreshold 逐次実行しきい値
+     * @param parallelRuns 並列実行した回数
+     * @param sequentialRuns しきい値未満で逐次実行した回数
+     * @param executedChunks 並列実行で処理したチャンクの累積数
+     * @param utilisation 並列実行中のワーカー稼働率（チャンク処理時間の合計 / (経過時間 × 並列度)、0〜1）
+     */
+    public record Metrics(
+        boolean dedicatedPool,
+        int parallelism,
+        int poolSize,
+        int activeThreadCount,
+        int runningThreadCount,
+        long queuedTaskCount,
+        int queuedSubmissionCount,
+        long stealCount,
+        int chunkSize,
+        int sequentialThreshold,
+        long parallelRuns,
+        long sequentialRuns,
+        long executedChunks,
+        double utilisation
+    ) {}
+
+    /**
+     * インデックス範囲を二分割しながらチャンク単位で処理するタスク
+     */
+    private final class RangeTask extends RecursiveAction {
+
+        private final IntConsumer action;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        RangeTask(IntConsumer action, int from, int to, int chunk) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                long start = System.nanoTime();
+                for (int k = from; k < to; k++) {
+                    action.accept(k);
+                }
+                busyNanos.add(System.nanoTime() - start);
+                executedChunks.increment();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(action, from, middle, chunk), new RangeTask(action, middle, to, chunk));
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.ConflictEventType;
+
+/**
+ * ペアごとのコンフリクトアラートの状態を追跡し、状態遷移をイベントとして記録する
+ *
+ * アラートレベルの境界（30 / 70）付近で危険度が揺れてもアラートが点滅しないよう、ヒステリシスを設ける。
+ * 格上げは {@link AlertLevel#fromRiskLevel} と同じ境界で行い、格下げは境界からヒステリシス幅だけ下回った時点で行う。
+ * 例えばヒステリシス幅5の場合、RED_CONFLICTは危険度65未満でWHITE_CONFLICTに、WHITE_CONFLICTは25未満で解消となる。
+ *
+ * 1ティックの処理で参照するのは危険度が解消境界以上のエントリとコンフリクト中のペアのみで、
+ * 安全なペアの文字列ペアIDは生成しない。
+ * イベントは直近 {@code retainedEvents} 件を保持し、それより古いティックからの取得は欠落ありとして通知する。
+ */
+public final class ConflictLifecycleTracker {
+
+    /** 既定のヒステリシス幅（危険度） */
+    public static final double DEFAULT_HYSTERESIS = 5.0;
+
+    /** 既定の保持イベント数 */
+    public static final int DEFAULT_RETAINED_EVENTS = 10_000;
+
+    private static final double WHITE_THRESHOLD = 30.0;
+    private static final double RED_THRESHOLD = 70.0;
+
+    private final double hysteresis;
+    private final int retainedEvents;
+
+    // コンフリクト中（WHITE_CONFLICT / RED_CONFLICT）のペア
+    private final Map<String, PairTrack> activePairs = new HashMap<>();
+    private final ArrayDeque<ConflictEvent> events = new ArrayDeque<>();
+    private long currentTick;
+    // 保持数を超えて破棄したイベントの最新ティック
+    private long discardedThroughTick;
+
+    /**
+     * 既定のヒステリシス幅・保持イベント数で作成するコンストラクタ
+     */
+    public ConflictLifecycleTracker() {
+        this(DEFAULT_HYSTERESIS, DEFAULT_RETAINED_EVENTS);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param hysteresis ヒステリシス幅（危険度、0以上30未満）
+     * @param retainedEvents 保持するイベント数（1以上）
+     * @throws InvalidParameterException パラメータが範囲外の場合
+     */
+    public ConflictLifecycleTracker(double hysteresis, int retainedEvents) {
+        if (Double.isNaN(hysteresis) || hysteresis < 0.0 || hysteresis >= WHITE_THRESHOLD) {
+            throw new InvalidParameterException("hysteresis", hysteresis, "ヒステリシス幅は0以上30未満で指定してください");
+        }
+        if (retainedEvents < 1) {
+            throw new InvalidParameterException("retainedEvents", retainedEvents, "保持イベント数は1以上で指定してください");
+        }
+        this.hysteresis = hysteresis;
+        this.retainedEvents = retainedEvents;
+    }
+
+    /**
+     * スナップショットの結果でペアの状態を更新し、状態遷移をイベントとして記録
+     * ティックはスナップショットのバージョンとする
+     *
+     * @param snapshot 公開したスナップショット
+     * @return このティックで記録したイベント
+     */
+    public synchronized List<ConflictEvent> update(ConflictSnapshot snapshot) {
+        long tick = snapshot.version();
+        ConflictResultTable table = snapshot.table();
+        double resolveThreshold = WHITE_THRESHOLD - hysteresis;
+        List<ConflictEvent> tickEvents = new ArrayList<>();
+
+        for (int entry = 0; entry < table.size(); entry++) {
+            double riskLevel = table.riskLevel(entry);
+            if (riskLevel < resolveThreshold) {
+                // 新規にもならず、コンフリクト中のペアなら下の未出現ペアとして解消される
+                continue;
+            }
+            String pairId = table.pairId(entry);
+            PairTrack track = activePairs.get(pairId);
+            AlertLevel previous = track != null ? track.alertLevel : AlertLevel.SAFE;
+            AlertLevel next = nextAlertLevel(previous, riskLevel);
+            if (next == AlertLevel.SAFE) {
+                continue;
+            }
+            if (track == null) {
+                track = new PairTrack(table.callsign(table.firstIndex(entry)), table.callsign(table.secondIndex(entry)));
+                activePairs.put(pairId, track);
+                tickEvents.add(new ConflictEvent(tick, pairId, ConflictEventType.NEW, previous, next, riskLevel));
+            } else if (next != previous) {
+                ConflictEventType type = next.isHigherThan(previous)
+                    ? ConflictEventType.ESCALATED
+                    : ConflictEventType.DE_ESCALATED;
+                tickEvents.add(new ConflictEvent(tick, pairId, type, previous, next, riskLevel));
+            }
+            track.alertLevel = next;
+            track.lastSeenTick = tick;
+        }
+
+        // 今回コンフリクトとして出現しなかったペアは解消
+        Iterator<Map.Entry<String, PairTrack>> iterator = activePairs.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, PairTrack> active = iterator.next();
+            PairTrack track = active.getValue();
+            if (track.lastSeenTick == tick) {
+                continue;
+            }
+            tickEvents.add(new ConflictEvent(tick, active.getKey(), ConflictEventType.RESOLVED, track.alertLevel,
+                                             AlertLevel.SAFE, currentRiskLevel(snapshot, track)));
+            iterator.remove();
+        }
+
+        currentTick = tick;
+        for (ConflictEvent event : tickEvents) {
+            if (events.size() == retainedEvents) {
+                discardedThroughTick = events.removeFirst().tick();
+            }
+            events.addLast(event);
+        }
+        return tickEvents;
+    }
+
+    /**
+     * 指定ティックより後に記録したイベントを取得
+     *
+     * @param sinceTick このティックより後のイベントを返す（0は保持している全イベント）
+     * @return 最新ティックとイベント（ティック順）
+     * @throws InvalidParameterException ティックが負の場合
+     */
+    public synchronized Feed eventsSince(long sinceTick) {
+        if (sinceTick < 0) {
+            throw new InvalidParameterException("sinceTick", sinceTick, "ティックは0以上で指定してください");
+        }
+        ArrayDeque<ConflictEvent> newer = new ArrayDeque<>();
+        Iterator<ConflictEvent> iterator = events.descendingIterator();
+        while (iterator.hasNext()) {
+            ConflictEvent event = iterator.next();
+            if (event.tick() <= sinceTick) {
+                break;
+            }
+            newer.addFirst(event);
+        }
+        return new Feed(currentTick, sinceTick < discardedThroughTick, List.copyOf(newer));
+    }
+
+    /**
+     * コンフリクト中のペア数
+     */
+    public synchronized int activePairCount() {
+        return activePairs.size();
+    }
+
+    public double getHysteresis() {
+        return hysteresis;
+    }
+
+    public int getRetainedEvents() {
+        return retainedEvents;
+    }
+
+    /**
+     * ヒステリシスを考慮して次のアラートレベルを決定
+     */
+    AlertLevel nextAlertLevel(AlertLevel current, double riskLevel) {
+        if (riskLevel >= RED_THRESHOLD) {
+            return AlertLevel.RED_CONFLICT;
+        }
+        if (current == AlertLevel.RED_CONFLICT && riskLevel >= RED_THRESHOLD - hysteresis) {
+            return AlertLevel.RED_CONFLICT;
+        }
+        if (riskLevel >= WHITE_THRESHOLD) {
+            return AlertLevel.WHITE_CONFLICT;
+        }
+        if (current != AlertLevel.SAFE && riskLevel >= WHITE_THRESHOLD - hysteresis) {
+            return AlertLevel.WHITE_CONFLICT;
+        }
+        return AlertLevel.SAFE;
+    }
+
+    private static double currentRiskLevel(ConflictSnapshot snapshot, PairTrack track) {
+        AircraftRiskIndex index = snapshot.aircraftRisk();
+        int first = index.indexOf(track.firstCallsign);
+        int second = index.indexOf(track.secondCallsign);
+        if (first < 0 || second < 0) {
+            return 0.0;
+        }
+        int entry = snapshot.table().find(first, second);
+        return entry >= 0 ? snapshot.table().riskLevel(entry) : 0.0;
+    }
+
+    /**
+     * イベントの取得結果
+     *
+     * @param currentTick 最後に処理したティック（次回の取得時に sinceTick として指定する）
+     * @param truncated 保持数を超えて破棄したイベントが sinceTick より後に含まれていたか
+     *                  （trueの場合、クライアントは全件取得で状態を同期し直す必要がある）
+     * @param events sinceTick より後のイベント（ティック順）
+     */
+    public record Feed(long currentTick, boolean truncated, List<ConflictEvent> events) {}
+
+    /**
+     * コンフリクト中のペア1組の状態
+     */
+    private static final class PairTrack {
+        final String firstCallsign;
+        final String secondCallsign;
+        AlertLevel alertLevel;
+        long lastSeenTick;
+
+        PairTrack(String firstCallsign, String secondCallsign) {
+            this.firstCallsign = firstCallsign;
+            this.secondCallsign = secondCallsign;
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.RiskAssessment;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.utility.StringUtils;
+
+/**
+ * コンフリクト検出1パス分の結果を保持するプリミティブなオープンアドレス法ハッシュテーブル
+ *
+ * 航空機にはパス内で密なintインデックス（検出時の航空機リストの順序）を割り当て、
+ * ペアは {@link #pairKey(int, int)} で1つのlongに符号化する。
+ * 評価結果はエントリ番号順（挿入順）に並列配列へ格納し、スロット配列は線形探索でエントリ番号を引く。
+ *
+ * 文字列のペアID（"ABC123-XYZ789"）や {@link RiskAssessment} は
+ * {@link #pairId(int)} / {@link #assessment(int)} / {@link #toPairIdMap()} で必要になった時点でのみ生成する。
+ *
+ * 統計（アラートレベル別のペア数・管制間隔欠如予測数・危険度の合計と最大）は書き込みのたびに差分で更新し、
+ * 最大危険度のエントリがより低い値で上書きされた場合の最大値の再集計は凍結時に1回だけ行うため、
+ * 凍結後の {@link #statistics()} はエントリを走査せず、テーブルへの書き込みも行わない（複数スレッドから参照してよい）。
+ *
+ * 検出処理が単一スレッドで書き込んだ後は読み取り専用として扱う（書き込み時の同期は行わない）。
+ * {@link ConflictSnapshot} として公開されたテーブルは凍結され、以降の書き込みは拒否される。
+ *
+ * 時間予算付きの検出で今回評価できず前回の結果を持ち越したエントリは古い結果（{@link #isStale(int)}）として区別し、
+ * 持ち越し・除外を含め評価を見送ったペア数を {@link #deferredPairCount()} で保持する。
+ */
+public final class ConflictResultTable {
+
+    private static final int EMPTY_SLOT = -1;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final String[] callsigns;
+
+    // スロット配列（エントリ番号、空は EMPTY_SLOT）
+    private int[] slots;
+    private int slotMask;
+
+    // エントリ配列（挿入順）
+    private long[] keys;
+    private double[] riskLevels;
+    private double[] timeToClosest;
+    private double[] horizontalDistances;
+    private double[] verticalDistances;
+    private boolean[] conflictPredicted;
+    private boolean[] stale;
+    private int size;
+
+    // 書き込みのたびに差分で更新する統計（AlertLevelの序数ごとのペア数など）
+    private final long[] alertLevelCounts = new long[AlertLevel.values().length];
+    private long separationViolationCount;
+    private double riskLevelSum;
+    private double maxRiskLevel;
+    // 最大危険度のエントリがより低い値で上書きされた場合は凍結時に再集計する
+    private boolean maxRiskLevelStale;
+    private int staleCount;
+
+    // 時間予算内に評価できなかった候補ペア数（前回の結果を持ち越したペアを含む）
+    private int deferredPairCount;
+
+    // 凍結済み（公開後）は書き込み不可
+    private boolean frozen;
+
+    /**
+     * コンストラクタ
+     *
+     * @param callsigns インデックス順のコールサイン（このテーブルが参照を保持する）
+     * @param expectedSize 想定エントリ数
+     * @throws InvalidParameterException コールサイン配列がnullの場合
+     */
+    public ConflictResultTable(String[] callsigns, int expectedSize) {
+        if (callsigns == null) {
+            throw new InvalidParameterException("callsigns", null, "コールサイン配列がnullです");
+        }
+        this.callsigns = callsigns;
+
+        int entryCapacity = Math.max(4, expectedSize);
+        this.keys = new long[entryCapacity];
+        this.riskLevels = new double[entryCapacity];
+        this.timeToClosest = new double[entryCapacity];
+        this.horizontalDistances = new double[entryCapacity];
+        this.verticalDistances = new double[entryCapacity];
+        this.conflictPredicted = new boolean[entryCapacity];
+        this.stale = new boolean[entryCapacity];
+        allocateSlots(entryCapacity);
+    }
+
+    /**
+     * 2機のインデックスからペアキーを生成（順序に依存しない）
+     *
+     * @param index1 航空機インデックス
+     * @param index2 航空機インデックス
+     * @return 上位32ビットに小さい方、下位32ビットに大きい方のインデックスを持つキー
+     */
+    public static long pairKey(int index1, int index2) {
+        return index1 < index2
+            ? ((long) index1 << 32) | index2
+            : ((long) index2 << 32) | index1;
+    }
+
+    /**
+     * 航空機数（インデックスの範囲）を取得
+     */
+    public int aircraftCount() {
+        return callsigns.length;
+    }
+
+    /**
+     * インデックスに対応するコールサインを取得
+     */
+    public String callsign(int aircraftIndex) {
+        return callsigns[aircraftIndex];
+    }
+
+    /**
+     * エントリ数を取得
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 最大危険度を確定してから、以降の書き込みを禁止する
+     */
+    void freeze() {
+        if (maxRiskLevelStale) {
+            maxRiskLevel = scanMaxRiskLevel();
+            maxRiskLevelStale = false;
+        }
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * リスク評価結果を追加（同じペアが既にある場合は上書き）
+     *
+     * @param index1 航空機インデックス
+     * @param index2 航空機インデックス
+     * @param assessment リスク評価結果
+     * @throws InvalidParameterException インデックスが範囲外または同一の場合
+     */
+    public void put(int index1, int index2, RiskAssessment assessment) {
+        put(index1, index2, assessment.getRiskLevel(), assessment.getTimeToClosest(),
+            assessment.getClosestHorizontalDistance(), assessment.getClosestVerticalDistance(),
+            assessment.isConflictPredicted());
+    }
+
+    /**
+     * プリミティブ値でリスク評価結果を追加（同じペアが既にある場合は上書き）
+     * 値の妥当性は呼び出し側（検出処理）が保証する
+     */
+    void put(int index1, int index2, double riskLevel, double timeToClosestValue,
+             double horizontalDistance, double verticalDistance, boolean predicted) {
+        put(index1, index2, riskLevel, timeToClosestValue, horizontalDistance, verticalDistance, predicted, false);
+    }
+
+    /**
+     * 前回の評価結果を持ち越したかどうかを指定して追加（同じペアが既にある場合は上書き）
+     */
+    void put(int index1, int index2, double riskLevel, double timeToClosestValue,
+             double horizontalDistance, double verticalDistance, boolean predicted, boolean staleValue) {
+        if (frozen) {
+            throw new IllegalStateException("凍結済みの結果テーブルには書き込めません");
+        }
+        validateIndices(index1, index2);
+        long key = pairKey(index1, index2);
+
+        int slot = findSlot(key);
+        int entry = slots[slot];
+        if (entry != EMPTY_SLOT) {
+            removeFromStatistics(entry);
+        } else {
+            if (size == keys.length) {
+                growEntries();
+            }
+            entry = size++;
+            keys[entry] = key;
+            slots[slot] = entry;
+            if (size > slots.length * LOAD_FACTOR) {
+                allocateSlots(slots.length);
+                rehash();
+            }
+        }
+
+        riskLevels[entry] = riskLevel;
+        timeToClosest[entry] = timeToClosestValue;
+        horizontalDistances[entry] = horizontalDistance;
+        verticalDistances[entry] = verticalDistance;
+        conflictPredicted[entry] = predicted;
+        stale[entry] = staleValue;
+        addToStatistics(entry);
+    }
+
+    /**
+     * 書き込み時に更新した統計を取得
+     * 凍結後はエントリを走査しない。凍結前に最大危険度のエントリが上書きされている場合のみ、
+     * 最大危険度を求めるためにエントリを走査する（いずれの場合もテーブルへの書き込みは行わない）
+     *
+     * @return 現時点のエントリの統計
+     */
+    public ConflictSnapshot.Statistics statistics() {
+        double maxRiskLevel = maxRiskLevelStale ? scanMaxRiskLevel() : this.maxRiskLevel;
+        return new ConflictSnapshot.Statistics(
+            size,
+            alertLevelCounts[AlertLevel.SAFE.ordinal()],
+            alertLevelCounts[AlertLevel.WHITE_CONFLICT.ordinal()],
+            alertLevelCounts[AlertLevel.RED_CONFLICT.ordinal()],
+            separationViolationCount,
+            maxRiskLevel,
+            size > 0 ? riskLevelSum / size : 0.0
+        );
+    }
+
+    /**
+     * ペアのエントリ番号を検索
+     *
+     * @param index1 航空機インデックス
+     * @param index2 航空機インデックス
+     * @return エントリ番号（存在しない場合は-1）
+     */
+    public int find(int index1, int index2) {
+        if (index1 == index2) {
+            return -1;
+        }
+        return slots[findSlot(pairKey(index1, index2))];
+    }
+
+    /**
+     * ペアのリスク評価結果を取得
+     *
+     * @return リスク評価結果（存在しない場合はnull）
+     */
+    public RiskAssessment get(int index1, int index2) {
+        int entry = find(index1, index2);
+        return entry < 0 ? null : assessment(entry);
+    }
+
+    // エントリ番号によるアクセサ（0 <= entry < size()）
+
+    public int firstIndex(int entry) {
+        return (int) (keys[entry] >>> 32);
+    }
+
+    public int secondIndex(int entry) {
+        return (int) keys[entry];
+    }
+
+    public double riskLevel(int entry) {
+        return riskLevels[entry];
+    }
+
+    public double timeToClosest(int entry) {
+        return timeToClosest[entry];
+    }
+
+    public double closestHorizontalDistance(int entry) {
+        return horizontalDistances[entry];
+    }
+
+    public double closestVerticalDistance(int entry) {
+        return verticalDistances[entry];
+    }
+
+    public boolean isConflictPredicted(int entry) {
+        return conflictPredicted[entry];
+    }
+
+    /**
+     * 時間予算内に評価できず、前回の評価結果を持ち越したエントリかどうか
+     */
+    public boolean isStale(int entry) {
+        return stale[entry];
+    }
+
+    /**
+     * 前回の評価結果を持ち越したエントリ数を取得
+     */
+    public int staleCount() {
+        return staleCount;
+    }
+
+    /**
+     * 時間予算内に評価できなかった候補ペア数を取得（予算なしの検出では常に0）
+     */
+    public int deferredPairCount() {
+        return deferredPairCount;
+    }
+
+    void setDeferredPairCount(int count) {
+        if (frozen) {
+            throw new IllegalStateException("凍結済みの結果テーブルには書き込めません");
+        }
+        deferredPairCount = count;
+    }
+
+    public AlertLevel alertLevel(int entry) {
+        return AlertLevel.fromRiskLevel(riskLevels[entry]);
+    }
+
+    /**
+     * エントリの文字列ペアIDを生成（{@link StringUtils#generatePairId} と同じ形式）
+     */
+    public String pairId(int entry) {
+        return StringUtils.generatePairId(callsigns[firstIndex(entry)], callsigns[secondIndex(entry)]);
+    }
+
+    /**
+     * エントリからリスク評価値オブジェクトを生成
+     */
+    public RiskAssessment assessment(int entry) {
+        return new RiskAssessment(riskLevels[entry], timeToClosest[entry], horizontalDistances[entry],
+                                  verticalDistances[entry], conflictPredicted[entry]);
+    }
+
+    /**
+     * 文字列ペアIDをキーとするマップに変換
+     * 同じコールサインの航空機が複数ある場合は後のエントリが優先される
+     *
+     * @return 航空機ペアIDをキーとするリスク評価マップ
+     */
+    public Map<String, RiskAssessment> toPairIdMap() {
+        Map<String, RiskAssessment> map = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+        for (int entry = 0; entry < size; entry++) {
+            map.put(pairId(entry), assessment(entry));
+        }
+        return map;
+    }
+
+    private double scanMaxRiskLevel() {
+        double max = 0.0;
+        for (int entry = 0; entry < size; entry++) {
+            max = Math.max(max, riskLevels[entry]);
+        }
+        return max;
+    }
+
+    private void addToStatistics(int entry) {
+        double riskLevel = riskLevels[entry];
+        alertLevelCounts[alertLevel(entry).ordinal()]++;
+        if (conflictPredicted[entry]) {
+            separationViolationCount++;
+        }
+        riskLevelSum += riskLevel;
+        if (stale[entry]) {
+            staleCount++;
+        }
+        if (!maxRiskLevelStale) {
+            maxRiskLevel = Math.max(maxRiskLevel, riskLevel);
+        }
+    }
+
+    private void removeFromStatistics(int entry) {
+        double riskLevel = riskLevels[entry];
+        alertLevelCounts[alertLevel(entry).ordinal()]--;
+        if (conflictPredicted[entry]) {
+            separationViolationCount--;
+        }
+        riskLevelSum -= riskLevel;
+        if (stale[entry]) {
+            staleCount--;
+        }
+        if (riskLevel >= maxRiskLevel) {
+            maxRiskLevelStale = true;
+        }
+    }
+
+    private int findSlot(long key) {
+        int slot = mix(key) & slotMask;
+        while (slots[slot] != EMPTY_SLOT && keys[slots[slot]] != key) {
+            slot = (slot + 1) & slotMask;
+        }
+        return slot;
+    }
+
+    private void validateIndices(int index1, int index2) {
+        if (index1 < 0 || index1 >= callsigns.length) {
+            throw new InvalidParameterException("index1", index1, "航空機インデックスが範囲外です");
+        }
+        if (index2 < 0 || index2 >= callsigns.length) {
+            throw new InvalidParameterException("index2", index2, "航空機インデックスが範囲外です");
+        }
+        if (index1 == index2) {
+            throw new InvalidParameterException("index2", index2, "同一航空機のペアは登録できません");
+        }
+    }
+
+    /**
+     * 少なくとも entryCapacity / LOAD_FACTOR 個の2のべき乗サイズでスロット配列を確保
+     */
+    private void allocateSlots(int entryCapacity) {
+        int capacity = Integer.highestOneBit((int) Math.ceil(entryCapacity / LOAD_FACTOR) - 1) << 1;
+        slots = new int[Math.max(8, capacity)];
+        Arrays.fill(slots, EMPTY_SLOT);
+        slotMask = slots.length - 1;
+    }
+
+    private void rehash() {
+        for (int entry = 0; entry < size; entry++) {
+            slots[findSlot(keys[entry])] = entry;
+        }
+    }
+
+    private void growEntries() {
+        int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        riskLevels = Arrays.copyOf(riskLevels, capacity);
+        timeToClosest = Arrays.copyOf(timeToClosest, capacity);
+        horizontalDistances = Arrays.copyOf(horizontalDistances, capacity);
+        verticalDistances = Arrays.copyOf(verticalDistances, capacity);
+        conflictPredicted = Arrays.copyOf(conflictPredicted, capacity);
+        stale = Arrays.copyOf(stale, capacity);
+    }
+
+    /**
+     * ペアキーのビット混合（連続するインデックスをスロット全体に分散させる）
+     */
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,258 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.MAX_PREDICTION_TIME;
+
+import java.util.List;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.ConflictHorizon;
+
+/**
+ * 1ティック分のコンフリクト検出結果の不変スナップショット
+ *
+ * シミュレーションのティックごとに1回だけ検出を行い、ペアごとの結果・航空機ごとの危険度の索引・統計をまとめて公開する。
+ * 読み取り系のAPIは全て最新のスナップショットを参照し、リクエストごとに検出を再実行しない。
+ * 保持する結果テーブルは凍結済みで、公開後に変更されることはない。
+ *
+ * 短期コンフリクト警報（STCA、{@link ConflictHorizon#SHORT_TERM}）の結果テーブルと、
+ * 複数ティックに分散して評価する中期予測（{@link ConflictHorizon#MEDIUM_TERM}）の結果を同じスナップショットで公開し、
+ * それぞれの予測時間を {@link #horizonSeconds} で参照できる。
+ */
+public final class ConflictSnapshot {
+
+    /**
+     * 検出を一度も行っていない状態を表す空のスナップショット（バージョン0）
+     */
+    public static final ConflictSnapshot EMPTY = of(0L, 0L, new ConflictResultTable(new String[0], 0));
+
+    private final long version;
+    private final long computedAtMillis;
+    private final ConflictResultTable table;
+    private final AircraftRiskIndex aircraftRisk;
+    private final Statistics statistics;
+
+    // AlertLevelの序数ごとのエントリ番号リストと、管制間隔欠如が予測されるエントリ番号リスト
+    private final int[][] entriesByAlertLevel;
+    private final int[] violationEntries;
+
+    // 短期・中期の予測時間（秒、中期予測を行わない場合は0）と中期予測の結果（最接近時刻の早い順）
+    private final double shortTermHorizon;
+    private final double mediumTermHorizon;
+    private final List<MediumTermConflict> mediumTermConflicts;
+
+    private ConflictSnapshot(long version, long computedAtMillis, ConflictResultTable table,
+                             AircraftRiskIndex aircraftRisk, Statistics statistics,
+                             int[][] entriesByAlertLevel, int[] violationEntries,
+                             double shortTermHorizon, double mediumTermHorizon,
+                             List<MediumTermConflict> mediumTermConflicts) {
+        this.version = version;
+        this.computedAtMillis = computedAtMillis;
+        this.table = table;
+        this.aircraftRisk = aircraftRisk;
+        this.statistics = statistics;
+        this.entriesByAlertLevel = entriesByAlertLevel;
+        this.violationEntries = violationEntries;
+        this.shortTermHorizon = shortTermHorizon;
+        this.mediumTermHorizon = mediumTermHorizon;
+        this.mediumTermConflicts = mediumTermConflicts;
+    }
+
+    /**
+     * 結果テーブルからスナップショットを作成（テーブルは凍結される）
+     *
+     * @param version スナップショットのバージョン（公開ごとに単調増加）
+     * @param computedAtMillis 検出を行った時刻（エポックミリ秒）
+     * @param table 検出結果テーブル
+     * @return スナップショット
+     * @throws InvalidParameterException テーブルがnullの場合
+     */
+    public static ConflictSnapshot of(long version, long computedAtMillis, ConflictResultTable table) {
+        return of(version, computedAtMillis, table, MAX_PREDICTION_TIME, 0.0, List.of());
+    }
+
+    /**
+     * 短期検出の結果テーブルと中期予測の結果からスナップショットを作成（テーブルは凍結される）
+     *
+     * @param version スナップショットのバージョン（公開ごとに単調増加）
+     * @param computedAtMillis 検出を行った時刻（エポックミリ秒）
+     * @param table 短期検出の結果テーブル
+     * @param shortTermHorizon 短期検出の予測時間（秒）
+     * @param mediumTermHorizon 中期予測の予測時間（秒、中期予測を行わない場合は0）
+     * @param mediumTermConflicts 中期予測で管制間隔欠如が予測されたペア（最接近時刻の早い順）
+     * @return スナップショット
+     * @throws InvalidParameterException テーブル・中期予測の結果がnullの場合
+     */
+    public static ConflictSnapshot of(long version, long computedAtMillis, ConflictResultTable table,
+                                      double shortTermHorizon, double mediumTermHorizon,
+                                      List<MediumTermConflict> mediumTermConflicts) {
+        if (mediumTermConflicts == null) {
+            throw new InvalidParameterException("mediumTermConflicts", null, "中期予測の結果がnullです");
+        }
+        if (table == null) {
+            throw new InvalidParameterException("table", null, "結果テーブルがnullです");
+        }
+        table.freeze();
+
+        // 統計は結果テーブルへの書き込み時に更新済み
+        Statistics statistics = table.statistics();
+
+        // 統計の件数からアラートレベル別・管制間隔欠如予測のエントリ番号リストを作成
+        int[] safeEntries = new int[(int) statistics.safeCount()];
+        int[] whiteConflictEntries = new int[(int) statistics.whiteConflictCount()];
+        int[] redConflictEntries = new int[(int) statistics.redConflictCount()];
+        int[] violationEntries = new int[(int) statistics.separationViolationCount()];
+        int safeCursor = 0;
+        int whiteCursor = 0;
+        int redCursor = 0;
+        int violationCursor = 0;
+        for (int entry = 0; entry < table.size(); entry++) {
+            switch (table.alertLevel(entry)) {
+                case SAFE -> safeEntries[safeCursor++] = entry;
+                case WHITE_CONFLICT -> whiteConflictEntries[whiteCursor++] = entry;
+                case RED_CONFLICT -> redConflictEntries[redCursor++] = entry;
+            }
+            if (table.isConflictPredicted(entry)) {
+                violationEntries[violationCursor++] = entry;
+            }
+        }
+
+        return new ConflictSnapshot(version, computedAtMillis, table, AircraftRiskIndex.of(table), statistics,
+                                    new int[][] {safeEntries, whiteConflictEntries, redConflictEntries},
+                                    violationEntries, shortTermHorizon, mediumTermHorizon,
+                                    List.copyOf(mediumTermConflicts));
+    }
+
+    /**
+     * スナップショットのバージョン（ティックごとに単調増加、未検出は0）
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 検出を行った時刻（エポックミリ秒）
+     */
+    public long computedAtMillis() {
+        return computedAtMillis;
+    }
+
+    /**
+     * 予測時間の区分ごとの予測時間を取得
+     *
+     * @param horizon 予測時間の区分
+     * @return 予測時間（秒、中期予測を行っていない場合の {@link ConflictHorizon#MEDIUM_TERM} は0）
+     */
+    public double horizonSeconds(ConflictHorizon horizon) {
+        if (horizon == null) {
+            throw new InvalidParameterException("horizon", null, "予測時間の区分がnullです");
+        }
+        return horizon == ConflictHorizon.SHORT_TERM ? shortTermHorizon : mediumTermHorizon;
+    }
+
+    /**
+     * 中期予測で管制間隔欠如が予測されたペア（最接近時刻の早い順、不変）
+     * 各ペアは評価したティックの値を保持し、最大で中期予測の1周期分古い
+     */
+    public List<MediumTermConflict> mediumTermConflicts() {
+        return mediumTermConflicts;
+    }
+
+    /**
+     * ペアごとの検出結果（凍結済み）
+     */
+    public ConflictResultTable table() {
+        return table;
+    }
+
+    /**
+     * 検出結果の統計
+     */
+    public Statistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * 航空機ごとの危険度の索引（最大危険度・最も危険な相手機・アラートレベル別の相手機数）
+     */
+    public AircraftRiskIndex aircraftRisk() {
+        return aircraftRisk;
+    }
+
+    /**
+     * 指定航空機が関わるペアの最大危険度を取得
+     *
+     * @param callsign 航空機コールサイン
+     * @return 最大危険度（コンフリクトがない、または検出対象外の航空機は0）
+     */
+    public double maxRisk(String callsign) {
+        int index = aircraftRisk.indexOf(callsign);
+        return index >= 0 ? aircraftRisk.maxRisk(index) : 0.0;
+    }
+
+    /**
+     * 指定アラートレベルのペアを最接近時刻の早い順に最大 {@code limit} 件取得
+     * 該当レベルのエントリのみを走査し、上限件数のヒープで選択するためO(n log limit)で済む
+     *
+     * @param alertLevel アラートレベル
+     * @param limit 最大件数（1以上）
+     * @param minTimeToClosest 最接近時刻の下限（秒、この値を含む）
+     * @param maxTimeToClosest 最接近時刻の上限（秒、この値を含む）
+     * @return 最接近時刻の早い順に並んだ結果テーブルのエントリ番号
+     * @throws InvalidParameterException 件数が1未満、または下限が上限を超える場合
+     */
+    public int[] mostUrgentEntries(AlertLevel alertLevel, int limit,
+                                   double minTimeToClosest, double maxTimeToClosest) {
+        if (alertLevel == null) {
+            throw new InvalidParameterException("alertLevel", null, "アラートレベルがnullです");
+        }
+        validateRange(limit, minTimeToClosest, maxTimeToClosest);
+        return MostUrgentSelector.select(table, entriesByAlertLevel[alertLevel.ordinal()], limit,
+                                         minTimeToClosest, maxTimeToClosest);
+    }
+
+    /**
+     * 管制間隔欠如が予測されるペアを最接近時刻の早い順に最大 {@code limit} 件取得
+     *
+     * @param limit 最大件数（1以上）
+     * @param minTimeToClosest 最接近時刻の下限（秒、この値を含む）
+     * @param maxTimeToClosest 最接近時刻の上限（秒、この値を含む）
+     * @return 最接近時刻の早い順に並んだ結果テーブルのエントリ番号
+     * @throws InvalidParameterException 件数が1未満、または下限が上限を超える場合
+     */
+    public int[] mostUrgentViolations(int limit, double minTimeToClosest, double maxTimeToClosest) {
+        validateRange(limit, minTimeToClosest, maxTimeToClosest);
+        return MostUrgentSelector.select(table, violationEntries, limit, minTimeToClosest, maxTimeToClosest);
+    }
+
+    private static void validateRange(int limit, double minTimeToClosest, double maxTimeToClosest) {
+        if (limit < 1) {
+            throw new InvalidParameterException("limit", limit, "件数は1以上で指定してください");
+        }
+        if (Double.isNaN(minTimeToClosest) || Double.isNaN(maxTimeToClosest) || minTimeToClosest > maxTimeToClosest) {
+            throw new InvalidParameterException("minTimeToClosest", minTimeToClosest,
+                                                "最接近時刻の下限は上限(" + maxTimeToClosest + ")以下で指定してください");
+        }
+    }
+
+    /**
+     * 検出結果の統計
+     *
+     * @param totalConflicts 危険度が0を超えるペア数
+     * @param safeCount SAFEのペア数
+     * @param whiteConflictCount WHITE_CONFLICTのペア数
+     * @param redConflictCount RED_CONFLICTのペア数
+     * @param separationViolationCount 管制間隔欠如が予測されるペア数
+     * @param maxRiskLevel 最大危険度
+     * @param avgRiskLevel 平均危険度
+     */
+    public record Statistics(
+        long totalConflicts,
+        long safeCount,
+        long whiteConflictCount,
+        long redConflictCount,
+        long separationViolationCount,
+        double maxRiskLevel,
+        double avgRiskLevel
+    ) {}
+}
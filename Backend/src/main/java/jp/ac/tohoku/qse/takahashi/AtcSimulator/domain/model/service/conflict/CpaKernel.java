@@ -0,0 +1,24 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+/**
+ * 全ペア評価時のCPA計算カーネルの方式
+ */
+public enum CpaKernel {
+    /**
+     * 航空機オブジェクトから値オブジェクトを都度取り出して計算する参照実装
+     * ペアごとに中間配列・結果オブジェクトを生成する
+     */
+    OBJECT,
+
+    /**
+     * 1パスにつき1回だけ全航空機をプリミティブ配列へスナップショットし、配列上で計算する
+     * オブジェクト生成は危険度が0を超えたペアの結果のみ
+     */
+    STRUCTURE_OF_ARRAYS,
+
+    /**
+     * SoAスナップショット上で、1機に対しレーン幅分の相手機をJava Vector APIでまとめて評価する
+     * jdk.incubator.vector モジュールが有効でない場合は {@link #STRUCTURE_OF_ARRAYS} にフォールバックする
+     */
+    VECTOR
+}
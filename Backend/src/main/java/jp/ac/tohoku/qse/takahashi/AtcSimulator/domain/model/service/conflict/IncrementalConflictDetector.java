@@ -0,0 +1,507 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.*;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftVector;
+
+/**
+ * ティック間でペアごとのCPA状態を再利用するインクリメンタルなコンフリクト検出
+ *
+ * 航空機インスタンス（同一性）ごとに基準ベクトルを保持し、
+ * 針路・速度・垂直速度が {@code CommercialAircraft#isSignificantVectorChange} と同じしきい値
+ * （{@link jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants#HEADING_UPDATE_THRESHOLD} 等）を
+ * 超えて変化した航空機を含むペアのみCPAを再計算する。
+ *
+ * 変化のないペアは相対速度が一定とみなせるため、前回評価時からの相対変位を相対速度方向に射影して
+ * 経過時間を求め、最接近時刻を解析的に繰り上げる（最接近距離は前回値を保持）。
+ * 相対速度と直交する方向のずれが許容値を超えた場合（位置の更新モデルとの差や位置の再設定）は再計算する。
+ *
+ * 時間予算を指定した場合は、候補ペアを簡易な緊急度（現在の水平距離 ÷ 接近率）の高い順に評価し、
+ * 予算を使い切った時点で残りのペアの評価を次のティックに見送る。見送ったペアは前回の評価結果を古い結果として持ち越し、
+ * 見送りが続くほど緊急度を繰り上げるため、離隔中のペアもいずれ評価される。
+ *
+ * {@link #calculateConflictRisk} など2機間の計算はステートレスな親クラスの実装をそのまま使用する。
+ */
+public class IncrementalConflictDetector extends ConflictDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncrementalConflictDetector.class);
+
+    // 再計算を行う相対位置のずれの許容値（水平:メートル = 0.1海里、垂直:フィート）
+    private static final double HORIZONTAL_DRIFT_TOLERANCE = 0.1 * NAUTICAL_MILES_TO_KM * 1000.0;
+    private static final double VERTICAL_DRIFT_TOLERANCE = 100.0;
+
+    // 時間予算付きの評価で締め切りを確認する間隔（候補ペア数）
+    private static final int BUDGET_BATCH_SIZE = 1024;
+
+    // 管制間隔（水平:メートル）。既に管制間隔内にあるペアは緊急度を最大とする
+    private static final double MINIMUM_HORIZONTAL_SEPARATION_METERS =
+        MINIMUM_HORIZONTAL_SEPARATION * NAUTICAL_MILES_TO_KM * 1000.0;
+
+    // まだ評価していないペア状態のバージョン（航空機のバージョンは0から始まるため必ず再計算される）
+    private static final long UNEVALUATED = -1L;
+
+    private final Map<Aircraft, AircraftTrack> tracks = new IdentityHashMap<>();
+    private final Map<Long, PairState> pairStates = new ConcurrentHashMap<>();
+    private int nextTrackId;
+    private long passCount;
+    private final long timeBudgetNanos;
+    private volatile PassStatistics lastPassStatistics = new PassStatistics(0, 0, 0, 0, 0, 0, 0);
+
+    /**
+     * 既定の設定（{@link ConflictDetectorSettings#DEFAULT}：空間グリッドによるブロードフェーズ・時間予算なし）を使用するコンストラクタ
+     */
+    public IncrementalConflictDetector() {
+        this(ConflictDetectorSettings.DEFAULT);
+    }
+
+    /**
+     * 設定を指定するコンストラクタ
+     * ペア計算は常にSoAスナップショット上で行うため、設定のCPA計算カーネルは使用しない
+     *
+     * @param settings 検出器の設定（時間予算を含む）
+     * @throws InvalidParameterException 設定がnullの場合
+     */
+    public IncrementalConflictDetector(ConflictDetectorSettings settings) {
+        // nullは親クラスのコンストラクタで拒否する
+        super(settings == null ? null : settings.withCpaKernel(CpaKernel.STRUCTURE_OF_ARRAYS));
+        this.timeBudgetNanos = (long) (settings.timeBudgetMillis() * 1_000_000.0);
+    }
+
+    /**
+     * 全航空機ペアの危険度を計算（前回パスのペア状態を再利用）
+     * 航空機の同一性はスナップショットが保持する航空機オブジェクトで判定する
+     *
+     * @param snapshot 航空機状態のスナップショット
+     * @return 危険度が0を超えるペアの結果テーブル
+     */
+    @Override
+    public synchronized ConflictResultTable calculateConflictTable(AircraftStateSnapshot snapshot) {
+        long startNanos = System.nanoTime();
+        validateSnapshot(snapshot);
+        passCount++;
+
+        AircraftTrack[] snapshotTracks = updateTracks(snapshot);
+
+        if (snapshot.size < 2) {
+            pairStates.clear();
+            lastPassStatistics = new PassStatistics(snapshot.size, countManoeuvring(snapshotTracks), 0, 0, 0, 0, 0);
+            return new ConflictResultTable(snapshot.callsigns, 0);
+        }
+
+        PairEvaluations evaluations = new PairEvaluations(preFilterSnapshotPairs(snapshot));
+        AtomicInteger recomputed = new AtomicInteger();
+
+        int deferred = 0;
+        if (timeBudgetNanos > 0) {
+            deferred = evaluateWithinBudget(snapshot, snapshotTracks, evaluations, recomputed,
+                                            startNanos + timeBudgetNanos);
+        } else {
+            getExecutor().forEach(evaluations.size(), k -> {
+                if (evaluatePair(snapshot, snapshotTracks, evaluations, k)) {
+                    recomputed.incrementAndGet();
+                }
+            });
+        }
+
+        // 今回のパスで候補にならなかったペアの状態を破棄
+        long currentPass = passCount;
+        pairStates.values().removeIf(state -> state.lastSeenPass != currentPass);
+
+        lastPassStatistics = new PassStatistics(
+            snapshot.size,
+            countManoeuvring(snapshotTracks),
+            evaluations.size(),
+            recomputed.get(),
+            evaluations.size() - deferred - recomputed.get(),
+            deferred,
+            countStale(evaluations)
+        );
+        logger.debug("インクリメンタルコンフリクト計算: {}", lastPassStatistics);
+
+        ConflictResultTable table = toResultTable(snapshot.callsigns, evaluations);
+        table.setDeferredPairCount(deferred);
+        return table;
+    }
+
+    /**
+     * 1パスあたりの時間予算を取得
+     *
+     * @return 時間予算（ミリ秒、{@link ConflictDetectorSettings#UNLIMITED_TIME_BUDGET} は予算なし）
+     */
+    public double getTimeBudgetMillis() {
+        return timeBudgetNanos / 1_000_000.0;
+    }
+
+    /**
+     * 直近のパスの統計を取得
+     *
+     * @return 再計算・繰り上げたペア数などの統計
+     */
+    public PassStatistics getLastPassStatistics() {
+        return lastPassStatistics;
+    }
+
+    /**
+     * 保持している航空機・ペアの状態を全て破棄
+     */
+    public synchronized void reset() {
+        tracks.clear();
+        pairStates.clear();
+        lastPassStatistics = new PassStatistics(0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * 航空機ごとの追跡状態を更新し、スナップショットのインデックス順に返す
+     * 有意なベクトル変化があった航空機はバージョンを進める
+     */
+    private AircraftTrack[] updateTracks(AircraftStateSnapshot snapshot) {
+        AircraftTrack[] snapshotTracks = new AircraftTrack[snapshot.size];
+        for (int i = 0; i < snapshot.size; i++) {
+            Aircraft aircraft = snapshot.aircraft[i];
+            AircraftVector vector = snapshot.vectors[i];
+            AircraftTrack track = tracks.get(aircraft);
+            if (track == null) {
+                track = new AircraftTrack(nextTrackId++, vector);
+                tracks.put(aircraft, track);
+            } else {
+                track.manoeuvring = track.isSignificantChange(vector);
+                if (track.manoeuvring) {
+                    track.referenceVector = vector;
+                    track.version++;
+                }
+            }
+            track.lastSeenPass = passCount;
+            snapshotTracks[i] = track;
+        }
+
+        // 今回のリストに含まれない航空機の状態を破棄
+        long currentPass = passCount;
+        tracks.values().removeIf(track -> track.lastSeenPass != currentPass);
+
+        return snapshotTracks;
+    }
+
+    /**
+     * 候補ペアを緊急度の高い順に締め切りまで評価し、残りのペアは前回の評価結果を持ち越す
+     * 締め切りは {@link #BUDGET_BATCH_SIZE} ペアごとに確認し、最初のバッチは締め切りを過ぎていても評価する
+     *
+     * @param deadlineNanos 締め切り（{@link System#nanoTime()} 基準）
+     * @return 評価を見送ったペア数
+     */
+    private int evaluateWithinBudget(AircraftStateSnapshot snapshot, AircraftTrack[] snapshotTracks,
+                                     PairEvaluations evaluations, AtomicInteger recomputed, long deadlineNanos) {
+        int pairCount = evaluations.size();
+
+        // 上位32ビットに緊急度（非負のfloatのビット列は値の順に並ぶ）、下位32ビットに候補ペアの位置
+        long[] order = new long[pairCount];
+        getExecutor().forEach(pairCount, k -> {
+            float urgency = (float) urgency(snapshot, snapshotTracks, evaluations, k);
+            order[k] = ((long) Float.floatToIntBits(urgency) << 32) | k;
+        });
+        Arrays.sort(order);
+
+        int evaluatedCount = 0;
+        while (evaluatedCount < pairCount && (evaluatedCount == 0 || System.nanoTime() < deadlineNanos)) {
+            int from = evaluatedCount;
+            int batchSize = Math.min(BUDGET_BATCH_SIZE, pairCount - from);
+            getExecutor().forEach(batchSize, b -> {
+                if (evaluatePair(snapshot, snapshotTracks, evaluations, (int) order[from + b])) {
+                    recomputed.incrementAndGet();
+                }
+            });
+            evaluatedCount += batchSize;
+        }
+
+        for (int position = evaluatedCount; position < pairCount; position++) {
+            deferPair(snapshotTracks, evaluations, (int) order[position]);
+        }
+        return pairCount - evaluatedCount;
+    }
+
+    /**
+     * 候補ペア {@code k} の緊急度（秒、小さいほど緊急）
+     *
+     * 現在の水平距離を接近率で割った到達時間を予測時間の2倍で打ち切り、離隔中のペアは打ち切り値とする。
+     * 既に管制間隔内にあるペアは0。評価を見送ったパスごとに予測時間の1/8ずつ繰り上げる。
+     */
+    private double urgency(AircraftStateSnapshot snapshot, AircraftTrack[] snapshotTracks,
+                           PairEvaluations evaluations, int k) {
+        int i = evaluations.firstIndex(k);
+        int j = evaluations.secondIndex(k);
+        double rx = (snapshot.x[j] - snapshot.x[i]) * snapshot.cosAverageLatitude(i, j);
+        double ry = snapshot.y[j] - snapshot.y[i];
+        double rz = snapshot.altitude[j] - snapshot.altitude[i];
+        double distance = Math.sqrt(rx * rx + ry * ry);
+
+        double ceiling = 2.0 * getPredictionHorizon();
+        double timeToGo = ceiling;
+        if (distance < MINIMUM_HORIZONTAL_SEPARATION_METERS && Math.abs(rz) < MINIMUM_VERTICAL_SEPARATION) {
+            timeToGo = 0.0;
+        } else if (distance > EPSILON) {
+            double closureRate = -(rx * (snapshot.vx[j] - snapshot.vx[i]) + ry * (snapshot.vy[j] - snapshot.vy[i]))
+                / distance;
+            if (closureRate > EPSILON) {
+                timeToGo = Math.min(ceiling, distance / closureRate);
+            }
+        }
+
+        PairState state = pairStates.get(pairStateKey(snapshotTracks[i], snapshotTracks[j]));
+        if (state != null && state.deferredPasses > 0) {
+            timeToGo -= state.deferredPasses * getPredictionHorizon() / 8.0;
+        }
+        return Math.max(0.0, timeToGo);
+    }
+
+    /**
+     * 候補ペア {@code k} の評価を見送り、前回の評価結果があれば古い結果として評価結果配列に格納
+     */
+    private void deferPair(AircraftTrack[] snapshotTracks, PairEvaluations evaluations, int k) {
+        long key = pairStateKey(snapshotTracks[evaluations.firstIndex(k)], snapshotTracks[evaluations.secondIndex(k)]);
+        PairState state = pairStates.get(key);
+        if (state == null) {
+            // 評価待ちの状態として保持し、見送りの回数を次のパスの緊急度に反映する
+            state = new PairState(UNEVALUATED, UNEVALUATED);
+            pairStates.put(key, state);
+        }
+        state.lastSeenPass = passCount;
+        state.deferredPasses++;
+
+        if (state.version1 == UNEVALUATED) {
+            evaluations.setStatus(k, PairEvaluations.MISSING);
+            return;
+        }
+        evaluations.set(k, clampTimeToClosest(state.timeToClosest), state.horizontalDistance, state.verticalDistance);
+        evaluations.setStatus(k, PairEvaluations.STALE);
+    }
+
+    /**
+     * 候補ペア {@code k} を評価し、CPA計算結果を評価結果配列に格納
+     *
+     * @return CPAを再計算した場合true、前回状態から繰り上げた場合false
+     */
+    private boolean evaluatePair(AircraftStateSnapshot snapshot, AircraftTrack[] snapshotTracks,
+                                 PairEvaluations evaluations, int k) {
+        int i = evaluations.firstIndex(k);
+        int j = evaluations.secondIndex(k);
+        AircraftTrack track1 = snapshotTracks[i];
+        AircraftTrack track2 = snapshotTracks[j];
+        boolean ordered = track1.id < track2.id;
+        long key = pairStateKey(track1, track2);
+
+        // 相対位置（x,y:メートル, z:フィート）。ペア状態は追跡IDの小さい方を基準とする
+        int first = ordered ? i : j;
+        int second = ordered ? j : i;
+        double rx = (snapshot.x[second] - snapshot.x[first]) * snapshot.cosAverageLatitude(first, second);
+        double ry = snapshot.y[second] - snapshot.y[first];
+        double rz = snapshot.altitude[second] - snapshot.altitude[first];
+
+        PairState state = pairStates.get(key);
+        boolean recomputed = false;
+        if (state == null
+                || state.version1 != snapshotTracks[first].version
+                || state.version2 != snapshotTracks[second].version
+                || !state.rollForward(rx, ry, rz)) {
+            state = new PairState(snapshotTracks[first].version, snapshotTracks[second].version);
+            state.compute(snapshot, first, second, rx, ry, rz);
+            pairStates.put(key, state);
+            recomputed = true;
+        }
+        state.lastSeenPass = passCount;
+        state.deferredPasses = 0;
+
+        evaluations.set(k, clampTimeToClosest(state.timeToClosest), state.horizontalDistance, state.verticalDistance);
+        return recomputed;
+    }
+
+    private double clampTimeToClosest(double timeToClosest) {
+        if (timeToClosest != Double.POSITIVE_INFINITY && timeToClosest > getPredictionHorizon()) {
+            return getPredictionHorizon();
+        }
+        return timeToClosest;
+    }
+
+    /**
+     * ペア状態のキー（追跡IDの小さい方を上位32ビットに持つ）
+     */
+    private static long pairStateKey(AircraftTrack track1, AircraftTrack track2) {
+        return track1.id < track2.id
+            ? ((long) track1.id << 32) | track2.id
+            : ((long) track2.id << 32) | track1.id;
+    }
+
+    private static int countStale(PairEvaluations evaluations) {
+        int count = 0;
+        for (byte status : evaluations.status) {
+            if (status == PairEvaluations.STALE) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int countManoeuvring(AircraftTrack[] snapshotTracks) {
+        int count = 0;
+        for (AircraftTrack track : snapshotTracks) {
+            if (track.manoeuvring) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * インクリメンタル計算1パス分の統計
+     *
+     * @param aircraftCount 航空機数
+     * @param manoeuvringAircraft 有意なベクトル変化があった航空機数（新規航空機を含む）
+     * @param candidatePairs 候補ペア数
+     * @param recomputedPairs CPAを再計算したペア数
+     * @param rolledForwardPairs 前回状態から最接近時刻を繰り上げたペア数
+     * @param deferredPairs 時間予算内に評価できず次のパスに見送ったペア数
+     * @param stalePairs 見送ったペアのうち前回の評価結果を持ち越したペア数
+     */
+    public record PassStatistics(int aircraftCount, int manoeuvringAircraft, int candidatePairs,
+                                 int recomputedPairs, int rolledForwardPairs, int deferredPairs, int stalePairs) {
+    }
+
+    /**
+     * 航空機1機分の追跡状態
+     */
+    private static class AircraftTrack {
+        final int id;
+        AircraftVector referenceVector;
+        long version;
+        long lastSeenPass;
+        boolean manoeuvring = true;
+
+        AircraftTrack(int id, AircraftVector referenceVector) {
+            this.id = id;
+            this.referenceVector = referenceVector;
+        }
+
+        /**
+         * 基準ベクトルからの有意な変化を判定（CommercialAircraftと同じしきい値）
+         */
+        boolean isSignificantChange(AircraftVector vector) {
+            double headingChange = Math.abs(vector.heading.toDouble() - referenceVector.heading.toDouble());
+            double speedChange = Math.abs(vector.groundSpeed.toDouble() - referenceVector.groundSpeed.toDouble());
+            double verticalSpeedChange = Math.abs(vector.verticalSpeed.toDouble() - referenceVector.verticalSpeed.toDouble());
+
+            return headingChange > HEADING_UPDATE_THRESHOLD ||
+                   speedChange > SPEED_UPDATE_THRESHOLD ||
+                   verticalSpeedChange > SPEED_UPDATE_THRESHOLD;
+        }
+    }
+
+    /**
+     * 航空機ペア1組分のCPA状態
+     */
+    private static class PairState {
+        final long version1;
+        final long version2;
+
+        // 評価時の相対位置と相対速度
+        double rx;
+        double ry;
+        double rz;
+        double vx;
+        double vy;
+        double vz;
+        double relativeSpeedSquared;
+
+        // 評価時の最接近時刻（予測範囲でのクランプ前）
+        double evaluatedTimeToClosest;
+
+        // 現在の最接近時刻（クランプ前）と最接近距離
+        double timeToClosest;
+        double horizontalDistance;
+        double verticalDistance;
+
+        volatile long lastSeenPass;
+
+        // 時間予算内に評価できず連続して見送ったパス数
+        volatile int deferredPasses;
+
+        PairState(long version1, long version2) {
+            this.version1 = version1;
+            this.version2 = version2;
+        }
+
+        /**
+         * スナップショットからCPAを計算（{@link ConflictDetector} のSoAカーネルと同一の式）
+         */
+        void compute(AircraftStateSnapshot snapshot, int first, int second, double rx, double ry, double rz) {
+            this.rx = rx;
+            this.ry = ry;
+            this.rz = rz;
+            this.vx = snapshot.vx[second] - snapshot.vx[first];
+            this.vy = snapshot.vy[second] - snapshot.vy[first];
+            this.vz = snapshot.vz[second] - snapshot.vz[first];
+
+            double relativeSpeedMagnitude = Math.sqrt(vx * vx + vy * vy + vz * vz);
+            this.relativeSpeedSquared = relativeSpeedMagnitude * relativeSpeedMagnitude;
+
+            if (relativeSpeedMagnitude < EPSILON) {
+                this.timeToClosest = Double.POSITIVE_INFINITY;
+                this.evaluatedTimeToClosest = Double.POSITIVE_INFINITY;
+                this.horizontalDistance = Math.sqrt(rx * rx + ry * ry) / 1000.0 / NAUTICAL_MILES_TO_KM;
+                this.verticalDistance = Math.abs(rz);
+                return;
+            }
+
+            this.timeToClosest = -(rx * vx + ry * vy + rz * vz) / relativeSpeedSquared;
+            this.evaluatedTimeToClosest = timeToClosest;
+
+            double cx = rx + timeToClosest * vx;
+            double cy = ry + timeToClosest * vy;
+            double cz = rz + timeToClosest * vz;
+
+            this.horizontalDistance = Math.sqrt(cx * cx + cy * cy) / 1000.0 / NAUTICAL_MILES_TO_KM;
+            this.verticalDistance = Math.abs(cz);
+        }
+
+        /**
+         * 現在の相対位置まで最接近時刻を繰り上げる
+         * ずれは評価時の相対位置を起点に測るため、パスをまたいで蓄積しない
+         *
+         * @return 繰り上げできた場合true、ずれが許容値を超え再計算が必要な場合false
+         */
+        boolean rollForward(double currentRx, double currentRy, double currentRz) {
+            double dx = currentRx - rx;
+            double dy = currentRy - ry;
+            double dz = currentRz - rz;
+
+            if (timeToClosest == Double.POSITIVE_INFINITY) {
+                // 並行飛行：相対位置は変化しないはず
+                if (Math.sqrt(dx * dx + dy * dy) > HORIZONTAL_DRIFT_TOLERANCE
+                        || Math.abs(dz) > VERTICAL_DRIFT_TOLERANCE) {
+                    return false;
+                }
+            } else {
+                // 相対変位を相対速度方向に射影して経過時間を求める
+                double elapsed = (dx * vx + dy * vy + dz * vz) / relativeSpeedSquared;
+                double residualX = dx - elapsed * vx;
+                double residualY = dy - elapsed * vy;
+                double residualZ = dz - elapsed * vz;
+                if (Math.sqrt(residualX * residualX + residualY * residualY) > HORIZONTAL_DRIFT_TOLERANCE
+                        || Math.abs(residualZ) > VERTICAL_DRIFT_TOLERANCE) {
+                    return false;
+                }
+                timeToClosest = evaluatedTimeToClosest - elapsed;
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+
+/**
+ * 中期予測で管制間隔欠如が予測されたペア1組
+ *
+ * @param pairId 航空機ペアID（{@link jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.utility.StringUtils#generatePairId} の形式）
+ * @param riskLevel 危険度（短期検出と同じ式、最接近が遠い将来のため時間重みで小さくなる）
+ * @param alertLevel アラートレベル
+ * @param timeToClosest 評価時点からの最接近時刻（秒）
+ * @param closestHorizontalDistance 最接近時水平距離（海里）
+ * @param closestVerticalDistance 最接近時垂直距離（フィート）
+ * @param evaluatedTick 評価したティック（スナップショットのバージョン）。周期内の古い評価は最大1周期分遅れる
+ */
+public record MediumTermConflict(
+    String pairId,
+    double riskLevel,
+    AlertLevel alertLevel,
+    double timeToClosest,
+    double closestHorizontalDistance,
+    double closestVerticalDistance,
+    long evaluatedTick
+) {}
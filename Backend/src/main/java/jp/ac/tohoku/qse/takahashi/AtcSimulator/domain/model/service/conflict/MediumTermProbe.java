@@ -0,0 +1,216 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.utility.StringUtils;
+
+/**
+ * 中期予測（広い半径・長い予測時間の直線CPA）を複数ティックに分散して行う
+ *
+ * 航空機はコールサインのハッシュで {@code ticksPerCycle} 個のスライスに分け、1ティックで1スライスの航空機だけを
+ * 評価対象機として全航空機と比較する。ペアはコールサインの辞書順で小さい方のスライスが所有し、1周期で1回だけ評価される。
+ * ティックごとの計算量は全体の 1 / ticksPerCycle になり、短期検出（STCA）と合わせてもティックの処理時間は平坦に保たれる。
+ *
+ * 公開する結果は各スライスの直近の評価結果の和で、最大1周期分古い評価を含む。
+ * 航空機が消えた場合、そのペアは所有スライスの次の評価で取り除かれる。
+ */
+public final class MediumTermProbe {
+
+    private static final double METERS_PER_NAUTICAL_MILE = NAUTICAL_MILES_TO_KM * 1000.0;
+
+    private final ConflictDetector detector;
+    private final MediumTermProbeSettings settings;
+
+    // スライスごとの直近の評価結果
+    private final List<List<MediumTermConflict>> resultsBySlice;
+    private int nextSlice;
+    private volatile PassStatistics lastPassStatistics = new PassStatistics(0, 0, 0, 0, 0);
+
+    /**
+     * コンストラクタ
+     *
+     * @param detector 危険度の計算と垂直方向の候補除外の設定に用いる検出器
+     * @param settings 中期予測の設定
+     * @throws InvalidParameterException いずれかがnullの場合
+     */
+    public MediumTermProbe(ConflictDetector detector, MediumTermProbeSettings settings) {
+        if (detector == null) {
+            throw new InvalidParameterException("detector", null, "検出器がnullです");
+        }
+        if (settings == null) {
+            throw new InvalidParameterException("settings", null, "中期予測の設定がnullです");
+        }
+        this.detector = detector;
+        this.settings = settings;
+        this.resultsBySlice = new ArrayList<>(settings.ticksPerCycle());
+        for (int slice = 0; slice < settings.ticksPerCycle(); slice++) {
+            resultsBySlice.add(List.of());
+        }
+    }
+
+    /**
+     * 中期予測の設定を取得
+     *
+     * @return 中期予測の設定
+     */
+    public MediumTermProbeSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * 直近のティックの評価統計を取得
+     *
+     * @return 評価統計
+     */
+    public PassStatistics getLastPassStatistics() {
+        return lastPassStatistics;
+    }
+
+    /**
+     * 次のスライスを評価し、全スライスの直近の結果を返す
+     * シミュレーションのティックごとに1回呼び出す
+     *
+     * @param aircraftList 航空機リスト
+     * @param tick 現在のティック（スナップショットのバージョン）
+     * @return 管制間隔欠如が予測されるペア（最接近時刻の早い順）
+     */
+    public List<MediumTermConflict> advance(List<Aircraft> aircraftList, long tick) {
+        detector.validateAircraftList(aircraftList);
+        return advanceCaptured(AircraftStateSnapshot.of(aircraftList), tick);
+    }
+
+    /**
+     * 凍結済みの航空機状態で次のスライスを評価し、全スライスの直近の結果を返す
+     *
+     * @param snapshot 航空機状態のスナップショット
+     * @param tick 現在のティック（スナップショットのバージョン）
+     * @return 管制間隔欠如が予測されるペア（最接近時刻の早い順）
+     * @throws InvalidParameterException スナップショットがnullの場合
+     */
+    public synchronized List<MediumTermConflict> advanceCaptured(AircraftStateSnapshot snapshot, long tick) {
+        detector.validateSnapshot(snapshot);
+        int slice = nextSlice;
+        nextSlice = (nextSlice + 1) % settings.ticksPerCycle();
+
+        List<MediumTermConflict> results = new ArrayList<>();
+        int subjectCount = 0;
+        int candidatePairs = 0;
+        for (int i = 0; i < snapshot.size; i++) {
+            if (sliceOf(snapshot.callsigns[i]) != slice) {
+                continue;
+            }
+            subjectCount++;
+            for (int j = 0; j < snapshot.size; j++) {
+                if (j == i) {
+                    continue;
+                }
+                double rx = (snapshot.x[j] - snapshot.x[i]) * snapshot.cosAverageLatitude(i, j);
+                double ry = snapshot.y[j] - snapshot.y[i];
+                double horizontalDistance = Math.sqrt(rx * rx + ry * ry) / METERS_PER_NAUTICAL_MILE;
+                if (horizontalDistance > settings.radiusNm()
+                        || snapshot.callsigns[i].compareTo(snapshot.callsigns[j]) >= 0
+                        || isVerticallyCulled(snapshot, i, j)) {
+                    continue;
+                }
+                candidatePairs++;
+                MediumTermConflict conflict = evaluate(snapshot, i, j, rx, ry, horizontalDistance, tick);
+                if (conflict != null) {
+                    results.add(conflict);
+                }
+            }
+        }
+        resultsBySlice.set(slice, List.copyOf(results));
+
+        List<MediumTermConflict> published = new ArrayList<>();
+        for (List<MediumTermConflict> sliceResults : resultsBySlice) {
+            published.addAll(sliceResults);
+        }
+        published.sort(Comparator.comparingDouble(MediumTermConflict::timeToClosest));
+        lastPassStatistics = new PassStatistics(snapshot.size, slice, subjectCount, candidatePairs, results.size());
+        return List.copyOf(published);
+    }
+
+    /**
+     * ペア1組の直線CPAを予測時間内で評価
+     *
+     * @return 予測時間内に管制間隔欠如が予測される場合は評価結果、それ以外はnull
+     */
+    private MediumTermConflict evaluate(AircraftStateSnapshot snapshot, int i, int j, double rx, double ry,
+                                        double currentHorizontalDistance, long tick) {
+        double rz = snapshot.altitude[j] - snapshot.altitude[i];
+        double vx = snapshot.vx[j] - snapshot.vx[i];
+        double vy = snapshot.vy[j] - snapshot.vy[i];
+        double vz = snapshot.vz[j] - snapshot.vz[i];
+        double relativeSpeedSquared = vx * vx + vy * vy + vz * vz;
+        if (Math.sqrt(relativeSpeedSquared) < ConflictDetector.EPSILON) {
+            // 並行飛行は現在の間隔が保たれるため、中期予測の対象外（短期検出で評価する）
+            return null;
+        }
+
+        // 検出パスと同じく水平メートル・垂直フィートの3次元距離で最接近時刻を求める
+        double timeToClosest = -(rx * vx + ry * vy + rz * vz) / relativeSpeedSquared;
+        if (timeToClosest < 0.0) {
+            return null;
+        }
+        timeToClosest = Math.min(timeToClosest, settings.horizonSeconds());
+        double cx = rx + timeToClosest * vx;
+        double cy = ry + timeToClosest * vy;
+        double closestHorizontalDistance = Math.sqrt(cx * cx + cy * cy) / METERS_PER_NAUTICAL_MILE;
+        double closestVerticalDistance = Math.abs(rz + timeToClosest * vz);
+        if (closestHorizontalDistance >= MINIMUM_HORIZONTAL_SEPARATION
+                || closestVerticalDistance >= MINIMUM_VERTICAL_SEPARATION) {
+            return null;
+        }
+
+        double riskLevel = detector.calculateRiskLevel(timeToClosest, closestHorizontalDistance,
+                                                       closestVerticalDistance, currentHorizontalDistance,
+                                                       Math.abs(rz));
+        return new MediumTermConflict(
+            StringUtils.generatePairId(snapshot.callsigns[i], snapshot.callsigns[j]),
+            riskLevel,
+            AlertLevel.fromRiskLevel(riskLevel),
+            timeToClosest,
+            closestHorizontalDistance,
+            closestVerticalDistance,
+            tick
+        );
+    }
+
+    /**
+     * 検出器の垂直方向の候補除外の設定を、中期予測の予測時間で適用
+     */
+    private boolean isVerticallyCulled(AircraftStateSnapshot snapshot, int i, int j) {
+        PreFilterSettings preFilterSettings = detector.getPreFilterSettings();
+        if (!preFilterSettings.isVerticalCullingEnabled()) {
+            return false;
+        }
+        double separation = snapshot.altitude[j] - snapshot.altitude[i];
+        double closingRate = separation >= 0 ? snapshot.vz[i] - snapshot.vz[j] : snapshot.vz[j] - snapshot.vz[i];
+        double minimumSeparation = Math.abs(separation) - Math.max(0.0, closingRate) * settings.horizonSeconds();
+        return minimumSeparation > MINIMUM_VERTICAL_SEPARATION + preFilterSettings.verticalCullingMargin();
+    }
+
+    private int sliceOf(String callsign) {
+        int hash = callsign.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), settings.ticksPerCycle());
+    }
+
+    /**
+     * 1ティック分の評価統計
+     *
+     * @param aircraftCount 航空機数
+     * @param slice 評価したスライス
+     * @param subjectCount 評価対象機数（このスライスに属する航空機）
+     * @param candidatePairs 考慮半径・垂直方向の候補除外を通過して評価したペア数
+     * @param conflictCount このスライスで管制間隔欠如が予測されたペア数
+     */
+    public record PassStatistics(int aircraftCount, int slice, int subjectCount, int candidatePairs,
+                                 int conflictCount) {}
+}
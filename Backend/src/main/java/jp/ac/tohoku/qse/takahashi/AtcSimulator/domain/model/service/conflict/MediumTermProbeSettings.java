@@ -0,0 +1,34 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+
+/**
+ * 中期予測の設定
+ *
+ * @param horizonSeconds 予測時間（秒）
+ * @param radiusNm 相手機を考慮する半径（海里）
+ * @param ticksPerCycle 全航空機の評価を分散するティック数（1周期で全ペアを1回ずつ評価する）
+ */
+public record MediumTermProbeSettings(double horizonSeconds, double radiusNm, int ticksPerCycle) {
+
+    /**
+     * 既定値（予測時間20分・半径150海里・10ティックで1周）
+     */
+    public static final MediumTermProbeSettings DEFAULT = new MediumTermProbeSettings(1200.0, 150.0, 10);
+
+    /**
+     * @throws InvalidParameterException 予測時間・半径が0以下・非有限、ティック数が1未満の場合
+     */
+    public MediumTermProbeSettings {
+        if (!(horizonSeconds > 0.0) || Double.isInfinite(horizonSeconds)) {
+            throw new InvalidParameterException("horizonSeconds", horizonSeconds,
+                                                "予測時間は0より大きい有限値で指定してください");
+        }
+        if (!(radiusNm > 0.0) || Double.isInfinite(radiusNm)) {
+            throw new InvalidParameterException("radiusNm", radiusNm, "考慮半径は0より大きい有限値で指定してください");
+        }
+        if (ticksPerCycle < 1) {
+            throw new InvalidParameterException("ticksPerCycle", ticksPerCycle, "ティック数は1以上で指定してください");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import java.util.Arrays;
+
+/**
+ * 結果テーブルのエントリから最接近時刻の早い順に上位K件を選択する
+ *
+ * 上限K件の最大ヒープ（根が保持中で最も遅い最接近時刻）を用い、候補n件に対してO(n log K)で選択する。
+ * 最接近時刻が同じ場合はエントリ番号の小さい順（結果テーブルへの挿入順）とする。
+ */
+final class MostUrgentSelector {
+
+    private MostUrgentSelector() {
+    }
+
+    /**
+     * 候補エントリから最接近時刻の範囲に入るものを早い順に最大 {@code limit} 件選択
+     *
+     * @param table 結果テーブル
+     * @param candidates 候補エントリ番号
+     * @param limit 最大件数（1以上）
+     * @param minTimeToClosest 最接近時刻の下限（秒、この値を含む）
+     * @param maxTimeToClosest 最接近時刻の上限（秒、この値を含む）
+     * @return 最接近時刻の早い順に並んだエントリ番号
+     */
+    static int[] select(ConflictResultTable table, int[] candidates, int limit,
+                        double minTimeToClosest, double maxTimeToClosest) {
+        int capacity = Math.min(limit, candidates.length);
+        int[] heap = new int[capacity];
+        int size = 0;
+
+        for (int entry : candidates) {
+            double time = table.timeToClosest(entry);
+            if (time < minTimeToClosest || time > maxTimeToClosest) {
+                continue;
+            }
+            if (size < capacity) {
+                heap[size] = entry;
+                siftUp(table, heap, size++);
+            } else if (capacity > 0 && isEarlier(table, entry, heap[0])) {
+                heap[0] = entry;
+                siftDown(table, heap, size);
+            }
+        }
+
+        // ヒープから遅い順に取り出して末尾から詰める
+        int[] result = Arrays.copyOf(heap, size);
+        for (int remaining = size; remaining > 0; remaining--) {
+            int latest = heap[0];
+            heap[0] = heap[remaining - 1];
+            siftDown(table, heap, remaining - 1);
+            result[remaining - 1] = latest;
+        }
+        return result;
+    }
+
+    private static boolean isEarlier(ConflictResultTable table, int entry1, int entry2) {
+        int comparison = Double.compare(table.timeToClosest(entry1), table.timeToClosest(entry2));
+        return comparison < 0 || (comparison == 0 && entry1 < entry2);
+    }
+
+    private static void siftUp(ConflictResultTable table, int[] heap, int position) {
+        int entry = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isEarlier(table, heap[parent], entry)) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = entry;
+    }
+
+    private static void siftDown(ConflictResultTable table, int[] heap, int size) {
+        if (size == 0) {
+            return;
+        }
+        int position = 0;
+        int entry = heap[0];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && isEarlier(table, heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!isEarlier(table, entry, heap[child])) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = entry;
+    }
+}
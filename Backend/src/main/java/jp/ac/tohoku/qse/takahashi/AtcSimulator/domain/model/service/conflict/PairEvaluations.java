@@ -0,0 +1,57 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+/**
+ * 候補ペアごとのCPA計算結果を格納する並列配列
+ *
+ * 各カーネルは候補ペアの位置 {@code k} に排他的に書き込むため、並列評価中の同期は不要。
+ * 危険度の評価と結果テーブルへの格納は {@link ConflictDetector} が評価完了後にまとめて行う。
+ *
+ * 時間予算付きの検出では、予算内に評価できなかったペアに前回の評価結果を格納して {@link #STALE} とし、
+ * 前回の評価結果もないペアは {@link #MISSING} として結果テーブルから除外する。
+ */
+final class PairEvaluations {
+
+    /** 候補ペア（(i << 32) | j の形式） */
+    final long[] pairs;
+
+    /** 最接近時刻（予測範囲でクランプ済み、並行飛行は無限大）・最接近時の水平距離（海里）・垂直距離（フィート） */
+    final double[] timeToClosest;
+    final double[] horizontalDistance;
+    final double[] verticalDistance;
+
+    /** 評価結果の状態（今回評価した結果・前回の結果の持ち越し・結果なし） */
+    static final byte FRESH = 0;
+    static final byte STALE = 1;
+    static final byte MISSING = 2;
+    final byte[] status;
+
+    PairEvaluations(long[] pairs) {
+        this.pairs = pairs;
+        this.timeToClosest = new double[pairs.length];
+        this.horizontalDistance = new double[pairs.length];
+        this.verticalDistance = new double[pairs.length];
+        this.status = new byte[pairs.length];
+    }
+
+    int size() {
+        return pairs.length;
+    }
+
+    int firstIndex(int k) {
+        return (int) (pairs[k] >>> 32);
+    }
+
+    int secondIndex(int k) {
+        return (int) pairs[k];
+    }
+
+    void set(int k, double time, double horizontal, double vertical) {
+        timeToClosest[k] = time;
+        horizontalDistance[k] = horizontal;
+        verticalDistance[k] = vertical;
+    }
+
+    void setStatus(int k, byte value) {
+        status[k] = value;
+    }
+}
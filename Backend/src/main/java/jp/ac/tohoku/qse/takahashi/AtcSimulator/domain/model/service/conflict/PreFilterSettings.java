@@ -0,0 +1,43 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+
+/**
+ * コンフリクト検出の候補ペア抽出（事前フィルタリング）の設定
+ *
+ * @param verticalCullingMargin 垂直方向の候補除外マージン（フィート）。
+ *                              現在の高度差から予測時間内に縮まり得る量を差し引いても
+ *                              最小垂直間隔 + マージンを上回るペアを除外する。
+ *                              {@link #VERTICAL_CULLING_DISABLED} で無効
+ * @param kinematicRadius 考慮半径を固定の {@code MAX_CONSIDERATION_DISTANCE} ではなく、
+ *                        両機の対地速度で予測時間内に接近し得る最大距離 + 最小水平間隔としてペアごとに求めるか
+ */
+public record PreFilterSettings(double verticalCullingMargin, boolean kinematicRadius) {
+
+    /**
+     * 垂直方向の候補除外を行わないことを示すマージン値
+     */
+    public static final double VERTICAL_CULLING_DISABLED = Double.POSITIVE_INFINITY;
+
+    /**
+     * 固定の考慮半径のみで抽出する設定（参照実装と同じ候補ペア）
+     */
+    public static final PreFilterSettings FIXED_RADIUS = new PreFilterSettings(VERTICAL_CULLING_DISABLED, false);
+
+    /**
+     * @throws InvalidParameterException マージンが負・NaNの場合
+     */
+    public PreFilterSettings {
+        if (Double.isNaN(verticalCullingMargin) || verticalCullingMargin < 0.0) {
+            throw new InvalidParameterException("verticalCullingMargin", verticalCullingMargin,
+                                                "垂直方向の候補除外マージンは0以上で指定してください");
+        }
+    }
+
+    /**
+     * 垂直方向の候補除外が有効か
+     */
+    public boolean isVerticalCullingEnabled() {
+        return verticalCullingMargin != VERTICAL_CULLING_DISABLED;
+    }
+}
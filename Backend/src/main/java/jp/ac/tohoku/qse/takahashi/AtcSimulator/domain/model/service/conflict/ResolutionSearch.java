@@ -0,0 +1,147 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftBase;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftState;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.characteristics.AircraftCharacteristics;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.AircraftAttributes.Heading;
+
+/**
+ * ヘディング・高度・対地速度の候補グリッドから、予測時間内の管制間隔欠如を全て解消する回避指示を探索する
+ *
+ * 相手機の抽出（考慮距離・垂直方向の候補除外）は全候補の対地速度の上限と高度範囲で1回だけ行い、全候補で共有する。
+ * 水平経路と高度プロファイルは互いに独立に変化するため、（ヘディング, 対地速度）ごとの水平経路と
+ * 指示高度ごとの高度プロファイルを1回ずつ積分し、候補はその組み合わせとして評価する。
+ * 候補ごとの評価は {@link TrajectoryProbe} で行い、{@link ConflictExecutor} で候補単位に並列実行する。
+ * 管制間隔欠如が予測された時点でその候補の残りの相手機の評価は打ち切る。
+ * 対象機の現在のヘディング・対地速度・高度と周辺交通は凍結した {@link AircraftState} のみから読むため、
+ * 全候補が同一ティックの状態に基づく。
+ */
+final class ResolutionSearch {
+
+    // 候補1件の評価は数百ステップ×相手機数と重いため、ペア単位の計算より細かいチャンクで分割する
+    static final int CANDIDATE_CHUNK_SIZE = 16;
+
+    // 変更量のコストの単位（ヘディング10度・高度1000フィート・対地速度20ノットをそれぞれコスト1とする）
+    private static final double HEADING_COST_UNIT = 10.0;
+    private static final double ALTITUDE_COST_UNIT = 1000.0;
+    private static final double SPEED_COST_UNIT = 20.0;
+
+    private final ConflictDetector detector;
+    private final ResolutionSearchSettings settings;
+
+    ResolutionSearch(ConflictDetector detector, ResolutionSearchSettings settings) {
+        this.detector = detector;
+        this.settings = settings;
+    }
+
+    /**
+     * 回避指示を探索
+     *
+     * @param subject 対象機の凍結した状態（航空機はAircraftBaseであること）
+     * @param traffic 周辺交通の凍結した状態（対象機自身が含まれていてもよい）
+     * @param limit 返却する最大件数
+     * @return 変更量の小さい順の回避指示
+     */
+    ResolutionSearchResult search(AircraftState subject, List<AircraftState> traffic, int limit) {
+        AircraftCharacteristics characteristics = ((AircraftBase) subject.aircraft()).getCharacteristics();
+        double currentHeading = subject.vector().heading.toDouble();
+        double currentSpeed = subject.vector().groundSpeed.toDouble();
+        double currentAltitude = subject.position().altitude.toDouble();
+        double baseLevel = Math.round(currentAltitude / settings.altitudeStep()) * settings.altitudeStep();
+
+        int headingSteps = ResolutionSearchSettings.stepCount(settings.headingRange(), settings.headingStep());
+        int altitudeSteps = ResolutionSearchSettings.stepCount(settings.altitudeRange(), settings.altitudeStep());
+        int speedSteps = ResolutionSearchSettings.stepCount(settings.speedRange(), settings.speedStep());
+
+        // 機種の性能制限内の指示高度・指示対地速度と、ヘディング変更量を列挙
+        double[] altitudes = new double[2 * altitudeSteps + 1];
+        int altitudeCount = 0;
+        for (int a = -altitudeSteps; a <= altitudeSteps; a++) {
+            double altitude = baseLevel + a * settings.altitudeStep();
+            if (altitude >= characteristics.getMinAltitude() && altitude <= characteristics.getMaxAltitude()) {
+                altitudes[altitudeCount++] = altitude;
+            }
+        }
+        double[] speeds = new double[2 * speedSteps + 1];
+        int speedCount = 0;
+        for (int s = -speedSteps; s <= speedSteps; s++) {
+            double speed = currentSpeed + s * settings.speedStep();
+            if (speed >= characteristics.getMinSpeed() && speed <= characteristics.getMaxSpeed()) {
+                speeds[speedCount++] = speed;
+            }
+        }
+        int headingCount = 2 * headingSteps + 1;
+        double[] headingChanges = new double[headingCount];
+        for (int h = -headingSteps; h <= headingSteps; h++) {
+            headingChanges[h + headingSteps] = h * settings.headingStep();
+        }
+
+        // 水平経路は（ヘディング, 対地速度）ごと、高度プロファイルは指示高度ごとに1回だけ積分し、候補間で共有する
+        int length = TrajectoryProbe.trajectoryLength();
+        int pathCount = speedCount * headingCount;
+        double[][] pathX = new double[pathCount][length];
+        double[][] pathY = new double[pathCount][length];
+        double[][] profiles = new double[altitudeCount][length];
+        detector.getExecutor().forEach(pathCount, CANDIDATE_CHUNK_SIZE, p -> TrajectoryProbe.projectHorizontal(
+            subject, currentHeading + headingChanges[p % headingCount], speeds[p / headingCount], pathX[p], pathY[p]));
+        double lowestAltitude = currentAltitude;
+        double highestAltitude = currentAltitude;
+        double speedBound = currentSpeed;
+        for (int a = 0; a < altitudeCount; a++) {
+            TrajectoryProbe.projectVertical(subject, altitudes[a], profiles[a]);
+            lowestAltitude = Math.min(lowestAltitude, altitudes[a]);
+            highestAltitude = Math.max(highestAltitude, altitudes[a]);
+        }
+        for (int s = 0; s < speedCount; s++) {
+            speedBound = Math.max(speedBound, speeds[s]);
+        }
+
+        TrajectoryProbe.Neighbours neighbours = TrajectoryProbe.Neighbours.collect(
+            detector, subject, traffic, speedBound, lowestAltitude, highestAltitude);
+
+        // 候補 k は（指示高度, 対地速度, ヘディング）の順に列挙
+        int count = altitudeCount * pathCount;
+        double[] clearedRisk = new double[count];
+        detector.getExecutor().forEach(count, CANDIDATE_CHUNK_SIZE, k -> {
+            int path = k % pathCount;
+            TrajectoryProbe probe = new TrajectoryProbe(detector, pathX[path], pathY[path], profiles[k / pathCount]);
+            clearedRisk[k] = probe.clearedMaxRiskLevel(neighbours);
+        });
+
+        List<ResolutionSearchResult.Advisory> cleared = new ArrayList<>();
+        for (int k = 0; k < count; k++) {
+            if (clearedRisk[k] < 0.0) {
+                continue;
+            }
+            double altitude = altitudes[k / pathCount];
+            double speed = speeds[(k % pathCount) / headingCount];
+            double headingChange = headingChanges[k % headingCount];
+            double altitudeChange = altitude - currentAltitude;
+            double speedChange = speed - currentSpeed;
+            double cost = Math.abs(headingChange) / HEADING_COST_UNIT
+                + Math.abs(altitudeChange) / ALTITUDE_COST_UNIT
+                + Math.abs(speedChange) / SPEED_COST_UNIT;
+            cleared.add(new ResolutionSearchResult.Advisory(
+                new Heading(currentHeading + headingChange).toDouble(),
+                altitude,
+                speed,
+                headingChange,
+                altitudeChange,
+                speedChange,
+                cost,
+                clearedRisk[k]
+            ));
+        }
+
+        // コストの小さい順、同コストは危険度の低い順（列挙順で安定）
+        cleared.sort((a, b) -> a.cost() != b.cost()
+            ? Double.compare(a.cost(), b.cost())
+            : Double.compare(a.maxRiskLevel(), b.maxRiskLevel()));
+        List<ResolutionSearchResult.Advisory> advisories = List.copyOf(cleared.subList(0, Math.min(limit, cleared.size())));
+        return new ResolutionSearchResult(subject.callsign().toString(), count, cleared.size(), neighbours.size,
+                                          advisories);
+    }
+}
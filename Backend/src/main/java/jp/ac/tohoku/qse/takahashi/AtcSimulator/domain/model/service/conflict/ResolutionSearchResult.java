@@ -0,0 +1,44 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import java.util.List;
+
+/**
+ * 回避指示探索の結果
+ *
+ * @param callsign 対象航空機のコールサイン
+ * @param candidateCount 評価した候補数（機種の性能制限外の候補を除く）
+ * @param clearedCount 予測時間内に全ての相手機との管制間隔欠如が予測されない候補数
+ * @param neighbourCount 全候補で共有した相手機数（考慮距離・垂直方向の候補除外を通過した航空機）
+ * @param advisories 変更量の小さい順の回避指示（最大 limit 件）
+ */
+public record ResolutionSearchResult(
+    String callsign,
+    int candidateCount,
+    int clearedCount,
+    int neighbourCount,
+    List<Advisory> advisories
+) {
+
+    /**
+     * 回避指示1件
+     *
+     * @param heading 指示ヘディング（度）
+     * @param altitude 指示高度（フィート）
+     * @param groundSpeed 指示対地速度（ノット）
+     * @param headingChange 現在からのヘディング変更量（度、右旋回が正）
+     * @param altitudeChange 現在からの高度変更量（フィート）
+     * @param groundSpeedChange 現在からの対地速度変更量（ノット）
+     * @param cost 変更量のコスト（ヘディング10度・高度1000フィート・対地速度20ノットをそれぞれ1とした合計）
+     * @param maxRiskLevel 相手機との最大危険度
+     */
+    public record Advisory(
+        double heading,
+        double altitude,
+        double groundSpeed,
+        double headingChange,
+        double altitudeChange,
+        double groundSpeedChange,
+        double cost,
+        double maxRiskLevel
+    ) {}
+}
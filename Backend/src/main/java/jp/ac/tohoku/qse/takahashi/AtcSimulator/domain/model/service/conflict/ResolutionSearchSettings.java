@@ -0,0 +1,66 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+
+/**
+ * 回避指示探索の候補グリッドの設定
+ * ヘディング・高度・対地速度の変更量をそれぞれ {@code -range..+range} の範囲で {@code step} 刻みに列挙し、その全組み合わせを候補とする
+ *
+ * @param headingRange ヘディング変更量の範囲（度）
+ * @param headingStep ヘディング変更量の刻み（度）
+ * @param altitudeRange 高度変更量の範囲（フィート、現在高度に最も近いフライトレベル基準）
+ * @param altitudeStep 高度変更量の刻み（フィート）
+ * @param speedRange 対地速度変更量の範囲（ノット）
+ * @param speedStep 対地速度変更量の刻み（ノット）
+ */
+public record ResolutionSearchSettings(
+    double headingRange,
+    double headingStep,
+    double altitudeRange,
+    double altitudeStep,
+    double speedRange,
+    double speedStep
+) {
+
+    /**
+     * 既定の設定（±90度・5度刻み、±2000フィート・1000フィート刻み、±40ノット・20ノット刻みの925候補）
+     */
+    public static final ResolutionSearchSettings DEFAULT = new ResolutionSearchSettings(90.0, 5.0, 2000.0, 1000.0, 40.0, 20.0);
+
+    /**
+     * @throws InvalidParameterException 範囲が負・180度を超える、刻みが0以下、またはNaNの場合
+     */
+    public ResolutionSearchSettings {
+        validate("headingRange", headingRange, "headingStep", headingStep);
+        validate("altitudeRange", altitudeRange, "altitudeStep", altitudeStep);
+        validate("speedRange", speedRange, "speedStep", speedStep);
+        if (headingRange > 180.0) {
+            throw new InvalidParameterException("headingRange", headingRange, "ヘディング変更量の範囲は180度以下で指定してください");
+        }
+    }
+
+    /**
+     * 範囲内の刻み数（片側）
+     */
+    static int stepCount(double range, double step) {
+        return (int) Math.floor(range / step + 1e-9);
+    }
+
+    /**
+     * 候補数（機種の性能制限で除外する前）
+     */
+    public int candidateCount() {
+        return (2 * stepCount(headingRange, headingStep) + 1)
+            * (2 * stepCount(altitudeRange, altitudeStep) + 1)
+            * (2 * stepCount(speedRange, speedStep) + 1);
+    }
+
+    private static void validate(String rangeName, double range, String stepName, double step) {
+        if (Double.isNaN(range) || range < 0.0) {
+            throw new InvalidParameterException(rangeName, range, "変更量の範囲は0以上で指定してください");
+        }
+        if (Double.isNaN(step) || step <= 0.0) {
+            throw new InvalidParameterException(stepName, step, "変更量の刻みは0より大きい値で指定してください");
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.*;
+
+import java.util.Arrays;
+
+/**
+ * コンフリクト検出のブロードフェーズ用の一様緯度経度グリッド
+ *
+ * セルの一辺を考慮半径（海里）以上に取ることで、半径内にある2機は必ず
+ * 同一セルまたは隣接セルに入る。1パスにつき1回だけ航空機をバケット化し、
+ * 同一・隣接セルの組み合わせのみを候補ペアとして列挙する。
+ *
+ * 経度方向のセル幅は対象航空機の最大緯度でのcosで拡大するため、
+ * {@link jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.utility.GeodeticUtils#approximateHorizontalDistance}
+ * の平面近似（平均緯度補正）に対して取りこぼしは発生しない。
+ */
+final class SpatialGrid {
+
+    // これを超える緯度では経度方向の分割を行わない（極付近でcosが0に近づくため）
+    private static final double MAX_GRID_LATITUDE = 89.0;
+
+    // セル数がキーのビット幅に収まるようにセルの最小サイズを制限
+    private static final double MIN_CELL_SIZE_DEGREES = 0.01;
+
+    private static final int ROW_OFFSET = 1 << 14;
+    private static final int COLUMN_OFFSET = 1 << 15;
+
+    // 重複を避けるため、右・右下・下・左下の4方向のみを走査する
+    private static final int[][] FORWARD_NEIGHBORS = {{0, 1}, {1, -1}, {1, 0}, {1, 1}};
+
+    /**
+     * 候補ペアの受け取り先
+     */
+    @FunctionalInterface
+    interface PairConsumer {
+        /**
+         * @param index1 航空機1のインデックス（index1 < index2）
+         * @param index2 航空機2のインデックス
+         */
+        void accept(int index1, int index2);
+    }
+
+    // 上位32ビットにセルキー、下位32ビットに航空機インデックスを格納し昇順に整列
+    private final long[] sortedEntries;
+
+    private SpatialGrid(long[] sortedEntries) {
+        this.sortedEntries = sortedEntries;
+    }
+
+    /**
+     * 航空機位置の配列からグリッドを構築
+     *
+     * @param latitudes 緯度（度）
+     * @param longitudes 経度（度）
+     * @param count 有効な要素数
+     * @param radiusNm 考慮半径（海里）
+     * @return 構築済みグリッド
+     */
+    static SpatialGrid build(double[] latitudes, double[] longitudes, int count, double radiusNm) {
+        double latCellSize = Math.max(MIN_CELL_SIZE_DEGREES,
+            radiusNm * NAUTICAL_MILES_TO_KM / (EARTH_RADIUS * DEGREES_TO_RADIANS));
+
+        double maxAbsLatitude = 0.0;
+        for (int i = 0; i < count; i++) {
+            maxAbsLatitude = Math.max(maxAbsLatitude, Math.abs(latitudes[i]));
+        }
+        double lonCellSize = maxAbsLatitude > MAX_GRID_LATITUDE
+            ? 360.0
+            : latCellSize / Math.cos(Math.toRadians(maxAbsLatitude));
+
+        long[] entries = new long[count];
+        for (int i = 0; i < count; i++) {
+            int row = (int) Math.floor(latitudes[i] / latCellSize);
+            int column = (int) Math.floor(longitudes[i] / lonCellSize);
+            entries[i] = (cellKey(row, column) << 32) | i;
+        }
+        Arrays.sort(entries);
+
+        return new SpatialGrid(entries);
+    }
+
+    /**
+     * 同一セルおよび隣接セルに属する全ての航空機ペアを列挙
+     * 各ペアはちょうど1回だけ通知される
+     *
+     * @param consumer 候補ペアの受け取り先
+     */
+    void forEachCandidatePair(PairConsumer consumer) {
+        int start = 0;
+        while (start < sortedEntries.length) {
+            long key = sortedEntries[start] >>> 32;
+            int end = upperBound(key, start);
+
+            // 同一セル内のペア
+            for (int a = start; a < end; a++) {
+                for (int b = a + 1; b < end; b++) {
+                    emit(consumer, a, b);
+                }
+            }
+
+            // 隣接セルとのペア
+            int row = (int) (key >>> 16) - ROW_OFFSET;
+            int column = (int) (key & 0xFFFF) - COLUMN_OFFSET;
+            for (int[] offset : FORWARD_NEIGHBORS) {
+                long neighborKey = cellKey(row + offset[0], column + offset[1]);
+                int neighborStart = lowerBound(neighborKey);
+                int neighborEnd = upperBound(neighborKey, neighborStart);
+                for (int a = start; a < end; a++) {
+                    for (int b = neighborStart; b < neighborEnd; b++) {
+                        emit(consumer, a, b);
+                    }
+                }
+            }
+
+            start = end;
+        }
+    }
+
+    private void emit(PairConsumer consumer, int entryA, int entryB) {
+        int indexA = (int) sortedEntries[entryA];
+        int indexB = (int) sortedEntries[entryB];
+        if (indexA < indexB) {
+            consumer.accept(indexA, indexB);
+        } else {
+            consumer.accept(indexB, indexA);
+        }
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) (row + ROW_OFFSET) << 16) | (column + COLUMN_OFFSET);
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = sortedEntries.length;
+        long target = key << 32;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedEntries[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(long key, int from) {
+        int end = from;
+        while (end < sortedEntries.length && (sortedEntries[end] >>> 32) == key) {
+            end++;
+        }
+        return end;
+    }
+}
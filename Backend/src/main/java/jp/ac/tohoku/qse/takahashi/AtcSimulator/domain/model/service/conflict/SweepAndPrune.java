@@ -0,0 +1,155 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.*;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+
+/**
+ * 東西方向の1軸スイープ・アンド・プルーンによるブロードフェーズ
+ *
+ * 航空機を東西座標（{@link AircraftStateSnapshot#x}、赤道基準のメートル）で整列し、
+ * 東西方向の区間が重なる（座標差が考慮半径以内の）組み合わせのみを候補ペアとして列挙する。
+ *
+ * 1秒ティックでは航空機はほとんど移動しないため、前回パスの整列順は今回もほぼ整列済みである。
+ * 整列順を航空機インスタンス単位で保持し、毎パス挿入ソートで並べ直すことで整列コストをほぼO(N)に抑える。
+ * 新規の航空機が多い場合（初回パスなど）は全体を整列し直す。
+ *
+ * 東西座標は赤道基準のため、区間の半幅は対象航空機の最大緯度でのcosで拡大する。
+ * これにより {@link SpatialGrid} と同様、平均緯度補正による平面近似距離に対して取りこぼしは発生しない。
+ *
+ * 整列順の更新のみ同期し、区間の走査はロック外で行う。
+ */
+final class SweepAndPrune {
+
+    // これを超える緯度では東西方向の枝刈りを行わない（極付近でcosが0に近づくため）
+    private static final double MAX_SWEEP_LATITUDE = 89.0;
+
+    // 1度あたりのメートル数（赤道基準）
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS * DEGREES_TO_RADIANS * 1000.0;
+
+    // 新規航空機がこの割合を超える場合は挿入ソートではなく全体を整列する
+    private static final double FULL_SORT_RATIO = 0.25;
+
+    // 前回パスの整列順（航空機インスタンス）
+    private Aircraft[] previousOrder = new Aircraft[0];
+
+    /**
+     * 東西方向の区間が重なる全ての航空機ペアを列挙
+     * 各ペアはちょうど1回だけ通知される
+     *
+     * @param snapshot 航空機状態スナップショット
+     * @param radiusNm 考慮半径（海里）
+     * @param consumer 候補ペアの受け取り先（index1 < index2）
+     */
+    void forEachCandidatePair(AircraftStateSnapshot snapshot, double radiusNm, SpatialGrid.PairConsumer consumer) {
+        int[] order = updateOrder(snapshot);
+        double[] x = snapshot.x;
+        double reach = sweepReach(snapshot, radiusNm);
+
+        for (int a = 0; a < order.length; a++) {
+            int indexA = order[a];
+            double limit = x[indexA] + reach;
+            for (int b = a + 1; b < order.length && x[order[b]] <= limit; b++) {
+                int indexB = order[b];
+                if (indexA < indexB) {
+                    consumer.accept(indexA, indexB);
+                } else {
+                    consumer.accept(indexB, indexA);
+                }
+            }
+        }
+    }
+
+    /**
+     * 前回の整列順を今回のスナップショットのインデックスに対応付け、挿入ソートで並べ直す
+     *
+     * @return 東西座標の昇順に並んだスナップショットのインデックス
+     */
+    private synchronized int[] updateOrder(AircraftStateSnapshot snapshot) {
+        int count = snapshot.size;
+        Map<Aircraft, Integer> indexByAircraft = new IdentityHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            indexByAircraft.putIfAbsent(snapshot.aircraft[i], i);
+        }
+
+        // 前回から引き続き存在する航空機は前回の順序のまま並べる
+        int[] order = new int[count];
+        boolean[] placed = new boolean[count];
+        int size = 0;
+        for (Aircraft aircraft : previousOrder) {
+            Integer index = indexByAircraft.get(aircraft);
+            if (index != null && !placed[index]) {
+                placed[index] = true;
+                order[size++] = index;
+            }
+        }
+        int retained = size;
+
+        // 新規の航空機（同一インスタンスの重複を含む）は末尾に追加
+        for (int i = 0; i < count; i++) {
+            if (!placed[i]) {
+                order[size++] = i;
+            }
+        }
+
+        if (count - retained > count * FULL_SORT_RATIO) {
+            sortFully(order, snapshot.x);
+        } else {
+            insertionSort(order, snapshot.x);
+        }
+
+        Aircraft[] sortedAircraft = new Aircraft[count];
+        for (int k = 0; k < count; k++) {
+            sortedAircraft[k] = snapshot.aircraft[order[k]];
+        }
+        previousOrder = sortedAircraft;
+
+        return order;
+    }
+
+    /**
+     * ほぼ整列済みの配列に対する挿入ソート
+     */
+    private static void insertionSort(int[] order, double[] x) {
+        for (int a = 1; a < order.length; a++) {
+            int index = order[a];
+            double key = x[index];
+            int b = a - 1;
+            while (b >= 0 && x[order[b]] > key) {
+                order[b + 1] = order[b];
+                b--;
+            }
+            order[b + 1] = index;
+        }
+    }
+
+    private static void sortFully(int[] order, double[] x) {
+        Integer[] boxed = new Integer[order.length];
+        for (int k = 0; k < order.length; k++) {
+            boxed[k] = order[k];
+        }
+        Arrays.sort(boxed, (a, b) -> Double.compare(x[a], x[b]));
+        for (int k = 0; k < order.length; k++) {
+            order[k] = boxed[k];
+        }
+    }
+
+    /**
+     * 考慮半径に相当する東西座標の差（メートル）を計算
+     * 最大緯度でのcosで拡大する（極付近では枝刈りしない）
+     */
+    private static double sweepReach(AircraftStateSnapshot snapshot, double radiusNm) {
+        double maxAbsLatitude = 0.0;
+        for (int i = 0; i < snapshot.size; i++) {
+            maxAbsLatitude = Math.max(maxAbsLatitude, Math.abs(snapshot.latitude[i]));
+        }
+        if (maxAbsLatitude > MAX_SWEEP_LATITUDE) {
+            return 360.0 * METERS_PER_DEGREE;
+        }
+        return radiusNm * NAUTICAL_MILES_TO_KM * 1000.0 / Math.cos(Math.toRadians(maxAbsLatitude));
+    }
+}
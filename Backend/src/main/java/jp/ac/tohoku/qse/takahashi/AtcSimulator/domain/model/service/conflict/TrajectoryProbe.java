@@ -0,0 +1,457 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftBase;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftState;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.behavior.FlightBehavior;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.characteristics.AircraftCharacteristics;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftPosition;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftVector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.InstructedVector;
+
+/**
+ * 管制指示候補を与えた場合の1機分の予測軌道を周辺交通に対して評価する
+ *
+ * 対象機の軌道は航空機の {@link FlightBehavior} と {@link AircraftCharacteristics} の旋回率・加速度・上昇率で
+ * シミュレーションと同じ刻み（1 / REFRESH_RATE 秒）に沿って予測時間まで積分する。
+ * 周辺交通は現在のベクトルで等速直線運動するものとし（検出パスのCPA計算と同じ仮定）、
+ * 対象機の周辺の局所平面上で刻みごとの相対位置を求める。
+ *
+ * 候補は検出パスと同じペアごとの考慮距離（対象機は現在と指示の対地速度の大きい方）と
+ * 垂直方向の候補除外で絞り込み、残った航空機のみ軌道を評価する。
+ * 危険度は検出パスと同じ式（{@link ConflictDetector#calculateRiskLevel}）で評価する。
+ *
+ * 対象機・周辺交通の位置とベクトルは凍結した {@link AircraftState} のみから読むため、
+ * 運動計算と並行して評価しても1回の評価は同一ティックの状態に基づく。
+ * 航空機オブジェクトからは生成後に変化しない飛行特性・性能のみを参照する。
+ */
+final class TrajectoryProbe {
+
+    // 1度あたりのメートル数（赤道基準）
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS * DEGREES_TO_RADIANS * 1000.0;
+    private static final double METERS_PER_NAUTICAL_MILE = NAUTICAL_MILES_TO_KM * 1000.0;
+    private static final double MINIMUM_HORIZONTAL_SEPARATION_METERS_SQUARED =
+        Math.pow(MINIMUM_HORIZONTAL_SEPARATION * METERS_PER_NAUTICAL_MILE, 2);
+
+    private static final double STEP_SECONDS = 1.0 / REFRESH_RATE;
+    private static final int STEPS = (int) Math.round(MAX_PREDICTION_TIME / STEP_SECONDS);
+
+    // 目標高度の捕捉判定（AircraftBase#calculateNextAircraftVector と同じ）
+    private static final double ALTITUDE_CAPTURE_FEET = 5.0;
+    private static final double ALTITUDE_CAPTURE_VERTICAL_SPEED = 50.0;
+
+    private final ConflictDetector detector;
+
+    // 対象機の予測軌道（局所平面 x:東 y:北 メートル、z:高度フィート）
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+    // 予測軌道の高度範囲（フィート）
+    private double lowestAltitude;
+    private double highestAltitude;
+
+    TrajectoryProbe(ConflictDetector detector) {
+        this(detector, new double[STEPS + 1], new double[STEPS + 1], new double[STEPS + 1]);
+    }
+
+    /**
+     * 予測済みの水平経路と高度プロファイルを評価するプローブを生成
+     * 配列は読み取りのみ行うため、複数のプローブで共有してよい
+     *
+     * @param detector 検出器
+     * @param x 水平経路の東方向の位置（メートル、長さ {@link #trajectoryLength()}）
+     * @param y 水平経路の北方向の位置（メートル、長さ {@link #trajectoryLength()}）
+     * @param z 高度プロファイル（フィート、長さ {@link #trajectoryLength()}）
+     */
+    TrajectoryProbe(ConflictDetector detector, double[] x, double[] y, double[] z) {
+        this.detector = detector;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        updateAltitudeRange();
+    }
+
+    /**
+     * 予測軌道の配列長（現在位置と予測時間までの各刻み）
+     */
+    static int trajectoryLength() {
+        return STEPS + 1;
+    }
+
+    /**
+     * 航空機の現在の状態を凍結（呼び出し元は凍結中に運動計算が行われないことを保証すること）
+     *
+     * @param traffic 航空機
+     * @return 凍結した状態
+     */
+    static List<AircraftState> capture(List<Aircraft> traffic) {
+        List<AircraftState> states = new ArrayList<>(traffic.size());
+        for (Aircraft aircraft : traffic) {
+            states.add(AircraftState.capture(aircraft));
+        }
+        return states;
+    }
+
+    /**
+     * 予測軌道を周辺交通に対して評価
+     *
+     * @param subject 対象機の凍結した状態（航空機はAircraftBaseであること）
+     * @param instruction 管制指示候補
+     * @param traffic 周辺交通の凍結した状態（対象機自身が含まれていてもよい）
+     * @return 評価結果
+     */
+    TrajectoryProbeResult probe(AircraftState subject, InstructedVector instruction, List<AircraftState> traffic) {
+        double subjectSpeedBound = project(subject, instruction);
+        Neighbours neighbours = Neighbours.collect(detector, subject, traffic, subjectSpeedBound,
+                                                   lowestAltitude, highestAltitude);
+
+        List<TrajectoryProbeResult.Conflict> conflicts = new ArrayList<>();
+        double maxRiskLevel = 0.0;
+        for (int k = 0; k < neighbours.size; k++) {
+            TrajectoryProbeResult.Conflict conflict = evaluate(neighbours, k);
+            if (conflict != null) {
+                conflicts.add(conflict);
+                maxRiskLevel = Math.max(maxRiskLevel, conflict.riskLevel());
+            }
+        }
+
+        conflicts.sort(Comparator.comparingDouble(TrajectoryProbeResult.Conflict::riskLevel).reversed());
+        return new TrajectoryProbeResult(subject.callsign().toString(), neighbours.trafficCount, neighbours.size,
+                                         maxRiskLevel, conflicts);
+    }
+
+    /**
+     * 直前に {@link #project} した（または生成時に与えた）軌道で全ての相手機との管制間隔欠如が予測されないかを判定
+     * 相手機は複数の軌道候補で共有するため、この軌道の高度範囲で改めて垂直方向の候補除外を行う
+     *
+     * @param neighbours 相手機
+     * @return 管制間隔欠如が予測されない場合は相手機との最大危険度、予測される場合は-1
+     */
+    double clearedMaxRiskLevel(Neighbours neighbours) {
+        PreFilterSettings settings = detector.getPreFilterSettings();
+        double maxRiskLevel = 0.0;
+        for (int k = 0; k < neighbours.size; k++) {
+            if (isVerticallySeparated(settings, lowestAltitude, highestAltitude,
+                                      neighbours.altitude[k], neighbours.vz[k])) {
+                continue;
+            }
+            TrajectoryProbeResult.Conflict conflict = evaluate(neighbours, k);
+            if (conflict == null) {
+                continue;
+            }
+            if (conflict.conflictPredicted()) {
+                return -1.0;
+            }
+            maxRiskLevel = Math.max(maxRiskLevel, conflict.riskLevel());
+        }
+        return maxRiskLevel;
+    }
+
+    /**
+     * 対象機の軌道を予測時間まで積分
+     *
+     * @return 予測時間内の対地速度の上限（ノット、考慮距離の計算用）
+     */
+    double project(AircraftState subject, InstructedVector instruction) {
+        double targetGroundSpeed = instruction.instructedGroundSpeed.toDouble();
+        projectHorizontal(subject, instruction.instructedHeading.toDouble(), targetGroundSpeed, x, y);
+        projectVertical(subject, instruction.instructedAltitude.toDouble(), z);
+        updateAltitudeRange();
+
+        // 対地速度は目標に向かって単調に変化するため、現在と目標の大きい方が上限
+        return Math.max(subject.vector().groundSpeed.toDouble(), targetGroundSpeed);
+    }
+
+    /**
+     * 指示ヘディング・指示対地速度に向かう水平経路を予測時間まで積分
+     * ヘディングと対地速度の変化は高度と独立なため（{@link FlightBehavior}）、同じ水平指示の候補間で共有できる
+     *
+     * @param subject 対象機の凍結した状態
+     * @param targetHeading 指示ヘディング（度）
+     * @param targetGroundSpeed 指示対地速度（ノット）
+     * @param x 東方向の位置（メートル）の出力先
+     * @param y 北方向の位置（メートル）の出力先
+     */
+    static void projectHorizontal(AircraftState subject, double targetHeading, double targetGroundSpeed,
+                                  double[] x, double[] y) {
+        AircraftBase aircraft = (AircraftBase) subject.aircraft();
+        FlightBehavior behavior = aircraft.getFlightBehavior();
+        AircraftCharacteristics characteristics = aircraft.getCharacteristics();
+        AircraftVector vector = subject.vector();
+        double heading = vector.heading.toDouble();
+        double groundSpeed = vector.groundSpeed.toDouble();
+
+        x[0] = 0.0;
+        y[0] = 0.0;
+        for (int step = 1; step <= STEPS; step++) {
+            heading = behavior.calculateNextHeading(heading, targetHeading, characteristics.getMaxTurnRate()).toDouble();
+            groundSpeed = behavior.calculateNextGroundSpeed(
+                groundSpeed, targetGroundSpeed, characteristics.getMaxAcceleration()).toDouble();
+
+            double speedMetersPerSecond = groundSpeed * KNOTS_TO_KM_PER_HOUR / 3.6;
+            double headingRad = Math.toRadians(heading);
+            x[step] = x[step - 1] + speedMetersPerSecond * Math.sin(headingRad) * STEP_SECONDS;
+            y[step] = y[step - 1] + speedMetersPerSecond * Math.cos(headingRad) * STEP_SECONDS;
+        }
+    }
+
+    /**
+     * 指示高度に向かう高度プロファイルを予測時間まで積分
+     * 垂直速度の変化は水平方向と独立なため（{@link FlightBehavior}）、同じ指示高度の候補間で共有できる
+     *
+     * @param subject 対象機の凍結した状態
+     * @param targetAltitude 指示高度（フィート）
+     * @param z 高度（フィート）の出力先
+     */
+    static void projectVertical(AircraftState subject, double targetAltitude, double[] z) {
+        AircraftBase aircraft = (AircraftBase) subject.aircraft();
+        FlightBehavior behavior = aircraft.getFlightBehavior();
+        AircraftCharacteristics characteristics = aircraft.getCharacteristics();
+        double altitude = subject.position().altitude.toDouble();
+
+        z[0] = altitude;
+        for (int step = 1; step <= STEPS; step++) {
+            double verticalSpeed = behavior.calculateNextVerticalSpeed(
+                altitude, targetAltitude, characteristics.getMaxClimbRate(), REFRESH_RATE).toDouble();
+            if (Math.abs(altitude - targetAltitude) <= ALTITUDE_CAPTURE_FEET
+                    && Math.abs(verticalSpeed) <= ALTITUDE_CAPTURE_VERTICAL_SPEED) {
+                altitude = targetAltitude;
+                verticalSpeed = 0.0;
+            }
+            altitude += verticalSpeed / 60.0 * STEP_SECONDS;
+            z[step] = altitude;
+        }
+    }
+
+    private void updateAltitudeRange() {
+        double lowest = z[0];
+        double highest = z[0];
+        for (int step = 1; step <= STEPS; step++) {
+            lowest = Math.min(lowest, z[step]);
+            highest = Math.max(highest, z[step]);
+        }
+        lowestAltitude = lowest;
+        highestAltitude = highest;
+    }
+
+    /**
+     * 対象機の高度範囲と相手機の予測時間内の高度範囲の差が最小垂直間隔+マージンを上回るかを判定
+     * 垂直方向の候補除外が無効な場合は常にfalse
+     */
+    private static boolean isVerticallySeparated(PreFilterSettings settings, double lowestAltitude,
+                                                 double highestAltitude, double altitude, double verticalRate) {
+        if (!settings.isVerticalCullingEnabled()) {
+            return false;
+        }
+        double otherEnd = altitude + verticalRate * MAX_PREDICTION_TIME;
+        double otherLowest = Math.min(altitude, otherEnd);
+        double otherHighest = Math.max(altitude, otherEnd);
+        double gap = Math.max(otherLowest - highestAltitude, lowestAltitude - otherHighest);
+        return gap > MINIMUM_VERTICAL_SEPARATION + settings.verticalCullingMargin();
+    }
+
+    /**
+     * 等速直線運動する相手機と対象機の予測軌道の最接近点を刻みごとに探索し、危険度を評価
+     *
+     * @return 危険度が0を超える、または管制間隔欠如が予測される場合は評価結果、それ以外はnull
+     */
+    private TrajectoryProbeResult.Conflict evaluate(Neighbours neighbours, int k) {
+        double rx0 = neighbours.rx[k];
+        double ry0 = neighbours.ry[k];
+        double altitude = neighbours.altitude[k];
+        double vx = neighbours.vx[k];
+        double vy = neighbours.vy[k];
+        double vz = neighbours.vz[k];
+        int closestStep = 0;
+        double closestDistanceSquared = Double.POSITIVE_INFINITY;
+        int firstViolationStep = -1;
+
+        for (int step = 0; step <= STEPS; step++) {
+            double t = step * STEP_SECONDS;
+            double rx = rx0 + vx * t - x[step];
+            double ry = ry0 + vy * t - y[step];
+            double rz = altitude + vz * t - z[step];
+            // 検出パスのCPAと同じく水平メートル・垂直フィートの3次元距離で最接近点を判定
+            double horizontalSquared = rx * rx + ry * ry;
+            double distanceSquared = horizontalSquared + rz * rz;
+            if (distanceSquared < closestDistanceSquared) {
+                closestDistanceSquared = distanceSquared;
+                closestStep = step;
+            }
+            if (firstViolationStep < 0
+                    && horizontalSquared < MINIMUM_HORIZONTAL_SEPARATION_METERS_SQUARED
+                    && Math.abs(rz) < MINIMUM_VERTICAL_SEPARATION) {
+                firstViolationStep = step;
+            }
+        }
+
+        double timeToClosest;
+        double closestHorizontalDistance;
+        double closestVerticalDistance;
+        if (closestStep == 0) {
+            // 現時点で既に離れつつある場合は、初期ベクトルの直線CPA（負の最接近時刻）で検出パスと揃える
+            double svx = (x[1] - x[0]) / STEP_SECONDS;
+            double svy = (y[1] - y[0]) / STEP_SECONDS;
+            double svz = (z[1] - z[0]) / STEP_SECONDS;
+            double[] cpa = linearCpa(rx0, ry0, altitude - z[0], vx - svx, vy - svy, vz - svz);
+            timeToClosest = cpa[0];
+            closestHorizontalDistance = cpa[1];
+            closestVerticalDistance = cpa[2];
+        } else {
+            double t = closestStep * STEP_SECONDS;
+            double rx = rx0 + vx * t - x[closestStep];
+            double ry = ry0 + vy * t - y[closestStep];
+            timeToClosest = t;
+            closestHorizontalDistance = Math.sqrt(rx * rx + ry * ry) / METERS_PER_NAUTICAL_MILE;
+            closestVerticalDistance = Math.abs(altitude + vz * t - z[closestStep]);
+        }
+
+        double riskLevel = detector.calculateRiskLevel(timeToClosest, closestHorizontalDistance,
+                                                       closestVerticalDistance, closestHorizontalDistance,
+                                                       closestVerticalDistance);
+        boolean conflictPredicted = firstViolationStep >= 0
+            || detector.predictSeparationViolation(timeToClosest, closestHorizontalDistance, closestVerticalDistance);
+        if (!(riskLevel > 0.0) && !conflictPredicted) {
+            return null;
+        }
+        return new TrajectoryProbeResult.Conflict(
+            neighbours.callsigns[k],
+            riskLevel,
+            AlertLevel.fromRiskLevel(riskLevel),
+            timeToClosest,
+            closestHorizontalDistance,
+            closestVerticalDistance,
+            conflictPredicted,
+            firstViolationStep >= 0 ? firstViolationStep * STEP_SECONDS : -1.0
+        );
+    }
+
+    /**
+     * 相対位置・相対速度からの直線CPA（{@link ConflictDetector} のSoAカーネルと同一の式）
+     *
+     * @return 最接近時刻（秒）・水平距離（海里）・垂直距離（フィート）
+     */
+    private static double[] linearCpa(double rx, double ry, double rz, double vx, double vy, double vz) {
+        double relativeSpeedSquared = vx * vx + vy * vy + vz * vz;
+        if (Math.sqrt(relativeSpeedSquared) < ConflictDetector.EPSILON) {
+            return new double[] {
+                Double.POSITIVE_INFINITY, Math.sqrt(rx * rx + ry * ry) / METERS_PER_NAUTICAL_MILE, Math.abs(rz)
+            };
+        }
+        double timeToClosest = -(rx * vx + ry * vy + rz * vz) / relativeSpeedSquared;
+        double cx = rx + timeToClosest * vx;
+        double cy = ry + timeToClosest * vy;
+        double cz = rz + timeToClosest * vz;
+        return new double[] {
+            Math.min(timeToClosest, MAX_PREDICTION_TIME),
+            Math.sqrt(cx * cx + cy * cy) / METERS_PER_NAUTICAL_MILE,
+            Math.abs(cz)
+        };
+    }
+
+    /**
+     * 考慮距離・垂直方向の候補除外を通過した相手機（対象機の現在位置を原点とする局所平面上の位置と速度）
+     * 同じ対象機の複数の軌道候補で共有する
+     */
+    static final class Neighbours {
+        // 周辺交通として渡された航空機数（対象機を除く）
+        final int trafficCount;
+        final int size;
+        final String[] callsigns;
+        // 水平位置（メートル）・高度（フィート）・速度（m/s、垂直はft/s）
+        final double[] rx;
+        final double[] ry;
+        final double[] altitude;
+        final double[] vx;
+        final double[] vy;
+        final double[] vz;
+
+        private Neighbours(int trafficCount, int size, String[] callsigns, double[] rx, double[] ry,
+                           double[] altitude, double[] vx, double[] vy, double[] vz) {
+            this.trafficCount = trafficCount;
+            this.size = size;
+            this.callsigns = callsigns;
+            this.rx = rx;
+            this.ry = ry;
+            this.altitude = altitude;
+            this.vx = vx;
+            this.vy = vy;
+            this.vz = vz;
+        }
+
+        /**
+         * 対象機の対地速度の上限と予測時間内の高度範囲から、軌道を評価する相手機を抽出
+         *
+         * @param detector 考慮距離・候補除外の設定を持つ検出器
+         * @param subject 対象機の凍結した状態
+         * @param traffic 周辺交通の凍結した状態（対象機自身が含まれていてもよい）
+         * @param subjectSpeedBound 対象機の対地速度の上限（ノット）
+         * @param lowestAltitude 対象機の最低高度（フィート）
+         * @param highestAltitude 対象機の最高高度（フィート）
+         * @return 相手機
+         */
+        static Neighbours collect(ConflictDetector detector, AircraftState subject, List<AircraftState> traffic,
+                                  double subjectSpeedBound, double lowestAltitude, double highestAltitude) {
+            AircraftPosition origin = subject.position();
+            double originLatitude = origin.latitude.toDouble();
+            double originLongitude = origin.longitude.toDouble();
+            PreFilterSettings settings = detector.getPreFilterSettings();
+
+            int capacity = traffic.size();
+            String[] callsigns = new String[capacity];
+            double[] rx = new double[capacity];
+            double[] ry = new double[capacity];
+            double[] altitude = new double[capacity];
+            double[] vx = new double[capacity];
+            double[] vy = new double[capacity];
+            double[] vz = new double[capacity];
+            int trafficCount = 0;
+            int size = 0;
+
+            for (AircraftState other : traffic) {
+                if (other.callsign().equals(subject.callsign())) {
+                    continue;
+                }
+                trafficCount++;
+
+                AircraftPosition position = other.position();
+                AircraftVector vector = other.vector();
+                double latitude = position.latitude.toDouble();
+                double cosAverageLatitude = Math.cos(Math.toRadians((latitude + originLatitude) / 2));
+                double x = (position.longitude.toDouble() - originLongitude) * METERS_PER_DEGREE * cosAverageLatitude;
+                double y = (latitude - originLatitude) * METERS_PER_DEGREE;
+                double groundSpeed = vector.groundSpeed.toDouble();
+
+                double distanceNm = Math.sqrt(x * x + y * y) / METERS_PER_NAUTICAL_MILE;
+                if (distanceNm > detector.considerationLimit(subjectSpeedBound, groundSpeed, MAX_PREDICTION_TIME)) {
+                    continue;
+                }
+
+                double z = position.altitude.toDouble();
+                double verticalRate = vector.verticalSpeed.toDouble() / 60.0;
+                if (isVerticallySeparated(settings, lowestAltitude, highestAltitude, z, verticalRate)) {
+                    continue;
+                }
+
+                double speedMetersPerSecond = groundSpeed * KNOTS_TO_KM_PER_HOUR / 3.6;
+                double headingRad = Math.toRadians(vector.heading.toDouble());
+                callsigns[size] = other.callsign().toString();
+                rx[size] = x;
+                ry[size] = y;
+                altitude[size] = z;
+                vx[size] = speedMetersPerSecond * Math.sin(headingRad);
+                vy[size] = speedMetersPerSecond * Math.cos(headingRad);
+                vz[size] = verticalRate;
+                size++;
+            }
+            return new Neighbours(trafficCount, size, callsigns, rx, ry, altitude, vx, vy, vz);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import java.util.List;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+
+/**
+ * 管制指示候補に対する予測軌道の評価結果
+ *
+ * @param callsign 評価対象の航空機コールサイン
+ * @param trafficCount 周辺交通として渡された航空機数（評価対象を除く）
+ * @param candidateCount 考慮距離・垂直方向の候補除外を通過し軌道を評価した航空機数
+ * @param maxRiskLevel 最大危険度（コンフリクトがない場合は0）
+ * @param conflicts 危険度が0を超える、または管制間隔欠如が予測される相手機（危険度の高い順）
+ */
+public record TrajectoryProbeResult(
+    String callsign,
+    int trafficCount,
+    int candidateCount,
+    double maxRiskLevel,
+    List<Conflict> conflicts
+) {
+
+    /**
+     * 予測軌道と相手機1機の評価結果
+     *
+     * @param callsign 相手機コールサイン
+     * @param riskLevel 危険度（0-100）
+     * @param alertLevel アラートレベル
+     * @param timeToClosest 最接近までの時間（秒）
+     * @param closestHorizontalDistance 最接近時の水平距離（海里）
+     * @param closestVerticalDistance 最接近時の垂直距離（フィート）
+     * @param conflictPredicted 予測時間内に管制間隔欠如が予測されるか
+     * @param firstViolationTime 管制間隔を最初に下回るまでの時間（秒、下回らない場合は-1）
+     */
+    public record Conflict(
+        String callsign,
+        double riskLevel,
+        AlertLevel alertLevel,
+        double timeToClosest,
+        double closestHorizontalDistance,
+        double closestVerticalDistance,
+        boolean conflictPredicted,
+        double firstViolationTime
+    ) {}
+}
@@ -0,0 +1,110 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.*;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Java Vector API（jdk.incubator.vector）によるCPA計算カーネル
+ *
+ * 1機の航空機（ブロードキャスト）に対し、レーン幅分の相手機をgatherしてまとめて評価する。
+ * 相対位置・相対速度・内積・最接近時刻のクランプ・最接近時の水平/垂直距離までをSIMDで計算し、
+ * 分岐の多い危険度計算は呼び出し側でスカラー実行する。
+ *
+ * jdk.incubator.vector モジュールが有効な場合のみロードすること
+ * （{@link ConflictDetector} が可用性を判定してからのみ参照する）。
+ */
+final class VectorCpaKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorCpaKernel() {
+        throw new AssertionError("ユーティリティクラスのインスタンス化は禁止されています");
+    }
+
+    /**
+     * 1レーンあたりのdouble要素数を取得
+     *
+     * @return レーン幅
+     */
+    static int laneCount() {
+        return SPECIES.length();
+    }
+
+    /**
+     * 航空機 {@code i} と {@code partners[from, to)} の各相手機のCPAを計算
+     *
+     * @param snapshot 航空機状態スナップショット
+     * @param i 基準航空機のインデックス
+     * @param partners 相手機インデックスの配列（gatherのため {@code to} 以降に {@link #laneCount()} 要素以上の有効なインデックスが必要）
+     * @param from 評価範囲の開始位置（含む）
+     * @param to 評価範囲の終了位置（含まない）
+     * @param predictionHorizon 最接近時刻の上限（秒）
+     * @param timeToClosest 最接近時刻の出力先（partnersと同じ位置に書き込む）
+     * @param horizontalDistance 最接近時水平距離（海里）の出力先
+     * @param verticalDistance 最接近時垂直距離（フィート）の出力先
+     */
+    static void evaluate(AircraftStateSnapshot snapshot, int i, int[] partners, int from, int to,
+                         double predictionHorizon, double[] timeToClosest, double[] horizontalDistance, double[] verticalDistance) {
+        DoubleVector x1 = DoubleVector.broadcast(SPECIES, snapshot.x[i]);
+        DoubleVector y1 = DoubleVector.broadcast(SPECIES, snapshot.y[i]);
+        DoubleVector z1 = DoubleVector.broadcast(SPECIES, snapshot.altitude[i]);
+        DoubleVector cosHalf1 = DoubleVector.broadcast(SPECIES, snapshot.cosHalfLatitude[i]);
+        DoubleVector sinHalf1 = DoubleVector.broadcast(SPECIES, snapshot.sinHalfLatitude[i]);
+        DoubleVector vx1 = DoubleVector.broadcast(SPECIES, snapshot.vx[i]);
+        DoubleVector vy1 = DoubleVector.broadcast(SPECIES, snapshot.vy[i]);
+        DoubleVector vz1 = DoubleVector.broadcast(SPECIES, snapshot.vz[i]);
+
+        int lanes = SPECIES.length();
+        for (int k = from; k < to; k += lanes) {
+            VectorMask<Double> active = SPECIES.indexInRange(k - from, to - from);
+
+            DoubleVector x2 = DoubleVector.fromArray(SPECIES, snapshot.x, 0, partners, k, active);
+            DoubleVector y2 = DoubleVector.fromArray(SPECIES, snapshot.y, 0, partners, k, active);
+            DoubleVector z2 = DoubleVector.fromArray(SPECIES, snapshot.altitude, 0, partners, k, active);
+            DoubleVector cosHalf2 = DoubleVector.fromArray(SPECIES, snapshot.cosHalfLatitude, 0, partners, k, active);
+            DoubleVector sinHalf2 = DoubleVector.fromArray(SPECIES, snapshot.sinHalfLatitude, 0, partners, k, active);
+            DoubleVector vx2 = DoubleVector.fromArray(SPECIES, snapshot.vx, 0, partners, k, active);
+            DoubleVector vy2 = DoubleVector.fromArray(SPECIES, snapshot.vy, 0, partners, k, active);
+            DoubleVector vz2 = DoubleVector.fromArray(SPECIES, snapshot.vz, 0, partners, k, active);
+
+            // 相対位置（x,y:メートル, z:フィート）。経度方向は平均緯度のcosで補正
+            DoubleVector cosAverageLatitude = cosHalf1.mul(cosHalf2).sub(sinHalf1.mul(sinHalf2));
+            DoubleVector rx = x2.sub(x1).mul(cosAverageLatitude);
+            DoubleVector ry = y2.sub(y1);
+            DoubleVector rz = z2.sub(z1);
+
+            // 相対速度（水平:メートル/秒、垂直:フィート/秒）
+            DoubleVector vx = vx2.sub(vx1);
+            DoubleVector vy = vy2.sub(vy1);
+            DoubleVector vz = vz2.sub(vz1);
+
+            DoubleVector speed = vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).lanewise(VectorOperators.SQRT);
+            VectorMask<Double> parallel = speed.lt(ConflictDetector.EPSILON);
+
+            // t = -(r·v) / |v|²（並行飛行レーンは現在距離を使うため t=0 で評価）
+            DoubleVector dot = rx.mul(vx).add(ry.mul(vy)).add(rz.mul(vz));
+            DoubleVector time = dot.neg().div(speed.mul(speed)).blend(0.0, parallel);
+
+            DoubleVector cx = rx.add(vx.mul(time));
+            DoubleVector cy = ry.add(vy.mul(time));
+            DoubleVector cz = rz.add(vz.mul(time));
+
+            DoubleVector horizontal = cx.mul(cx).add(cy.mul(cy))
+                .lanewise(VectorOperators.SQRT)
+                .div(1000.0)
+                .div(NAUTICAL_MILES_TO_KM); // メートルから海里に変換
+            DoubleVector vertical = cz.abs();
+
+            // 予測時間範囲の制限（並行飛行は無限大）
+            DoubleVector clampedTime = time.min(predictionHorizon).blend(Double.POSITIVE_INFINITY, parallel);
+
+            clampedTime.intoArray(timeToClosest, k, active);
+            horizontal.intoArray(horizontalDistance, k, active);
+            vertical.intoArray(verticalDistance, k, active);
+        }
+    }
+}
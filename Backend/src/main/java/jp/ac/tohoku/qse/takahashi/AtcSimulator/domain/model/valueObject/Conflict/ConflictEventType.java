@@ -0,0 +1,37 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict;
+
+/**
+ * コンフリクトアラートの状態遷移の種類を表す列挙型
+ * ペアのアラートレベル（WHITE_CONFLICT / RED_CONFLICT）の発生・変化・解消を表す
+ */
+public enum ConflictEventType {
+    /**
+     * 新規 - 安全なペアがWHITE_CONFLICTまたはRED_CONFLICTになった
+     */
+    NEW("NEW"),
+
+    /**
+     * 格上げ - WHITE_CONFLICTからRED_CONFLICTになった
+     */
+    ESCALATED("ESCALATED"),
+
+    /**
+     * 格下げ - RED_CONFLICTからWHITE_CONFLICTになった
+     */
+    DE_ESCALATED("DE-ESCALATED"),
+
+    /**
+     * 解消 - コンフリクト中のペアが安全になった、または検出対象外になった
+     */
+    RESOLVED("RESOLVED");
+
+    private final String description;
+
+    ConflictEventType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
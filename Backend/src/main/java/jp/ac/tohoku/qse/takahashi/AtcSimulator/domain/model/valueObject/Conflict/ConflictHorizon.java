@@ -0,0 +1,27 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict;
+
+/**
+ * コンフリクト検出の予測時間の区分を表す列挙型
+ * 同じスナップショットに公開される検出結果がどの段階の検出によるものかを示す
+ */
+public enum ConflictHorizon {
+    /**
+     * 短期コンフリクト警報（STCA） - 毎ティック、ブロードフェーズの近傍に対して短い予測時間で検出
+     */
+    SHORT_TERM("SHORT_TERM"),
+
+    /**
+     * 中期予測 - 広い半径と長い予測時間で、複数ティックに分散して検出
+     */
+    MEDIUM_TERM("MEDIUM_TERM");
+
+    private final String description;
+
+    ConflictHorizon(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -1,19 +1,32 @@
 package jp.ac.tohoku.qse.takahashi.AtcSimulator.infrastructure.persistence.inMemory;
 
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.SIMULATION_STEP_SECONDS;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.AircraftConflictException;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.AircraftNotFoundException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftRepository;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftState;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.WorldState;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
 
 /**
@@ -23,17 +36,66 @@ import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign
  * - スレッドセーフな実装（ConcurrentHashMap + ReadWriteLock）
  * - 効率的なデータ構造による大規模データ対応
  * - 統一された例外処理による安定性向上
+ * - 並列ステップモード：nextStepで航空機を連続したチャンクに分割し、専用のワーカープールで並列に更新
+ *
+ * 各航空機の状態更新は自機の状態のみを変更するため、チャンク間で共有する可変状態はない。
+ * 削除対象はチャンクごとに収集し、全チャンクの完了後にチャンク順に統合して削除するため、
+ * 並列・逐次のどちらでも同じ状態になる。
+ * 時間圧縮で1ティックのシミュレーション時間が運動モデルの基準ステップを超える場合は、
+ * 等幅のサブステップに分割し、各航空機についてサブステップを連続して実行する（チャンク分割は1ティックに1回）。
+ *
+ * 航空機オブジェクトは運動計算が書き込むバックバッファとして扱い、読み取り側には不変の {@link WorldState} を公開する。
+ * nextStepは更新の完了後に全航空機の状態を凍結し、volatileフィールドの1回の書き込みでフロントバッファと差し替える。
+ * 公開済みのワールド状態の読み取りはvolatileフィールドを返すだけでロックを取らないため、
+ * ティックを待たせることもティックに待たされることもない。
+ * 追加・削除・クリアは呼び出し元のスレッドで公開済みのワールド状態をコピーして1機分だけ差し替えて再公開する
+ * （追加する航空機はMapに登録する前に凍結するため、運動計算中の状態は凍結しない）。
  */
 @Repository
-public class AircraftRepositoryInMemory implements AircraftRepository {
+public class AircraftRepositoryInMemory implements AircraftRepository, AutoCloseable {
 
     private static final Logger logger = LoggerFactory.getLogger(AircraftRepositoryInMemory.class);
 
+    /** 既定のチャンク幅（航空機数） */
+    public static final int DEFAULT_STEP_CHUNK_SIZE = 128;
+
     private final ConcurrentHashMap<String, Aircraft> aircraftMap = new ConcurrentHashMap<>();
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
+    // 読み取り側に公開するフロントバッファ（不変）
+    private volatile WorldState worldState = WorldState.EMPTY;
+    private final Object publishMonitor = new Object();
+    private long worldStateVersion;
+
+    // 逐次ステップの場合はnull
+    private final ForkJoinPool stepPool;
+    private final int stepChunkSize;
+
+    /**
+     * 逐次ステップのリポジトリを作成するコンストラクタ
+     */
     public AircraftRepositoryInMemory() {
-        logger.info("AircraftRepositoryInMemory初期化完了");
+        this(1, DEFAULT_STEP_CHUNK_SIZE);
+    }
+
+    /**
+     * ステップの並列度を指定するコンストラクタ
+     *
+     * @param stepParallelism nextStepの並列度（atc.simulation.step.parallelism、1は逐次、0以下は利用可能なプロセッサ数）
+     * @param stepChunkSize 1タスクが更新する航空機数（atc.simulation.step.chunk-size、この機数以下の場合は逐次実行）
+     * @throws InvalidParameterException チャンク幅が1未満の場合
+     */
+    @Autowired
+    public AircraftRepositoryInMemory(
+            @Value("${atc.simulation.step.parallelism:1}") int stepParallelism,
+            @Value("${atc.simulation.step.chunk-size:" + DEFAULT_STEP_CHUNK_SIZE + "}") int stepChunkSize) {
+        if (stepChunkSize < 1) {
+            throw new InvalidParameterException("stepChunkSize", stepChunkSize, "チャンク幅は1以上で指定してください");
+        }
+        int threads = stepParallelism > 0 ? stepParallelism : Runtime.getRuntime().availableProcessors();
+        this.stepPool = threads > 1 ? createStepPool(threads) : null;
+        this.stepChunkSize = stepChunkSize;
+        logger.info("AircraftRepositoryInMemory初期化完了（ステップ並列度: {}）", threads);
     }
 
     @Override
@@ -52,13 +114,16 @@ public class AircraftRepositoryInMemory implements AircraftRepository {
         }
 
         String callsignKey = aircraft.getCallsign().toString();
+        // Mapに登録する前（ティックから見えない状態）で凍結する
+        AircraftState state = AircraftState.capture(aircraft);
 
-        if (aircraftMap.containsKey(callsignKey)) {
-            logger.warn("航空機追加失敗: コールサイン '{}' は既に存在します", callsignKey);
-            throw new AircraftConflictException(callsignKey);
+        synchronized (publishMonitor) {
+            if (aircraftMap.putIfAbsent(callsignKey, aircraft) != null) {
+                logger.warn("航空機追加失敗: コールサイン '{}' は既に存在します", callsignKey);
+                throw new AircraftConflictException(callsignKey);
+            }
+            worldState = worldState.withAircraft(++worldStateVersion, state);
         }
-
-        aircraftMap.put(callsignKey, aircraft);
         logger.debug("航空機追加成功: {}", callsignKey);
     }
 
@@ -93,11 +158,13 @@ public class AircraftRepositoryInMemory implements AircraftRepository {
         }
 
         String callsignKey = aircraft.getCallsign().toString();
-        Aircraft removed = aircraftMap.remove(callsignKey);
 
-        if (removed == null) {
-            logger.warn("航空機削除失敗: コールサイン '{}' が見つかりません", callsignKey);
-            throw new AircraftNotFoundException(callsignKey);
+        synchronized (publishMonitor) {
+            if (aircraftMap.remove(callsignKey) == null) {
+                logger.warn("航空機削除失敗: コールサイン '{}' が見つかりません", callsignKey);
+                throw new AircraftNotFoundException(callsignKey);
+            }
+            worldState = worldState.withoutAircraft(++worldStateVersion, aircraft.getCallsign());
         }
 
         logger.debug("航空機削除成功: {}", callsignKey);
@@ -105,42 +172,184 @@ public class AircraftRepositoryInMemory implements AircraftRepository {
 
     @Override
     public void nextStep() {
+        nextStep(SIMULATION_STEP_SECONDS);
+    }
+
+    /**
+     * 指定したシミュレーション時間だけ全航空機を進める
+     * 基準ステップ（SIMULATION_STEP_SECONDS）を超える場合は、基準ステップ以下の等幅のサブステップに分割する
+     *
+     * @param simulatedSeconds 進めるシミュレーション時間（秒、正の有限値）
+     * @throws InvalidParameterException 正の有限値でない場合
+     */
+    @Override
+    public void nextStep(double simulatedSeconds) {
+        if (!Double.isFinite(simulatedSeconds) || simulatedSeconds <= 0.0) {
+            throw new InvalidParameterException("simulatedSeconds", simulatedSeconds,
+                                                "シミュレーション時間は正の有限値で指定してください");
+        }
+        // 浮動小数点の誤差で1サブステップ余分に分割しないよう、わずかな超過は切り捨てる
+        int subSteps = Math.max(1, (int) Math.ceil(simulatedSeconds / SIMULATION_STEP_SECONDS - 1e-9));
+        double stepSeconds = simulatedSeconds / subSteps;
+
         lock.writeLock().lock();
         try {
-            logger.debug("全航空機の次ステップ計算開始: {}機", aircraftMap.size());
+            logger.debug("全航空機の次ステップ計算開始: {}機, {}秒（{}サブステップ）",
+                         aircraftMap.size(), simulatedSeconds, subSteps);
+
+            Aircraft[] aircraft = aircraftMap.values().toArray(new Aircraft[0]);
+            List<StepPartition> partitions = isParallel(aircraft.length)
+                ? stepInParallel(aircraft, subSteps, stepSeconds)
+                : List.of(stepRange(aircraft, 0, aircraft.length, subSteps, stepSeconds));
 
+            // チャンクごとに収集した削除対象をチャンク順に統合してから削除する（直後にまとめて公開する）
             int processedCount = 0;
-            List<Aircraft> toRemove = new ArrayList<>();
-            for (Aircraft aircraft : aircraftMap.values()) {
-                try {
-                    aircraft.calculateNextAircraftVector();
-                    aircraft.calculateNextAircraftPosition();
-                    processedCount++;
-                    if (aircraft.shouldBeRemovedFromSimulation()) {
-                        toRemove.add(aircraft);
-                    }
-                } catch (Exception e) {
-                    logger.error("航空機 '{}' の次ステップ計算でエラー: {}",
-                               aircraft.getCallsign().toString(), e.getMessage(), e);
+            for (StepPartition partition : partitions) {
+                processedCount += partition.processedCount();
+                for (Aircraft removed : partition.toRemove()) {
+                    aircraftMap.remove(removed.getCallsign().toString());
+                    logger.debug("航空機削除成功: {}", removed.getCallsign());
                 }
             }
-            for (Aircraft aircraft : toRemove) {
-                remove(aircraft);
-            }
 
-            logger.debug("全航空機の次ステップ計算完了: {}/{}機処理", processedCount, aircraftMap.size());
+            // 全航空機の更新が完了した状態を凍結して公開する
+            publishLocked();
+
+            logger.debug("全航空機の次ステップ計算完了: {}/{}機処理", processedCount, aircraft.length);
         } finally {
             lock.writeLock().unlock();
         }
     }
 
+    @Override
+    public WorldState getWorldState() {
+        return worldState;
+    }
+
+    @Override
+    public void publishWorldState() {
+        // 読み取りロックにより運動計算中（書き込みロック保持中）の状態は凍結しない
+        lock.readLock().lock();
+        try {
+            publishLocked();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 現在の航空機の状態を凍結して公開（呼び出し元が読み取りロックまたは書き込みロックを保持していること）
+     */
+    private void publishLocked() {
+        synchronized (publishMonitor) {
+            worldState = WorldState.capture(++worldStateVersion, aircraftMap.values());
+        }
+    }
+
+    /**
+     * nextStepの並列度を取得
+     *
+     * @return ワーカースレッド数（逐次ステップの場合は1）
+     */
+    public int getStepParallelism() {
+        return stepPool != null ? stepPool.getParallelism() : 1;
+    }
+
+    public int getStepChunkSize() {
+        return stepChunkSize;
+    }
+
+    private boolean isParallel(int aircraftCount) {
+        return stepPool != null && aircraftCount > stepChunkSize;
+    }
+
+    private List<StepPartition> stepInParallel(Aircraft[] aircraft, int subSteps, double stepSeconds) {
+        List<Callable<StepPartition>> tasks = new ArrayList<>(aircraft.length / stepChunkSize + 1);
+        for (int from = 0; from < aircraft.length; from += stepChunkSize) {
+            int start = from;
+            int end = Math.min(from + stepChunkSize, aircraft.length);
+            tasks.add(() -> stepRange(aircraft, start, end, subSteps, stepSeconds));
+        }
+
+        List<StepPartition> partitions = new ArrayList<>(tasks.size());
+        for (Future<StepPartition> future : stepPool.invokeAll(tasks)) {
+            // stepRangeは航空機ごとの例外を内部で処理するため、ここで失敗することはない
+            partitions.add(future.resultNow());
+        }
+        return partitions;
+    }
+
+    /**
+     * インデックス範囲 {@code [from, to)} の航空機をサブステップ数だけ更新し、削除対象を収集
+     * 削除対象になった航空機は残りのサブステップを実行しない
+     */
+    private StepPartition stepRange(Aircraft[] aircraft, int from, int to, int subSteps, double stepSeconds) {
+        int processedCount = 0;
+        List<Aircraft> toRemove = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            try {
+                for (int step = 0; step < subSteps; step++) {
+                    aircraft[i].calculateNextAircraftVector(stepSeconds);
+                    aircraft[i].calculateNextAircraftPosition(stepSeconds);
+                    if (aircraft[i].shouldBeRemovedFromSimulation()) {
+                        toRemove.add(aircraft[i]);
+                        break;
+                    }
+                }
+                processedCount++;
+            } catch (Exception e) {
+                logger.error("航空機 '{}' の次ステップ計算でエラー: {}",
+                           aircraft[i].getCallsign().toString(), e.getMessage(), e);
+            }
+        }
+        return new StepPartition(processedCount, toRemove);
+    }
+
+    private static ForkJoinPool createStepPool(int parallelism) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("aircraft-step-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ForkJoinPool(parallelism, factory, null, false);
+    }
+
+    /**
+     * 1チャンク分のステップ結果
+     */
+    private record StepPartition(int processedCount, List<Aircraft> toRemove) {}
+
     public String getRepositoryInfo() {
         return String.format("AircraftRepositoryInMemory: %d aircraft(s) stored", aircraftMap.size());
     }
 
     public void clear() {
         int beforeSize = aircraftMap.size();
-        aircraftMap.clear();
+        synchronized (publishMonitor) {
+            aircraftMap.clear();
+            worldState = WorldState.capture(++worldStateVersion, List.of());
+        }
         logger.info("リポジトリクリア完了: {}機削除", beforeSize);
     }
+
+    /**
+     * 並列ステップ用のワーカープールを停止する（逐次ステップの場合は何もしない）
+     */
+    @Override
+    public void close() {
+        if (stepPool == null) {
+            return;
+        }
+        stepPool.shutdown();
+        try {
+            if (!stepPool.awaitTermination(5, TimeUnit.SECONDS)) {
+                stepPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            stepPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -8,10 +8,21 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.validation.Valid;
+
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.ConflictAlertService;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.AircraftAttributes.Altitude;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.AircraftAttributes.GroundSpeed;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.AircraftAttributes.Heading;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.InstructedVector;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ConflictAlertDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ConflictEventFeedDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ConflictExecutorMetricsDto;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ConflictStatisticsDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ControlAircraftDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ResolutionSearchDto;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.RiskAssessmentDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.TrajectoryProbeDto;
 
 /**
  * コンフリクトアラート機能のREST APIコントローラー
@@ -71,13 +82,21 @@ public class ConflictAlertController {
     /**
      * 緊急度の高いコンフリクト（赤コンフリクト）を取得
      *
+     * @param limit 最大件数（省略時は全件）
+     * @param minTimeToClosest 最接近時刻の下限（秒、省略時は下限なし）
+     * @param maxTimeToClosest 最接近時刻の上限（秒、省略時は上限なし）
      * @return 赤コンフリクトのリスト（時間順）
+     * @throws InvalidParameterException 件数が1未満、または下限が上限を超える場合（Service から伝播）
      */
     @GetMapping("/critical")
-    public ResponseEntity<List<ConflictAlertDto>> getCriticalAlerts() {
-        logger.debug("緊急コンフリクトアラート取得要求");
+    public ResponseEntity<List<ConflictAlertDto>> getCriticalAlerts(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Double minTimeToClosest,
+            @RequestParam(required = false) Double maxTimeToClosest) {
+        logger.debug("緊急コンフリクトアラート取得要求: 件数={}, 最接近時刻={}〜{}", limit, minTimeToClosest, maxTimeToClosest);
 
-        List<ConflictAlertDto> criticalAlerts = conflictAlertService.getCriticalAlerts();
+        List<ConflictAlertDto> criticalAlerts = conflictAlertService.getCriticalAlerts(
+            limitOrAll(limit), lowerBound(minTimeToClosest), upperBound(maxTimeToClosest));
 
         logger.debug("緊急コンフリクトアラート取得完了: {}件", criticalAlerts.size());
         return ResponseEntity.ok(criticalAlerts);
@@ -86,18 +105,63 @@ public class ConflictAlertController {
     /**
      * 管制間隔欠如が予測されるコンフリクトを取得
      *
-     * @return 管制間隔欠如予測のあるコンフリクトのリスト
+     * @param limit 最大件数（省略時は全件）
+     * @param minTimeToClosest 最接近時刻の下限（秒、省略時は下限なし）
+     * @param maxTimeToClosest 最接近時刻の上限（秒、省略時は上限なし）
+     * @return 管制間隔欠如予測のあるコンフリクトのリスト（時間順）
+     * @throws InvalidParameterException 件数が1未満、または下限が上限を超える場合（Service から伝播）
      */
     @GetMapping("/violations")
-    public ResponseEntity<List<ConflictAlertDto>> getSeparationViolations() {
-        logger.debug("管制間隔欠如予測取得要求");
+    public ResponseEntity<List<ConflictAlertDto>> getSeparationViolations(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Double minTimeToClosest,
+            @RequestParam(required = false) Double maxTimeToClosest) {
+        logger.debug("管制間隔欠如予測取得要求: 件数={}, 最接近時刻={}〜{}", limit, minTimeToClosest, maxTimeToClosest);
 
-        List<ConflictAlertDto> violations = conflictAlertService.getSeparationViolationAlerts();
+        List<ConflictAlertDto> violations = conflictAlertService.getSeparationViolationAlerts(
+            limitOrAll(limit), lowerBound(minTimeToClosest), upperBound(maxTimeToClosest));
 
         logger.debug("管制間隔欠如予測取得完了: {}件", violations.size());
         return ResponseEntity.ok(violations);
     }
 
+    /**
+     * 中期予測（長い予測時間・広い半径で複数ティックに分散して評価）で管制間隔欠如が予測されるペアを取得
+     *
+     * @param limit 最大件数
+     * @return 中期予測のコンフリクトのリスト（時間順、horizon は MEDIUM_TERM）
+     * @throws InvalidParameterException 件数が1未満の場合（Service から伝播）
+     */
+    @GetMapping("/medium-term")
+    public ResponseEntity<List<ConflictAlertDto>> getMediumTermAlerts(
+            @RequestParam(defaultValue = "20") int limit) {
+        logger.debug("中期予測コンフリクト取得要求: 件数={}", limit);
+
+        List<ConflictAlertDto> alerts = conflictAlertService.getMediumTermAlerts(limit);
+
+        logger.debug("中期予測コンフリクト取得完了: {}件", alerts.size());
+        return ResponseEntity.ok(alerts);
+    }
+
+    /**
+     * コンフリクトアラートの状態遷移（NEW / ESCALATED / DE-ESCALATED / RESOLVED）を取得
+     * 前回取得時の currentTick を sinceTick に指定すると、その後の変化のみを返す
+     *
+     * @param sinceTick このティックより後のイベントを返す（省略時は保持している全イベント）
+     * @return 最新ティックと状態遷移のリスト
+     * @throws InvalidParameterException ティックが負の場合（Service から伝播）
+     */
+    @GetMapping("/events")
+    public ResponseEntity<ConflictEventFeedDto> getConflictEvents(
+            @RequestParam(defaultValue = "0") long sinceTick) {
+        logger.debug("コンフリクトイベント取得要求: sinceTick={}", sinceTick);
+
+        ConflictEventFeedDto feed = conflictAlertService.getConflictEvents(sinceTick);
+
+        logger.debug("コンフリクトイベント取得完了: {}件, currentTick={}", feed.events().size(), feed.currentTick());
+        return ResponseEntity.ok(feed);
+    }
+
     /**
      * 特定航空機に関連するコンフリクトを取得
      *
@@ -115,6 +179,55 @@ public class ConflictAlertController {
         return ResponseEntity.ok(aircraftConflicts);
     }
 
+    /**
+     * 管制指示候補を与えた場合の予測軌道を周辺交通に対して評価（what-if）
+     * 指示は発出せず、対象機の状態も変更しない
+     *
+     * @param callsign 航空機コールサイン
+     * @param controlAircraftDto 管制指示候補
+     * @return 予測軌道とコンフリクトする相手機のリスト（危険度の高い順）
+     * @throws AircraftNotFoundException 航空機が見つからない場合（Service から伝播）
+     */
+    @PostMapping("/probe/{callsign}")
+    public ResponseEntity<TrajectoryProbeDto> probeInstruction(
+            @PathVariable String callsign,
+            @Valid @RequestBody ControlAircraftDto controlAircraftDto) {
+        logger.debug("指示候補評価要求: {}", callsign);
+
+        InstructedVector instruction = new InstructedVector(
+            new Heading(controlAircraftDto.instructedHeading()),
+            new Altitude(controlAircraftDto.instructedAltitude()),
+            new GroundSpeed(controlAircraftDto.instructedGroundSpeed())
+        );
+        TrajectoryProbeDto result = conflictAlertService.probeInstruction(callsign, instruction);
+
+        logger.debug("指示候補評価完了: {} - {}件, {}μs", callsign, result.conflicts().size(), result.elapsedMicros());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 対象機の予測時間内の管制間隔欠如を全て解消する回避指示を探索
+     * ヘディング・高度・対地速度の候補グリッドから変更量の小さい順に返す
+     *
+     * @param callsign 航空機コールサイン
+     * @param limit 最大件数
+     * @return 回避指示のリスト（変更量の小さい順）
+     * @throws AircraftNotFoundException 航空機が見つからない場合（Service から伝播）
+     * @throws InvalidParameterException 件数が1未満の場合（Service から伝播）
+     */
+    @GetMapping("/resolution/{callsign}")
+    public ResponseEntity<ResolutionSearchDto> getResolutionAdvisories(
+            @PathVariable String callsign,
+            @RequestParam(defaultValue = "5") int limit) {
+        logger.debug("回避指示探索要求: {}, 件数={}", callsign, limit);
+
+        ResolutionSearchDto result = conflictAlertService.getResolutionAdvisories(callsign, limit);
+
+        logger.debug("回避指示探索完了: {} - 候補{}件中{}件が解消, {}μs",
+                     callsign, result.candidateCount(), result.clearedCount(), result.elapsedMicros());
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * コンフリクトアラートの統計情報を取得
      *
@@ -130,8 +243,24 @@ public class ConflictAlertController {
         return ResponseEntity.ok(statistics);
     }
 
+    /**
+     * コンフリクト計算エグゼキュータの利用状況を取得
+     *
+     * @return プールの状態と累積の実行統計
+     */
+    @GetMapping("/executor")
+    public ResponseEntity<ConflictExecutorMetricsDto> getExecutorMetrics() {
+        logger.debug("エグゼキュータ利用状況取得要求");
+
+        ConflictExecutorMetricsDto metrics = conflictAlertService.getExecutorMetrics();
+
+        logger.debug("エグゼキュータ利用状況取得完了: 稼働率={}", metrics.utilisation());
+        return ResponseEntity.ok(metrics);
+    }
+
     /**
      * システムヘルスチェック
+     * 公開済みのスナップショットの統計のみを参照し、コンフリクト検出は起動しない
      *
      * @return システム状態
      */
@@ -139,7 +268,7 @@ public class ConflictAlertController {
     public ResponseEntity<HealthStatus> getHealthStatus() {
         logger.debug("ヘルスチェック要求");
 
-        ConflictStatisticsDto statistics = conflictAlertService.getConflictStatistics();
+        ConflictStatisticsDto statistics = conflictAlertService.getPublishedStatistics();
         HealthStatus status = new HealthStatus(
             "OK",
             System.currentTimeMillis(),
@@ -172,4 +301,16 @@ public class ConflictAlertController {
         public long getTotalConflicts() { return totalConflicts; }
         public long getCriticalConflicts() { return criticalConflicts; }
     }
+
+    private static int limitOrAll(Integer limit) {
+        return limit != null ? limit : Integer.MAX_VALUE;
+    }
+
+    private static double lowerBound(Double minTimeToClosest) {
+        return minTimeToClosest != null ? minTimeToClosest : Double.NEGATIVE_INFINITY;
+    }
+
+    private static double upperBound(Double maxTimeToClosest) {
+        return maxTimeToClosest != null ? maxTimeToClosest : Double.POSITIVE_INFINITY;
+    }
 }
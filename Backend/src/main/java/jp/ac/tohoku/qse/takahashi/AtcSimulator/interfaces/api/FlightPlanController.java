@@ -19,6 +19,7 @@ import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.AircraftNotFound
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftBase;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftRepository;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftState;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.types.commercial.CommercialAircraft;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.flightplan.FlightPlan;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.flightplan.FlightPlanWaypoint;
@@ -157,10 +158,11 @@ public class FlightPlanController {
 
         scenarioService.resumeNavigation(new Callsign(callsign));
 
-        Aircraft aircraft = aircraftRepository.findByCallsign(new Callsign(callsign));
-        String nextWaypoint = ((AircraftBase) aircraft).getFlightPlan() != null
-                ? ((AircraftBase) aircraft).getFlightPlan()
-                .getNextWaypoint(((AircraftBase) aircraft).getCurrentWaypointIndex())
+        // 飛行計画とウェイポイントの進捗は公開済みのワールド状態（同一ティックで凍結した値）から読む
+        AircraftState state = findPublishedState(callsign);
+        String nextWaypoint = state.flightPlan() != null
+                ? state.flightPlan()
+                .getNextWaypoint(state.currentWaypointIndex())
                 .map(FlightPlanWaypoint::getFixName)
                 .orElse(null)
                 : null;
@@ -182,31 +184,30 @@ public class FlightPlanController {
             throw new AircraftNotFoundException(callsign);
         }
 
-        Aircraft aircraft = aircraftRepository.findByCallsign(new Callsign(callsign));
-        AircraftBase base = (AircraftBase) aircraft;
-        FlightPlan plan = base.getFlightPlan();
+        AircraftState state = findPublishedState(callsign);
+        FlightPlan plan = state.flightPlan();
 
         if (plan == null) {
             return ResponseEntity.ok(Map.of(
                     "callsign", callsign,
-                    "navigationMode", base.getNavigationMode().name(),
+                    "navigationMode", state.navigationMode().name(),
                     "hasFlightPlan", false
             ));
         }
 
         List<String> remainingWaypoints = plan.getWaypoints().stream()
-                .skip(base.getCurrentWaypointIndex())
+                .skip(state.currentWaypointIndex())
                 .map(FlightPlanWaypoint::getFixName)
                 .collect(Collectors.toList());
 
-        String currentWaypoint = plan.getNextWaypoint(base.getCurrentWaypointIndex())
+        String currentWaypoint = plan.getNextWaypoint(state.currentWaypointIndex())
                 .map(FlightPlanWaypoint::getFixName)
                 .orElse(null);
 
         Map<String, Object> body = new HashMap<>();
         body.put("callsign", callsign);
-        body.put("navigationMode", base.getNavigationMode().name());
-        body.put("currentWaypointIndex", base.getCurrentWaypointIndex());
+        body.put("navigationMode", state.navigationMode().name());
+        body.put("currentWaypointIndex", state.currentWaypointIndex());
         body.put("currentWaypoint", currentWaypoint);
         body.put("remainingWaypoints", remainingWaypoints);
         body.put("departureAirport", plan.getDepartureAirport());
@@ -214,6 +215,14 @@ public class FlightPlanController {
         return ResponseEntity.ok(body);
     }
 
+    private AircraftState findPublishedState(String callsign) {
+        AircraftState state = aircraftRepository.getWorldState().find(new Callsign(callsign));
+        if (state == null) {
+            throw new AircraftNotFoundException(callsign);
+        }
+        return state;
+    }
+
     private CommercialAircraft createAircraftWithInitialPosition(FlightPlanDto fpDto, InitialPositionDto pos) {
         String dep = fpDto.departureAirport() != null ? fpDto.departureAirport() : "RJTT";
         String arr = fpDto.arrivalAirport() != null ? fpDto.arrivalAirport() : "RJAA";
@@ -1,7 +1,5 @@
 package jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.api;
 
-import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.DEFAULT_SIMULATION_ETA;
-
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -15,17 +13,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.AircraftFactory;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.FlightPlanFromDtoConverter;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.ScenarioAircraftAssembler;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.ScenarioService;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.config.globals.GlobalVariables;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.SimulationClock;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftRepository;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.types.commercial.CommercialAircraft;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.flightplan.FlightPlan;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.infrastructure.fix.AtsRouteFixPositionRepository;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.CreateAircraftDto;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.FlightPlanDto;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.InitialPositionDto;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ScenarioLoadDto;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.SpawnWithFlightPlanDto;
 
@@ -40,14 +33,17 @@ public class ScenarioController {
     private final ScenarioService scenarioService;
     private final AircraftRepository aircraftRepository;
     private final FlightPlanFromDtoConverter flightPlanConverter;
-    private final AtsRouteFixPositionRepository airportRepository;
+    private final ScenarioAircraftAssembler aircraftAssembler;
+    private final SimulationClock simulationClock;
 
     public ScenarioController(ScenarioService scenarioService, AircraftRepository aircraftRepository,
-            FlightPlanFromDtoConverter flightPlanConverter, AtsRouteFixPositionRepository airportRepository) {
+            FlightPlanFromDtoConverter flightPlanConverter, AtsRouteFixPositionRepository airportRepository,
+            SimulationClock simulationClock) {
         this.scenarioService = scenarioService;
         this.aircraftRepository = aircraftRepository;
         this.flightPlanConverter = flightPlanConverter;
-        this.airportRepository = airportRepository;
+        this.aircraftAssembler = new ScenarioAircraftAssembler(flightPlanConverter, airportRepository);
+        this.simulationClock = simulationClock;
     }
 
     @PostMapping(path = "/load", consumes = "application/json")
@@ -78,7 +74,7 @@ public class ScenarioController {
             }
         }
 
-        GlobalVariables.isSimulationRunning = false;
+        simulationClock.pause();
         aircraftRepository.clear();
 
         int count = 0;
@@ -87,10 +83,7 @@ public class ScenarioController {
                 logger.warn("Skipping aircraft {}: missing initialPosition", ac.flightPlan().callsign());
                 continue;
             }
-            FlightPlan fp = flightPlanConverter.toDomain(ac.flightPlan());
-            var aircraft = createAircraftFromSpawn(ac.flightPlan(), ac.initialPosition());
-            aircraft.setFlightPlan(fp);
-            scenarioService.spawnAircraft(aircraft);
+            scenarioService.spawnAircraft(aircraftAssembler.assemble(ac));
             count++;
         }
 
@@ -102,26 +95,4 @@ public class ScenarioController {
         body.put("message", "Scenario loaded successfully");
         return ResponseEntity.ok(body);
     }
-
-    private CommercialAircraft createAircraftFromSpawn(FlightPlanDto fpDto, InitialPositionDto pos) {
-        String dep = fpDto.departureAirport() != null ? fpDto.departureAirport() : "RJTT";
-        String arr = fpDto.arrivalAirport() != null ? fpDto.arrivalAirport() : "RJAA";
-        String originIata = airportRepository.findIataByIcao(dep);
-        String destIata = airportRepository.findIataByIcao(arr);
-        return AircraftFactory.createCommercialAircraft(
-                new CreateAircraftDto(
-                        fpDto.callsign(),
-                        pos.latitude(),
-                        pos.longitude(),
-                        pos.altitude(),
-                        pos.groundSpeed(),
-                        pos.verticalSpeed(),
-                        pos.heading(),
-                        fpDto.aircraftType() != null ? fpDto.aircraftType() : "B738",
-                        originIata,
-                        dep,
-                        destIata,
-                        arr,
-                        DEFAULT_SIMULATION_ETA.toString()));
-    }
 }
@@ -9,7 +9,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.config.globals.GlobalVariables;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.SimulationClock;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.SimulationPipeline;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.SimulationClockDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.SimulationPipelineDto;
 
 @RestController
 @RequestMapping("/simulation")
@@ -18,25 +21,53 @@ public class SimulationService {
 
     private static final Logger logger = LoggerFactory.getLogger(SimulationService.class);
 
+    private final SimulationClock simulationClock;
+    private final SimulationPipeline simulationPipeline;
+
+    public SimulationService(SimulationClock simulationClock, SimulationPipeline simulationPipeline) {
+        this.simulationClock = simulationClock;
+        this.simulationPipeline = simulationPipeline;
+    }
+
     @PostMapping("/start")
     public ResponseEntity<Void> start() {
-        GlobalVariables.isSimulationRunning = true;
+        simulationClock.resume();
         logger.info("Simulation started");
         return ResponseEntity.ok().build();
     }
 
     @PostMapping("/pause")
     public ResponseEntity<Void> pause() {
-        GlobalVariables.isSimulationRunning = false;
+        simulationClock.pause();
         logger.info("Simulation paused");
         return ResponseEntity.ok().build();
     }
 
+    // 時間倍率（0.25〜64倍）を変更する。範囲外は400を返す
+    @PostMapping("/time-scale")
+    public ResponseEntity<SimulationClockDto> setTimeScale(@RequestParam double scale) {
+        simulationClock.setTimeScale(scale);
+        logger.info("Simulation time scale set to {}x", scale);
+        return ResponseEntity.ok(simulationClock.getMetrics());
+    }
+
     // シミュレーションの状態を取得する
     @GetMapping("/status")
     public ResponseEntity<Map<String, Boolean>> getStatus() {
         Map<String, Boolean> response = new HashMap<>();
-        response.put("isSimulationRunning", GlobalVariables.isSimulationRunning);
+        response.put("isSimulationRunning", simulationClock.isRunning());
         return ResponseEntity.ok(response);  // シミュレーションの状態を返す
     }
+
+    // クロックの実行状態・ティック数・遅れ・オーバーラン数・ティックごとの処理時間を取得する
+    @GetMapping("/clock")
+    public ResponseEntity<SimulationClockDto> getClockMetrics() {
+        return ResponseEntity.ok(simulationClock.getMetrics());
+    }
+
+    // ティックの段階（運動計算・状態の凍結・検出待ち・コンフリクト検出）ごとの処理時間を取得する
+    @GetMapping("/pipeline")
+    public ResponseEntity<SimulationPipelineDto> getPipelineMetrics() {
+        return ResponseEntity.ok(simulationPipeline.getMetrics());
+    }
 }
@@ -20,9 +20,13 @@ public record AircraftLocationDto(
     String destinationIata,
     String destinationIcao,
     String eta,
-    double riskLevel
+    double riskLevel,
+    ConflictSummaryDto conflictSummary
 ) {
     public record PositionDto(double latitude, double longitude, double altitude) {}
     public record VectorDto(double heading, double groundSpeed, double verticalSpeed) {}
     public record InstructedVectorDto(double heading, double groundSpeed, double altitude) {}
+    /** Worst partner and partner counts per alert level; omitted when the aircraft has no conflicts. */
+    public record ConflictSummaryDto(String worstPartner, int safePartners, int whiteConflictPartners,
+                                     int redConflictPartners) {}
 }
@@ -3,6 +3,8 @@ package jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto;
 /**
  * DTO for conflict alert API response.
  * Flattened from RiskAssessment to avoid domain leakage at API boundary.
+ * horizon tags the tier that produced the alert (SHORT_TERM or MEDIUM_TERM).
+ * stale marks a short-term result carried over from an earlier tick because the pair was deferred by the time budget.
  */
 public record ConflictAlertDto(
     String pairId,
@@ -11,5 +13,7 @@ public record ConflictAlertDto(
     double timeToClosest,
     double closestHorizontalDistance,
     double closestVerticalDistance,
-    boolean conflictPredicted
+    boolean conflictPredicted,
+    String horizon,
+    boolean stale
 ) {}
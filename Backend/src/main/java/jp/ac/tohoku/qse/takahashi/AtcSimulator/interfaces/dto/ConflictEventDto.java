@@ -0,0 +1,14 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto;
+
+/**
+ * DTO for a single conflict alert lifecycle transition.
+ * type is one of NEW, ESCALATED, DE-ESCALATED, RESOLVED.
+ */
+public record ConflictEventDto(
+    long tick,
+    String pairId,
+    String type,
+    String previousAlertLevel,
+    String alertLevel,
+    double riskLevel
+) {}
@@ -0,0 +1,14 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the conflict event feed API response.
+ * Pass currentTick as sinceTick on the next poll; truncated means events were
+ * dropped after sinceTick and the client should resync from /api/conflict/all.
+ */
+public record ConflictEventFeedDto(
+    long currentTick,
+    boolean truncated,
+    List<ConflictEventDto> events
+) {}
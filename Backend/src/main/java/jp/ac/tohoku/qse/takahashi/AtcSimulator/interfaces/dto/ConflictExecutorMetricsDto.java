@@ -0,0 +1,22 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto;
+
+/**
+ * DTO for conflict detection executor metrics API response.
+ * No domain dependencies.
+ */
+public record ConflictExecutorMetricsDto(
+    boolean dedicatedPool,
+    int parallelism,
+    int poolSize,
+    int activeThreadCount,
+    int runningThreadCount,
+    long queuedTaskCount,
+    int queuedSubmissionCount,
+    long stealCount,
+    int chunkSize,
+    int sequentialThreshold,
+    long parallelRuns,
+    long sequentialRuns,
+    long executedChunks,
+    double utilisation
+) {}
@@ -3,6 +3,7 @@ package jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto;
 /**
  * DTO for conflict alert statistics API response.
  * No domain dependencies.
+ * deferredPairs counts candidate pairs left for the next tick by the time budget; stalePairs of them kept a previous result.
  */
 public record ConflictStatisticsDto(
     long totalConflicts,
@@ -11,5 +12,7 @@ public record ConflictStatisticsDto(
     long redConflictCount,
     long separationViolationCount,
     double maxRiskLevel,
-    double avgRiskLevel
+    double avgRiskLevel,
+    long deferredPairs,
+    long stalePairs
 ) {}
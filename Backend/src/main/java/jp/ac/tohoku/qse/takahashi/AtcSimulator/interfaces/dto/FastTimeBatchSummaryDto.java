@@ -0,0 +1,32 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto;
+
+/**
+ * DTO for the summary written at the end of a headless fast-time batch run.
+ * No domain dependencies.
+ * Pair counts are distinct aircraft pairs over the whole run. A separation violation is an actual loss of
+ * separation (under 5 NM and 1000 ft at the end of a tick), while predicted violations come from the CPA prediction.
+ * Throughput is aircraft removed from the simulation (arrived or exited) per simulated hour.
+ */
+public record FastTimeBatchSummaryDto(
+    String scenarioName,
+    double simulatedSeconds,
+    double stepSeconds,
+    long ticks,
+    double wallClockMillis,
+    double realTimeFactor,
+    int aircraftSpawned,
+    int aircraftRemoved,
+    int peakAircraft,
+    int finalAircraft,
+    double throughputPerHour,
+    int alertPairs,
+    int redAlertPairs,
+    int predictedViolationPairs,
+    int separationViolationPairs,
+    double separationViolationSeconds,
+    int maxConcurrentAlerts,
+    double averageTickMillis,
+    double maxTickMillis,
+    double averageDynamicsMillis,
+    double averageDetectionMillis
+) {}
@@ -0,0 +1,16 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto;
+
+/**
+ * DTO for one aircraft in conflict with a probed trajectory.
+ * firstViolationTime is -1 when separation is never lost within the prediction window.
+ */
+public record ProbeConflictDto(
+    String callsign,
+    double riskLevel,
+    String alertLevel,
+    double timeToClosest,
+    double closestHorizontalDistance,
+    double closestVerticalDistance,
+    boolean conflictPredicted,
+    double firstViolationTime
+) {}
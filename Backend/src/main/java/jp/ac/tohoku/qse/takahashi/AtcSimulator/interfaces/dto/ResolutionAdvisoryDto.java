@@ -0,0 +1,17 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto;
+
+/**
+ * DTO for one resolution advisory.
+ * Changes are relative to the current vector (positive heading change = right turn);
+ * cost counts 10 deg, 1000 ft and 20 kt as one unit each.
+ */
+public record ResolutionAdvisoryDto(
+    double heading,
+    double altitude,
+    double groundSpeed,
+    double headingChange,
+    double altitudeChange,
+    double groundSpeedChange,
+    double cost,
+    double maxRiskLevel
+) {}
@@ -0,0 +1,17 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the resolution advisory search API response.
+ * advisories are the cheapest candidates that clear every predicted separation
+ * loss within the prediction window, cheapest first.
+ */
+public record ResolutionSearchDto(
+    String callsign,
+    int candidateCount,
+    int clearedCount,
+    int neighbourCount,
+    long elapsedMicros,
+    List<ResolutionAdvisoryDto> advisories
+) {}
@@ -0,0 +1,25 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto;
+
+/**
+ * DTO for simulation clock status API response.
+ * No domain dependencies.
+ * Lag is how late the last tick started against its fixed schedule; an overrun is a tick that took longer
+ * than the tick interval, and dropped ticks are those skipped because the lag exceeded the catch-up limit.
+ * timeScale is simulated seconds per wall-clock second; simulatedSeconds is the total simulated time advanced.
+ */
+public record SimulationClockDto(
+    String runState,
+    long tick,
+    long simulatedTicks,
+    double timeScale,
+    double simulatedSeconds,
+    double tickIntervalMillis,
+    int maxCatchUpTicks,
+    double lagMillis,
+    double maxLagMillis,
+    long overrunCount,
+    long droppedTicks,
+    double lastTickMillis,
+    double averageTickMillis,
+    double maxTickMillis
+) {}
@@ -0,0 +1,28 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto;
+
+import java.util.List;
+
+/**
+ * DTO for simulation pipeline per-stage latency API response.
+ * No domain dependencies.
+ * When pipelined, DETECTION for tick N overlaps DYNAMICS for tick N+1 and WAIT is the time spent
+ * waiting for the previous tick's detection to finish.
+ */
+public record SimulationPipelineDto(
+    boolean pipelined,
+    long ticks,
+    List<StageLatencyDto> stages
+) {
+
+    /**
+     * Latency of one pipeline stage in milliseconds.
+     */
+    public record StageLatencyDto(
+        String stage,
+        String description,
+        long samples,
+        double lastMillis,
+        double averageMillis,
+        double maxMillis
+    ) {}
+}
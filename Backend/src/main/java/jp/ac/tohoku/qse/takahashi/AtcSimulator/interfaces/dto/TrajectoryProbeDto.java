@@ -0,0 +1,18 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the what-if trajectory probe API response.
+ * candidateCount is the number of aircraft left after the distance and vertical
+ * pre-filters; conflicts are ordered by risk level, highest first.
+ */
+public record TrajectoryProbeDto(
+    String callsign,
+    int trafficCount,
+    int candidateCount,
+    double maxRiskLevel,
+    String maxAlertLevel,
+    long elapsedMicros,
+    List<ProbeConflictDto> conflicts
+) {}
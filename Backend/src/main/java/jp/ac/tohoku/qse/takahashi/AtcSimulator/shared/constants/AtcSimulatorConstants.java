@@ -22,6 +22,9 @@ public final class AtcSimulatorConstants {
     /** Tick interval in milliseconds for simulation (1000 / REFRESH_RATE). Defined explicitly to avoid implicit integer division at call sites. */
     public static final int TICK_INTERVAL_MS = 1000 / REFRESH_RATE;
 
+    /** Native step of the turn/climb/position models in simulated seconds. Longer simulated intervals (time compression) are split into sub-steps no longer than this. */
+    public static final double SIMULATION_STEP_SECONDS = 1.0 / REFRESH_RATE;
+
     public static final double EARTH_RADIUS = 6378.1;
     public static final double KNOTS_TO_KM_PER_HOUR = 1.852;
     public static final double NAUTICAL_MILES_TO_KM = 1.852;
@@ -51,9 +51,10 @@ public final class PositionUtils {
         Longitude newLon = new Longitude(currentPos.longitude.toDouble() +
             MathUtils.toDegrees(deltaLon * Math.sin(headingRad)));
 
-        // 新しい高度を計算
-        Altitude newAlt = new Altitude(currentPos.altitude.toDouble() +
-            (verticalSpeed * refreshRateInSeconds / 60.0));
+        // 新しい高度を計算（降下は地表（0ft、既に下回っている場合は現在高度）で止める）
+        double currentAltitude = currentPos.altitude.toDouble();
+        Altitude newAlt = new Altitude(Math.max(currentAltitude + (verticalSpeed * refreshRateInSeconds / 60.0),
+            Math.min(currentAltitude, 0.0)));
 
         return new AircraftPosition(newLat, newLon, newAlt);
     }
@@ -112,7 +113,7 @@ public final class PositionUtils {
      * @param currentAltitude 現在の高度
      * @param targetAltitude 目標高度
      * @param maxClimbRate 最大上昇率（ft/min）
-     * @param refreshRate リフレッシュレート
+     * @param refreshRate リフレッシュレート（1秒あたりのステップ数 = 1 / ステップ幅）
      * @return 新しい垂直速度
      */
     public static VerticalSpeed calculateNextVerticalSpeed(double currentAltitude,
@@ -140,7 +141,7 @@ public final class PositionUtils {
         double climbRate = Math.signum(altitudeDifference) *
                           Math.min(maxRatePerSecond, Math.abs(altitudeDifference));
 
-        return new VerticalSpeed(climbRate * 60); // ft/minに変換
+        return new VerticalSpeed(climbRate * 60 * refreshRate); // 1ステップあたりの高度変化をft/minに変換
     }
 
     /**
@@ -17,7 +17,7 @@ import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.AircraftFactory;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.AircraftRadarService;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.ConflictAlertService;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.ScenarioService;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.config.globals.GlobalVariables;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.SimulationClock;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftRepository;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.CreateAircraftDto;
@@ -44,16 +44,19 @@ class BackendRedesignIntegrationTest {
     @Autowired
     private AircraftRepository aircraftRepository;
 
+    @Autowired
+    private SimulationClock simulationClock;
+
     private TestRestTemplate restTemplate = new TestRestTemplate();
 
     @BeforeEach
     void setUp() {
-        GlobalVariables.isSimulationRunning = false;
+        simulationClock.pause();
     }
 
     @AfterEach
     void tearDown() {
-        GlobalVariables.isSimulationRunning = false;
+        simulationClock.pause();
     }
 
     @Test
@@ -16,7 +16,7 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.*;
 
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.config.globals.GlobalVariables;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.application.SimulationClock;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftRepository;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
 
@@ -29,6 +29,9 @@ class FlightPlanApiIntegrationTest {
     @Autowired
     private AircraftRepository aircraftRepository;
 
+    @Autowired
+    private SimulationClock simulationClock;
+
     @Autowired
     private TestRestTemplate restTemplate;
 
@@ -38,12 +41,12 @@ class FlightPlanApiIntegrationTest {
 
     @BeforeEach
     void setUp() {
-        GlobalVariables.isSimulationRunning = false;
+        simulationClock.pause();
     }
 
     @AfterEach
     void tearDown() {
-        GlobalVariables.isSimulationRunning = false;
+        simulationClock.pause();
         aircraftRepository.clear();
     }
 
@@ -2,8 +2,13 @@ package jp.ac.tohoku.qse.takahashi.AtcSimulator.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,15 +20,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.config.globals.GlobalVariables;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.AircraftNotFoundException;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftRepository;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictDetector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictDetectorSettings;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictResultTable;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictSnapshot;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.MediumTermProbe;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.MediumTermProbeSettings;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.PreFilterSettings;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.TestAircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.AircraftAttributes.*;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.ConflictHorizon;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.RiskAssessment;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.InstructedVector;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.infrastructure.persistence.inMemory.AircraftRepositoryInMemory;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ConflictAlertDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ConflictEventDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ConflictEventFeedDto;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ConflictStatisticsDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ProbeConflictDto;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.RiskAssessmentDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.TrajectoryProbeDto;
 
 /**
  * Unit tests for ConflictAlertService.
@@ -40,7 +59,6 @@ class ConflictAlertServiceTest {
 
     @BeforeEach
     void setUp() {
-        GlobalVariables.isSimulationRunning = false;
         aircraftRepository = new AircraftRepositoryInMemory();
         conflictAlertService = new ConflictAlertService(conflictDetector, aircraftRepository);
     }
@@ -48,7 +66,8 @@ class ConflictAlertServiceTest {
     @Test
     @DisplayName("DTO-returning methods return empty when no aircraft")
     void dtoMethods_returnEmptyWhenNoAircraft() {
-        when(conflictDetector.calculateAllConflicts(anyList())).thenReturn(Map.of());
+        when(conflictDetector.calculateConflictTable(anyList())).thenReturn(tableOf(Map.of()));
+        conflictAlertService.refresh();
 
         assertThat(conflictAlertService.getCriticalAlerts()).isEmpty();
         assertThat(conflictAlertService.getSeparationViolationAlerts()).isEmpty();
@@ -64,8 +83,9 @@ class ConflictAlertServiceTest {
     void getAircraftConflicts_returnsValidDtoStructureWhenConflictExists() {
         RiskAssessment assessment = new RiskAssessment(
                 50.0, 120.0, 3.0, 800.0, false);
-        when(conflictDetector.calculateAllConflicts(anyList()))
-                .thenReturn(Map.of("CF1-CF2", assessment));
+        when(conflictDetector.calculateConflictTable(anyList()))
+                .thenReturn(tableOf(Map.of("CF1-CF2", assessment)));
+        conflictAlertService.refresh();
 
         List<ConflictAlertDto> results = conflictAlertService.getAircraftConflicts("CF1");
 
@@ -77,13 +97,31 @@ class ConflictAlertServiceTest {
         assertThat(first.alertLevel()).isEqualTo("WHITE_CONFLICT");
     }
 
+    @Test
+    @DisplayName("getAircraftConflicts matches exact callsigns only")
+    void getAircraftConflicts_matchesExactCallsign() {
+        RiskAssessment low = new RiskAssessment(20.0, 200.0, 6.0, 1500.0, false);
+        RiskAssessment high = new RiskAssessment(80.0, 30.0, 2.0, 500.0, true);
+        RiskAssessment other = new RiskAssessment(60.0, 90.0, 3.0, 900.0, false);
+        when(conflictDetector.calculateConflictTable(anyList()))
+                .thenReturn(tableOf(Map.of("JAL1-ANA3", low, "JAL1-SKY5", high, "JAL12-ANA3", other)));
+        conflictAlertService.refresh();
+
+        List<ConflictAlertDto> results = conflictAlertService.getAircraftConflicts("JAL1");
+
+        assertThat(results).extracting(ConflictAlertDto::pairId).containsExactly("JAL1-SKY5", "ANA3-JAL1");
+        assertThat(conflictAlertService.getAircraftConflicts("JAL12")).hasSize(1);
+        assertThat(conflictAlertService.getAircraftConflicts("AL1")).isEmpty();
+    }
+
     @Test
     @DisplayName("getAllConflictAlertsAsDto returns DTO map")
     void getAllConflictAlertsAsDto_returnsDtoMap() {
         RiskAssessment a1 = new RiskAssessment(10.0, 200.0, 8.0, 2000.0, false);
         RiskAssessment a2 = new RiskAssessment(80.0, 30.0, 2.0, 500.0, true);
-        when(conflictDetector.calculateAllConflicts(anyList()))
-                .thenReturn(Map.of("A-B", a1, "C-D", a2));
+        when(conflictDetector.calculateConflictTable(anyList()))
+                .thenReturn(tableOf(Map.of("A-B", a1, "C-D", a2)));
+        conflictAlertService.refresh();
 
         Map<String, RiskAssessmentDto> result = conflictAlertService.getAllConflictAlertsAsDto();
 
@@ -99,8 +137,9 @@ class ConflictAlertServiceTest {
         RiskAssessment safe = new RiskAssessment(10.0, 200.0, 8.0, 2000.0, false);
         RiskAssessment white = new RiskAssessment(50.0, 120.0, 4.0, 1200.0, false);
         RiskAssessment red = new RiskAssessment(85.0, 45.0, 2.0, 600.0, true);
-        when(conflictDetector.calculateAllConflicts(anyList()))
-                .thenReturn(Map.of("A-B", safe, "C-D", white, "E-F", red));
+        when(conflictDetector.calculateConflictTable(anyList()))
+                .thenReturn(tableOf(Map.of("A-B", safe, "C-D", white, "E-F", red)));
+        conflictAlertService.refresh();
 
         Map<String, RiskAssessmentDto> result =
                 conflictAlertService.getFilteredConflictAlertsAsDto("WHITE_CONFLICT");
@@ -125,8 +164,9 @@ class ConflictAlertServiceTest {
         RiskAssessment white1 = new RiskAssessment(50.0, 120.0, 4.0, 1200.0, false);
         RiskAssessment white2 = new RiskAssessment(60.0, 90.0, 3.5, 1100.0, true);
         RiskAssessment red = new RiskAssessment(85.0, 45.0, 2.0, 600.0, true);
-        when(conflictDetector.calculateAllConflicts(anyList()))
-                .thenReturn(Map.of("A-B", safe, "C-D", white1, "E-F", white2, "G-H", red));
+        when(conflictDetector.calculateConflictTable(anyList()))
+                .thenReturn(tableOf(Map.of("A-B", safe, "C-D", white1, "E-F", white2, "G-H", red)));
+        conflictAlertService.refresh();
 
         ConflictStatisticsDto result = conflictAlertService.getConflictStatistics();
 
@@ -138,4 +178,188 @@ class ConflictAlertServiceTest {
         assertThat(result.maxRiskLevel()).isEqualTo(85.0);
         assertThat(result.avgRiskLevel()).isEqualTo((10.0 + 50.0 + 60.0 + 85.0) / 4.0);
     }
+
+    @Test
+    @DisplayName("Read methods serve the published snapshot and never run detection themselves")
+    void readMethods_serveLatestSnapshot() {
+        RiskAssessment first = new RiskAssessment(50.0, 120.0, 3.0, 800.0, false);
+        RiskAssessment second = new RiskAssessment(85.0, 45.0, 2.0, 600.0, true);
+        when(conflictDetector.calculateConflictTable(anyList()))
+                .thenReturn(tableOf(Map.of("A-B", first)))
+                .thenReturn(tableOf(Map.of("A-B", second)));
+
+        assertThat(conflictAlertService.getLatestSnapshot()).isSameAs(ConflictSnapshot.EMPTY);
+        assertThat(conflictAlertService.getAllConflictAlertsAsDto()).isEmpty();
+        verify(conflictDetector, never()).calculateConflictTable(anyList());
+
+        conflictAlertService.refresh();
+
+        assertThat(conflictAlertService.getAllConflictAlertsAsDto()).hasSize(1);
+        assertThat(conflictAlertService.getCriticalAlerts()).isEmpty();
+        assertThat(conflictAlertService.getConflictStatistics().totalConflicts()).isEqualTo(1);
+        assertThat(conflictAlertService.getLatestSnapshot().version()).isEqualTo(1);
+        verify(conflictDetector, times(1)).calculateConflictTable(anyList());
+
+        ConflictSnapshot refreshed = conflictAlertService.refresh();
+
+        assertThat(refreshed.version()).isEqualTo(2);
+        assertThat(conflictAlertService.getLatestSnapshot()).isSameAs(refreshed);
+        assertThat(conflictAlertService.getCriticalAlerts()).hasSize(1);
+        assertThat(refreshed.maxRisk("A")).isEqualTo(85.0);
+        verify(conflictDetector, times(2)).calculateConflictTable(anyList());
+    }
+
+    @Test
+    @DisplayName("Bounded critical and violation queries return the most urgent pairs first")
+    void boundedQueries_returnMostUrgentFirst() {
+        Map<String, RiskAssessment> conflicts = new LinkedHashMap<>();
+        conflicts.put("A-B", new RiskAssessment(90.0, 120.0, 2.0, 600.0, true));
+        conflicts.put("C-D", new RiskAssessment(80.0, 30.0, 2.0, 600.0, true));
+        conflicts.put("E-F", new RiskAssessment(75.0, 60.0, 2.0, 600.0, false));
+        conflicts.put("G-H", new RiskAssessment(40.0, 10.0, 4.0, 900.0, true));
+        when(conflictDetector.calculateConflictTable(anyList())).thenReturn(tableOf(conflicts));
+        conflictAlertService.refresh();
+
+        assertThat(conflictAlertService.getCriticalAlerts(2, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY))
+                .extracting(ConflictAlertDto::pairId)
+                .containsExactly("C-D", "E-F");
+        assertThat(conflictAlertService.getCriticalAlerts(10, 50.0, 120.0))
+                .extracting(ConflictAlertDto::pairId)
+                .containsExactly("E-F", "A-B");
+        assertThat(conflictAlertService.getSeparationViolationAlerts(2, Double.NEGATIVE_INFINITY, 100.0))
+                .extracting(ConflictAlertDto::pairId)
+                .containsExactly("G-H", "C-D");
+        assertThat(conflictAlertService.getSeparationViolationAlerts())
+                .extracting(ConflictAlertDto::pairId)
+                .containsExactly("G-H", "C-D", "A-B");
+
+        Assertions.assertThrows(InvalidParameterException.class,
+                () -> conflictAlertService.getCriticalAlerts(0, 0.0, 100.0));
+        Assertions.assertThrows(InvalidParameterException.class,
+                () -> conflictAlertService.getSeparationViolationAlerts(5, 100.0, 50.0));
+    }
+
+    @Test
+    @DisplayName("Published statistics never trigger detection")
+    void getPublishedStatistics_doesNotTouchDetector() {
+        assertThat(conflictAlertService.getPublishedStatistics().totalConflicts()).isZero();
+        verify(conflictDetector, never()).calculateConflictTable(anyList());
+
+        when(conflictDetector.calculateConflictTable(anyList())).thenReturn(tableOf(Map.of(
+                "A-B", new RiskAssessment(85.0, 45.0, 2.0, 600.0, true),
+                "C-D", new RiskAssessment(50.0, 120.0, 3.0, 800.0, false))));
+        conflictAlertService.refresh();
+
+        ConflictStatisticsDto stats = conflictAlertService.getPublishedStatistics();
+        assertThat(stats.totalConflicts()).isEqualTo(2);
+        assertThat(stats.redConflictCount()).isEqualTo(1);
+        assertThat(stats.separationViolationCount()).isEqualTo(1);
+        verify(conflictDetector, times(1)).calculateConflictTable(anyList());
+    }
+
+    @Test
+    @DisplayName("Event feed returns only transitions after the given tick")
+    void getConflictEvents_returnsTransitionsSinceTick() {
+        when(conflictDetector.calculateConflictTable(anyList()))
+                .thenReturn(tableOf(Map.of("A-B", new RiskAssessment(50.0, 120.0, 3.0, 800.0, false))))
+                .thenReturn(tableOf(Map.of("A-B", new RiskAssessment(85.0, 45.0, 2.0, 600.0, true))))
+                .thenReturn(tableOf(Map.of()));
+
+        conflictAlertService.refresh();
+        conflictAlertService.refresh();
+        conflictAlertService.refresh();
+
+        ConflictEventFeedDto all = conflictAlertService.getConflictEvents(0);
+        assertThat(all.currentTick()).isEqualTo(3);
+        assertThat(all.truncated()).isFalse();
+        assertThat(all.events()).extracting(ConflictEventDto::type)
+                .containsExactly("NEW", "ESCALATED", "RESOLVED");
+        assertThat(all.events().get(1).previousAlertLevel()).isEqualTo("WHITE_CONFLICT");
+        assertThat(all.events().get(1).alertLevel()).isEqualTo("RED_CONFLICT");
+
+        assertThat(conflictAlertService.getConflictEvents(2).events())
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.pairId()).isEqualTo("A-B");
+                    assertThat(event.tick()).isEqualTo(3);
+                });
+        Assertions.assertThrows(InvalidParameterException.class,
+                () -> conflictAlertService.getConflictEvents(-1));
+    }
+
+    @Test
+    @DisplayName("Instruction probe evaluates one trajectory without publishing a snapshot")
+    void probeInstruction_evaluatesCandidateTrajectory() {
+        ConflictAlertService service = new ConflictAlertService(new ConflictDetector(), aircraftRepository);
+        aircraftRepository.add(TestAircraft.create("SUBJ01", 35.0, 139.0, 35000, 0.0, 450.0, 0.0));
+        aircraftRepository.add(TestAircraft.create("INTR01", 35.5, 139.0, 35000, 180.0, 450.0, 0.0));
+
+        TrajectoryProbeDto straight = service.probeInstruction("SUBJ01", new InstructedVector(
+                new Heading(0.0), new Altitude(35000), new GroundSpeed(450.0)));
+        TrajectoryProbeDto descent = service.probeInstruction("SUBJ01", new InstructedVector(
+                new Heading(0.0), new Altitude(31000), new GroundSpeed(450.0)));
+
+        assertThat(straight.trafficCount()).isEqualTo(1);
+        assertThat(straight.conflicts()).singleElement().satisfies(conflict -> {
+            assertThat(conflict.callsign()).isEqualTo("INTR01");
+            assertThat(conflict.conflictPredicted()).isTrue();
+        });
+        assertThat(straight.maxAlertLevel()).isEqualTo("RED_CONFLICT");
+        assertThat(straight.elapsedMicros()).isNotNegative();
+        assertThat(descent.conflicts()).noneMatch(ProbeConflictDto::conflictPredicted);
+        assertThat(service.getPublishedStatistics().totalConflicts()).isZero();
+        Assertions.assertThrows(AircraftNotFoundException.class,
+                () -> service.probeInstruction("NONE01", new InstructedVector(
+                        new Heading(0.0), new Altitude(35000), new GroundSpeed(450.0))));
+    }
+
+    @Test
+    @DisplayName("Refresh publishes the short-term and medium-term tiers into one snapshot with horizon tags")
+    void refresh_publishesBothTiersWithHorizonTags() {
+        ConflictDetector stca = new ConflictDetector(ConflictDetectorSettings.DEFAULT
+                .withPreFilterSettings(new PreFilterSettings(1000.0, true))
+                .withPredictionHorizon(120.0));
+        MediumTermProbe mediumTermProbe = new MediumTermProbe(stca, new MediumTermProbeSettings(1200.0, 150.0, 4));
+        ConflictAlertService service = ConflictAlertService.builder(stca, aircraftRepository)
+                .mediumTermProbe(mediumTermProbe)
+                .build();
+        // Head-on 120 NM apart at 450 kt each: closest approach in 8 minutes
+        aircraftRepository.add(TestAircraft.create("SUBJ01", 35.0, 139.0, 35000, 0.0, 450.0, 0.0));
+        aircraftRepository.add(TestAircraft.create("INTR01", 37.0, 139.0, 35000, 180.0, 450.0, 0.0));
+
+        ConflictSnapshot snapshot = null;
+        for (int tick = 0; tick < 4; tick++) {
+            snapshot = service.refresh();
+        }
+
+        assertThat(snapshot.horizonSeconds(ConflictHorizon.SHORT_TERM)).isEqualTo(120.0);
+        assertThat(snapshot.horizonSeconds(ConflictHorizon.MEDIUM_TERM)).isEqualTo(1200.0);
+        assertThat(service.getSeparationViolationAlerts()).isEmpty();
+        assertThat(service.getMediumTermAlerts(10)).singleElement().satisfies(alert -> {
+            assertThat(alert.pairId()).isEqualTo("INTR01-SUBJ01");
+            assertThat(alert.horizon()).isEqualTo("MEDIUM_TERM");
+            assertThat(alert.conflictPredicted()).isTrue();
+            assertThat(alert.timeToClosest()).isBetween(470.0, 490.0);
+        });
+        Assertions.assertThrows(InvalidParameterException.class, () -> service.getMediumTermAlerts(0));
+    }
+
+    /**
+     * "A-B" 形式のペアIDをキーとするマップから結果テーブルを作成
+     */
+    private static ConflictResultTable tableOf(Map<String, RiskAssessment> conflicts) {
+        Map<String, Integer> indices = new LinkedHashMap<>();
+        for (String pairId : conflicts.keySet()) {
+            for (String callsign : pairId.split("-")) {
+                indices.putIfAbsent(callsign, indices.size());
+            }
+        }
+        List<String> callsigns = new ArrayList<>(indices.keySet());
+        ConflictResultTable table = new ConflictResultTable(callsigns.toArray(String[]::new), conflicts.size());
+        conflicts.forEach((pairId, assessment) -> {
+            String[] parts = pairId.split("-");
+            table.put(indices.get(parts[0]), indices.get(parts[1]), assessment);
+        });
+        return table;
+    }
 }
@@ -0,0 +1,126 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictDetector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.FixPosition;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.infrastructure.fix.AtsRouteFixPositionRepository;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.FastTimeBatchSummaryDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.FlightPlanDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.FlightPlanWaypointDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.InitialPositionDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.ScenarioLoadDto;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.SpawnWithFlightPlanDto;
+
+/**
+ * Unit tests for FastTimeBatchRunner.
+ * Verifies tick accounting, separation and conflict counts, delayed spawns and throughput.
+ */
+class FastTimeBatchRunnerTest {
+
+    private static AtsRouteFixPositionRepository fixPositionRepository;
+
+    @BeforeAll
+    static void loadFixData() {
+        fixPositionRepository = new AtsRouteFixPositionRepository();
+    }
+
+    @Test
+    @DisplayName("Head-on pair at the same level is counted as an alert and a loss of separation")
+    void headOnPair_isCountedAsSeparationViolation() {
+        // 20 NM apart, closing at 900 kt: separation is lost after about one minute
+        ScenarioLoadDto scenario = scenario(
+                spawn("HEAD1", 35.0, 139.0, 0, List.of(), null),
+                spawn("HEAD2", 35.0 + 20.0 / 60.0, 139.0, 180, List.of(), null));
+
+        FastTimeBatchSummaryDto summary = newRunner().run(scenario, 10.0 / 60.0, 1.0);
+
+        assertThat(summary.ticks()).isEqualTo(600);
+        assertThat(summary.simulatedSeconds()).isEqualTo(600.0);
+        assertThat(summary.aircraftSpawned()).isEqualTo(2);
+        assertThat(summary.aircraftRemoved()).isZero();
+        assertThat(summary.redAlertPairs()).isEqualTo(1);
+        assertThat(summary.predictedViolationPairs()).isEqualTo(1);
+        assertThat(summary.separationViolationPairs()).isEqualTo(1);
+        assertThat(summary.separationViolationSeconds()).isPositive();
+        assertThat(summary.maxConcurrentAlerts()).isEqualTo(1);
+        assertThat(summary.realTimeFactor()).isGreaterThan(1.0);
+    }
+
+    @Test
+    @DisplayName("Coarser steps cover the same simulated time in fewer ticks")
+    void coarserSteps_coverSameSimulatedTime() {
+        ScenarioLoadDto scenario = scenario(spawn("SOLO1", 35.0, 139.0, 90, List.of(), null));
+
+        FastTimeBatchSummaryDto summary = newRunner().run(scenario, 0.5, 16.0);
+
+        assertThat(summary.ticks()).isEqualTo(113);
+        assertThat(summary.simulatedSeconds()).isEqualTo(1800.0);
+        assertThat(summary.alertPairs()).isZero();
+    }
+
+    @Test
+    @DisplayName("Delayed spawns appear at their spawn time and removed aircraft count towards throughput")
+    void delayedSpawnAndRemoval_areCounted() {
+        FixPosition koito = fixPositionRepository.findFixPositionByName("KOITO").orElseThrow();
+        double lat = koito.latitude.toDouble() - 10.0 / 60.0;
+        double lon = koito.longitude.toDouble();
+        List<FlightPlanWaypointDto> exitAtKoito =
+                List.of(new FlightPlanWaypointDto("KOITO", null, null, null, "REMOVE_AIRCRAFT"));
+        ScenarioLoadDto scenario = scenario(
+                spawn("EXIT1", lat, lon, 0, exitAtKoito, null),
+                spawn("EXIT2", lat, lon, 0, exitAtKoito, 1200),
+                spawn("LATE1", 30.0, 130.0, 90, List.of(), 7200));
+
+        FastTimeBatchSummaryDto summary = newRunner().run(scenario, 0.5, 1.0);
+
+        assertThat(summary.aircraftSpawned()).isEqualTo(2);
+        assertThat(summary.aircraftRemoved()).isEqualTo(2);
+        assertThat(summary.peakAircraft()).isEqualTo(1);
+        assertThat(summary.finalAircraft()).isZero();
+        assertThat(summary.throughputPerHour()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("Duplicate callsigns and non-positive durations are rejected")
+    void invalidInput_isRejected() {
+        FastTimeBatchRunner runner = newRunner();
+        ScenarioLoadDto duplicate = scenario(
+                spawn("DUP01", 35.0, 139.0, 0, List.of(), null),
+                spawn("DUP01", 36.0, 139.0, 0, List.of(), null));
+        ScenarioLoadDto valid = scenario(spawn("OK001", 35.0, 139.0, 0, List.of(), null));
+
+        assertThatThrownBy(() -> runner.run(duplicate, 1.0, 1.0))
+                .isInstanceOf(InvalidParameterException.class);
+        assertThatThrownBy(() -> runner.run(valid, 0.0, 1.0))
+                .isInstanceOf(InvalidParameterException.class);
+        assertThatThrownBy(() -> runner.run(valid, 1.0, -1.0))
+                .isInstanceOf(InvalidParameterException.class);
+        assertThatThrownBy(() -> runner.run(new ScenarioLoadDto("empty", null, null, List.of()), 1.0, 1.0))
+                .isInstanceOf(InvalidParameterException.class);
+    }
+
+    private static FastTimeBatchRunner newRunner() {
+        return new FastTimeBatchRunner(fixPositionRepository, new ConflictDetector(), 1);
+    }
+
+    private static ScenarioLoadDto scenario(SpawnWithFlightPlanDto... aircraft) {
+        return new ScenarioLoadDto("test", null, null, List.of(aircraft));
+    }
+
+    private static SpawnWithFlightPlanDto spawn(String callsign, double lat, double lon, int heading,
+                                                List<FlightPlanWaypointDto> route, Integer spawnTime) {
+        return new SpawnWithFlightPlanDto(
+                new FlightPlanDto(callsign, "B777", "RJTT", "RJAA", 35000, 450, route),
+                new InitialPositionDto(lat, lon, 35000, heading, 450, 0),
+                spawnTime);
+    }
+}
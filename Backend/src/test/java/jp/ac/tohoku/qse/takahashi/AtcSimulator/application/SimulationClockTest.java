@@ -0,0 +1,168 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.SimulationClockDto;
+
+/**
+ * Unit tests for SimulationClock.
+ * Verifies run/pause state, time scale, fixed-timestep scheduling, catch-up and overrun accounting.
+ */
+class SimulationClockTest {
+
+    private SimulationClock clock;
+
+    @AfterEach
+    void tearDown() {
+        if (clock != null) {
+            clock.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Ticks keep running while paused and advance dynamics only once resumed")
+    void runState_controlsDynamicsOnly() {
+        CopyOnWriteArrayList<Double> advanced = new CopyOnWriteArrayList<>();
+        clock = new SimulationClock(advanced::add, 10, SimulationClock.DEFAULT_MAX_CATCH_UP_TICKS);
+
+        clock.startTicking();
+        awaitCondition(() -> advanced.size() >= 3);
+        clock.resume();
+        int resumedAt = advanced.size();
+        awaitCondition(() -> advanced.size() >= resumedAt + 3);
+        clock.pause();
+        clock.close();
+
+        assertThat(advanced.subList(0, 3)).containsOnly(0.0);
+        assertThat(advanced).contains(0.01);
+        SimulationClockDto metrics = clock.getMetrics();
+        assertThat(metrics.runState()).isEqualTo("PAUSED");
+        assertThat(metrics.tick()).isEqualTo(advanced.size());
+        assertThat(metrics.simulatedTicks()).isEqualTo(advanced.stream().filter(seconds -> seconds > 0.0).count());
+    }
+
+    @Test
+    @DisplayName("Time scale multiplies the simulated seconds per tick without changing the tick interval")
+    void timeScale_scalesSimulatedSecondsPerTick() {
+        CopyOnWriteArrayList<Double> advanced = new CopyOnWriteArrayList<>();
+        clock = new SimulationClock(advanced::add, 10, SimulationClock.DEFAULT_MAX_CATCH_UP_TICKS);
+        clock.setTimeScale(16.0);
+
+        clock.resume();
+        clock.startTicking();
+        awaitCondition(() -> advanced.size() >= 5);
+        clock.close();
+
+        assertThat(advanced).containsOnly(0.16);
+        SimulationClockDto metrics = clock.getMetrics();
+        assertThat(metrics.timeScale()).isEqualTo(16.0);
+        assertThat(metrics.tickIntervalMillis()).isEqualTo(10.0);
+        assertThat(metrics.simulatedSeconds()).isCloseTo(0.16 * advanced.size(), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Time scale outside 0.25x-64x is rejected and the previous scale is kept")
+    void timeScale_outsideRange_isRejected() {
+        clock = new SimulationClock(advance -> { }, 10, SimulationClock.DEFAULT_MAX_CATCH_UP_TICKS);
+        clock.setTimeScale(SimulationClock.MIN_TIME_SCALE);
+        clock.setTimeScale(SimulationClock.MAX_TIME_SCALE);
+
+        assertThatThrownBy(() -> clock.setTimeScale(0.2))
+                .isInstanceOf(InvalidParameterException.class);
+        assertThatThrownBy(() -> clock.setTimeScale(65.0))
+                .isInstanceOf(InvalidParameterException.class);
+        assertThatThrownBy(() -> clock.setTimeScale(Double.NaN))
+                .isInstanceOf(InvalidParameterException.class);
+        assertThat(clock.getTimeScale()).isEqualTo(SimulationClock.MAX_TIME_SCALE);
+    }
+
+    @Test
+    @DisplayName("Tick count follows wall-clock time without drift")
+    void fixedTimestep_doesNotDrift() throws InterruptedException {
+        clock = new SimulationClock(advance -> { }, 10, 100);
+
+        long start = System.nanoTime();
+        clock.startTicking();
+        Thread.sleep(500);
+        long elapsedTicks = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) / 10;
+        long ticks = clock.getTick();
+
+        // ティック0は開始直後に発行されるため、経過時間/間隔 + 1 を超えることはない
+        assertThat(ticks).isBetween(elapsedTicks - 5, elapsedTicks + 1);
+    }
+
+    @Test
+    @DisplayName("A slow tick is caught up back-to-back and counted as an overrun")
+    void slowTick_isCaughtUp() {
+        AtomicInteger calls = new AtomicInteger();
+        clock = new SimulationClock(advance -> {
+            if (calls.incrementAndGet() == 2) {
+                sleep(75);
+            }
+        }, 20, 100);
+
+        clock.startTicking();
+        awaitCondition(() -> calls.get() >= 8);
+        clock.close();
+        SimulationClockDto metrics = clock.getMetrics();
+
+        assertThat(metrics.overrunCount()).isGreaterThanOrEqualTo(1);
+        assertThat(metrics.droppedTicks()).isZero();
+        assertThat(metrics.maxLagMillis()).isGreaterThanOrEqualTo(40.0);
+        assertThat(metrics.maxTickMillis()).isGreaterThanOrEqualTo(75.0);
+    }
+
+    @Test
+    @DisplayName("Lag beyond the catch-up limit drops ticks instead of bursting")
+    void lagBeyondLimit_dropsTicks() {
+        AtomicInteger calls = new AtomicInteger();
+        clock = new SimulationClock(advance -> {
+            if (calls.incrementAndGet() == 2) {
+                sleep(110);
+            }
+        }, 20, 1);
+
+        clock.startTicking();
+        awaitCondition(() -> calls.get() >= 5);
+        clock.close();
+
+        assertThat(clock.getMetrics().droppedTicks()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Invalid interval or catch-up limit is rejected")
+    void invalidSettings_areRejected() {
+        assertThatThrownBy(() -> new SimulationClock(advance -> { }, 0, 5))
+                .isInstanceOf(InvalidParameterException.class);
+        assertThatThrownBy(() -> new SimulationClock(advance -> { }, 10, -1))
+                .isInstanceOf(InvalidParameterException.class);
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 10s").isLessThan(deadline);
+            sleep(1);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
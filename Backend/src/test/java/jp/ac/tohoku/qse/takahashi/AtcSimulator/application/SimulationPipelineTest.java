@@ -0,0 +1,213 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.aggregate.airspace.AirspaceManagementImpl;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftBase;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.AircraftStateSnapshot;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictDetector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.ConflictResultTable;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.IncrementalConflictDetector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict.TestAircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.AircraftAttributes.*;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftPosition;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.infrastructure.persistence.inMemory.AircraftRepositoryInMemory;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.interfaces.dto.SimulationPipelineDto;
+
+/**
+ * Unit tests for SimulationPipeline.
+ * Verifies that detection runs on the captured state, tick ordering and per-stage metrics.
+ */
+class SimulationPipelineTest {
+
+    private AircraftRepositoryInMemory aircraftRepository;
+    private ConflictAlertService conflictAlertService;
+    private SimulationPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        aircraftRepository = new AircraftRepositoryInMemory();
+        conflictAlertService = new ConflictAlertService(new IncrementalConflictDetector(), aircraftRepository);
+        // Head-on pair 20 NM apart at the same level
+        aircraftRepository.add(TestAircraft.create("HEAD1", 35.0, 139.0, 35000, 0, 450.0, 0.0));
+        aircraftRepository.add(TestAircraft.create("HEAD2", 35.0 + 20.0 / 60.0, 139.0, 35000, 180, 450.0, 0.0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Sequential mode publishes the snapshot before tick returns")
+    void sequentialTick_publishesBeforeReturning() {
+        pipeline = newPipeline(false);
+
+        pipeline.tick(false);
+
+        assertThat(conflictAlertService.getPublishedStatistics().totalConflicts()).isEqualTo(1);
+        assertThat(conflictAlertService.getLatestSnapshot().version()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Pipelined ticks publish one snapshot per tick once the pipeline is idle")
+    void pipelinedTicks_publishOneSnapshotPerTick() {
+        pipeline = newPipeline(true);
+
+        for (int i = 0; i < 5; i++) {
+            pipeline.tick(true);
+        }
+        pipeline.awaitIdle();
+
+        assertThat(conflictAlertService.getLatestSnapshot().version()).isEqualTo(5);
+        assertThat(conflictAlertService.getLatestSnapshot().table().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Detection on a captured state ignores updates made after the capture")
+    void capturedState_isFrozenAgainstLaterUpdates() {
+        ConflictDetector detector = new ConflictDetector();
+        AircraftStateSnapshot state = AircraftStateSnapshot.of(aircraftRepository.findAll());
+        ConflictResultTable before = detector.calculateConflictTable(aircraftRepository.findAll());
+
+        // Move one aircraft far away after the capture, as the next tick's dynamics would
+        AircraftBase moved = (AircraftBase) aircraftRepository.findByCallsign(new Callsign("HEAD2"));
+        moved.setAircraftPosition(new AircraftPosition(new Latitude(40.0), new Longitude(139.0), new Altitude(35000)));
+
+        ConflictResultTable captured = detector.calculateConflictTable(state);
+        ConflictResultTable live = detector.calculateConflictTable(aircraftRepository.findAll());
+
+        assertThat(captured.toPairIdMap()).isEqualTo(before.toPairIdMap());
+        assertThat(live.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Detection input is built from the published world state, not the live aircraft")
+    void worldStateSnapshot_ignoresUnpublishedUpdates() {
+        ConflictDetector detector = new ConflictDetector();
+        long publishedVersion = aircraftRepository.getWorldState().version();
+
+        // Update the live aircraft without publishing, as the dynamics step does before nextStep returns
+        AircraftBase moved = (AircraftBase) aircraftRepository.findByCallsign(new Callsign("HEAD2"));
+        moved.setAircraftPosition(new AircraftPosition(new Latitude(40.0), new Longitude(139.0), new Altitude(35000)));
+
+        AircraftStateSnapshot state = AircraftStateSnapshot.of(aircraftRepository.getWorldState());
+
+        assertThat(aircraftRepository.getWorldState().version()).isEqualTo(publishedVersion);
+        assertThat(state.aircraftCount()).isEqualTo(2);
+        assertThat(detector.calculateConflictTable(state).size()).isEqualTo(1);
+        assertThat(detector.calculateConflictTable(aircraftRepository.findAll()).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Stage metrics count every tick and every detection")
+    void metrics_reportPerStageLatency() {
+        pipeline = newPipeline(true);
+
+        for (int i = 0; i < 3; i++) {
+            pipeline.tick(true);
+        }
+        pipeline.awaitIdle();
+        SimulationPipelineDto metrics = pipeline.getMetrics();
+
+        assertThat(metrics.pipelined()).isTrue();
+        assertThat(metrics.ticks()).isEqualTo(3);
+        assertThat(metrics.stages())
+                .extracting(SimulationPipelineDto.StageLatencyDto::stage)
+                .containsExactly("DYNAMICS", "CAPTURE", "WAIT", "DETECTION", "TICK");
+        assertThat(metrics.stages())
+                .allSatisfy(stage -> {
+                    assertThat(stage.samples()).isEqualTo(3);
+                    assertThat(stage.maxMillis()).isGreaterThanOrEqualTo(stage.averageMillis());
+                    assertThat(stage.averageMillis()).isGreaterThanOrEqualTo(0.0);
+                });
+    }
+
+    @Test
+    @DisplayName("Fast-time run with 500 aircraft: pipelined and sequential publish the same tick count")
+    void fastTimeRun_pipelinedMatchesSequential() {
+        Random random = new Random(12345L);
+        for (int i = 0; i < 500; i++) {
+            aircraftRepository.add(TestAircraft.create("TEST" + String.format("%04d", i),
+                    35.0 + (random.nextDouble() - 0.5) * 4.0, 139.0, 25000 + random.nextDouble() * 20000,
+                    random.nextDouble() * 360, 450.0, 0.0));
+        }
+
+        double sequentialMs = runTicks(false, 10);
+        long sequentialVersion = conflictAlertService.getLatestSnapshot().version();
+        double pipelinedMs = runTicks(true, 10);
+
+        System.out.printf("500機・10ティック: 逐次 %.1fms / パイプライン %.1fms（%d CPU）%n",
+                sequentialMs, pipelinedMs, Runtime.getRuntime().availableProcessors());
+        assertThat(sequentialVersion).isEqualTo(10);
+        assertThat(conflictAlertService.getLatestSnapshot().version()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Compressed ticks run detection once per tick regardless of sub-steps")
+    void compressedTicks_detectOncePerTick() {
+        Random random = new Random(424242L);
+        for (int i = 0; i < 50; i++) {
+            aircraftRepository.add(TestAircraft.create("FAST" + String.format("%04d", i),
+                    35.0 + (random.nextDouble() - 0.5) * 4.0, 139.0, 25000 + random.nextDouble() * 20000,
+                    random.nextDouble() * 360, 450.0, 0.0));
+        }
+        pipeline = newPipeline(false);
+
+        for (int i = 0; i < 6; i++) {
+            pipeline.tick(16.0);
+        }
+
+        assertThat(conflictAlertService.getLatestSnapshot().version()).isEqualTo(6);
+    }
+
+    @Test
+    @DisabledIfEnvironmentVariable(named = "CI", matches = ".+", disabledReason = "環境依存のためCIではスキップ")
+    @DisplayName("500 aircraft at 16x keep up with a 1 s wall-clock tick")
+    void compressedTicks_with500Aircraft_keepUpWithWallClock() {
+        Random random = new Random(424242L);
+        for (int i = 0; i < 500; i++) {
+            aircraftRepository.add(TestAircraft.create("FAST" + String.format("%04d", i),
+                    35.0 + (random.nextDouble() - 0.5) * 4.0, 139.0, 25000 + random.nextDouble() * 20000,
+                    random.nextDouble() * 360, 450.0, 0.0));
+        }
+        pipeline = newPipeline(false);
+        pipeline.tick(16.0);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            pipeline.tick(16.0);
+        }
+        double averageMs = (System.nanoTime() - start) / 1_000_000.0 / 5;
+
+        System.out.printf("500機・16倍速: 1ティック平均 %.1fms%n", averageMs);
+        assertThat(averageMs).isLessThan(1000.0);
+    }
+
+    private double runTicks(boolean pipelined, int ticks) {
+        try (SimulationPipeline run = newPipeline(pipelined)) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ticks; i++) {
+                run.tick(true);
+            }
+            run.awaitIdle();
+            return (System.nanoTime() - start) / 1_000_000.0;
+        }
+    }
+
+    private SimulationPipeline newPipeline(boolean pipelined) {
+        return new SimulationPipeline(new AirspaceManagementImpl(aircraftRepository, null), aircraftRepository,
+                conflictAlertService, pipelined);
+    }
+}
@@ -74,6 +74,12 @@ public class CommercialAircraftOptimizationTest {
         assertNotNull(radarString);
         assertFalse(radarString.isEmpty());
 
+        // 位置の更新後はキャッシュの有効期間内でも新しい位置のレーダー文字列を返す
+        CommercialAircraft moving = createAircraftWithSpeed(450.0);
+        String beforeStep = moving.toRadarString();
+        moving.calculateNextAircraftPosition();
+        assertNotEquals(beforeStep, moving.toRadarString(), "位置の更新後に古いレーダー文字列が返された");
+
         System.out.println("✓ 基本機能テスト完了");
     }
 
@@ -234,7 +240,8 @@ public class CommercialAircraftOptimizationTest {
             }
         }
 
-        // 最終メモリ状態
+        // 最終メモリ状態（位置更新は呼び出しごとに1ステップ進めるため、一時オブジェクトを回収してから保持量を測定）
+        System.gc();
         long finalMemory = runtime.totalMemory() - runtime.freeMemory();
         long memoryUsed = finalMemory - initialMemory;
 
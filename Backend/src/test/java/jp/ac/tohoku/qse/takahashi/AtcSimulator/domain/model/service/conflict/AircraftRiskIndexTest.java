@@ -0,0 +1,98 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.RiskAssessment;
+
+/**
+ * AircraftRiskIndexのテストクラス
+ * 航空機ごとの最大危険度・最も危険な相手機・アラートレベル別の相手機数をテスト
+ */
+class AircraftRiskIndexTest {
+
+    private static final String[] CALLSIGNS = {"JAL123", "ANA456", "SKY789", "ADO012"};
+
+    @Test
+    @DisplayName("航空機ごとの要約を集計")
+    void testSummaries() {
+        ConflictResultTable table = new ConflictResultTable(CALLSIGNS, 4);
+        table.put(0, 1, new RiskAssessment(10.0, 200.0, 8.0, 2000.0, false));
+        table.put(1, 2, new RiskAssessment(85.0, 45.0, 2.0, 600.0, true));
+        table.put(0, 2, new RiskAssessment(50.0, 120.0, 4.0, 1200.0, false));
+
+        AircraftRiskIndex index = AircraftRiskIndex.of(table);
+
+        assertEquals(new AircraftRiskIndex.Summary(50.0, "SKY789", 1, 1, 0), index.summary("JAL123"));
+        assertEquals(new AircraftRiskIndex.Summary(85.0, "SKY789", 1, 0, 1), index.summary("ANA456"));
+        assertEquals(new AircraftRiskIndex.Summary(85.0, "ANA456", 0, 1, 1), index.summary("SKY789"));
+        assertEquals(AircraftRiskIndex.Summary.NONE, index.summary("ADO012"));
+        assertEquals(AircraftRiskIndex.Summary.NONE, index.summary("UNKNOWN"));
+
+        int sky = index.indexOf("SKY789");
+        assertEquals(2, sky);
+        assertEquals(1, index.worstPartner(sky));
+        assertEquals(1, index.partnerCount(sky, AlertLevel.RED_CONFLICT));
+        assertEquals(AircraftRiskIndex.NO_PARTNER, index.worstPartner(index.indexOf("ADO012")));
+        assertEquals(-1, index.indexOf("UNKNOWN"));
+    }
+
+    @Test
+    @DisplayName("航空機ごとの隣接リストは関わるペアのみを含む")
+    void testAdjacency() {
+        ConflictResultTable table = new ConflictResultTable(CALLSIGNS, 4);
+        table.put(0, 1, new RiskAssessment(10.0, 200.0, 8.0, 2000.0, false));
+        table.put(1, 2, new RiskAssessment(85.0, 45.0, 2.0, 600.0, true));
+        table.put(0, 2, new RiskAssessment(50.0, 120.0, 4.0, 1200.0, false));
+
+        AircraftRiskIndex index = AircraftRiskIndex.of(table);
+
+        for (int aircraft = 0; aircraft < CALLSIGNS.length; aircraft++) {
+            List<Integer> expected = new ArrayList<>();
+            for (int entry = 0; entry < table.size(); entry++) {
+                if (table.firstIndex(entry) == aircraft || table.secondIndex(entry) == aircraft) {
+                    expected.add(entry);
+                }
+            }
+            List<Integer> actual = new ArrayList<>();
+            for (int k = 0; k < index.conflictCount(aircraft); k++) {
+                actual.add(index.conflictEntry(aircraft, k));
+            }
+            assertEquals(expected, actual, CALLSIGNS[aircraft]);
+        }
+        assertEquals(0, index.conflictCount(index.indexOf("ADO012")));
+    }
+
+    @Test
+    @DisplayName("検出結果の索引は全ペア走査による最大危険度と一致")
+    void testMatchesPairScan() {
+        List<Aircraft> aircraftList = new ArrayList<>();
+        Random random = new Random(2468L);
+        for (int i = 0; i < 150; i++) {
+            aircraftList.add(TestAircraft.create("IDX" + i, 35.0 + random.nextDouble(), 139.0 + random.nextDouble(),
+                30000 + random.nextInt(6) * 1000, random.nextDouble() * 360, 400, 0));
+        }
+        ConflictResultTable table = new ConflictDetector().calculateConflictTable(aircraftList);
+        AircraftRiskIndex index = AircraftRiskIndex.of(table);
+
+        assertFalse(table.isEmpty(), "比較対象のコンフリクトが存在するべき");
+        for (int a = 0; a < table.aircraftCount(); a++) {
+            double expected = 0.0;
+            for (int b = 0; b < table.aircraftCount(); b++) {
+                int entry = table.find(a, b);
+                if (entry >= 0) {
+                    expected = Math.max(expected, table.riskLevel(entry));
+                }
+            }
+            assertEquals(expected, index.maxRisk(a), table.callsign(a));
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftBase;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.types.commercial.CommercialAircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.fix.util.Route;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.fix.util.RoutePoint;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.AircraftAttributes.*;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftPosition;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftVector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Type.AircraftType;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.infrastructure.fix.AtsRouteFixPositionRepository;
+
+/**
+ * ブロードフェーズ方式の比較ベンチマーク
+ *
+ * ats_lower_routes.json / rnav_routes.json の航空路上に航空機を配置して1秒ずつ直進させ、
+ * 全ペア走査（固定50海里）・空間グリッド・スイープ・アンド・プルーンの候補ペア抽出時間を測定する。
+ * 全方式の候補ペアが一致することも毎ティック確認する。
+ * 参考として、運動学的な考慮半径（{@link PreFilterSettings#kinematicRadius()}）を用いた空間グリッドの時間・候補ペア数も出力する。
+ */
+@DisplayName("ブロードフェーズ比較ベンチマーク")
+class BroadPhaseBenchmarkTest {
+
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS * DEGREES_TO_RADIANS * 1000.0;
+
+    private static List<RoutePoint[]> routeSegments;
+
+    @BeforeAll
+    static void loadRoutes() {
+        AtsRouteFixPositionRepository repository = new AtsRouteFixPositionRepository();
+        List<Route> routes = new ArrayList<>(repository.getAtsLowerRoutes());
+        routes.addAll(repository.getRnavRoutes());
+
+        routeSegments = new ArrayList<>();
+        for (Route route : routes) {
+            List<RoutePoint> points = route.getPoints();
+            for (int k = 0; k + 1 < points.size(); k++) {
+                routeSegments.add(new RoutePoint[]{points.get(k), points.get(k + 1)});
+            }
+        }
+        assertFalse(routeSegments.isEmpty(), "航空路データが読み込まれるべき");
+    }
+
+    @Test
+    @DisplayName("航空路上の交通で全方式の候補ペアが一致")
+    void testCandidatePairsMatchOnRouteTraffic() {
+        List<Aircraft> aircraftList = generateRouteTraffic(600, 2468L);
+        Map<BroadPhaseMode, ConflictDetector> detectors = createDetectors();
+
+        for (int tick = 0; tick < 10; tick++) {
+            AircraftStateSnapshot snapshot = AircraftStateSnapshot.of(aircraftList);
+            long[] expected = sortedPairs(detectors.get(BroadPhaseMode.EXHAUSTIVE), snapshot);
+            assertTrue(expected.length > 0, "候補ペアが存在するべき");
+            for (BroadPhaseMode mode : BroadPhaseMode.values()) {
+                assertArrayEquals(expected, sortedPairs(detectors.get(mode), snapshot), mode + " tick " + tick);
+            }
+            advanceAll(aircraftList, 1.0);
+        }
+    }
+
+    @Test
+    @DisabledIfEnvironmentVariable(named = "CI", matches = ".+", disabledReason = "環境依存のためCIではスキップ")
+    @DisplayName("航空路上の交通でのブロードフェーズ処理時間")
+    void benchmarkBroadPhaseOnRouteTraffic() {
+        int warmupTicks = 30;
+        int measuredTicks = 120;
+
+        for (int aircraftCount : new int[]{200, 1000, 3000}) {
+            List<Aircraft> aircraftList = generateRouteTraffic(aircraftCount, 13579L);
+            Map<BroadPhaseMode, ConflictDetector> detectors = createDetectors();
+            ConflictDetector kinematic = new ConflictDetector(ConflictDetectorSettings.DEFAULT.withPreFilterSettings(
+                new PreFilterSettings(PreFilterSettings.VERTICAL_CULLING_DISABLED, true)));
+            Map<BroadPhaseMode, Long> elapsedNanos = new EnumMap<>(BroadPhaseMode.class);
+            long kinematicNanos = 0;
+            long candidatePairs = 0;
+            long kinematicPairs = 0;
+
+            for (int tick = 0; tick < warmupTicks + measuredTicks; tick++) {
+                AircraftStateSnapshot snapshot = AircraftStateSnapshot.of(aircraftList);
+                for (BroadPhaseMode mode : BroadPhaseMode.values()) {
+                    long start = System.nanoTime();
+                    long[] pairs = detectors.get(mode).preFilterSnapshotPairs(snapshot);
+                    long elapsed = System.nanoTime() - start;
+                    if (tick >= warmupTicks) {
+                        elapsedNanos.merge(mode, elapsed, Long::sum);
+                        if (mode == BroadPhaseMode.EXHAUSTIVE) {
+                            candidatePairs += pairs.length;
+                        }
+                    }
+                }
+                long start = System.nanoTime();
+                long[] pairs = kinematic.preFilterSnapshotPairs(snapshot);
+                long elapsed = System.nanoTime() - start;
+                if (tick >= warmupTicks) {
+                    kinematicNanos += elapsed;
+                    kinematicPairs += pairs.length;
+                }
+                advanceAll(aircraftList, 1.0);
+            }
+
+            System.out.printf("=== 航空路交通 %d機（%dティック平均、候補ペア %d組） ===%n",
+                              aircraftCount, measuredTicks, candidatePairs / measuredTicks);
+            for (BroadPhaseMode mode : BroadPhaseMode.values()) {
+                System.out.printf("%-16s %8.3f ms/tick%n", mode, elapsedNanos.get(mode) / 1e6 / measuredTicks);
+            }
+            System.out.printf("%-16s %8.3f ms/tick（候補ペア %d組）%n", "KINEMATIC_GRID",
+                              kinematicNanos / 1e6 / measuredTicks, kinematicPairs / measuredTicks);
+        }
+    }
+
+    // ヘルパーメソッド
+
+    private static Map<BroadPhaseMode, ConflictDetector> createDetectors() {
+        Map<BroadPhaseMode, ConflictDetector> detectors = new EnumMap<>(BroadPhaseMode.class);
+        for (BroadPhaseMode mode : BroadPhaseMode.values()) {
+            detectors.put(mode, new ConflictDetector(ConflictDetectorSettings.DEFAULT.withBroadPhaseMode(mode)));
+        }
+        return detectors;
+    }
+
+    private static long[] sortedPairs(ConflictDetector detector, AircraftStateSnapshot snapshot) {
+        long[] pairs = detector.preFilterSnapshotPairs(snapshot);
+        Arrays.sort(pairs);
+        return pairs;
+    }
+
+    /**
+     * 航空路のセグメント上に、セグメントの向き（または逆向き）で飛行する航空機を配置
+     */
+    private static List<Aircraft> generateRouteTraffic(int count, long seed) {
+        Random random = new Random(seed);
+        List<Aircraft> aircraftList = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            RoutePoint[] segment = routeSegments.get(random.nextInt(routeSegments.size()));
+            RoutePoint from = random.nextBoolean() ? segment[0] : segment[1];
+            RoutePoint to = from == segment[0] ? segment[1] : segment[0];
+
+            double fraction = random.nextDouble();
+            double lat = from.getLatitude() + (to.getLatitude() - from.getLatitude()) * fraction;
+            double lon = from.getLongitude() + (to.getLongitude() - from.getLongitude()) * fraction;
+            double heading = (Math.toDegrees(Math.atan2(
+                (to.getLongitude() - from.getLongitude()) * Math.cos(Math.toRadians(lat)),
+                to.getLatitude() - from.getLatitude())) + 360.0) % 360.0;
+            double altitude = (100 + random.nextInt(31) * 10) * 100; // FL100-FL400
+            double groundSpeed = 250 + random.nextDouble() * 250;    // 250-500kt
+            double verticalSpeed = random.nextInt(4) == 0 ? (random.nextBoolean() ? 1500 : -1500) : 0;
+
+            aircraftList.add(new CommercialAircraft(
+                new Callsign("RTE" + i),
+                new AircraftType("B738"),
+                new AircraftPosition(new Latitude(lat), new Longitude(lon), new Altitude(altitude)),
+                new AircraftVector(new Heading(heading), new GroundSpeed(groundSpeed), new VerticalSpeed(verticalSpeed)),
+                "HND", "RJTT", "ITM", "RJOO", "2024-01-01T12:00:00Z"));
+        }
+
+        return aircraftList;
+    }
+
+    /**
+     * 全航空機を現在のベクトルで直進させる
+     */
+    private static void advanceAll(List<Aircraft> aircraftList, double seconds) {
+        for (Aircraft aircraft : aircraftList) {
+            AircraftPosition position = aircraft.getAircraftPosition();
+            AircraftVector vector = aircraft.getAircraftVector();
+            double speed = vector.groundSpeed.toDouble() * KNOTS_TO_KM_PER_HOUR / 3.6;
+            double headingRad = Math.toRadians(vector.heading.toDouble());
+            double lat = position.latitude.toDouble();
+
+            double newLat = lat + speed * Math.cos(headingRad) * seconds / METERS_PER_DEGREE;
+            double newLon = position.longitude.toDouble()
+                + speed * Math.sin(headingRad) * seconds / (METERS_PER_DEGREE * Math.cos(Math.toRadians(lat)));
+            double newAlt = Math.max(0.0, position.altitude.toDouble() + vector.verticalSpeed.toDouble() / 60.0 * seconds);
+
+            ((AircraftBase) aircraft).setAircraftPosition(
+                new AircraftPosition(new Latitude(newLat), new Longitude(newLon), new Altitude(newAlt)));
+        }
+    }
+}
@@ -13,14 +13,8 @@ import org.junit.jupiter.api.Test;
 
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.types.commercial.CommercialAircraft;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.AircraftAttributes.*;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.RiskAssessment;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftPosition;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftVector;
-import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Type.AircraftType;
 
 /**
  * ConflictDetectorの包括的なテストクラス
@@ -37,14 +31,14 @@ class ConflictDetectorTest {
         conflictDetector = new ConflictDetector();
 
         // テスト用航空機1（東京上空）
-        testAircraft1 = createTestAircraft(
+        testAircraft1 = TestAircraft.create(
             "JAL001",
             35.6762, 139.6503, 35000,  // 成田空港上空
             90, 450, 0                  // 東向き、450ノット、水平飛行
         );
 
         // テスト用航空機2（東京近郊）
-        testAircraft2 = createTestAircraft(
+        testAircraft2 = TestAircraft.create(
             "ANA002",
             35.7000, 139.6503, 35000,  // 若干北側
             90, 450, 0                  // 同方向
@@ -106,8 +100,8 @@ class ConflictDetectorTest {
         @DisplayName("安全な管制間隔テスト")
         void testSafeSeparation() {
             // 十分な間隔での航空機
-            Aircraft aircraft1 = createTestAircraft("SAFE1", 35.0, 139.0, 35000, 90, 400, 0);
-            Aircraft aircraft2 = createTestAircraft("SAFE2", 35.1, 139.1, 36100, 90, 400, 0); // 6NM + 1100ft
+            Aircraft aircraft1 = TestAircraft.create("SAFE1", 35.0, 139.0, 35000, 90, 400, 0);
+            Aircraft aircraft2 = TestAircraft.create("SAFE2", 35.1, 139.1, 36100, 90, 400, 0); // 6NM + 1100ft
 
             RiskAssessment result = conflictDetector.calculateConflictRisk(aircraft1, aircraft2);
             assertFalse(result.isSeparationViolation(), "十分な間隔があるため違反なし");
@@ -117,8 +111,8 @@ class ConflictDetectorTest {
         @DisplayName("水平間隔違反テスト")
         void testHorizontalSeparationViolation() {
             // 水平間隔不足のシナリオ（正面衝突、同じ高度）
-            Aircraft aircraft1 = createTestAircraft("H1", 35.0, 139.0, 35000, 90, 400, 0);
-            Aircraft aircraft2 = createTestAircraft("H2", 35.0, 139.05, 35000, 270, 400, 0); // 約3NM、同高度
+            Aircraft aircraft1 = TestAircraft.create("H1", 35.0, 139.0, 35000, 90, 400, 0);
+            Aircraft aircraft2 = TestAircraft.create("H2", 35.0, 139.05, 35000, 270, 400, 0); // 約3NM、同高度
 
             RiskAssessment result = conflictDetector.calculateConflictRisk(aircraft1, aircraft2);
             assertTrue(result.isSeparationViolation(), "水平間隔と垂直間隔の両方が不足のため違反");
@@ -128,8 +122,8 @@ class ConflictDetectorTest {
         @DisplayName("垂直間隔違反テスト")
         void testVerticalSeparationViolation() {
             // 垂直間隔不足のシナリオ（水平も不足）
-            Aircraft aircraft1 = createTestAircraft("V1", 35.0, 139.0, 35000, 90, 400, 0);
-            Aircraft aircraft2 = createTestAircraft("V2", 35.025, 139.0, 35500, 90, 400, 0); // 1.5NM、500ft差
+            Aircraft aircraft1 = TestAircraft.create("V1", 35.0, 139.0, 35000, 90, 400, 0);
+            Aircraft aircraft2 = TestAircraft.create("V2", 35.025, 139.0, 35500, 90, 400, 0); // 1.5NM、500ft差
 
             RiskAssessment result = conflictDetector.calculateConflictRisk(aircraft1, aircraft2);
             assertTrue(result.isSeparationViolation(), "水平間隔と垂直間隔の両方が不足のため違反");
@@ -139,15 +133,15 @@ class ConflictDetectorTest {
         @DisplayName("危険度境界値テスト")
         void testRiskLevelBoundaries() {
             // 危険度0の境界（十分な距離）
-            Aircraft safeAircraft1 = createTestAircraft("SAFE1", 35.0, 139.0, 35000, 0, 400, 0);
-            Aircraft safeAircraft2 = createTestAircraft("SAFE2", 36.0, 140.0, 40000, 180, 400, 0);
+            Aircraft safeAircraft1 = TestAircraft.create("SAFE1", 35.0, 139.0, 35000, 0, 400, 0);
+            Aircraft safeAircraft2 = TestAircraft.create("SAFE2", 36.0, 140.0, 40000, 180, 400, 0);
 
             RiskAssessment safeResult = conflictDetector.calculateConflictRisk(safeAircraft1, safeAircraft2);
             assertEquals(0.0, safeResult.getRiskLevel(), 0.1);
 
             // 危険度100の境界（衝突コース）
-            Aircraft dangerAircraft1 = createTestAircraft("DANGER1", 35.0, 139.0, 35000, 90, 400, 0);
-            Aircraft dangerAircraft2 = createTestAircraft("DANGER2", 35.0, 139.1, 35000, 270, 400, 0);
+            Aircraft dangerAircraft1 = TestAircraft.create("DANGER1", 35.0, 139.0, 35000, 90, 400, 0);
+            Aircraft dangerAircraft2 = TestAircraft.create("DANGER2", 35.0, 139.1, 35000, 270, 400, 0);
 
             RiskAssessment dangerResult = conflictDetector.calculateConflictRisk(dangerAircraft1, dangerAircraft2);
             assertTrue(dangerResult.getRiskLevel() > 50.0);
@@ -248,7 +242,7 @@ class ConflictDetectorTest {
         @DisplayName("異常な座標データ処理")
         void testAbnormalCoordinates() {
             // 極端な座標の航空機
-            Aircraft extremeAircraft = createTestAircraft(
+            Aircraft extremeAircraft = TestAircraft.create(
                 "EXTREME",
                 90.0, 180.0, 60000,  // 北極、日付変更線
                 0, 600, 0
@@ -269,8 +263,8 @@ class ConflictDetectorTest {
         @Test
         @DisplayName("正面衝突コーステスト")
         void testHeadOnCollisionCourse() {
-            Aircraft aircraft1 = createTestAircraft("HEAD1", 35.0, 139.0, 35000, 90, 400, 0);
-            Aircraft aircraft2 = createTestAircraft("HEAD2", 35.0, 139.5, 35000, 270, 400, 0);
+            Aircraft aircraft1 = TestAircraft.create("HEAD1", 35.0, 139.0, 35000, 90, 400, 0);
+            Aircraft aircraft2 = TestAircraft.create("HEAD2", 35.0, 139.5, 35000, 270, 400, 0);
 
             RiskAssessment result = conflictDetector.calculateConflictRisk(aircraft1, aircraft2);
 
@@ -282,8 +276,8 @@ class ConflictDetectorTest {
         @Test
         @DisplayName("並行飛行テスト")
         void testParallelFlight() {
-            Aircraft aircraft1 = createTestAircraft("PAR1", 35.0, 139.0, 35000, 90, 400, 0);
-            Aircraft aircraft2 = createTestAircraft("PAR2", 35.1, 139.0, 36000, 90, 400, 0);
+            Aircraft aircraft1 = TestAircraft.create("PAR1", 35.0, 139.0, 35000, 90, 400, 0);
+            Aircraft aircraft2 = TestAircraft.create("PAR2", 35.1, 139.0, 36000, 90, 400, 0);
 
             RiskAssessment result = conflictDetector.calculateConflictRisk(aircraft1, aircraft2);
 
@@ -296,8 +290,8 @@ class ConflictDetectorTest {
         @DisplayName("垂直分離テスト")
         void testVerticalSeparation() {
             // 水平方向に十分離れた位置で垂直分離をテスト
-            Aircraft aircraft1 = createTestAircraft("VERT1", 35.0, 139.0, 35000, 90, 400, 0);
-            Aircraft aircraft2 = createTestAircraft("VERT2", 35.1, 139.0, 36500, 90, 400, 0); // 6NM離れた位置
+            Aircraft aircraft1 = TestAircraft.create("VERT1", 35.0, 139.0, 35000, 90, 400, 0);
+            Aircraft aircraft2 = TestAircraft.create("VERT2", 35.1, 139.0, 36500, 90, 400, 0); // 6NM離れた位置
 
             RiskAssessment result = conflictDetector.calculateConflictRisk(aircraft1, aircraft2);
 
@@ -315,8 +309,8 @@ class ConflictDetectorTest {
         void testImmediatePostEncounterDecay() {
             // すれ違ったシナリオを確実に作るため、互いに離れる方向に設定
             // 適切な垂直分離（1500フィート差）を設けて現実的なテストケースにする
-            Aircraft aircraft1 = createTestAircraft("TEST1", 35.0, 139.0, 35000, 270, 400, 0); // 西向き
-            Aircraft aircraft2 = createTestAircraft("TEST2", 35.0, 139.05, 36500, 90, 400, 0);  // 東向き（約3海里離れた位置、1500ft上）
+            Aircraft aircraft1 = TestAircraft.create("TEST1", 35.0, 139.0, 35000, 270, 400, 0); // 西向き
+            Aircraft aircraft2 = TestAircraft.create("TEST2", 35.0, 139.05, 36500, 90, 400, 0);  // 東向き（約3海里離れた位置、1500ft上）
 
             RiskAssessment result = conflictDetector.calculateConflictRisk(aircraft1, aircraft2);
 
@@ -337,8 +331,8 @@ class ConflictDetectorTest {
         void testTimeBasedDecayAfterEncounter() {
             // より大きく離れた位置で、明確に離れる方向に設定
             // 十分な垂直分離（2000フィート差）も設ける
-            Aircraft aircraft1 = createTestAircraft("TEST1", 35.0, 139.0, 35000, 270, 400, 0);  // 西向き
-            Aircraft aircraft2 = createTestAircraft("TEST2", 35.0, 139.15, 37000, 90, 400, 0);   // 東向き（約9海里離れた位置、2000ft上）
+            Aircraft aircraft1 = TestAircraft.create("TEST1", 35.0, 139.0, 35000, 270, 400, 0);  // 西向き
+            Aircraft aircraft2 = TestAircraft.create("TEST2", 35.0, 139.15, 37000, 90, 400, 0);   // 東向き（約9海里離れた位置、2000ft上）
 
             RiskAssessment result = conflictDetector.calculateConflictRisk(aircraft1, aircraft2);
 
@@ -359,15 +353,15 @@ class ConflictDetectorTest {
         @DisplayName("すれ違い前vs後の危険度比較")
         void testBeforeAndAfterEncounterComparison() {
             // すれ違い前: 接近中のシナリオ（正面衝突コース）
-            Aircraft approaching1 = createTestAircraft("APP1", 35.0, 139.0, 35000, 90, 400, 0);   // 東向き
-            Aircraft approaching2 = createTestAircraft("APP2", 35.0, 139.05, 35000, 270, 400, 0);  // 西向き
+            Aircraft approaching1 = TestAircraft.create("APP1", 35.0, 139.0, 35000, 90, 400, 0);   // 東向き
+            Aircraft approaching2 = TestAircraft.create("APP2", 35.0, 139.05, 35000, 270, 400, 0);  // 西向き
 
             RiskAssessment approachingRisk = conflictDetector.calculateConflictRisk(approaching1, approaching2);
 
             // すれ違い後: 離れていくシナリオ（背中合わせ）
             // 適切な垂直分離（1500フィート差）を設ける
-            Aircraft diverging1 = createTestAircraft("DIV1", 35.0, 139.0, 35000, 270, 400, 0);    // 西向き
-            Aircraft diverging2 = createTestAircraft("DIV2", 35.0, 139.05, 36500, 90, 400, 0);     // 東向き、1500ft上
+            Aircraft diverging1 = TestAircraft.create("DIV1", 35.0, 139.0, 35000, 270, 400, 0);    // 西向き
+            Aircraft diverging2 = TestAircraft.create("DIV2", 35.0, 139.05, 36500, 90, 400, 0);     // 東向き、1500ft上
 
             RiskAssessment divergingRisk = conflictDetector.calculateConflictRisk(diverging1, diverging2);
 
@@ -390,8 +384,8 @@ class ConflictDetectorTest {
         @DisplayName("並行飛行の適切な危険度評価")
         void testParallelFlightRiskAssessment() {
             // 同方向並行飛行（安全な間隔）
-            Aircraft parallel1 = createTestAircraft("PAR1", 35.0, 139.0, 35000, 90, 400, 0);
-            Aircraft parallel2 = createTestAircraft("PAR2", 35.1, 139.0, 36500, 90, 400, 0); // 6NM + 1500ft
+            Aircraft parallel1 = TestAircraft.create("PAR1", 35.0, 139.0, 35000, 90, 400, 0);
+            Aircraft parallel2 = TestAircraft.create("PAR2", 35.1, 139.0, 36500, 90, 400, 0); // 6NM + 1500ft
 
             RiskAssessment result = conflictDetector.calculateConflictRisk(parallel1, parallel2);
 
@@ -406,8 +400,8 @@ class ConflictDetectorTest {
         @DisplayName("並行飛行での危険な接近")
         void testParallelFlightDangerousProximity() {
             // 同方向並行飛行（危険な間隔）
-            Aircraft parallel1 = createTestAircraft("PAR1", 35.0, 139.0, 35000, 90, 400, 0);
-            Aircraft parallel2 = createTestAircraft("PAR2", 35.025, 139.0, 35000, 90, 400, 0); // 約1.5NM、同高度
+            Aircraft parallel1 = TestAircraft.create("PAR1", 35.0, 139.0, 35000, 90, 400, 0);
+            Aircraft parallel2 = TestAircraft.create("PAR2", 35.025, 139.0, 35000, 90, 400, 0); // 約1.5NM、同高度
 
             RiskAssessment result = conflictDetector.calculateConflictRisk(parallel1, parallel2);
 
@@ -421,14 +415,14 @@ class ConflictDetectorTest {
         @DisplayName("段階的接近による危険度変化")
         void testGradualApproachRiskIncrease() {
             // 基準航空機
-            Aircraft base = createTestAircraft("BASE", 35.0, 139.0, 35000, 90, 400, 0);
+            Aircraft base = TestAircraft.create("BASE", 35.0, 139.0, 35000, 90, 400, 0);
 
             // 段階的に接近する航空機でのリスク変化を確認
             double[] distances = {20.0, 10.0, 7.5, 5.0, 3.0, 1.0}; // NM
             double previousRisk = 0.0;
 
             for (double distance : distances) {
-                Aircraft approaching = createTestAircraft("APP", 35.0, 139.0 + distance * 0.016667, 35000, 270, 400, 0);
+                Aircraft approaching = TestAircraft.create("APP", 35.0, 139.0 + distance * 0.016667, 35000, 270, 400, 0);
                 RiskAssessment risk = conflictDetector.calculateConflictRisk(base, approaching);
 
                 // 距離が近くなるほど危険度が増加することを確認（ただし段階的に）
@@ -448,8 +442,8 @@ class ConflictDetectorTest {
         @DisplayName("微小な速度差での安定した計算")
         void testStableCalculationWithMinorSpeedDifference() {
             // ほぼ同じ速度での飛行（微小な差）
-            Aircraft aircraft1 = createTestAircraft("STABLE1", 35.0, 139.0, 35000, 90, 400, 0);
-            Aircraft aircraft2 = createTestAircraft("STABLE2", 35.1, 139.0, 36000, 91, 401, 0); // 微小差
+            Aircraft aircraft1 = TestAircraft.create("STABLE1", 35.0, 139.0, 35000, 90, 400, 0);
+            Aircraft aircraft2 = TestAircraft.create("STABLE2", 35.1, 139.0, 36000, 91, 401, 0); // 微小差
 
             RiskAssessment result = conflictDetector.calculateConflictRisk(aircraft1, aircraft2);
 
@@ -464,8 +458,8 @@ class ConflictDetectorTest {
         @DisplayName("高度差による安全確保")
         void testSafetyThroughAltitudeSeparation() {
             // 水平位置は近いが十分な高度差
-            Aircraft aircraft1 = createTestAircraft("ALT1", 35.0, 139.0, 35000, 90, 400, 0);
-            Aircraft aircraft2 = createTestAircraft("ALT2", 35.01, 139.0, 37000, 90, 400, 0); // 0.6NM, 2000ft差
+            Aircraft aircraft1 = TestAircraft.create("ALT1", 35.0, 139.0, 35000, 90, 400, 0);
+            Aircraft aircraft2 = TestAircraft.create("ALT2", 35.01, 139.0, 37000, 90, 400, 0); // 0.6NM, 2000ft差
 
             RiskAssessment result = conflictDetector.calculateConflictRisk(aircraft1, aircraft2);
 
@@ -479,8 +473,8 @@ class ConflictDetectorTest {
         @DisplayName("継続的なリスク監視シミュレーション")
         void testContinuousRiskMonitoring() {
             // 接近中の2機をシミュレート
-            Aircraft aircraft1 = createTestAircraft("CONT1", 35.0, 139.0, 35000, 90, 400, 0);
-            Aircraft aircraft2 = createTestAircraft("CONT2", 35.0, 139.5, 35000, 270, 400, 0); // 正面衝突コース
+            Aircraft aircraft1 = TestAircraft.create("CONT1", 35.0, 139.0, 35000, 90, 400, 0);
+            Aircraft aircraft2 = TestAircraft.create("CONT2", 35.0, 139.5, 35000, 270, 400, 0); // 正面衝突コース
 
             List<RiskAssessment> riskHistory = new ArrayList<>();
 
@@ -491,8 +485,8 @@ class ConflictDetectorTest {
                 double distance1 = 400 * KNOTS_TO_KM_PER_HOUR * timeHours / EARTH_RADIUS * 180 / Math.PI;
                 double distance2 = 400 * KNOTS_TO_KM_PER_HOUR * timeHours / EARTH_RADIUS * 180 / Math.PI;
 
-                Aircraft sim1 = createTestAircraft("CONT1", 35.0, 139.0 + distance1, 35000, 90, 400, 0);
-                Aircraft sim2 = createTestAircraft("CONT2", 35.0, 139.5 - distance2, 35000, 270, 400, 0);
+                Aircraft sim1 = TestAircraft.create("CONT1", 35.0, 139.0 + distance1, 35000, 90, 400, 0);
+                Aircraft sim2 = TestAircraft.create("CONT2", 35.0, 139.5 - distance2, 35000, 270, 400, 0);
 
                 RiskAssessment risk = conflictDetector.calculateConflictRisk(sim1, sim2);
                 riskHistory.add(risk);
@@ -514,49 +508,413 @@ class ConflictDetectorTest {
         }
     }
 
-    // ヘルパーメソッド
+    @Nested
+    @DisplayName("ブロードフェーズテスト")
+    class BroadPhaseTests {
 
-    /**
-     * テスト用航空機を作成
-     */
-    private Aircraft createTestAircraft(String callsign, double lat, double lon, double alt,
-                                      double heading, double groundSpeed, double verticalSpeed) {
-        Callsign cs = new Callsign(callsign);
-        AircraftType type = new AircraftType("B777");
-
-        AircraftPosition position = new AircraftPosition(
-            new Latitude(lat),
-            new Longitude(lon),
-            new Altitude(alt)
-        );
+        @Test
+        @DisplayName("既定のブロードフェーズは空間グリッド")
+        void testDefaultBroadPhaseMode() {
+            assertEquals(BroadPhaseMode.SPATIAL_GRID, conflictDetector.getBroadPhaseMode());
+        }
 
-        AircraftVector vector = new AircraftVector(
-            new Heading(heading),
-            new GroundSpeed(groundSpeed),
-            new VerticalSpeed(verticalSpeed)
-        );
+        @Test
+        @DisplayName("nullのブロードフェーズ方式エラー")
+        void testNullBroadPhaseMode() {
+            assertThrows(InvalidParameterException.class, () -> new ConflictDetector(null));
+            assertThrows(InvalidParameterException.class, () -> ConflictDetectorSettings.DEFAULT.withBroadPhaseMode(null));
+        }
+
+        @Test
+        @DisplayName("空間グリッドと全ペア走査の結果が一致（200機）")
+        void testGridMatchesExhaustive_200Aircraft() {
+            assertSameResults(generate200Aircraft());
+        }
+
+        @Test
+        @DisplayName("空間グリッドと全ペア走査の結果が一致（広域1000機）")
+        void testGridMatchesExhaustive_WideArea() {
+            assertSameResults(generateAircraft(1000, 10.0, 54321L));
+        }
+
+        @Test
+        @DisplayName("セル境界をまたぐ近接ペアの検出")
+        void testPairAcrossCellBoundary() {
+            // 緯度0.8319度（≒50海里）のセル境界付近を南北にまたぐ2機
+            Aircraft north = TestAircraft.create("EDGE1", 35.84, 139.0, 35000, 180, 450, 0);
+            Aircraft south = TestAircraft.create("EDGE2", 35.78, 139.0, 35000, 0, 450, 0);
+
+            Map<String, RiskAssessment> results = conflictDetector.calculateAllConflicts(Arrays.asList(north, south));
+
+            assertTrue(results.containsKey("EDGE1-EDGE2"), "セル境界をまたぐペアが検出されるべき");
+        }
+
+        @Test
+        @DisplayName("スイープ・アンド・プルーンと全ペア走査の結果が一致（広域1000機）")
+        void testSweepMatchesExhaustive_WideArea() {
+            assertSameResults(BroadPhaseMode.SWEEP_AND_PRUNE, generateAircraft(1000, 10.0, 54321L));
+        }
+
+        @Test
+        @DisplayName("ティックをまたいで航空機が移動・増減してもスイープ・アンド・プルーンの結果が一致")
+        void testSweepAcrossTicks() {
+            ConflictDetector sweepDetector = new ConflictDetector(ConflictDetectorSettings.DEFAULT.withBroadPhaseMode(BroadPhaseMode.SWEEP_AND_PRUNE));
+            ConflictDetector exhaustiveDetector = new ConflictDetector(ConflictDetectorSettings.DEFAULT.withBroadPhaseMode(BroadPhaseMode.EXHAUSTIVE));
+            List<Aircraft> aircraftList = new ArrayList<>(generateAircraft(300, 3.0, 97531L));
+
+            for (int tick = 0; tick < 5; tick++) {
+                Map<String, RiskAssessment> expected = exhaustiveDetector.calculateAllConflicts(aircraftList);
+                assertFalse(expected.isEmpty(), "比較対象のコンフリクトが存在するべき");
+                assertEquals(expected, sweepDetector.calculateAllConflicts(aircraftList), "tick " + tick);
+
+                aircraftList.forEach(Aircraft::calculateNextAircraftPosition);
+                aircraftList.remove(tick * 7);
+                aircraftList.add(TestAircraft.create("NEW" + tick, 35.0 + tick * 0.1, 139.0, 35000, 90, 450, 0));
+            }
+        }
+
+        private void assertSameResults(List<Aircraft> aircraftList) {
+            assertSameResults(BroadPhaseMode.SPATIAL_GRID, aircraftList);
+        }
+
+        private void assertSameResults(BroadPhaseMode broadPhaseMode, List<Aircraft> aircraftList) {
+            Map<String, RiskAssessment> results =
+                new ConflictDetector(ConflictDetectorSettings.DEFAULT.withBroadPhaseMode(broadPhaseMode)).calculateAllConflicts(aircraftList);
+            Map<String, RiskAssessment> exhaustiveResults =
+                new ConflictDetector(ConflictDetectorSettings.DEFAULT.withBroadPhaseMode(BroadPhaseMode.EXHAUSTIVE))
+                    .calculateAllConflicts(aircraftList);
+
+            assertFalse(exhaustiveResults.isEmpty(), "比較対象のコンフリクトが存在するべき");
+            assertEquals(exhaustiveResults, results);
+        }
+    }
+
+    @Nested
+    @DisplayName("垂直方向の候補除外テスト")
+    class VerticalCullingTests {
+
+        private static final double MARGIN = 1000.0;
+
+        @Test
+        @DisplayName("既定では垂直方向の候補除外は無効")
+        void testDefaultDisabled() {
+            assertFalse(conflictDetector.getPreFilterSettings().isVerticalCullingEnabled());
+        }
+
+        @Test
+        @DisplayName("負・NaNのマージン・nullの設定エラー")
+        void testInvalidMargin() {
+            assertThrows(InvalidParameterException.class, () -> new PreFilterSettings(-1.0, false));
+            assertThrows(InvalidParameterException.class, () -> new PreFilterSettings(Double.NaN, false));
+            assertThrows(InvalidParameterException.class,
+                () -> ConflictDetectorSettings.DEFAULT.withPreFilterSettings(null));
+        }
+
+        @Test
+        @DisplayName("水平飛行で高度が大きく離れたペアは除外")
+        void testLevelPairFarApartIsCulled() {
+            List<Aircraft> aircraftList = Arrays.asList(
+                TestAircraft.create("HIGH1", 35.0, 139.0, 39000, 90, 450, 0),
+                TestAircraft.create("LOW1", 35.0, 139.05, 3000, 270, 250, 0)
+            );
+
+            assertTrue(conflictDetector.calculateAllConflicts(aircraftList).containsKey("HIGH1-LOW1"),
+                "除外なしでは水平方向の接近により危険度が付くべき");
+            assertTrue(cullingDetector().calculateAllConflicts(aircraftList).isEmpty());
+        }
+
+        @Test
+        @DisplayName("予測時間内に高度差が縮まり得るペアは除外しない")
+        void testClimbingPairIsKept() {
+            List<Aircraft> aircraftList = Arrays.asList(
+                TestAircraft.create("CLMB1", 35.0, 139.0, 10000, 90, 300, 2000),
+                TestAircraft.create("LEVL1", 35.0, 139.2, 15000, 270, 300, 0)
+            );
+
+            Map<String, RiskAssessment> expected = conflictDetector.calculateAllConflicts(aircraftList);
+            assertTrue(expected.containsKey("CLMB1-LEVL1"));
+            assertEquals(expected, cullingDetector().calculateAllConflicts(aircraftList));
+        }
+
+        @Test
+        @DisplayName("高度別に積み重なったターミナル空域で候補ペアを削減し、間隔欠如予測は取りこぼさない")
+        void testStackedTerminalTraffic() {
+            List<Aircraft> aircraftList = new ArrayList<>();
+            Random random = new Random(8642L);
+            for (int i = 0; i < 200; i++) {
+                double lat = 35.55 + (random.nextDouble() - 0.5) * 0.5;
+                double lon = 139.78 + (random.nextDouble() - 0.5) * 0.5;
+                double altitude = 3000 + random.nextInt(18) * 1000;
+                double verticalSpeed = random.nextInt(5) == 0 ? -1000 : 0;
+                aircraftList.add(TestAircraft.create(String.format("TMA%03d", i), lat, lon, altitude,
+                    random.nextDouble() * 360, 180 + random.nextDouble() * 100, verticalSpeed));
+            }
+
+            ConflictDetector culling = cullingDetector();
+            AircraftStateSnapshot snapshot = AircraftStateSnapshot.of(aircraftList);
+            int allCandidates = conflictDetector.preFilterSnapshotPairs(snapshot).length;
+            int keptCandidates = culling.preFilterSnapshotPairs(snapshot).length;
+            assertTrue(keptCandidates < allCandidates / 2,
+                "候補ペアの過半数が除外されるべき: " + keptCandidates + " / " + allCandidates);
+
+            Map<String, RiskAssessment> expected = conflictDetector.calculateAllConflicts(aircraftList);
+            Map<String, RiskAssessment> actual = culling.calculateAllConflicts(aircraftList);
+            // 予測時間内に最接近し垂直間隔が最小垂直間隔を下回るペアは除外されない
+            expected.forEach((pairId, assessment) -> {
+                double timeToClosest = assessment.getTimeToClosest();
+                if (timeToClosest >= 0 && timeToClosest < MAX_PREDICTION_TIME
+                        && assessment.getClosestVerticalDistance() < MINIMUM_VERTICAL_SEPARATION) {
+                    assertEquals(assessment, actual.get(pairId), pairId);
+                }
+            });
+        }
+
+        private ConflictDetector cullingDetector() {
+            return new ConflictDetector(ConflictDetectorSettings.DEFAULT.withPreFilterSettings(new PreFilterSettings(MARGIN, false)));
+        }
+    }
+
+    @Nested
+    @DisplayName("運動学的な考慮半径テスト")
+    class KinematicRadiusTests {
+
+        private static final PreFilterSettings KINEMATIC =
+            new PreFilterSettings(PreFilterSettings.VERTICAL_CULLING_DISABLED, true);
+
+        @Test
+        @DisplayName("ペアごとの考慮距離は両機の対地速度による最大接近量+最小水平間隔")
+        void testConsiderationLimit() {
+            ConflictDetector detector = kinematicDetector(BroadPhaseMode.SPATIAL_GRID);
+
+            // (480 + 480) kt × 300 s = 80海里
+            assertEquals(85.0, detector.considerationLimit(480, 480), 1e-9);
+            assertEquals(MINIMUM_HORIZONTAL_SEPARATION, detector.considerationLimit(0, 0), 1e-9);
+            assertEquals(MAX_CONSIDERATION_DISTANCE, conflictDetector.considerationLimit(480, 480));
+        }
+
+        @Test
+        @DisplayName("50海里を超えて高速で正対するペアを検出")
+        void testHighClosurePairBeyondFixedRadius() {
+            // 北緯35度で経度差1.2度 ≈ 59海里、両機500ノットで正対（約3.5分後に最接近）
+            List<Aircraft> aircraftList = Arrays.asList(
+                TestAircraft.create("FAST1", 35.0, 139.0, 35000, 90, 500, 0),
+                TestAircraft.create("FAST2", 35.0, 140.2, 35000, 270, 500, 0)
+            );
+
+            assertTrue(conflictDetector.calculateAllConflicts(aircraftList).isEmpty(),
+                "固定の50海里では候補から外れる");
+
+            for (BroadPhaseMode mode : BroadPhaseMode.values()) {
+                RiskAssessment assessment = kinematicDetector(mode).calculateAllConflicts(aircraftList).get("FAST1-FAST2");
+                assertNotNull(assessment, mode.toString());
+                assertTrue(assessment.isConflictPredicted(), mode.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("予測時間内に接近し得ない低速機のペアは除外")
+        void testSlowPairIsDropped() {
+            // 約30海里離れた120ノットの2機（最大接近量20海里 + 5海里 < 30海里）
+            List<Aircraft> aircraftList = Arrays.asList(
+                TestAircraft.create("SLOW1", 35.0, 139.0, 5000, 270, 120, 0),
+                TestAircraft.create("SLOW2", 35.0, 139.6, 5000, 90, 120, 0)
+            );
+            AircraftStateSnapshot snapshot = AircraftStateSnapshot.of(aircraftList);
+
+            assertEquals(1, conflictDetector.preFilterSnapshotPairs(snapshot).length);
+            for (BroadPhaseMode mode : BroadPhaseMode.values()) {
+                assertEquals(0, kinematicDetector(mode).preFilterSnapshotPairs(snapshot).length, mode.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("全ブロードフェーズ方式・カーネルで結果が一致")
+        void testModesAgree() {
+            List<Aircraft> aircraftList = generateAircraft(1000, 10.0, 86420L);
+            AircraftStateSnapshot snapshot = AircraftStateSnapshot.of(aircraftList);
+
+            long[] expectedPairs = kinematicDetector(BroadPhaseMode.EXHAUSTIVE).preFilterSnapshotPairs(snapshot);
+            Arrays.sort(expectedPairs);
+            Map<String, RiskAssessment> expected = new ConflictDetector(
+                kinematicSettings(BroadPhaseMode.EXHAUSTIVE).withCpaKernel(CpaKernel.OBJECT)).calculateAllConflicts(aircraftList);
+            assertFalse(expected.isEmpty(), "比較対象のコンフリクトが存在するべき");
+
+            for (BroadPhaseMode mode : BroadPhaseMode.values()) {
+                long[] pairs = kinematicDetector(mode).preFilterSnapshotPairs(snapshot);
+                Arrays.sort(pairs);
+                assertArrayEquals(expectedPairs, pairs, mode.toString());
+                assertEquals(expected.keySet(),
+                    new ConflictDetector(kinematicSettings(mode).withCpaKernel(CpaKernel.OBJECT))
+                        .calculateAllConflicts(aircraftList).keySet(),
+                    mode.toString());
+                assertEquals(expected.keySet(), kinematicDetector(mode).calculateAllConflicts(aircraftList).keySet(),
+                    mode.toString());
+            }
+        }
 
-        return new CommercialAircraft(cs, type, position, vector,
-            "NRT", "RJAA", "KIX", "RJBB", "2024-01-01T12:00:00Z");
+        private ConflictDetector kinematicDetector(BroadPhaseMode mode) {
+            return new ConflictDetector(kinematicSettings(mode));
+        }
+
+        private ConflictDetectorSettings kinematicSettings(BroadPhaseMode mode) {
+            return ConflictDetectorSettings.DEFAULT.withBroadPhaseMode(mode).withPreFilterSettings(KINEMATIC);
+        }
     }
 
+    @Nested
+    @DisplayName("予測時間テスト")
+    class PredictionHorizonTests {
+
+        private static final ConflictDetectorSettings KINEMATIC_SETTINGS = ConflictDetectorSettings.DEFAULT.withPreFilterSettings(
+            new PreFilterSettings(PreFilterSettings.VERTICAL_CULLING_DISABLED, true));
+
+        @Test
+        @DisplayName("短い予測時間では考慮距離と管制間隔欠如の予測範囲が縮む")
+        void testShortHorizon() {
+            ConflictDetector stca = new ConflictDetector(KINEMATIC_SETTINGS.withPredictionHorizon(120.0));
+            assertEquals(120.0, stca.getPredictionHorizon());
+            assertEquals(MAX_PREDICTION_TIME, conflictDetector.getPredictionHorizon());
+            // (480 + 480) kt × 120 s = 32海里
+            assertEquals(37.0, stca.considerationLimit(480, 480), 1e-9);
+            assertFalse(stca.predictSeparationViolation(200.0, 1.0, 0.0));
+            assertTrue(conflictDetector.predictSeparationViolation(200.0, 1.0, 0.0));
+        }
+
+        @Test
+        @DisplayName("予測時間より先に最接近するペアは全カーネルで管制間隔欠如を予測しない")
+        void testConflictBeyondHorizonIsNotPredicted() {
+            // 北緯35度で経度差0.6度 ≈ 29海里、両機500ノットで正対（約106秒後に最接近）
+            List<Aircraft> aircraftList = Arrays.asList(
+                TestAircraft.create("FAST1", 35.0, 139.0, 35000, 90, 500, 0),
+                TestAircraft.create("FAST2", 35.0, 139.6, 35000, 270, 500, 0)
+            );
+
+            for (CpaKernel kernel : CpaKernel.values()) {
+                RiskAssessment longHorizon = new ConflictDetector(KINEMATIC_SETTINGS.withCpaKernel(kernel))
+                    .calculateAllConflicts(aircraftList).get("FAST1-FAST2");
+                assertTrue(longHorizon.isConflictPredicted(), kernel.toString());
+
+                RiskAssessment shortHorizon = new ConflictDetector(KINEMATIC_SETTINGS.withCpaKernel(kernel).withPredictionHorizon(60.0))
+                    .calculateAllConflicts(aircraftList).get("FAST1-FAST2");
+                assertTrue(shortHorizon == null || !shortHorizon.isConflictPredicted(), kernel.toString());
+                if (shortHorizon != null) {
+                    assertTrue(shortHorizon.getTimeToClosest() <= 60.0, kernel.toString());
+                }
+            }
+
+            RiskAssessment incremental = new IncrementalConflictDetector(KINEMATIC_SETTINGS.withPredictionHorizon(60.0))
+                .calculateAllConflicts(aircraftList).get("FAST1-FAST2");
+            assertTrue(incremental == null || !incremental.isConflictPredicted());
+        }
+
+        @Test
+        @DisplayName("不正な予測時間はエラー")
+        void testInvalidHorizon() {
+            for (double horizon : new double[] {0.0, -1.0, Double.NaN, Double.POSITIVE_INFINITY}) {
+                assertThrows(InvalidParameterException.class, () -> KINEMATIC_SETTINGS.withPredictionHorizon(horizon), String.valueOf(horizon));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("CPA計算カーネルテスト")
+    class CpaKernelTests {
+
+        private static final double TOLERANCE = 1e-6;
+
+        @Test
+        @DisplayName("既定のカーネルはSoA")
+        void testDefaultCpaKernel() {
+            assertEquals(CpaKernel.STRUCTURE_OF_ARRAYS, conflictDetector.getCpaKernel());
+        }
+
+        @Test
+        @DisplayName("nullのカーネルエラー")
+        void testNullCpaKernel() {
+            assertThrows(InvalidParameterException.class,
+                () -> ConflictDetectorSettings.DEFAULT.withCpaKernel(null));
+        }
+
+        @Test
+        @DisplayName("SoAカーネルとオブジェクトカーネルの結果が一致")
+        void testStructureOfArraysMatchesObjectKernel() {
+            List<Aircraft> aircraftList = generateAircraft(500, 4.0, 24680L);
+
+            Map<String, RiskAssessment> objectResults =
+                new ConflictDetector(ConflictDetectorSettings.DEFAULT.withCpaKernel(CpaKernel.OBJECT)).calculateAllConflicts(aircraftList);
+            Map<String, RiskAssessment> soaResults =
+                new ConflictDetector().calculateAllConflicts(aircraftList);
+
+            assertEquivalent(objectResults, soaResults);
+        }
+
+        @Test
+        @DisplayName("VECTORカーネルとスカラーカーネルの結果が一致")
+        void testVectorMatchesScalarKernel() {
+            List<Aircraft> aircraftList = new ArrayList<>(generateAircraft(501, 4.0, 13579L));
+            // 並行飛行・すれ違い後のレーンも含める
+            aircraftList.add(TestAircraft.create("PARA1", 36.0, 140.0, 35000, 90, 450, 0));
+            aircraftList.add(TestAircraft.create("PARA2", 36.02, 140.0, 35000, 90, 450, 0));
+            aircraftList.add(TestAircraft.create("PAST1", 36.5, 140.0, 35000, 90, 450, 0));
+            aircraftList.add(TestAircraft.create("PAST2", 36.5, 139.95, 35000, 270, 450, 0));
+
+            ConflictDetector vectorDetector = new ConflictDetector(ConflictDetectorSettings.DEFAULT.withCpaKernel(CpaKernel.VECTOR));
+            CpaKernel expectedKernel = ConflictDetector.isVectorKernelAvailable()
+                ? CpaKernel.VECTOR
+                : CpaKernel.STRUCTURE_OF_ARRAYS;
+            assertEquals(expectedKernel, vectorDetector.getCpaKernel(), "Vector API無効時はSoAへフォールバックするべき");
+
+            Map<String, RiskAssessment> scalarResults =
+                new ConflictDetector().calculateAllConflicts(aircraftList);
+            Map<String, RiskAssessment> vectorResults = vectorDetector.calculateAllConflicts(aircraftList);
+
+            assertTrue(vectorResults.containsKey("PARA1-PARA2"), "並行飛行ペアが検出されるべき");
+            assertTrue(vectorResults.containsKey("PAST1-PAST2"), "すれ違い後ペアが検出されるべき");
+            assertEquivalent(scalarResults, vectorResults);
+        }
+
+        private void assertEquivalent(Map<String, RiskAssessment> expectedResults,
+                                      Map<String, RiskAssessment> actualResults) {
+            assertFalse(expectedResults.isEmpty(), "比較対象のコンフリクトが存在するべき");
+            assertEquals(expectedResults.keySet(), actualResults.keySet());
+            expectedResults.forEach((pairId, expected) -> {
+                RiskAssessment actual = actualResults.get(pairId);
+                assertEquals(expected.getRiskLevel(), actual.getRiskLevel(), TOLERANCE, pairId);
+                assertEquals(expected.getTimeToClosest(), actual.getTimeToClosest(), TOLERANCE, pairId);
+                assertEquals(expected.getClosestHorizontalDistance(), actual.getClosestHorizontalDistance(), TOLERANCE, pairId);
+                assertEquals(expected.getClosestVerticalDistance(), actual.getClosestVerticalDistance(), TOLERANCE, pairId);
+                assertEquals(expected.isConflictPredicted(), actual.isConflictPredicted(), pairId);
+                assertEquals(expected.getAlertLevel(), actual.getAlertLevel(), pairId);
+            });
+        }
+    }
+
+    // ヘルパーメソッド
+
     /**
      * 200機の航空機リストを生成（パフォーマンステスト用）
      */
     private List<Aircraft> generate200Aircraft() {
+        return generateAircraft(200, 2.0, 12345L); // 再現可能な結果のため固定シード
+    }
+
+    /**
+     * 東京近郊を中心とした指定範囲に航空機を配置したリストを生成
+     */
+    private List<Aircraft> generateAircraft(int count, double spanDegrees, long seed) {
         List<Aircraft> aircraftList = new ArrayList<>();
-        Random random = new Random(12345); // 再現可能な結果のため固定シード
+        Random random = new Random(seed);
 
-        IntStream.range(0, 200).forEach(i -> {
+        IntStream.range(0, count).forEach(i -> {
             // 東京近郊にランダム配置
-            double lat = 35.0 + (random.nextDouble() - 0.5) * 2.0; // ±1度の範囲
-            double lon = 139.0 + (random.nextDouble() - 0.5) * 2.0;
+            double lat = 35.0 + (random.nextDouble() - 0.5) * spanDegrees;
+            double lon = 139.0 + (random.nextDouble() - 0.5) * spanDegrees;
             double alt = 25000 + random.nextDouble() * 20000; // 25000-45000ft
             double heading = random.nextDouble() * 360;
             double groundSpeed = 300 + random.nextDouble() * 300; // 300-600kt
             double verticalSpeed = (random.nextDouble() - 0.5) * 4000; // ±2000ft/min
 
-            Aircraft aircraft = createTestAircraft(
+            Aircraft aircraft = TestAircraft.create(
                 "TEST" + String.format("%03d", i),
                 lat, lon, alt, heading, groundSpeed, verticalSpeed
             );
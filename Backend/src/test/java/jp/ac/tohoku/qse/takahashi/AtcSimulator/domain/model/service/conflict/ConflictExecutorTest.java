@@ -0,0 +1,188 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.types.commercial.CommercialAircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.AircraftAttributes.*;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.RiskAssessment;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftPosition;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftVector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Type.AircraftType;
+
+/**
+ * ConflictExecutorのテストクラス
+ * 逐次実行しきい値・チャンク分割・専用プールでの実行と利用状況の指標をテスト
+ */
+class ConflictExecutorTest {
+
+    private ConflictExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ConflictExecutor(4, 16, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Nested
+    @DisplayName("実行テスト")
+    class ExecutionTests {
+
+        @Test
+        @DisplayName("しきい値未満は呼び出し元スレッドで逐次実行")
+        void testSequentialBelowThreshold() {
+            Thread caller = Thread.currentThread();
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+            executor.forEach(99, k -> threads.add(Thread.currentThread()));
+
+            assertEquals(Set.of(caller), threads);
+            assertEquals(1, executor.metrics().sequentialRuns());
+            assertEquals(0, executor.metrics().parallelRuns());
+        }
+
+        @Test
+        @DisplayName("しきい値以上は専用プールで全インデックスをちょうど1回ずつ処理")
+        void testParallelAboveThreshold() {
+            int count = 10_000;
+            AtomicIntegerArray visits = new AtomicIntegerArray(count);
+            Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+            executor.forEach(count, k -> {
+                visits.incrementAndGet(k);
+                threadNames.add(Thread.currentThread().getName());
+            });
+
+            for (int k = 0; k < count; k++) {
+                assertEquals(1, visits.get(k), "index " + k);
+            }
+            assertTrue(threadNames.stream().anyMatch(name -> name.startsWith("conflict-worker-")), threadNames.toString());
+
+            ConflictExecutor.Metrics metrics = executor.metrics();
+            assertTrue(metrics.dedicatedPool());
+            assertEquals(4, metrics.parallelism());
+            assertEquals(1, metrics.parallelRuns());
+            // 件数に応じてチャンク幅を広げるため、チャンク数はワーカーあたり数個程度に収まる
+            assertTrue(metrics.executedChunks() >= 4 && metrics.executedChunks() <= 32,
+                "チャンク数: " + metrics.executedChunks());
+            assertTrue(metrics.utilisation() >= 0.0 && metrics.utilisation() <= 1.0);
+        }
+
+        @Test
+        @DisplayName("チャンク幅を指定した場合はしきい値未満でもチャンク幅単位で並列実行")
+        void testExplicitChunkSize() {
+            int count = 50;
+            AtomicIntegerArray visits = new AtomicIntegerArray(count);
+
+            executor.forEach(count, 5, visits::incrementAndGet);
+
+            for (int k = 0; k < count; k++) {
+                assertEquals(1, visits.get(k), "index " + k);
+            }
+            assertEquals(1, executor.metrics().parallelRuns());
+            // 二分割を繰り返すため、チャンクはチャンク幅以下になる
+            assertTrue(executor.metrics().executedChunks() >= count / 5,
+                "チャンク数: " + executor.metrics().executedChunks());
+
+            executor.forEach(5, 5, visits::incrementAndGet);
+            assertEquals(1, executor.metrics().sequentialRuns());
+            assertThrows(InvalidParameterException.class, () -> executor.forEach(count, 0, k -> { }));
+        }
+
+        @Test
+        @DisplayName("処理中の例外は呼び出し元に伝播")
+        void testExceptionPropagates() {
+            assertThrows(IllegalStateException.class, () -> executor.forEach(1000, k -> {
+                if (k == 500) {
+                    throw new IllegalStateException("test");
+                }
+            }));
+        }
+
+        @Test
+        @DisplayName("専用エグゼキュータでもコンフリクト検出結果は共通プールと一致")
+        void testDetectorResultsMatchCommonPool() {
+            List<Aircraft> aircraftList = generateAircraft(400, 12345L);
+            ConflictDetector dedicated = new ConflictDetector(ConflictDetectorSettings.DEFAULT.withExecutor(executor));
+
+            Map<String, RiskAssessment> expected = new ConflictDetector().calculateAllConflicts(aircraftList);
+
+            assertFalse(expected.isEmpty(), "比較対象のコンフリクトが存在するべき");
+            assertEquals(expected, dedicated.calculateAllConflicts(aircraftList));
+            assertEquals(expected, new IncrementalConflictDetector(
+                ConflictDetectorSettings.DEFAULT.withExecutor(executor)).calculateAllConflicts(aircraftList));
+            assertTrue(executor.metrics().parallelRuns() > 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("パラメータ検証テスト")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("1未満の並列度・チャンク幅・しきい値エラー")
+        void testInvalidParameters() {
+            assertThrows(InvalidParameterException.class, () -> new ConflictExecutor(0, 16, 100));
+            assertThrows(InvalidParameterException.class, () -> new ConflictExecutor(2, 0, 100));
+            assertThrows(InvalidParameterException.class, () -> new ConflictExecutor(2, 16, 0));
+        }
+
+        @Test
+        @DisplayName("nullのエグゼキュータエラー")
+        void testNullExecutor() {
+            assertThrows(InvalidParameterException.class, () -> ConflictDetectorSettings.DEFAULT.withExecutor(null));
+        }
+
+        @Test
+        @DisplayName("共通プールのエグゼキュータは停止しない")
+        void testCommonPoolIsNotClosed() {
+            ConflictExecutor common = ConflictExecutor.commonPool();
+            common.close();
+
+            assertFalse(common.metrics().dedicatedPool());
+            AtomicIntegerArray visits = new AtomicIntegerArray(2000);
+            common.forEach(2000, visits::incrementAndGet);
+            assertEquals(1, visits.get(1999));
+        }
+    }
+
+    // ヘルパーメソッド
+
+    private static List<Aircraft> generateAircraft(int count, long seed) {
+        Random random = new Random(seed);
+        List<Aircraft> aircraftList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            double lat = 35.0 + (random.nextDouble() - 0.5) * 2.0;
+            double lon = 139.0 + (random.nextDouble() - 0.5) * 2.0;
+            double alt = 25000 + random.nextDouble() * 20000;
+            aircraftList.add(new CommercialAircraft(
+                new Callsign("EXE" + i),
+                new AircraftType("B777"),
+                new AircraftPosition(new Latitude(lat), new Longitude(lon), new Altitude(alt)),
+                new AircraftVector(new Heading(random.nextDouble() * 360), new GroundSpeed(300 + random.nextDouble() * 200),
+                                   new VerticalSpeed((random.nextDouble() - 0.5) * 2000)),
+                "NRT", "RJAA", "KIX", "RJBB", "2024-01-01T12:00:00Z"));
+        }
+        return aircraftList;
+    }
+}
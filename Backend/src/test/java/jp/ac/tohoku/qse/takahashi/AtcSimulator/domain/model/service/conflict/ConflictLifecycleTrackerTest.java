@@ -0,0 +1,182 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.ConflictEventType;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.RiskAssessment;
+
+/**
+ * ConflictLifecycleTrackerのテストクラス
+ * ペアの状態遷移イベント・ヒステリシス・差分取得をテスト
+ */
+class ConflictLifecycleTrackerTest {
+
+    private static final String[] CALLSIGNS = {"JAL123", "ANA456", "SKY789"};
+
+    private ConflictLifecycleTracker tracker;
+    private long tick;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ConflictLifecycleTracker(5.0, 100);
+        tick = 0;
+    }
+
+    @Nested
+    @DisplayName("状態遷移テスト")
+    class TransitionTests {
+
+        @Test
+        @DisplayName("新規・格上げ・格下げ・解消の順に遷移")
+        void testFullLifecycle() {
+            assertEvent(publish(40.0), ConflictEventType.NEW, AlertLevel.SAFE, AlertLevel.WHITE_CONFLICT);
+            assertEvent(publish(75.0), ConflictEventType.ESCALATED, AlertLevel.WHITE_CONFLICT, AlertLevel.RED_CONFLICT);
+            assertEvent(publish(60.0), ConflictEventType.DE_ESCALATED, AlertLevel.RED_CONFLICT, AlertLevel.WHITE_CONFLICT);
+            assertEvent(publish(20.0), ConflictEventType.RESOLVED, AlertLevel.WHITE_CONFLICT, AlertLevel.SAFE);
+            assertEquals(0, tracker.activePairCount());
+        }
+
+        @Test
+        @DisplayName("安全なペアが直接RED_CONFLICTになった場合は新規")
+        void testNewRedConflict() {
+            ConflictEvent event = single(publish(85.0));
+
+            assertEquals(ConflictEventType.NEW, event.type());
+            assertEquals(AlertLevel.RED_CONFLICT, event.alertLevel());
+            assertEquals("ANA456-JAL123", event.pairId());
+            assertEquals(85.0, event.riskLevel());
+        }
+
+        @Test
+        @DisplayName("ペアが結果から消えた場合は解消")
+        void testPairDisappears() {
+            publish(50.0);
+
+            ConflictEvent event = single(publishEmpty());
+
+            assertEquals(ConflictEventType.RESOLVED, event.type());
+            assertEquals(0.0, event.riskLevel());
+        }
+
+        @Test
+        @DisplayName("安全なままのペアはイベントなし")
+        void testSafePairHasNoEvents() {
+            assertTrue(publish(20.0).isEmpty());
+            assertTrue(publish(28.0).isEmpty());
+            assertEquals(0, tracker.activePairCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("ヒステリシステスト")
+    class HysteresisTests {
+
+        @Test
+        @DisplayName("境界付近の揺れではアラートが点滅しない")
+        void testNoFlappingNearThresholds() {
+            publish(72.0);
+
+            assertTrue(publish(68.0).isEmpty(), "RED_CONFLICTは65以上を維持");
+            assertTrue(publish(71.0).isEmpty());
+            assertTrue(publish(66.0).isEmpty());
+            assertEvent(publish(64.0), ConflictEventType.DE_ESCALATED, AlertLevel.RED_CONFLICT, AlertLevel.WHITE_CONFLICT);
+
+            assertTrue(publish(28.0).isEmpty(), "WHITE_CONFLICTは25以上を維持");
+            assertTrue(publish(31.0).isEmpty());
+            assertEvent(publish(24.0), ConflictEventType.RESOLVED, AlertLevel.WHITE_CONFLICT, AlertLevel.SAFE);
+        }
+
+        @Test
+        @DisplayName("ヒステリシス幅0ではAlertLevelの境界と一致")
+        void testZeroHysteresis() {
+            ConflictLifecycleTracker strict = new ConflictLifecycleTracker(0.0, 100);
+
+            for (double risk : new double[] {0.0, 29.9, 30.0, 69.9, 70.0, 100.0}) {
+                assertEquals(AlertLevel.fromRiskLevel(risk), strict.nextAlertLevel(AlertLevel.SAFE, risk));
+                assertEquals(AlertLevel.fromRiskLevel(risk), strict.nextAlertLevel(AlertLevel.RED_CONFLICT, risk));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("差分取得テスト")
+    class FeedTests {
+
+        @Test
+        @DisplayName("指定ティックより後のイベントのみ返す")
+        void testEventsSince() {
+            publish(40.0);
+            publish(75.0);
+            publish(75.0);
+            publish(20.0);
+
+            ConflictLifecycleTracker.Feed all = tracker.eventsSince(0);
+            assertEquals(4, all.currentTick());
+            assertFalse(all.truncated());
+            assertEquals(List.of(ConflictEventType.NEW, ConflictEventType.ESCALATED, ConflictEventType.RESOLVED),
+                         all.events().stream().map(ConflictEvent::type).toList());
+
+            ConflictLifecycleTracker.Feed recent = tracker.eventsSince(2);
+            assertEquals(1, recent.events().size());
+            assertEquals(4, recent.events().get(0).tick());
+            assertTrue(tracker.eventsSince(4).events().isEmpty());
+        }
+
+        @Test
+        @DisplayName("保持数を超えて破棄した場合は欠落ありを通知")
+        void testTruncation() {
+            ConflictLifecycleTracker small = new ConflictLifecycleTracker(5.0, 2);
+            tracker = small;
+            publish(40.0);
+            publish(75.0);
+            publish(20.0);
+
+            assertTrue(small.eventsSince(0).truncated());
+            assertEquals(2, small.eventsSince(0).events().size());
+            assertFalse(small.eventsSince(1).truncated());
+        }
+
+        @Test
+        @DisplayName("不正なパラメータエラー")
+        void testInvalidParameters() {
+            assertThrows(InvalidParameterException.class, () -> tracker.eventsSince(-1));
+            assertThrows(InvalidParameterException.class, () -> new ConflictLifecycleTracker(-1.0, 100));
+            assertThrows(InvalidParameterException.class, () -> new ConflictLifecycleTracker(30.0, 100));
+            assertThrows(InvalidParameterException.class, () -> new ConflictLifecycleTracker(5.0, 0));
+        }
+    }
+
+    // ヘルパーメソッド
+
+    private List<ConflictEvent> publish(double riskLevel) {
+        ConflictResultTable table = new ConflictResultTable(CALLSIGNS, 4);
+        table.put(0, 1, new RiskAssessment(riskLevel, 60.0, 3.0, 500.0, riskLevel >= 70.0));
+        return tracker.update(ConflictSnapshot.of(++tick, 0L, table));
+    }
+
+    private List<ConflictEvent> publishEmpty() {
+        return tracker.update(ConflictSnapshot.of(++tick, 0L, new ConflictResultTable(CALLSIGNS, 4)));
+    }
+
+    private static ConflictEvent single(List<ConflictEvent> events) {
+        assertEquals(1, events.size(), events.toString());
+        return events.get(0);
+    }
+
+    private static void assertEvent(List<ConflictEvent> events, ConflictEventType type,
+                                    AlertLevel previous, AlertLevel current) {
+        ConflictEvent event = single(events);
+        assertEquals(type, event.type());
+        assertEquals(previous, event.previousAlertLevel());
+        assertEquals(current, event.alertLevel());
+    }
+}
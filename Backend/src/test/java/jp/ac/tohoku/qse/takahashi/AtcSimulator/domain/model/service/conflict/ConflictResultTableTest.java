@@ -0,0 +1,174 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.RiskAssessment;
+
+/**
+ * ConflictResultTableのテストクラス
+ * ペアキーによる格納・検索、書き込み時の統計の更新と文字列ペアIDへの変換をテスト
+ */
+class ConflictResultTableTest {
+
+    private static final String[] CALLSIGNS = {"JAL123", "ANA456", "SKY789"};
+
+    @Nested
+    @DisplayName("格納・検索テスト")
+    class PutAndFindTests {
+
+        @Test
+        @DisplayName("ペアは順序に依存せず検索できる")
+        void testFindIsOrderIndependent() {
+            ConflictResultTable table = new ConflictResultTable(CALLSIGNS, 4);
+            RiskAssessment assessment = new RiskAssessment(50.0, 120.0, 3.0, 800.0, false);
+
+            table.put(2, 0, assessment);
+
+            assertEquals(1, table.size());
+            assertEquals(table.find(0, 2), table.find(2, 0));
+            assertEquals(assessment, table.get(0, 2));
+            assertEquals(0, table.firstIndex(table.find(0, 2)));
+            assertEquals(2, table.secondIndex(table.find(0, 2)));
+            assertEquals(AlertLevel.WHITE_CONFLICT, table.alertLevel(table.find(0, 2)));
+            assertNull(table.get(0, 1));
+            assertEquals(-1, table.find(1, 1));
+        }
+
+        @Test
+        @DisplayName("同じペアへの格納は上書き")
+        void testPutOverwrites() {
+            ConflictResultTable table = new ConflictResultTable(CALLSIGNS, 4);
+            RiskAssessment updated = new RiskAssessment(85.0, 45.0, 2.0, 600.0, true);
+
+            table.put(0, 1, new RiskAssessment(10.0, 200.0, 8.0, 2000.0, false));
+            table.put(1, 0, updated);
+
+            assertEquals(1, table.size());
+            assertEquals(updated, table.get(0, 1));
+        }
+
+        @Test
+        @DisplayName("想定エントリ数を超えても全ペアを保持")
+        void testGrowth() {
+            int aircraftCount = 100;
+            String[] callsigns = new String[aircraftCount];
+            for (int i = 0; i < aircraftCount; i++) {
+                callsigns[i] = "AC" + i;
+            }
+            ConflictResultTable table = new ConflictResultTable(callsigns, 0);
+
+            for (int i = 0; i < aircraftCount; i++) {
+                for (int j = i + 1; j < aircraftCount; j++) {
+                    table.put(i, j, (i + j) % 100 + 1.0, i, j, i + j, false);
+                }
+            }
+
+            assertEquals(aircraftCount * (aircraftCount - 1) / 2, table.size());
+            for (int i = 0; i < aircraftCount; i++) {
+                for (int j = i + 1; j < aircraftCount; j++) {
+                    int entry = table.find(j, i);
+                    assertTrue(entry >= 0);
+                    assertEquals((i + j) % 100 + 1.0, table.riskLevel(entry));
+                    assertEquals(j, table.closestHorizontalDistance(entry));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("範囲外・同一インデックスは例外")
+        void testInvalidIndices() {
+            ConflictResultTable table = new ConflictResultTable(CALLSIGNS, 4);
+            RiskAssessment assessment = new RiskAssessment(50.0, 120.0, 3.0, 800.0, false);
+
+            assertThrows(InvalidParameterException.class, () -> table.put(0, 3, assessment));
+            assertThrows(InvalidParameterException.class, () -> table.put(-1, 0, assessment));
+            assertThrows(InvalidParameterException.class, () -> table.put(1, 1, assessment));
+            assertThrows(InvalidParameterException.class, () -> new ConflictResultTable(null, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("統計テスト")
+    class StatisticsTests {
+
+        @Test
+        @DisplayName("書き込みごとに統計を更新")
+        void testStatisticsFollowPuts() {
+            ConflictResultTable table = new ConflictResultTable(CALLSIGNS, 4);
+            assertEquals(new ConflictSnapshot.Statistics(0, 0, 0, 0, 0, 0.0, 0.0), table.statistics());
+
+            table.put(0, 1, new RiskAssessment(10.0, 200.0, 8.0, 2000.0, false));
+            table.put(1, 2, new RiskAssessment(85.0, 45.0, 2.0, 600.0, true));
+
+            assertEquals(new ConflictSnapshot.Statistics(2, 1, 0, 1, 1, 85.0, (10.0 + 85.0) / 2), table.statistics());
+        }
+
+        @Test
+        @DisplayName("上書きは以前の値を差し引き、最大危険度を再集計")
+        void testOverwriteUpdatesStatistics() {
+            ConflictResultTable table = new ConflictResultTable(CALLSIGNS, 4);
+            table.put(0, 1, new RiskAssessment(10.0, 200.0, 8.0, 2000.0, false));
+            table.put(1, 2, new RiskAssessment(85.0, 45.0, 2.0, 600.0, true));
+
+            // 最大危険度のペアを低い値で上書き
+            table.put(2, 1, new RiskAssessment(50.0, 120.0, 4.0, 1200.0, false));
+
+            assertEquals(new ConflictSnapshot.Statistics(2, 1, 1, 0, 0, 50.0, (10.0 + 50.0) / 2), table.statistics());
+
+            table.put(0, 2, new RiskAssessment(75.0, 50.0, 3.0, 800.0, true));
+
+            assertEquals(new ConflictSnapshot.Statistics(3, 1, 1, 1, 1, 75.0, (10.0 + 50.0 + 75.0) / 3),
+                         table.statistics());
+        }
+
+        @Test
+        @DisplayName("凍結時に最大危険度を確定し、凍結後の統計は同じ値を返す")
+        void testFreezeSettlesMaxRiskLevel() {
+            ConflictResultTable table = new ConflictResultTable(CALLSIGNS, 4);
+            table.put(0, 1, new RiskAssessment(10.0, 200.0, 8.0, 2000.0, false));
+            table.put(1, 2, new RiskAssessment(85.0, 45.0, 2.0, 600.0, true));
+            table.put(2, 1, new RiskAssessment(50.0, 120.0, 4.0, 1200.0, false));
+
+            table.freeze();
+
+            ConflictSnapshot.Statistics expected =
+                new ConflictSnapshot.Statistics(2, 1, 1, 0, 0, 50.0, (10.0 + 50.0) / 2);
+            assertEquals(expected, table.statistics());
+            assertEquals(expected, table.statistics());
+        }
+    }
+
+    @Nested
+    @DisplayName("文字列ペアID変換テスト")
+    class PairIdConversionTests {
+
+        @Test
+        @DisplayName("ペアIDはコールサインのアルファベット順")
+        void testPairIdOrdering() {
+            ConflictResultTable table = new ConflictResultTable(CALLSIGNS, 4);
+            table.put(0, 1, new RiskAssessment(50.0, 120.0, 3.0, 800.0, false));
+
+            assertEquals("ANA456-JAL123", table.pairId(0));
+        }
+
+        @Test
+        @DisplayName("マップ変換は全エントリを含む")
+        void testToPairIdMap() {
+            ConflictResultTable table = new ConflictResultTable(CALLSIGNS, 4);
+            RiskAssessment a1 = new RiskAssessment(50.0, 120.0, 3.0, 800.0, false);
+            RiskAssessment a2 = new RiskAssessment(85.0, 45.0, 2.0, 600.0, true);
+            table.put(0, 1, a1);
+            table.put(1, 2, a2);
+
+            assertEquals(Map.of("ANA456-JAL123", a1, "ANA456-SKY789", a2), table.toPairIdMap());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.AlertLevel;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.RiskAssessment;
+
+/**
+ * ConflictSnapshotのテストクラス
+ * 航空機ごとの最大危険度・統計の集計、結果テーブルの凍結、最接近時刻順の上位K件選択をテスト
+ */
+class ConflictSnapshotTest {
+
+    private static final String[] CALLSIGNS = {"JAL123", "ANA456", "SKY789", "ADO012"};
+
+    @Test
+    @DisplayName("航空機ごとの最大危険度と統計を集計")
+    void testAggregates() {
+        ConflictResultTable table = new ConflictResultTable(CALLSIGNS, 4);
+        table.put(0, 1, new RiskAssessment(10.0, 200.0, 8.0, 2000.0, false));
+        table.put(1, 2, new RiskAssessment(85.0, 45.0, 2.0, 600.0, true));
+        table.put(0, 2, new RiskAssessment(50.0, 120.0, 4.0, 1200.0, false));
+
+        ConflictSnapshot snapshot = ConflictSnapshot.of(7L, 1000L, table);
+
+        assertEquals(7L, snapshot.version());
+        assertEquals(1000L, snapshot.computedAtMillis());
+        assertEquals(50.0, snapshot.maxRisk("JAL123"));
+        assertEquals(85.0, snapshot.maxRisk("ANA456"));
+        assertEquals(85.0, snapshot.maxRisk("SKY789"));
+        assertEquals(0.0, snapshot.maxRisk("ADO012"));
+        assertEquals(0.0, snapshot.maxRisk("UNKNOWN"));
+
+        ConflictSnapshot.Statistics statistics = snapshot.statistics();
+        assertEquals(new ConflictSnapshot.Statistics(3, 1, 1, 1, 1, 85.0, (10.0 + 85.0 + 50.0) / 3), statistics);
+    }
+
+    @Test
+    @DisplayName("公開した結果テーブルは変更できない")
+    void testTableIsFrozen() {
+        ConflictResultTable table = new ConflictResultTable(CALLSIGNS, 4);
+        ConflictSnapshot snapshot = ConflictSnapshot.of(1L, 0L, table);
+
+        assertTrue(snapshot.table().isFrozen());
+        assertThrows(IllegalStateException.class,
+            () -> table.put(0, 1, new RiskAssessment(10.0, 200.0, 8.0, 2000.0, false)));
+    }
+
+    @Test
+    @DisplayName("空のスナップショットとnullのテーブルエラー")
+    void testEmptyAndInvalid() {
+        assertEquals(0L, ConflictSnapshot.EMPTY.version());
+        assertEquals(0L, ConflictSnapshot.EMPTY.statistics().totalConflicts());
+        assertThrows(InvalidParameterException.class, () -> ConflictSnapshot.of(1L, 0L, null));
+    }
+
+    @Test
+    @DisplayName("上位K件は全件を最接近時刻順に並べた先頭K件と一致")
+    void testMostUrgentEntriesMatchFullSort() {
+        String[] callsigns = IntStream.range(0, 60).mapToObj(i -> "TOP" + i).toArray(String[]::new);
+        ConflictResultTable table = new ConflictResultTable(callsigns, 1000);
+        Random random = new Random(42L);
+        for (int i = 0; i < callsigns.length; i++) {
+            for (int j = i + 1; j < callsigns.length; j += 3) {
+                // 同時刻のペアも含める（整数秒に丸める）
+                double time = Math.floor(random.nextDouble() * 300.0);
+                double risk = random.nextDouble() * 100.0;
+                table.put(i, j, new RiskAssessment(risk, time, 3.0, 500.0, random.nextBoolean()));
+            }
+        }
+        ConflictSnapshot snapshot = ConflictSnapshot.of(1L, 0L, table);
+
+        int[] allRed = IntStream.range(0, table.size())
+            .filter(entry -> table.alertLevel(entry) == AlertLevel.RED_CONFLICT)
+            .boxed()
+            .sorted((a, b) -> Double.compare(table.timeToClosest(a), table.timeToClosest(b)))
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+        assertArrayEquals(Arrays.copyOf(allRed, 10),
+            snapshot.mostUrgentEntries(AlertLevel.RED_CONFLICT, 10, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+        assertArrayEquals(allRed,
+            snapshot.mostUrgentEntries(AlertLevel.RED_CONFLICT, Integer.MAX_VALUE,
+                                       Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+
+        int[] violations = snapshot.mostUrgentViolations(25, 60.0, 120.0);
+        assertEquals(25, violations.length);
+        for (int k = 0; k < violations.length; k++) {
+            assertTrue(table.isConflictPredicted(violations[k]));
+            assertTrue(table.timeToClosest(violations[k]) >= 60.0 && table.timeToClosest(violations[k]) <= 120.0);
+            if (k > 0) {
+                assertTrue(table.timeToClosest(violations[k - 1]) <= table.timeToClosest(violations[k]));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("最接近時刻の範囲は両端を含む")
+    void testTimeRangeIsInclusive() {
+        ConflictResultTable table = new ConflictResultTable(CALLSIGNS, 4);
+        table.put(0, 1, new RiskAssessment(90.0, 30.0, 1.0, 300.0, true));
+        table.put(1, 2, new RiskAssessment(85.0, 60.0, 2.0, 600.0, true));
+        table.put(0, 2, new RiskAssessment(80.0, 90.0, 2.0, 600.0, true));
+        table.put(2, 3, new RiskAssessment(10.0, 10.0, 8.0, 2000.0, false));
+        ConflictSnapshot snapshot = ConflictSnapshot.of(1L, 0L, table);
+
+        assertArrayEquals(new int[] {1, 2}, snapshot.mostUrgentEntries(AlertLevel.RED_CONFLICT, 5, 60.0, 90.0));
+        assertArrayEquals(new int[] {0}, snapshot.mostUrgentViolations(1, 0.0, 100.0));
+        assertArrayEquals(new int[] {3}, snapshot.mostUrgentEntries(AlertLevel.SAFE, 5, 0.0, 100.0));
+        assertArrayEquals(new int[0], snapshot.mostUrgentEntries(AlertLevel.WHITE_CONFLICT, 5, 0.0, 100.0));
+    }
+
+    @Test
+    @DisplayName("1未満の件数・逆転した時刻範囲エラー")
+    void testInvalidTopKParameters() {
+        ConflictSnapshot snapshot = ConflictSnapshot.EMPTY;
+
+        assertThrows(InvalidParameterException.class, () -> snapshot.mostUrgentViolations(0, 0.0, 100.0));
+        assertThrows(InvalidParameterException.class, () -> snapshot.mostUrgentViolations(5, 100.0, 0.0));
+        assertThrows(InvalidParameterException.class,
+            () -> snapshot.mostUrgentEntries(AlertLevel.RED_CONFLICT, 5, Double.NaN, 100.0));
+        assertThrows(InvalidParameterException.class, () -> snapshot.mostUrgentEntries(null, 5, 0.0, 100.0));
+    }
+}
@@ -0,0 +1,350 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static jp.ac.tohoku.qse.takahashi.AtcSimulator.shared.constants.AtcSimulatorConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftBase;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.AircraftAttributes.*;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Conflict.RiskAssessment;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftPosition;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftVector;
+
+/**
+ * IncrementalConflictDetectorのテストクラス
+ * ペア状態の再利用・再計算条件とステートレス計算との整合性をテスト
+ */
+class IncrementalConflictDetectorTest {
+
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS * DEGREES_TO_RADIANS * 1000.0;
+
+    private IncrementalConflictDetector incrementalDetector;
+    private ConflictDetector statelessDetector;
+    private List<Aircraft> aircraftList;
+
+    @BeforeEach
+    void setUp() {
+        incrementalDetector = new IncrementalConflictDetector();
+        statelessDetector = new ConflictDetector();
+
+        aircraftList = new ArrayList<>(List.of(
+            // 正面衝突コース
+            TestAircraft.create("HEAD1", 35.0, 139.0, 35000, 90, 450, 0),
+            TestAircraft.create("HEAD2", 35.0, 139.4, 35000, 270, 450, 0),
+            // 交差コース（降下中）
+            TestAircraft.create("CROSS1", 35.3, 139.2, 30000, 0, 400, -1000),
+            TestAircraft.create("CROSS2", 35.5, 139.0, 29000, 135, 420, 0),
+            // 並行飛行
+            TestAircraft.create("PARA1", 34.7, 139.5, 33000, 45, 450, 0),
+            TestAircraft.create("PARA2", 34.72, 139.5, 33000, 45, 450, 0)
+        ));
+    }
+
+    @Nested
+    @DisplayName("基本機能テスト")
+    class BasicFunctionalityTests {
+
+        @Test
+        @DisplayName("初回パスはステートレス計算と一致")
+        void testFirstPassMatchesStateless() {
+            Map<String, RiskAssessment> incremental = incrementalDetector.calculateAllConflicts(aircraftList);
+            Map<String, RiskAssessment> stateless = statelessDetector.calculateAllConflicts(aircraftList);
+
+            assertFalse(stateless.isEmpty());
+            assertEquals(stateless, incremental);
+
+            IncrementalConflictDetector.PassStatistics statistics = incrementalDetector.getLastPassStatistics();
+            assertEquals(6, statistics.aircraftCount());
+            assertEquals(6, statistics.manoeuvringAircraft());
+            assertEquals(statistics.candidatePairs(), statistics.recomputedPairs());
+        }
+
+        @Test
+        @DisplayName("直進中のペアは再計算せず最接近時刻を繰り上げる")
+        void testStraightFlightRollsForward() {
+            Map<String, RiskAssessment> first = incrementalDetector.calculateAllConflicts(aircraftList);
+
+            advanceAll(10.0);
+            Map<String, RiskAssessment> incremental = incrementalDetector.calculateAllConflicts(aircraftList);
+            Map<String, RiskAssessment> stateless = statelessDetector.calculateAllConflicts(aircraftList);
+
+            IncrementalConflictDetector.PassStatistics statistics = incrementalDetector.getLastPassStatistics();
+            assertEquals(0, statistics.manoeuvringAircraft());
+            assertEquals(0, statistics.recomputedPairs());
+            assertEquals(statistics.candidatePairs(), statistics.rolledForwardPairs());
+
+            // 最接近時刻は経過時間分だけ繰り上がる
+            assertEquals(first.get("HEAD1-HEAD2").getTimeToClosest() - 10.0,
+                incremental.get("HEAD1-HEAD2").getTimeToClosest(), 0.5);
+            assertApproximatelyEqual(stateless, incremental);
+        }
+
+        @Test
+        @DisplayName("有意なベクトル変化があった航空機を含むペアのみ再計算")
+        void testManoeuvringAircraftTriggersRecompute() {
+            incrementalDetector.calculateAllConflicts(aircraftList);
+
+            advanceAll(5.0);
+            AircraftBase head1 = (AircraftBase) aircraftList.get(0);
+            AircraftVector vector = head1.getAircraftVector();
+            head1.setAircraftVector(new AircraftVector(
+                new Heading(vector.heading.toDouble() + 30.0), vector.groundSpeed, vector.verticalSpeed));
+
+            Map<String, RiskAssessment> incremental = incrementalDetector.calculateAllConflicts(aircraftList);
+            Map<String, RiskAssessment> stateless = statelessDetector.calculateAllConflicts(aircraftList);
+
+            IncrementalConflictDetector.PassStatistics statistics = incrementalDetector.getLastPassStatistics();
+            assertEquals(1, statistics.manoeuvringAircraft());
+            assertTrue(statistics.recomputedPairs() > 0);
+            assertTrue(statistics.rolledForwardPairs() > 0);
+
+            // 再計算されたペアはステートレス計算と完全に一致
+            assertEquals(stateless.get("HEAD1-HEAD2"), incremental.get("HEAD1-HEAD2"));
+            assertApproximatelyEqual(stateless, incremental);
+        }
+
+        @Test
+        @DisplayName("しきい値以下のベクトル変化では再計算しない")
+        void testSmallVectorChangeDoesNotRecompute() {
+            incrementalDetector.calculateAllConflicts(aircraftList);
+
+            AircraftBase head1 = (AircraftBase) aircraftList.get(0);
+            AircraftVector vector = head1.getAircraftVector();
+            head1.setAircraftVector(new AircraftVector(
+                new Heading(vector.heading.toDouble() + HEADING_UPDATE_THRESHOLD / 2),
+                vector.groundSpeed, vector.verticalSpeed));
+
+            incrementalDetector.calculateAllConflicts(aircraftList);
+
+            assertEquals(0, incrementalDetector.getLastPassStatistics().recomputedPairs());
+        }
+    }
+
+    @Nested
+    @DisplayName("状態管理テスト")
+    class StateManagementTests {
+
+        @Test
+        @DisplayName("位置の再設定（ずれ超過）で再計算")
+        void testPositionJumpTriggersRecompute() {
+            incrementalDetector.calculateAllConflicts(aircraftList);
+
+            // 速度ベクトルと直交する方向へ約1海里移動
+            AircraftBase head2 = (AircraftBase) aircraftList.get(1);
+            AircraftPosition position = head2.getAircraftPosition();
+            head2.setAircraftPosition(new AircraftPosition(
+                new Latitude(position.latitude.toDouble() + 1.0 / 60.0), position.longitude, position.altitude));
+
+            Map<String, RiskAssessment> incremental = incrementalDetector.calculateAllConflicts(aircraftList);
+            Map<String, RiskAssessment> stateless = statelessDetector.calculateAllConflicts(aircraftList);
+
+            assertTrue(incrementalDetector.getLastPassStatistics().recomputedPairs() > 0);
+            assertEquals(stateless.get("HEAD1-HEAD2"), incremental.get("HEAD1-HEAD2"));
+        }
+
+        @Test
+        @DisplayName("除外・再追加された航空機は新規として扱う")
+        void testRemovedAndRespawnedAircraft() {
+            incrementalDetector.calculateAllConflicts(aircraftList);
+
+            Aircraft removed = aircraftList.remove(1);
+            Map<String, RiskAssessment> withoutHead2 = incrementalDetector.calculateAllConflicts(aircraftList);
+            assertFalse(withoutHead2.containsKey("HEAD1-HEAD2"));
+
+            aircraftList.add(TestAircraft.create("HEAD2",
+                removed.getAircraftPosition().latitude.toDouble(),
+                removed.getAircraftPosition().longitude.toDouble(),
+                35000, 270, 450, 0));
+            Map<String, RiskAssessment> respawned = incrementalDetector.calculateAllConflicts(aircraftList);
+
+            assertEquals(1, incrementalDetector.getLastPassStatistics().manoeuvringAircraft());
+            assertEquals(statelessDetector.calculateAllConflicts(aircraftList).get("HEAD1-HEAD2"),
+                respawned.get("HEAD1-HEAD2"));
+        }
+
+        @Test
+        @DisplayName("リセット後は全ペアを再計算")
+        void testReset() {
+            incrementalDetector.calculateAllConflicts(aircraftList);
+            incrementalDetector.reset();
+            incrementalDetector.calculateAllConflicts(aircraftList);
+
+            IncrementalConflictDetector.PassStatistics statistics = incrementalDetector.getLastPassStatistics();
+            assertEquals(statistics.candidatePairs(), statistics.recomputedPairs());
+        }
+
+        @Test
+        @DisplayName("航空機数が不足している場合は空の結果")
+        void testSingleAircraft() {
+            Map<String, RiskAssessment> results =
+                incrementalDetector.calculateAllConflicts(List.of(aircraftList.get(0)));
+
+            assertTrue(results.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("時間予算テスト")
+    class TimeBudgetTests {
+
+        // 締め切りを確認する間隔（IncrementalConflictDetector.BUDGET_BATCH_SIZE）
+        private static final int BATCH_SIZE = 1024;
+
+        @BeforeEach
+        void addDenseTraffic() {
+            // 既に管制間隔内にある同高度のペア（緊急度が最も高い）
+            aircraftList.add(TestAircraft.create("URGENT1", 35.0, 140.0, 31000, 90, 450, 0));
+            aircraftList.add(TestAircraft.create("URGENT2", 35.0, 140.05, 31000, 270, 450, 0));
+            Random random = new Random(42L);
+            for (int i = 0; i < 80; i++) {
+                aircraftList.add(TestAircraft.create(
+                    "DENSE" + String.format("%02d", i),
+                    35.0 + (random.nextDouble() - 0.5) * 1.0,
+                    140.0 + (random.nextDouble() - 0.5) * 1.0,
+                    25000 + random.nextDouble() * 15000,
+                    random.nextDouble() * 360,
+                    300 + random.nextDouble() * 200,
+                    0
+                ));
+            }
+        }
+
+        @Test
+        @DisplayName("予算内に収まる場合は全ペアを評価し、ステートレス計算と一致")
+        void testGenerousBudgetMatchesStateless() {
+            IncrementalConflictDetector detector = budgetedDetector(60_000.0);
+
+            Map<String, RiskAssessment> budgeted = detector.calculateAllConflicts(aircraftList);
+            Map<String, RiskAssessment> stateless = statelessDetector.calculateAllConflicts(aircraftList);
+
+            assertEquals(stateless, budgeted);
+            assertEquals(0, detector.getLastPassStatistics().deferredPairs());
+            assertEquals(0, detector.getLastPassStatistics().stalePairs());
+        }
+
+        @Test
+        @DisplayName("予算を超えた場合は緊急度の高いペアを評価し、残りを見送る")
+        void testExhaustedBudgetDefersLowUrgencyPairs() {
+            IncrementalConflictDetector detector = budgetedDetector(0.000001);
+
+            ConflictResultTable table = detector.calculateConflictTable(aircraftList);
+            IncrementalConflictDetector.PassStatistics statistics = detector.getLastPassStatistics();
+            assertTrue(statistics.candidatePairs() > BATCH_SIZE, "候補ペア数: " + statistics.candidatePairs());
+            assertEquals(statistics.candidatePairs() - BATCH_SIZE, statistics.deferredPairs());
+            assertEquals(statistics.deferredPairs(), table.deferredPairCount());
+            // 初回パスは前回の評価結果がないため持ち越すペアはない
+            assertEquals(0, statistics.stalePairs());
+
+            int urgent = findEntry(table, "URGENT1", "URGENT2");
+            assertTrue(urgent >= 0);
+            assertFalse(table.isStale(urgent));
+            assertTrue(table.isConflictPredicted(urgent));
+        }
+
+        @Test
+        @DisplayName("見送ったペアは前回の評価結果を古い結果として持ち越す")
+        void testDeferredPairsCarryStaleResults() {
+            IncrementalConflictDetector detector = budgetedDetector(0.000001);
+            detector.calculateConflictTable(aircraftList);
+
+            advanceAll(1.0);
+            ConflictResultTable table = detector.calculateConflictTable(aircraftList);
+            IncrementalConflictDetector.PassStatistics statistics = detector.getLastPassStatistics();
+
+            assertTrue(statistics.stalePairs() > 0);
+            assertTrue(table.staleCount() > 0 && table.staleCount() <= statistics.stalePairs());
+            assertFalse(table.isStale(findEntry(table, "URGENT1", "URGENT2")));
+            for (int entry = 0; entry < table.size(); entry++) {
+                if (table.isStale(entry)) {
+                    assertTrue(table.timeToClosest(entry) <= MAX_PREDICTION_TIME);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("見送りが続いたペアは繰り上げられ、全ペアがいずれ評価される")
+        void testAgingEventuallyEvaluatesAllPairs() {
+            IncrementalConflictDetector detector = budgetedDetector(0.000001);
+
+            int passes = 0;
+            IncrementalConflictDetector.PassStatistics statistics;
+            do {
+                detector.calculateConflictTable(aircraftList);
+                statistics = detector.getLastPassStatistics();
+                passes++;
+            } while (statistics.deferredPairs() > statistics.stalePairs() && passes < 20);
+
+            // 評価結果のないペアが残っていない
+            assertEquals(statistics.deferredPairs(), statistics.stalePairs());
+            assertTrue(passes > 1);
+        }
+
+        @Test
+        @DisplayName("不正な時間予算エラー")
+        void testInvalidBudget() {
+            assertThrows(InvalidParameterException.class, () -> budgetedDetector(-1.0));
+            assertThrows(InvalidParameterException.class, () -> budgetedDetector(Double.NaN));
+            assertEquals(ConflictDetectorSettings.UNLIMITED_TIME_BUDGET,
+                incrementalDetector.getTimeBudgetMillis());
+        }
+
+        private IncrementalConflictDetector budgetedDetector(double timeBudgetMillis) {
+            return new IncrementalConflictDetector(ConflictDetectorSettings.DEFAULT.withTimeBudgetMillis(timeBudgetMillis));
+        }
+
+        private int findEntry(ConflictResultTable table, String callsign1, String callsign2) {
+            int index1 = -1;
+            int index2 = -1;
+            for (int i = 0; i < table.aircraftCount(); i++) {
+                if (table.callsign(i).equals(callsign1)) {
+                    index1 = i;
+                } else if (table.callsign(i).equals(callsign2)) {
+                    index2 = i;
+                }
+            }
+            return table.find(index1, index2);
+        }
+    }
+
+    // ヘルパーメソッド
+
+    /**
+     * CPAの平面モデルどおりに全航空機を直進させる
+     */
+    private void advanceAll(double seconds) {
+        for (Aircraft aircraft : aircraftList) {
+            AircraftPosition position = aircraft.getAircraftPosition();
+            AircraftVector vector = aircraft.getAircraftVector();
+            double speed = vector.groundSpeed.toDouble() * KNOTS_TO_KM_PER_HOUR / 3.6;
+            double headingRad = Math.toRadians(vector.heading.toDouble());
+            double lat = position.latitude.toDouble();
+
+            double newLat = lat + speed * Math.cos(headingRad) * seconds / METERS_PER_DEGREE;
+            double newLon = position.longitude.toDouble()
+                + speed * Math.sin(headingRad) * seconds / (METERS_PER_DEGREE * Math.cos(Math.toRadians(lat)));
+            double newAlt = position.altitude.toDouble() + vector.verticalSpeed.toDouble() / 60.0 * seconds;
+
+            ((AircraftBase) aircraft).setAircraftPosition(
+                new AircraftPosition(new Latitude(newLat), new Longitude(newLon), new Altitude(newAlt)));
+        }
+    }
+
+    private void assertApproximatelyEqual(Map<String, RiskAssessment> expected, Map<String, RiskAssessment> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        expected.forEach((pairId, assessment) -> {
+            RiskAssessment other = actual.get(pairId);
+            assertEquals(assessment.getTimeToClosest(), other.getTimeToClosest(), 0.5, pairId);
+            assertEquals(assessment.getClosestHorizontalDistance(), other.getClosestHorizontalDistance(), 0.1, pairId);
+            assertEquals(assessment.getClosestVerticalDistance(), other.getClosestVerticalDistance(), 100.0, pairId);
+            assertEquals(assessment.getAlertLevel(), other.getAlertLevel(), pairId);
+        });
+    }
+}
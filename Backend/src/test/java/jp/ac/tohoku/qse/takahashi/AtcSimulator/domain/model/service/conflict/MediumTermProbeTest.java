@@ -0,0 +1,252 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+
+/**
+ * MediumTermProbeのテストクラス
+ * 長い予測時間での検出・ティック間のスライス分散・結果の入れ替え・設定の検証をテスト
+ */
+class MediumTermProbeTest {
+
+    // 1海里あたりの緯度（度）
+    private static final double NM_IN_DEGREES = 1.0 / 60.0;
+
+    private static final PreFilterSettings CULLING = new PreFilterSettings(1000.0, true);
+
+    private ConflictDetector stca;
+    private MediumTermProbe probe;
+
+    @BeforeEach
+    void setUp() {
+        stca = new ConflictDetector(ConflictDetectorSettings.DEFAULT.withPreFilterSettings(CULLING).withPredictionHorizon(120.0));
+        probe = new MediumTermProbe(stca, MediumTermProbeSettings.DEFAULT);
+    }
+
+    @Nested
+    @DisplayName("検出テスト")
+    class DetectionTests {
+
+        @Test
+        @DisplayName("短期検出の予測時間より先の管制間隔欠如を1周期以内に検出")
+        void testDetectsConflictBeyondShortTermHorizon() {
+            // 120海里離れて450ノット同士で正対（8分後に最接近）
+            List<Aircraft> aircraftList = List.of(
+                TestAircraft.create("AAA001", 35.0, 139.0, 35000, 0, 450, 0),
+                TestAircraft.create("BBB002", 35.0 + 120 * NM_IN_DEGREES, 139.0, 35000, 180, 450, 0)
+            );
+
+            ConflictResultTable table = stca.calculateConflictTable(aircraftList);
+            for (int entry = 0; entry < table.size(); entry++) {
+                assertFalse(table.isConflictPredicted(entry), "短期検出では予測されない");
+            }
+
+            List<MediumTermConflict> conflicts = List.of();
+            for (int tick = 1; tick <= MediumTermProbeSettings.DEFAULT.ticksPerCycle(); tick++) {
+                conflicts = probe.advance(aircraftList, tick);
+            }
+
+            assertEquals(1, conflicts.size());
+            MediumTermConflict conflict = conflicts.get(0);
+            assertEquals("AAA001-BBB002", conflict.pairId());
+            assertEquals(480.0, conflict.timeToClosest(), 1.0);
+            assertTrue(conflict.closestHorizontalDistance() < 0.1);
+            assertTrue(conflict.closestVerticalDistance() < 1.0);
+            assertTrue(conflict.evaluatedTick() >= 1 && conflict.evaluatedTick() <= 10);
+        }
+
+        @Test
+        @DisplayName("予測時間より先、考慮半径より遠い、垂直に離れたペアは検出しない")
+        void testOutOfScopePairsAreIgnored() {
+            List<Aircraft> aircraftList = List.of(
+                // 160海里離れた正対（考慮半径150海里の外）
+                TestAircraft.create("FAR001", 35.0, 139.0, 35000, 0, 450, 0),
+                TestAircraft.create("FAR002", 35.0 + 160 * NM_IN_DEGREES, 139.0, 35000, 180, 450, 0),
+                // 140海里離れた250ノット同士の対向（約17分後に最接近するが、東西に約10海里ずれてすれ違う）
+                TestAircraft.create("SLW001", 34.0, 140.0, 25000, 0, 250, 0),
+                TestAircraft.create("SLW002", 34.0 + 140 * NM_IN_DEGREES, 140.2, 25000, 180, 250, 0),
+                // 4000フィート差の水平飛行
+                TestAircraft.create("LVL001", 33.0, 141.0, 31000, 0, 450, 0),
+                TestAircraft.create("LVL002", 33.0 + 60 * NM_IN_DEGREES, 141.0, 35000, 180, 450, 0)
+            );
+
+            List<MediumTermConflict> conflicts = List.of();
+            for (int tick = 1; tick <= MediumTermProbeSettings.DEFAULT.ticksPerCycle(); tick++) {
+                conflicts = probe.advance(aircraftList, tick);
+            }
+            assertTrue(conflicts.isEmpty(), conflicts.toString());
+        }
+
+        @Test
+        @DisplayName("航空機が消えたペアは所有スライスの次の評価で取り除かれる")
+        void testRemovedAircraftDropOutWithinOneCycle() {
+            Aircraft first = TestAircraft.create("AAA001", 35.0, 139.0, 35000, 0, 450, 0);
+            Aircraft second = TestAircraft.create("BBB002", 35.0 + 120 * NM_IN_DEGREES, 139.0, 35000, 180, 450, 0);
+            int ticksPerCycle = MediumTermProbeSettings.DEFAULT.ticksPerCycle();
+
+            List<MediumTermConflict> conflicts = List.of();
+            for (int tick = 1; tick <= ticksPerCycle; tick++) {
+                conflicts = probe.advance(List.of(first, second), tick);
+            }
+            assertEquals(1, conflicts.size());
+
+            for (int tick = ticksPerCycle + 1; tick <= 2 * ticksPerCycle; tick++) {
+                conflicts = probe.advance(List.of(first), tick);
+            }
+            assertTrue(conflicts.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("ラウンドロビンテスト")
+    class RoundRobinTests {
+
+        @Test
+        @DisplayName("1周期で全航空機を1回ずつ評価対象とし、全ペアを1回ずつ評価する")
+        void testCycleCoversEveryPairOnce() {
+            List<Aircraft> aircraftList = generateAircraft(300, 4.0, 24680L);
+            int ticksPerCycle = MediumTermProbeSettings.DEFAULT.ticksPerCycle();
+
+            int subjects = 0;
+            int candidatePairs = 0;
+            Set<String> pairs = new HashSet<>();
+            for (int tick = 1; tick <= ticksPerCycle; tick++) {
+                List<MediumTermConflict> conflicts = probe.advance(aircraftList, tick);
+                MediumTermProbe.PassStatistics statistics = probe.getLastPassStatistics();
+                assertEquals(tick - 1, statistics.slice());
+                assertTrue(statistics.subjectCount() < aircraftList.size(), "1ティックは一部の航空機のみ評価");
+                subjects += statistics.subjectCount();
+                candidatePairs += statistics.candidatePairs();
+                if (tick == ticksPerCycle) {
+                    conflicts.forEach(conflict -> pairs.add(conflict.pairId()));
+                }
+            }
+            assertEquals(aircraftList.size(), subjects);
+
+            // 1ティックで全スライスを評価する場合と同じペア・同じ結果
+            MediumTermProbe single = new MediumTermProbe(stca, new MediumTermProbeSettings(1200.0, 150.0, 1));
+            List<MediumTermConflict> expected = single.advance(aircraftList, 1);
+            assertEquals(single.getLastPassStatistics().candidatePairs(), candidatePairs);
+            assertFalse(expected.isEmpty(), "比較対象のコンフリクトが存在するべき");
+            Set<String> expectedPairs = new HashSet<>();
+            expected.forEach(conflict -> expectedPairs.add(conflict.pairId()));
+            assertEquals(expectedPairs, pairs);
+        }
+
+        @Test
+        @DisplayName("結果は最接近時刻の早い順")
+        void testResultsAreOrderedByTimeToClosest() {
+            List<Aircraft> aircraftList = generateAircraft(300, 4.0, 13579L);
+            MediumTermProbe single = new MediumTermProbe(stca, new MediumTermProbeSettings(1200.0, 150.0, 1));
+            List<MediumTermConflict> conflicts = single.advance(aircraftList, 1);
+
+            for (int k = 1; k < conflicts.size(); k++) {
+                assertTrue(conflicts.get(k - 1).timeToClosest() <= conflicts.get(k).timeToClosest());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("エラーケーステスト")
+    class ErrorHandlingTests {
+
+        @Test
+        @DisplayName("不正な設定・引数はエラー")
+        void testInvalidParameters() {
+            assertThrows(InvalidParameterException.class, () -> new MediumTermProbeSettings(0.0, 150.0, 10));
+            assertThrows(InvalidParameterException.class, () -> new MediumTermProbeSettings(1200.0, Double.NaN, 10));
+            assertThrows(InvalidParameterException.class, () -> new MediumTermProbeSettings(1200.0, 150.0, 0));
+            assertThrows(InvalidParameterException.class, () -> new MediumTermProbe(null, MediumTermProbeSettings.DEFAULT));
+            assertThrows(InvalidParameterException.class, () -> new MediumTermProbe(stca, null));
+            assertThrows(InvalidParameterException.class, () -> probe.advance(null, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("パフォーマンステスト")
+    class PerformanceTests {
+
+        @Test
+        @DisplayName("1000機で1ティックあたりの評価対象機数・評価ペア数は1周期分を一度に評価するより大幅に少ない")
+        void testPerTickCostIsSpread() {
+            List<Aircraft> aircraftList = generateAircraft(1000, 6.0, 97531L);
+            int ticksPerCycle = MediumTermProbeSettings.DEFAULT.ticksPerCycle();
+            MediumTermProbe single = new MediumTermProbe(stca, new MediumTermProbeSettings(1200.0, 150.0, 1));
+            single.advance(aircraftList, 1);
+            MediumTermProbe.PassStatistics fullCycle = single.getLastPassStatistics();
+
+            int worstSubjects = 0;
+            int worstPairs = 0;
+            for (int tick = 1; tick <= ticksPerCycle; tick++) {
+                probe.advance(aircraftList, tick);
+                MediumTermProbe.PassStatistics statistics = probe.getLastPassStatistics();
+                worstSubjects = Math.max(worstSubjects, statistics.subjectCount());
+                worstPairs = Math.max(worstPairs, statistics.candidatePairs());
+            }
+
+            assertEquals(aircraftList.size(), fullCycle.subjectCount());
+            assertTrue(worstSubjects < fullCycle.subjectCount() / 2,
+                "worst subjects: " + worstSubjects + ", full: " + fullCycle.subjectCount());
+            assertTrue(worstPairs < fullCycle.candidatePairs() / 2,
+                "worst pairs: " + worstPairs + ", full: " + fullCycle.candidatePairs());
+        }
+
+        @Test
+        @DisabledIfEnvironmentVariable(named = "CI", matches = ".+", disabledReason = "環境依存のためCIではスキップ")
+        @DisplayName("1000機で1ティックあたりの評価時間は1周期分を一度に評価するより大幅に短い")
+        void testPerTickLatencyIsSpread() {
+            List<Aircraft> aircraftList = generateAircraft(1000, 6.0, 97531L);
+            int ticksPerCycle = MediumTermProbeSettings.DEFAULT.ticksPerCycle();
+            MediumTermProbe single = new MediumTermProbe(stca, new MediumTermProbeSettings(1200.0, 150.0, 1));
+
+            // ウォームアップ
+            for (int tick = 1; tick <= 3 * ticksPerCycle; tick++) {
+                probe.advance(aircraftList, tick);
+                single.advance(aircraftList, tick);
+            }
+
+            long worstTick = 0;
+            for (int tick = 1; tick <= ticksPerCycle; tick++) {
+                long start = System.nanoTime();
+                probe.advance(aircraftList, tick);
+                worstTick = Math.max(worstTick, System.nanoTime() - start);
+            }
+            long start = System.nanoTime();
+            single.advance(aircraftList, 1);
+            long fullCycle = System.nanoTime() - start;
+
+            System.out.printf("中期予測（1000機）: 1ティック最大 %.2fms / 一括 %.2fms%n",
+                              worstTick / 1_000_000.0, fullCycle / 1_000_000.0);
+            assertTrue(worstTick < fullCycle / 2, "worst tick: " + worstTick + "ns, full: " + fullCycle + "ns");
+        }
+    }
+
+    // ヘルパーメソッド
+
+    private static List<Aircraft> generateAircraft(int count, double spanDegrees, long seed) {
+        List<Aircraft> aircraftList = new ArrayList<>();
+        Random random = new Random(seed);
+        for (int i = 0; i < count; i++) {
+            aircraftList.add(TestAircraft.create(
+                "TEST" + String.format("%04d", i),
+                35.0 + (random.nextDouble() - 0.5) * spanDegrees,
+                139.0 + (random.nextDouble() - 0.5) * spanDegrees,
+                25000 + random.nextDouble() * 20000,
+                random.nextDouble() * 360,
+                300 + random.nextDouble() * 300,
+                (random.nextDouble() - 0.5) * 4000
+            ));
+        }
+        return aircraftList;
+    }
+}
@@ -0,0 +1,189 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftBase;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftState;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.AircraftAttributes.*;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.InstructedVector;
+
+/**
+ * ResolutionSearchのテストクラス
+ * 回避指示の探索結果・候補グリッド・性能制限・探索時間をテスト
+ */
+class ResolutionSearchTest {
+
+    // 1海里あたりの緯度（度）
+    private static final double NM_IN_DEGREES = 1.0 / 60.0;
+
+    private ConflictDetector conflictDetector;
+    private AircraftBase subject;
+
+    @BeforeEach
+    void setUp() {
+        conflictDetector = new ConflictDetector();
+        // 北向き450ノット・FL350
+        subject = TestAircraft.create("SUBJ01", 35.0, 139.0, 35000, 0, 450, 0);
+    }
+
+    @Nested
+    @DisplayName("探索テスト")
+    class SearchTests {
+
+        @Test
+        @DisplayName("正対する交通に対して管制間隔欠如を解消する回避指示を変更量の小さい順に返す")
+        void testHeadOnResolution() {
+            Aircraft intruder = TestAircraft.create("INTR01", 35.0 + 30 * NM_IN_DEGREES, 139.0, 35000, 180, 450, 0);
+            List<Aircraft> traffic = List.of(subject, intruder);
+
+            ResolutionSearchResult result = conflictDetector.searchResolutions(
+                subject, traffic, ResolutionSearchSettings.DEFAULT, 10);
+
+            assertEquals(925, result.candidateCount());
+            assertEquals(1, result.neighbourCount());
+            assertTrue(result.clearedCount() > 0 && result.clearedCount() < result.candidateCount());
+            assertEquals(10, result.advisories().size());
+
+            double previousCost = 0.0;
+            for (ResolutionSearchResult.Advisory advisory : result.advisories()) {
+                assertTrue(advisory.cost() > 0.0, "現在のベクトルは解消しない");
+                assertTrue(advisory.cost() >= previousCost);
+                previousCost = advisory.cost();
+
+                // 回避指示をwhat-if評価しても管制間隔欠如は予測されない
+                TrajectoryProbeResult probe = conflictDetector.probeTrajectory(subject, new InstructedVector(
+                    new Heading(advisory.heading()), new Altitude(advisory.altitude()),
+                    new GroundSpeed(advisory.groundSpeed())), traffic);
+                assertTrue(probe.conflicts().stream().noneMatch(TrajectoryProbeResult.Conflict::conflictPredicted),
+                    advisory.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("コンフリクトがない場合は変更なしが最小コスト")
+        void testNoConflictKeepsCurrentVector() {
+            ResolutionSearchResult result = conflictDetector.searchResolutions(
+                subject, List.of(subject), ResolutionSearchSettings.DEFAULT, 1);
+
+            assertEquals(result.candidateCount(), result.clearedCount());
+            ResolutionSearchResult.Advisory advisory = result.advisories().get(0);
+            assertEquals(0.0, advisory.cost());
+            assertEquals(0.0, advisory.heading());
+            assertEquals(35000.0, advisory.altitude());
+            assertEquals(450.0, advisory.groundSpeed());
+        }
+
+        @Test
+        @DisplayName("機種の最高高度・最大速度を超える候補は評価しない")
+        void testCharacteristicsLimitCandidates() {
+            // 商用旅客機の最高高度は42000フィート・最大速度は500ノット
+            AircraftBase high = TestAircraft.create("HIGH01", 35.0, 139.0, 41000, 0, 480, 0);
+
+            ResolutionSearchResult result = conflictDetector.searchResolutions(
+                high, List.of(high), ResolutionSearchSettings.DEFAULT, 1);
+
+            // 高度 39000〜42000 の4通り × 対地速度 440〜500 の4通り × ヘディング37通り
+            assertEquals(37 * 4 * 4, result.candidateCount());
+        }
+
+        @Test
+        @DisplayName("凍結した状態での探索は凍結後の航空機の移動に影響されない")
+        void testFrozenStateIsIndependentOfLaterSteps() {
+            Aircraft intruder = TestAircraft.create("INTR01", 35.0 + 30 * NM_IN_DEGREES, 139.0, 35000, 180, 450, 0);
+            AircraftState frozenSubject = AircraftState.capture(subject);
+            List<AircraftState> frozenTraffic = List.of(frozenSubject, AircraftState.capture(intruder));
+            ResolutionSearchResult expected = conflictDetector.searchResolutions(
+                subject, List.of(subject, intruder), ResolutionSearchSettings.DEFAULT, 10);
+
+            // 凍結後に運動計算が進んでも、凍結した状態からの探索結果は変わらない
+            for (int i = 0; i < 60; i++) {
+                subject.calculateNextAircraftPosition();
+                intruder.calculateNextAircraftPosition();
+            }
+            ResolutionSearchResult frozen = conflictDetector.searchResolutions(
+                frozenSubject, frozenTraffic, ResolutionSearchSettings.DEFAULT, 10);
+
+            assertEquals(expected.clearedCount(), frozen.clearedCount());
+            assertEquals(expected.advisories(), frozen.advisories());
+        }
+
+        @Test
+        @DisplayName("不正なパラメータエラー")
+        void testInvalidParameters() {
+            List<Aircraft> traffic = List.of(subject);
+            ResolutionSearchSettings settings = ResolutionSearchSettings.DEFAULT;
+            assertThrows(InvalidParameterException.class,
+                () -> conflictDetector.searchResolutions((AircraftBase) null, traffic, settings, 5));
+            assertThrows(InvalidParameterException.class,
+                () -> conflictDetector.searchResolutions((AircraftState) null, List.of(), settings, 5));
+            assertThrows(InvalidParameterException.class,
+                () -> conflictDetector.searchResolutions(AircraftState.capture(subject), null, settings, 5));
+            assertThrows(InvalidParameterException.class,
+                () -> conflictDetector.searchResolutions(subject, null, settings, 5));
+            assertThrows(InvalidParameterException.class,
+                () -> conflictDetector.searchResolutions(subject, traffic, null, 5));
+            assertThrows(InvalidParameterException.class,
+                () -> conflictDetector.searchResolutions(subject, traffic, settings, 0));
+            assertThrows(InvalidParameterException.class,
+                () -> new ResolutionSearchSettings(90.0, 0.0, 2000.0, 1000.0, 40.0, 20.0));
+            assertThrows(InvalidParameterException.class,
+                () -> new ResolutionSearchSettings(270.0, 5.0, 2000.0, 1000.0, 40.0, 20.0));
+            assertThrows(InvalidParameterException.class,
+                () -> new ResolutionSearchSettings(90.0, 5.0, -1.0, 1000.0, 40.0, 20.0));
+        }
+    }
+
+    @Nested
+    @DisplayName("パフォーマンステスト")
+    class PerformanceTests {
+
+        @Test
+        @DisabledIfEnvironmentVariable(named = "CI", matches = ".+", disabledReason = "環境依存のためCIではスキップ")
+        @DisplayName("1000機の交通に対する925候補の探索が1ティック（1秒）未満")
+        void testSearchFitsInOneTick() {
+            // 既定のアプリケーション設定と同じ候補除外（垂直方向の候補除外・運動学的な考慮半径）
+            ConflictDetector detector = new ConflictDetector(
+                ConflictDetectorSettings.DEFAULT.withPreFilterSettings(new PreFilterSettings(1000.0, true)));
+            List<Aircraft> traffic = new ArrayList<>();
+            traffic.add(subject);
+            traffic.add(TestAircraft.create("INTR01", 35.0 + 30 * NM_IN_DEGREES, 139.0, 35000, 180, 450, 0));
+            Random random = new Random(12345L);
+            for (int i = 0; i < 1000; i++) {
+                traffic.add(TestAircraft.create(
+                    "TEST" + String.format("%04d", i),
+                    35.0 + (random.nextDouble() - 0.5) * 4.0,
+                    139.0 + (random.nextDouble() - 0.5) * 4.0,
+                    25000 + random.nextDouble() * 20000,
+                    random.nextDouble() * 360,
+                    300 + random.nextDouble() * 300,
+                    0
+                ));
+            }
+
+            // ウォームアップ
+            for (int i = 0; i < 3; i++) {
+                detector.searchResolutions(subject, traffic, ResolutionSearchSettings.DEFAULT, 5);
+            }
+
+            long start = System.nanoTime();
+            ResolutionSearchResult result = detector.searchResolutions(
+                subject, traffic, ResolutionSearchSettings.DEFAULT, 5);
+            double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+
+            System.out.printf("回避指示探索（1000機・%d候補・相手機%d機）: %.1fms%n",
+                              result.candidateCount(), result.neighbourCount(), elapsedMs);
+            assertEquals(925, result.candidateCount());
+            assertTrue(elapsedMs < 1000.0, "elapsed: " + elapsedMs + "ms");
+        }
+    }
+}
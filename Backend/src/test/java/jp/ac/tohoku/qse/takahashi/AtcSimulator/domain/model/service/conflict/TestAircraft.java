@@ -0,0 +1,51 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.types.commercial.CommercialAircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.AircraftAttributes.*;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftPosition;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftVector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Type.AircraftType;
+
+/**
+ * コンフリクト検出系のテストで共通に使用するテスト用航空機の生成
+ * 機種・出発地・到着地・出発時刻は固定（B777、NRT/RJAA → KIX/RJBB、2024-01-01T12:00:00Z）
+ */
+public final class TestAircraft {
+
+    private TestAircraft() {
+    }
+
+    /**
+     * テスト用航空機を作成
+     *
+     * @param callsign コールサイン
+     * @param lat 緯度（度）
+     * @param lon 経度（度）
+     * @param alt 高度（フィート）
+     * @param heading 針路（度）
+     * @param groundSpeed 対地速度（ノット）
+     * @param verticalSpeed 垂直速度（フィート/分）
+     * @return テスト用航空機
+     */
+    public static CommercialAircraft create(String callsign, double lat, double lon, double alt,
+                                            double heading, double groundSpeed, double verticalSpeed) {
+        Callsign cs = new Callsign(callsign);
+        AircraftType type = new AircraftType("B777");
+
+        AircraftPosition position = new AircraftPosition(
+            new Latitude(lat),
+            new Longitude(lon),
+            new Altitude(alt)
+        );
+
+        AircraftVector vector = new AircraftVector(
+            new Heading(heading),
+            new GroundSpeed(groundSpeed),
+            new VerticalSpeed(verticalSpeed)
+        );
+
+        return new CommercialAircraft(cs, type, position, vector,
+            "NRT", "RJAA", "KIX", "RJBB", "2024-01-01T12:00:00Z");
+    }
+}
@@ -0,0 +1,220 @@
+package jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.service.conflict;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable;
+
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftBase;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftState;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.AircraftAttributes.*;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftVector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.InstructedVector;
+
+/**
+ * TrajectoryProbeのテストクラス
+ * 管制指示候補に対する予測軌道の評価・性能制限の反映・応答時間をテスト
+ */
+class TrajectoryProbeTest {
+
+    // 1海里あたりの緯度（度）
+    private static final double NM_IN_DEGREES = 1.0 / 60.0;
+
+    private ConflictDetector conflictDetector;
+    private AircraftBase subject;
+
+    @BeforeEach
+    void setUp() {
+        conflictDetector = new ConflictDetector();
+        // 北向き450ノット・FL350
+        subject = TestAircraft.create("SUBJ01", 35.0, 139.0, 35000, 0, 450, 0);
+    }
+
+    @Nested
+    @DisplayName("軌道評価テスト")
+    class ProbeTests {
+
+        @Test
+        @DisplayName("現在のベクトルを維持する場合は全ペア計算と同じ危険度")
+        void testCurrentVectorMatchesDetector() {
+            Aircraft intruder = TestAircraft.create("INTR01", 35.0 + 30 * NM_IN_DEGREES, 139.0, 35000, 180, 450, 0);
+            List<Aircraft> traffic = List.of(subject, intruder);
+
+            TrajectoryProbeResult result = conflictDetector.probeTrajectory(subject, currentVector(), traffic);
+            ConflictResultTable table = conflictDetector.calculateConflictTable(traffic);
+
+            assertEquals(1, result.trafficCount());
+            assertEquals(1, result.candidateCount());
+            TrajectoryProbeResult.Conflict conflict = single(result);
+            assertEquals("INTR01", conflict.callsign());
+            assertEquals(table.riskLevel(0), conflict.riskLevel(), 1.0);
+            assertEquals(table.timeToClosest(0), conflict.timeToClosest(), 1.0);
+            assertTrue(conflict.conflictPredicted());
+            assertTrue(conflict.firstViolationTime() > 0);
+            assertEquals(conflict.riskLevel(), result.maxRiskLevel());
+        }
+
+        @Test
+        @DisplayName("旋回による回避で管制間隔欠如が解消")
+        void testTurnAwayClearsConflict() {
+            Aircraft intruder = TestAircraft.create("INTR01", 35.0 + 30 * NM_IN_DEGREES, 139.0, 35000, 180, 450, 0);
+
+            TrajectoryProbeResult result = conflictDetector.probeTrajectory(
+                subject, instruction(90, 35000, 450), List.of(subject, intruder));
+
+            assertTrue(result.conflicts().stream().noneMatch(TrajectoryProbeResult.Conflict::conflictPredicted));
+            result.conflicts().forEach(c -> assertTrue(c.closestHorizontalDistance() >= 5.0));
+        }
+
+        @Test
+        @DisplayName("降下指示は上昇率の制限内で高度差を確保")
+        void testDescentSeparatesVertically() {
+            Aircraft intruder = TestAircraft.create("INTR01", 35.0 + 40 * NM_IN_DEGREES, 139.0, 35000, 180, 450, 0);
+
+            TrajectoryProbeResult result = conflictDetector.probeTrajectory(
+                subject, instruction(0, 31000, 450), List.of(subject, intruder));
+
+            assertTrue(result.conflicts().stream().noneMatch(TrajectoryProbeResult.Conflict::conflictPredicted));
+            result.conflicts().forEach(c -> assertTrue(c.closestVerticalDistance() >= 1000.0));
+        }
+
+        @Test
+        @DisplayName("上昇中に上空の交通の高度を通過する場合は管制間隔欠如を予測")
+        void testClimbIntoTraffic() {
+            // 1500フィート上空の対向機（水平距離10海里、約40秒で最接近）
+            Aircraft intruder = TestAircraft.create("INTR01", 35.0 + 10 * NM_IN_DEGREES, 139.0, 36500, 180, 450, 0);
+            List<Aircraft> traffic = List.of(subject, intruder);
+
+            TrajectoryProbeResult level = conflictDetector.probeTrajectory(subject, currentVector(), traffic);
+            TrajectoryProbeResult climb = conflictDetector.probeTrajectory(
+                subject, instruction(0, 40000, 450), traffic);
+
+            assertTrue(level.conflicts().stream().noneMatch(TrajectoryProbeResult.Conflict::conflictPredicted));
+            TrajectoryProbeResult.Conflict conflict = single(climb);
+            assertTrue(conflict.conflictPredicted());
+            // 1640ft/minの上昇率では高度差1000フィート未満になるのは約19秒後
+            assertTrue(conflict.firstViolationTime() >= 18.0, "first violation: " + conflict.firstViolationTime());
+        }
+
+        @Test
+        @DisplayName("考慮距離外・高度差の大きい航空機は軌道を評価しない")
+        void testPreFilter() {
+            ConflictDetector culling = new ConflictDetector(
+                ConflictDetectorSettings.DEFAULT.withPreFilterSettings(new PreFilterSettings(1000.0, true)));
+            Aircraft far = TestAircraft.create("FAR001", 35.0 + 200 * NM_IN_DEGREES, 139.0, 35000, 180, 450, 0);
+            Aircraft high = TestAircraft.create("HIGH01", 35.0 + 10 * NM_IN_DEGREES, 139.0, 41000, 180, 450, 0);
+            Aircraft near = TestAircraft.create("NEAR01", 35.0 + 10 * NM_IN_DEGREES, 139.0, 35000, 180, 450, 0);
+
+            TrajectoryProbeResult result = culling.probeTrajectory(
+                subject, currentVector(), List.of(subject, far, high, near));
+
+            assertEquals(3, result.trafficCount());
+            assertEquals(1, result.candidateCount());
+            assertEquals("NEAR01", single(result).callsign());
+        }
+
+        @Test
+        @DisplayName("凍結した状態での評価は凍結後の航空機の移動に影響されない")
+        void testFrozenStateIsIndependentOfLaterSteps() {
+            Aircraft intruder = TestAircraft.create("INTR01", 35.0 + 30 * NM_IN_DEGREES, 139.0, 35000, 180, 450, 0);
+            List<Aircraft> traffic = List.of(subject, intruder);
+            AircraftState frozenSubject = AircraftState.capture(subject);
+            List<AircraftState> frozenTraffic = List.of(frozenSubject, AircraftState.capture(intruder));
+            TrajectoryProbeResult expected = conflictDetector.probeTrajectory(subject, currentVector(), traffic);
+
+            // 凍結後に運動計算が進んでも、凍結した状態からの評価は変わらない
+            for (int i = 0; i < 60; i++) {
+                subject.calculateNextAircraftPosition();
+                intruder.calculateNextAircraftPosition();
+            }
+            TrajectoryProbeResult frozen = conflictDetector.probeTrajectory(frozenSubject, currentVector(), frozenTraffic);
+            TrajectoryProbeResult live = conflictDetector.probeTrajectory(subject, currentVector(), traffic);
+
+            assertEquals(single(expected).timeToClosest(), single(frozen).timeToClosest(), 1e-9);
+            assertEquals(single(expected).riskLevel(), single(frozen).riskLevel(), 1e-9);
+            assertTrue(single(live).timeToClosest() < single(frozen).timeToClosest());
+        }
+
+        @Test
+        @DisplayName("不正なパラメータエラー")
+        void testInvalidParameters() {
+            List<Aircraft> traffic = List.of(subject);
+            assertThrows(InvalidParameterException.class,
+                () -> conflictDetector.probeTrajectory((AircraftBase) null, currentVector(), traffic));
+            assertThrows(InvalidParameterException.class,
+                () -> conflictDetector.probeTrajectory(subject, null, traffic));
+            assertThrows(InvalidParameterException.class,
+                () -> conflictDetector.probeTrajectory(subject, currentVector(), null));
+            assertThrows(InvalidParameterException.class,
+                () -> conflictDetector.probeTrajectory((AircraftState) null, currentVector(), List.of()));
+            assertThrows(InvalidParameterException.class,
+                () -> conflictDetector.probeTrajectory(AircraftState.capture(subject), currentVector(), null));
+        }
+    }
+
+    @Nested
+    @DisplayName("パフォーマンステスト")
+    class PerformanceTests {
+
+        @Test
+        @DisabledIfEnvironmentVariable(named = "CI", matches = ".+", disabledReason = "環境依存のためCIではスキップ")
+        @DisplayName("1000機の交通に対する評価が5ms未満")
+        void testProbeLatency() {
+            List<Aircraft> traffic = new ArrayList<>();
+            traffic.add(subject);
+            Random random = new Random(12345L);
+            for (int i = 0; i < 1000; i++) {
+                traffic.add(TestAircraft.create(
+                    "TEST" + String.format("%04d", i),
+                    35.0 + (random.nextDouble() - 0.5) * 4.0,
+                    139.0 + (random.nextDouble() - 0.5) * 4.0,
+                    25000 + random.nextDouble() * 20000,
+                    random.nextDouble() * 360,
+                    300 + random.nextDouble() * 300,
+                    (random.nextDouble() - 0.5) * 4000
+                ));
+            }
+            InstructedVector instruction = instruction(270, 33000, 420);
+
+            // ウォームアップ
+            for (int i = 0; i < 50; i++) {
+                conflictDetector.probeTrajectory(subject, instruction, traffic);
+            }
+
+            long[] elapsed = new long[21];
+            for (int i = 0; i < elapsed.length; i++) {
+                long start = System.nanoTime();
+                conflictDetector.probeTrajectory(subject, instruction, traffic);
+                elapsed[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(elapsed);
+            double medianMs = elapsed[elapsed.length / 2] / 1_000_000.0;
+
+            System.out.printf("指示候補評価（1000機）: 中央値 %.3fms%n", medianMs);
+            assertTrue(medianMs < 5.0, "median: " + medianMs + "ms");
+        }
+    }
+
+    // ヘルパーメソッド
+
+    private InstructedVector currentVector() {
+        AircraftVector vector = subject.getAircraftVector();
+        return new InstructedVector(vector.heading, subject.getAircraftPosition().altitude, vector.groundSpeed);
+    }
+
+    private static InstructedVector instruction(double heading, double altitude, double groundSpeed) {
+        return new InstructedVector(new Heading(heading), new Altitude(altitude), new GroundSpeed(groundSpeed));
+    }
+
+    private static TrajectoryProbeResult.Conflict single(TrajectoryProbeResult result) {
+        assertEquals(1, result.conflicts().size(), result.conflicts().toString());
+        return result.conflicts().get(0);
+    }
+}
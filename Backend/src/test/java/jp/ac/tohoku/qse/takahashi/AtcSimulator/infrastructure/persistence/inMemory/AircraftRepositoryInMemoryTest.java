@@ -3,9 +3,11 @@ package jp.ac.tohoku.qse.takahashi.AtcSimulator.infrastructure.persistence.inMem
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -14,12 +16,16 @@ import org.junit.jupiter.api.Test;
 
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.AircraftConflictException;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.AircraftNotFoundException;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.exception.InvalidParameterException;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.Aircraft;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.AircraftState;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.WorldState;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.entity.aircraft.types.commercial.CommercialAircraft;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.AircraftAttributes.*;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Callsign.Callsign;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftPosition;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.AircraftVector;
+import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Position.InstructedVector;
 import jp.ac.tohoku.qse.takahashi.AtcSimulator.domain.model.valueObject.Type.AircraftType;
 
 public class AircraftRepositoryInMemoryTest {
@@ -194,6 +200,245 @@ public class AircraftRepositoryInMemoryTest {
         assertEquals(3, repository.findAll().size());
     }
 
+    @Test
+    void shouldProduceBitIdenticalStatesInParallelAndSerialStep() {
+        int aircraftCount = 1000;
+        AircraftRepositoryInMemory serial = new AircraftRepositoryInMemory();
+        try (AircraftRepositoryInMemory parallel = new AircraftRepositoryInMemory(4, 64)) {
+            Random random = new Random(20240101L);
+            for (int i = 0; i < aircraftCount; i++) {
+                String callsign = String.format("STEP%04d", i);
+                double lat = 33.0 + random.nextDouble() * 6.0;
+                double lon = 136.0 + random.nextDouble() * 6.0;
+                double alt = 10000 + random.nextDouble() * 24000;
+                double heading = random.nextDouble() * 360;
+                double groundSpeed = 250 + random.nextDouble() * 250;
+                serial.add(createTestAircraft(callsign, lat, lon, alt, heading, groundSpeed, 0));
+                parallel.add(createTestAircraft(callsign, lat, lon, alt, heading, groundSpeed, 0));
+                if (i % 3 == 0) {
+                    // 旋回・上昇中の機体を混ぜ、ベクトル計算も並列で実行されるようにする
+                    double instructedHeading = (heading + 90) % 360;
+                    ((CommercialAircraft) serial.findByCallsign(new Callsign(callsign)))
+                        .setInstructedVector(instructed(instructedHeading, alt + 4000, groundSpeed));
+                    ((CommercialAircraft) parallel.findByCallsign(new Callsign(callsign)))
+                        .setInstructedVector(instructed(instructedHeading, alt + 4000, groundSpeed));
+                }
+            }
+
+            assertEquals(4, parallel.getStepParallelism());
+            for (int tick = 0; tick < 20; tick++) {
+                serial.nextStep();
+                parallel.nextStep();
+            }
+
+            assertEquals(aircraftCount, parallel.findAll().size());
+            for (Aircraft expected : serial.findAll()) {
+                Aircraft actual = parallel.findByCallsign(expected.getCallsign());
+                assertArrayEquals(stateBits(expected), stateBits(actual),
+                    "State of " + expected.getCallsign() + " should be bit-identical");
+            }
+        }
+    }
+
+    @Test
+    void shouldMergeRemovalsFromEveryPartitionInParallelStep() {
+        try (AircraftRepositoryInMemory parallel = new AircraftRepositoryInMemory(4, 16)) {
+            for (int i = 0; i < 200; i++) {
+                boolean remove = i % 7 == 0;
+                parallel.add(new CommercialAircraft(new Callsign(String.format("RMV%04d", i)), new AircraftType("B777"),
+                    new AircraftPosition(new Latitude(35.0), new Longitude(139.0), new Altitude(35000)),
+                    new AircraftVector(new Heading(90), new GroundSpeed(450), new VerticalSpeed(0)),
+                    "NRT", "RJAA", "KIX", "RJBB", "2024-01-01T12:00:00Z") {
+                    @Override
+                    public boolean shouldBeRemovedFromSimulation() {
+                        return remove;
+                    }
+                });
+            }
+
+            parallel.nextStep();
+
+            assertEquals(200 - 29, parallel.findAll().size());
+            assertFalse(parallel.isAircraftExist(new Callsign("RMV0000")));
+            assertFalse(parallel.isAircraftExist(new Callsign("RMV0196")));
+            assertTrue(parallel.isAircraftExist(new Callsign("RMV0001")));
+        }
+    }
+
+    @Test
+    void shouldSplitCompressedStepIntoNativeSubSteps() {
+        AircraftRepositoryInMemory stepped = new AircraftRepositoryInMemory();
+        AircraftRepositoryInMemory compressed = new AircraftRepositoryInMemory();
+        for (AircraftRepositoryInMemory target : List.of(stepped, compressed)) {
+            target.add(createTestAircraft("SUB001", 35.0, 139.0, 20000, 90, 300, 0));
+            ((CommercialAircraft) target.findByCallsign(new Callsign("SUB001")))
+                .setInstructedVector(instructed(180, 24000, 350));
+        }
+
+        for (int step = 0; step < 16; step++) {
+            stepped.nextStep();
+        }
+        compressed.nextStep(16.0);
+
+        // 16秒を1ティックで進めても、基準ステップ16回と同じ軌跡になる
+        assertArrayEquals(stateBits(stepped.findByCallsign(new Callsign("SUB001"))),
+            stateBits(compressed.findByCallsign(new Callsign("SUB001"))));
+    }
+
+    @Test
+    void shouldScaleDistanceWithSimulatedSeconds() {
+        repository.nextStep(0.25);
+        double quarter = repository.findByCallsign(new Callsign("JAL001")).getAircraftPosition().longitude.toDouble() - 139.0;
+        repository.nextStep(0.75);
+        double full = repository.findByCallsign(new Callsign("JAL001")).getAircraftPosition().longitude.toDouble() - 139.0;
+
+        assertTrue(quarter > 0);
+        assertEquals(4.0, full / quarter, 1e-3);
+    }
+
+    @Test
+    void shouldRejectNonPositiveSimulatedSeconds() {
+        assertThrows(InvalidParameterException.class, () -> repository.nextStep(0.0));
+        assertThrows(InvalidParameterException.class, () -> repository.nextStep(-1.0));
+        assertThrows(InvalidParameterException.class, () -> repository.nextStep(Double.NaN));
+    }
+
+    @Test
+    void shouldRejectNonPositiveStepChunkSize() {
+        assertThrows(InvalidParameterException.class, () -> new AircraftRepositoryInMemory(2, 0));
+        assertEquals(1, repository.getStepParallelism());
+    }
+
+    @Test
+    void shouldPublishImmutableWorldStateAfterEachStep() {
+        WorldState before = repository.getWorldState();
+        AircraftState jalBefore = before.find(new Callsign("JAL001"));
+        AircraftPosition positionBefore = jalBefore.position();
+
+        repository.nextStep();
+        WorldState after = repository.getWorldState();
+
+        assertEquals(3, before.aircraftCount());
+        assertTrue(after.version() > before.version());
+        assertSame(positionBefore, before.find(new Callsign("JAL001")).position());
+        assertNotSame(positionBefore, after.find(new Callsign("JAL001")).position());
+        assertSame(repository.findByCallsign(new Callsign("JAL001")).getAircraftPosition(),
+            after.find(new Callsign("JAL001")).position());
+    }
+
+    @Test
+    void shouldReflectAddAndRemoveInWorldState() {
+        repository.getWorldState();
+        repository.add(createTestAircraft("NEW004", 35.0, 139.0, 30000, 0, 400, 0));
+        repository.remove(repository.findByCallsign(new Callsign("UAL003")));
+
+        WorldState world = repository.getWorldState();
+
+        assertEquals(3, world.aircraftCount());
+        assertNotNull(world.find(new Callsign("NEW004")));
+        assertNull(world.find(new Callsign("UAL003")));
+        assertThrows(UnsupportedOperationException.class, () -> world.aircraft().clear());
+    }
+
+    @Test
+    void shouldServePublishedWorldStateWithoutWaitingForStep() throws Exception {
+        CountDownLatch stepStarted = new CountDownLatch(1);
+        CountDownLatch releaseStep = new CountDownLatch(1);
+        repository.add(new CommercialAircraft(new Callsign("SLOW01"), new AircraftType("B777"),
+            new AircraftPosition(new Latitude(35.0), new Longitude(139.0), new Altitude(35000)),
+            new AircraftVector(new Heading(90), new GroundSpeed(450), new VerticalSpeed(0)),
+            "NRT", "RJAA", "KIX", "RJBB", "2024-01-01T12:00:00Z") {
+            @Override
+            public void calculateNextAircraftVector(double stepSeconds) {
+                stepStarted.countDown();
+                try {
+                    releaseStep.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        WorldState published = repository.getWorldState();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> step = executor.submit(() -> repository.nextStep());
+            assertTrue(stepStarted.await(10, TimeUnit.SECONDS));
+
+            // 運動計算中（書き込みロック保持中）でも公開済みのワールド状態は待たずに読める
+            assertSame(published, repository.getWorldState());
+
+            releaseStep.countDown();
+            step.get(10, TimeUnit.SECONDS);
+            assertEquals(published.version() + 1, repository.getWorldState().version());
+        } finally {
+            releaseStep.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldPublishAddAndRemoveWithoutWaitingForStep() throws Exception {
+        CountDownLatch stepStarted = new CountDownLatch(1);
+        CountDownLatch releaseStep = new CountDownLatch(1);
+        repository.add(new CommercialAircraft(new Callsign("SLOW01"), new AircraftType("B777"),
+            new AircraftPosition(new Latitude(35.0), new Longitude(139.0), new Altitude(35000)),
+            new AircraftVector(new Heading(90), new GroundSpeed(450), new VerticalSpeed(0)),
+            "NRT", "RJAA", "KIX", "RJBB", "2024-01-01T12:00:00Z") {
+            @Override
+            public void calculateNextAircraftVector(double stepSeconds) {
+                stepStarted.countDown();
+                try {
+                    releaseStep.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> step = executor.submit(() -> repository.nextStep());
+            assertTrue(stepStarted.await(10, TimeUnit.SECONDS));
+
+            // 運動計算中に追加・削除しても、読み取り側はロックを待たずに反映済みのワールド状態を得る
+            repository.add(createTestAircraft("NEW004", 35.0, 139.0, 30000, 0, 400, 0));
+            repository.remove(repository.findByCallsign(new Callsign("UAL003")));
+            WorldState duringStep = repository.getWorldState();
+            assertFalse(step.isDone());
+            assertNotNull(duringStep.find(new Callsign("NEW004")));
+            assertNull(duringStep.find(new Callsign("UAL003")));
+            assertEquals(4, duringStep.aircraftCount());
+
+            releaseStep.countDown();
+            step.get(10, TimeUnit.SECONDS);
+            WorldState afterStep = repository.getWorldState();
+            assertTrue(afterStep.version() > duringStep.version());
+            assertNotNull(afterStep.find(new Callsign("NEW004")));
+            assertNull(afterStep.find(new Callsign("UAL003")));
+        } finally {
+            releaseStep.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static InstructedVector instructed(double heading, double altitude, double groundSpeed) {
+        return new InstructedVector(new Heading(heading), new Altitude(altitude), new GroundSpeed(groundSpeed));
+    }
+
+    private static long[] stateBits(Aircraft aircraft) {
+        AircraftPosition position = aircraft.getAircraftPosition();
+        AircraftVector vector = aircraft.getAircraftVector();
+        return new long[] {
+            Double.doubleToLongBits(position.latitude.toDouble()),
+            Double.doubleToLongBits(position.longitude.toDouble()),
+            Double.doubleToLongBits(position.altitude.toDouble()),
+            Double.doubleToLongBits(vector.heading.toDouble()),
+            Double.doubleToLongBits(vector.groundSpeed.toDouble()),
+            Double.doubleToLongBits(vector.verticalSpeed.toDouble())
+        };
+    }
+
     private Aircraft createTestAircraft(String callsign, double lat, double lon, double alt,
                                       double heading, double groundSpeed, double verticalSpeed) {
         Callsign cs = new Callsign(callsign);